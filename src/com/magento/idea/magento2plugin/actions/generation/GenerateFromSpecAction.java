@@ -0,0 +1,124 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.actions.generation;
+
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.PlatformDataKeys;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.magento.idea.magento2plugin.MagentoIcons;
+import com.magento.idea.magento2plugin.actions.generation.headless.GenerationSpecReader;
+import com.magento.idea.magento2plugin.actions.generation.headless.GenerationStep;
+import com.magento.idea.magento2plugin.actions.generation.headless.HeadlessGenerator;
+import com.magento.idea.magento2plugin.actions.generation.headless.data.GenerationReportData;
+import com.magento.idea.magento2plugin.project.Settings;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+
+public class GenerateFromSpecAction extends AnAction {
+
+    public static final String ACTION_NAME = "Generate Magento Code From Spec";
+    public static final String ACTION_DESCRIPTION
+            = "Generate modules, entities, plugins, observers and cron jobs declared in the spec";
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    public GenerateFromSpecAction() {
+        super(ACTION_NAME, ACTION_DESCRIPTION, MagentoIcons.MODULE);
+    }
+
+    @Override
+    public void update(final @NotNull AnActionEvent event) {
+        final Project project = event.getProject();
+        final VirtualFile file = event.getData(PlatformDataKeys.VIRTUAL_FILE);
+
+        event.getPresentation().setEnabledAndVisible(
+                project != null
+                        && Settings.isEnabled(project)
+                        && GenerationSpecReader.isSpecFile(file)
+        );
+    }
+
+    @Override
+    public void actionPerformed(final @NotNull AnActionEvent event) {
+        final Project project = event.getProject();
+        final VirtualFile file = event.getData(PlatformDataKeys.VIRTUAL_FILE);
+
+        if (project == null || !GenerationSpecReader.isSpecFile(file)) {
+            return;
+        }
+        final HeadlessGenerator generator = new HeadlessGenerator(project);
+
+        ReadAction
+                .nonBlocking(() -> {
+                    final List<String> errors = new ArrayList<>();
+                    final List<GenerationStep> steps = generator.prepare(file, errors);
+
+                    return Pair.create(steps, errors);
+                })
+                .inSmartMode(project)
+                .finishOnUiThread(ModalityState.NON_MODAL, prepared -> notify(
+                        project,
+                        generator.generate(prepared.getFirst(), prepared.getSecond())
+                ))
+                .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    /**
+     * Show generation report.
+     *
+     * @param project Project
+     * @param report GenerationReportData
+     */
+    private void notify(
+            final @NotNull Project project,
+            final @NotNull GenerationReportData report
+    ) {
+        final StringBuilder content = new StringBuilder(64);
+        content.append("Generated ")
+                .append(report.getGeneratedFilesCount())
+                .append(" files in ")
+                .append(TimeUnit.NANOSECONDS.toMillis(report.getDurationNanos()))
+                .append(" ms");
+
+        for (final Map.Entry<String, Long> entry : report.getDurationsByGenerator().entrySet()) {
+            content.append("<br>").append(entry.getKey()).append(": ")
+                    .append(entry.getValue()).append(" ms");
+        }
+        final List<String> errors = report.getErrors();
+
+        for (int index = 0; index < errors.size() && index < MAX_REPORTED_ERRORS; index++) {
+            content.append("<br>").append(StringUtil.escapeXmlEntities(errors.get(index)));
+        }
+
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            content.append("<br>and ")
+                    .append(errors.size() - MAX_REPORTED_ERRORS)
+                    .append(" more errors");
+        }
+
+        Notifications.Bus.notify(
+                new Notification(
+                        "Magento",
+                        ACTION_NAME,
+                        content.toString(),
+                        errors.isEmpty() ? NotificationType.INFORMATION : NotificationType.WARNING
+                ),
+                project
+        );
+    }
+}
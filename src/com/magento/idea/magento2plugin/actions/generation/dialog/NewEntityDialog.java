@@ -423,7 +423,7 @@ public class NewEntityDialog extends AbstractDialog {
                 dialogData
         );
 
-        generatorPoolHandler.run();
+        generatorPoolHandler.runInBatch();
         onOkActionFired.setFinished(true);
     }
 
@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -16,6 +15,7 @@ import com.intellij.psi.xml.XmlAttributeValue;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.magento.idea.magento2plugin.actions.generation.data.CLICommandXmlData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateDiXml;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.GetCodeTemplateUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.XmlFilePositionUtil;
@@ -66,7 +66,7 @@ public class CLICommandDiXmlGenerator extends FileGenerator {
         final XmlAttributeValue argumentsTag = getCLICommandArgumentsTag((XmlFile) diXmlFile);
         this.isDeclared = (argumentsTag != null);
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final StringBuffer textBuf = new StringBuffer();
             try {
                 final String template = getCodeTemplateUtil.execute(
@@ -91,7 +91,7 @@ public class CLICommandDiXmlGenerator extends FileGenerator {
                 document.insertString(insertPos, textBuf);
                 final int endPos = insertPos + textBuf.length() + 1;
                 CodeStyleManager.getInstance(project).reformatText(diXmlFile, insertPos, endPos);
-                manager.commitDocument(document);
+                BatchGenerationUtil.commitDocument(manager, document);
             }
         });
 
@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -17,6 +16,7 @@ import com.intellij.psi.xml.XmlAttributeValue;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.magento.idea.magento2plugin.actions.generation.data.CrontabXmlData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateCrontabXml;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.GetCodeTemplateUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.XmlFilePositionUtil;
@@ -94,7 +94,7 @@ public class CrontabXmlGenerator extends FileGenerator {
                 + " cronjob is already declared in the " + moduleName + " module");
         }
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final StringBuffer textBuf = new StringBuffer();
 
             try {
@@ -135,7 +135,7 @@ public class CrontabXmlGenerator extends FileGenerator {
                 final int endPos = insertPos + textBuf.length() + 1;
 
                 this.codeStyleManager.reformatText(crontabXmlFile, insertPos, endPos);
-                this.psiDocumentManager.commitDocument(document);
+                BatchGenerationUtil.commitDocument(this.psiDocumentManager, document);
             }
         });
 
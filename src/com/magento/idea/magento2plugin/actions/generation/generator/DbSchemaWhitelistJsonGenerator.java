@@ -12,12 +12,12 @@ import com.intellij.json.psi.JsonObject;
 import com.intellij.json.psi.JsonProperty;
 import com.intellij.json.psi.JsonPsiUtil;
 import com.intellij.json.psi.impl.JsonObjectImpl;
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiFile;
 import com.magento.idea.magento2plugin.actions.generation.data.DbSchemaXmlData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateDbSchemaWhitelistJson;
 import com.magento.idea.magento2plugin.magento.files.ModuleDbSchemaWhitelistJson;
 import com.magento.idea.magento2plugin.magento.files.ModuleDbSchemaXml;
@@ -78,7 +78,7 @@ public class DbSchemaWhitelistJsonGenerator extends FileGenerator {
             }
         }
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final JsonObject tableObject = jsonElementGenerator.createObject("");
             final JsonObject columnsObject = jsonElementGenerator.createObject("");
             final JsonObject constraintObject = jsonElementGenerator.createObject("");
@@ -156,7 +156,7 @@ public class DbSchemaWhitelistJsonGenerator extends FileGenerator {
         final Document document = psiDocumentManager.getDocument(dbSchemaWhitelist);
 
         if (document != null) {
-            psiDocumentManager.commitDocument(document);
+            BatchGenerationUtil.commitDocument(psiDocumentManager, document);
         }
 
         return dbSchemaWhitelist;
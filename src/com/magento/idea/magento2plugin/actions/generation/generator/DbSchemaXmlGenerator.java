@@ -6,7 +6,6 @@
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
 import com.google.common.collect.Lists;
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -14,6 +13,7 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.magento.idea.magento2plugin.actions.generation.data.DbSchemaXmlData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateDbSchemaXmlUtil;
 import com.magento.idea.magento2plugin.bundles.CommonBundle;
 import com.magento.idea.magento2plugin.bundles.ValidatorBundle;
@@ -26,7 +26,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import javax.swing.JOptionPane;
 import org.jetbrains.annotations.NotNull;
 
 public class DbSchemaXmlGenerator extends FileGenerator {
@@ -117,11 +116,9 @@ public class DbSchemaXmlGenerator extends FileGenerator {
                         columnName == null ? "" : columnName
 
                 );
-                JOptionPane.showMessageDialog(
-                        null,
+                BatchGenerationUtil.showErrorMessage(
                         errorMessage,
-                        commonBundle.message("common.error"),
-                        JOptionPane.ERROR_MESSAGE
+                        commonBundle.message("common.error")
                 );
                 return null;
             }
@@ -233,7 +230,7 @@ public class DbSchemaXmlGenerator extends FileGenerator {
      * @return XmlFile
      */
     private XmlFile commitDbSchemaXmlFile(final XmlFile dbSchemaXmlFile) {
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             for (final XmlTag tag : Lists.reverse(newTagsQueue)) {
                 if (newTagsChildParentRelationMap.containsKey(tag)) {
                     final XmlTag parent = newTagsChildParentRelationMap.get(tag);
@@ -245,7 +242,7 @@ public class DbSchemaXmlGenerator extends FileGenerator {
         final Document document = psiDocumentManager.getDocument(dbSchemaXmlFile);
 
         if (document != null) {
-            psiDocumentManager.commitDocument(document);
+            BatchGenerationUtil.commitDocument(psiDocumentManager, document);
         }
         return dbSchemaXmlFile;
     }
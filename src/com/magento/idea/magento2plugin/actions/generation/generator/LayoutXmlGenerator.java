@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -14,6 +13,7 @@ import com.intellij.psi.xml.XmlAttribute;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.magento.idea.magento2plugin.actions.generation.data.LayoutXmlData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateLayoutXml;
 import com.magento.idea.magento2plugin.magento.files.LayoutXml;
 import java.util.Properties;
@@ -60,7 +60,7 @@ public class LayoutXmlGenerator extends FileGenerator {
         final PsiDocumentManager psiDocumentManager =
                 PsiDocumentManager.getInstance(project);
         final Document document = psiDocumentManager.getDocument(layoutXml);
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final XmlTag rootTag = layoutXml.getRootTag();
             if (rootTag == null) {
                 return;
@@ -130,7 +130,7 @@ public class LayoutXmlGenerator extends FileGenerator {
                 }
             }
 
-            psiDocumentManager.commitDocument(document);
+            BatchGenerationUtil.commitDocument(psiDocumentManager, document);
         });
         return layoutXml;
     }
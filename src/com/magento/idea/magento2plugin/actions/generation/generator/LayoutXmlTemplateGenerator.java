@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -13,6 +12,7 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.magento.idea.magento2plugin.actions.generation.data.LayoutXmlData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateLayoutXml;
 import java.util.Properties;
 import org.jetbrains.annotations.NotNull;
@@ -67,13 +67,13 @@ public class LayoutXmlTemplateGenerator extends FileGenerator {
         if (document == null) {
             return null;
         }
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final XmlTag rootTag = layoutXml.getRootTag();
 
             if (rootTag == null) {
                 return;
             }
-            psiDocumentManager.commitDocument(document);
+            BatchGenerationUtil.commitDocument(psiDocumentManager, document);
         });
 
         return layoutXml;
@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -14,6 +13,7 @@ import com.intellij.psi.xml.XmlAttribute;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.magento.idea.magento2plugin.actions.generation.data.MenuXmlData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateMenuXml;
 import com.magento.idea.magento2plugin.magento.files.ModuleMenuXml;
 import java.util.Properties;
@@ -56,7 +56,7 @@ public class MenuXmlGenerator extends FileGenerator {
         final PsiDocumentManager psiDocumentManager =
                 PsiDocumentManager.getInstance(project);
         final Document document = psiDocumentManager.getDocument(routesXml);
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final XmlTag rootTag = routesXml.getRootTag();
             if (rootTag == null) {
                 return;
@@ -106,7 +106,7 @@ public class MenuXmlGenerator extends FileGenerator {
                 }
             }
 
-            psiDocumentManager.commitDocument(document);
+            BatchGenerationUtil.commitDocument(psiDocumentManager, document);
         });
         return routesXml;
     }
@@ -5,13 +5,13 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
 import com.jetbrains.php.lang.psi.PhpFile;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.actions.generation.data.MessageQueueClassData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.DirectoryGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FileFromTemplateGenerator;
 import com.magento.idea.magento2plugin.bundles.CommonBundle;
@@ -24,7 +24,6 @@ import com.magento.idea.magento2plugin.util.GetPhpClassByFQN;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
-import javax.swing.JOptionPane;
 
 public class MessageQueueClassGenerator extends FileGenerator {
 
@@ -66,7 +65,7 @@ public class MessageQueueClassGenerator extends FileGenerator {
     public PsiFile generate(final String actionName) {
         final PsiFile[] handlerFiles = new PsiFile[1];
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             PhpClass handler = GetPhpClassByFQN.getInstance(project).execute(
                     messageQueueClassDataName.getFqn()
             );
@@ -92,11 +91,9 @@ public class MessageQueueClassGenerator extends FileGenerator {
         });
 
         for (final String errorMessage : errors) {
-            JOptionPane.showMessageDialog(
-                    null,
+            BatchGenerationUtil.showErrorMessage(
                     errorMessage,
-                    commonBundle.message("common.error"),
-                    JOptionPane.ERROR_MESSAGE
+                    commonBundle.message("common.error")
             );
         }
 
@@ -5,13 +5,13 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
 import com.jetbrains.php.lang.psi.PhpFile;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.actions.generation.data.ControllerFileData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.DirectoryGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FileFromTemplateGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.PhpClassGeneratorUtil;
@@ -32,7 +32,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicBoolean;
-import javax.swing.JOptionPane;
 
 public class ModuleControllerClassGenerator extends FileGenerator {
 
@@ -77,7 +76,7 @@ public class ModuleControllerClassGenerator extends FileGenerator {
         final AtomicBoolean isControllerExists = new AtomicBoolean(false);
         final AtomicBoolean isControllerCanNotBeCreated = new AtomicBoolean(false);
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             PhpClass controller = GetPhpClassByFQN.getInstance(project).execute(
                     getControllerFqn()
             );
@@ -96,24 +95,20 @@ public class ModuleControllerClassGenerator extends FileGenerator {
         });
 
         if (isControllerExists.get()) {
-            JOptionPane.showMessageDialog(
-                    null,
+            BatchGenerationUtil.showErrorMessage(
                     validatorBundle.message(
                             "validator.file.alreadyExists",
                             "Controller Class"
                     ),
-                    commonBundle.message("common.error"),
-                    JOptionPane.ERROR_MESSAGE
+                    commonBundle.message("common.error")
             );
         } else if (isControllerCanNotBeCreated.get()) {
-            JOptionPane.showMessageDialog(
-                    null,
+            BatchGenerationUtil.showErrorMessage(
                     validatorBundle.message(
                             "validator.file.cantBeCreated",
                             "Controller Class"
                     ),
-                    commonBundle.message("common.error"),
-                    JOptionPane.ERROR_MESSAGE
+                    commonBundle.message("common.error")
             );
         }
 
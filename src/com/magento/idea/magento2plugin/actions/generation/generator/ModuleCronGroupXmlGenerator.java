@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -16,6 +15,7 @@ import com.intellij.psi.xml.XmlAttributeValue;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.magento.idea.magento2plugin.actions.generation.data.CronGroupXmlData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateCronGroupXml;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.GetCodeTemplateUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.XmlFilePositionUtil;
@@ -27,7 +27,6 @@ import com.magento.idea.magento2plugin.util.xml.XmlPsiTreeUtil;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Properties;
-import javax.swing.JOptionPane;
 
 @SuppressWarnings({"PMD.AvoidPrintStackTrace"})
 public class ModuleCronGroupXmlGenerator extends FileGenerator {
@@ -84,15 +83,13 @@ public class ModuleCronGroupXmlGenerator extends FileGenerator {
                     String.format("%s CRON Group", groupName),
                     moduleName
             );
-            JOptionPane.showMessageDialog(
-                    null,
+            BatchGenerationUtil.showErrorMessage(
                     errorMessage,
-                    commonBundle.message("common.error"),
-                    JOptionPane.ERROR_MESSAGE
+                    commonBundle.message("common.error")
             );
         }
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final StringBuffer textBuf = new StringBuffer();
 
             try {
@@ -119,11 +116,9 @@ public class ModuleCronGroupXmlGenerator extends FileGenerator {
                             "validator.file.noDocumentAssociations",
                             filePath
                     );
-                    JOptionPane.showMessageDialog(
-                            null,
+                    BatchGenerationUtil.showErrorMessage(
                             errorMessage,
-                            commonBundle.message("common.error"),
-                            JOptionPane.ERROR_MESSAGE
+                            commonBundle.message("common.error")
                     );
 
                     return;
@@ -134,11 +129,9 @@ public class ModuleCronGroupXmlGenerator extends FileGenerator {
                             "validator.file.isNotWritable",
                             filePath
                     );
-                    JOptionPane.showMessageDialog(
-                            null,
+                    BatchGenerationUtil.showErrorMessage(
                             errorMessage,
-                            commonBundle.message("common.error"),
-                            JOptionPane.ERROR_MESSAGE
+                            commonBundle.message("common.error")
                     );
 
                     return;
@@ -148,7 +141,7 @@ public class ModuleCronGroupXmlGenerator extends FileGenerator {
                 final int endPos = insertPos + textBuf.length() + 1;
 
                 this.codeStyleManager.reformatText(cronGroupXmlFile, insertPos, endPos);
-                this.psiDocumentManager.commitDocument(document);
+                BatchGenerationUtil.commitDocument(this.psiDocumentManager, document);
             }
         });
 
@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -13,6 +12,7 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.codeStyle.CodeStyleManager;
 import com.intellij.psi.xml.XmlFile;
 import com.magento.idea.magento2plugin.actions.generation.data.EmailTemplatesXmlData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateEmailTemplatesXml;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.GetCodeTemplateUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.XmlFilePositionUtil;
@@ -21,7 +21,6 @@ import com.magento.idea.magento2plugin.bundles.ValidatorBundle;
 import com.magento.idea.magento2plugin.magento.files.EmailTemplatesXml;
 import java.io.IOException;
 import java.util.Properties;
-import javax.swing.JOptionPane;
 
 @SuppressWarnings({"PMD.AvoidPrintStackTrace"})
 public class ModuleEmailTemplatesXmlGenerator extends FileGenerator {
@@ -71,7 +70,7 @@ public class ModuleEmailTemplatesXmlGenerator extends FileGenerator {
                 moduleName
         );
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final StringBuffer textBuf = new StringBuffer();
 
             try {
@@ -98,11 +97,9 @@ public class ModuleEmailTemplatesXmlGenerator extends FileGenerator {
                             "validator.file.noDocumentAssociations",
                             filePath
                     );
-                    JOptionPane.showMessageDialog(
-                            null,
+                    BatchGenerationUtil.showErrorMessage(
                             errorMessage,
-                            commonBundle.message("common.error"),
-                            JOptionPane.ERROR_MESSAGE
+                            commonBundle.message("common.error")
                     );
 
                     return;
@@ -113,11 +110,9 @@ public class ModuleEmailTemplatesXmlGenerator extends FileGenerator {
                             "validator.file.isNotWritable",
                             filePath
                     );
-                    JOptionPane.showMessageDialog(
-                            null,
+                    BatchGenerationUtil.showErrorMessage(
                             errorMessage,
-                            commonBundle.message("common.error"),
-                            JOptionPane.ERROR_MESSAGE
+                            commonBundle.message("common.error")
                     );
 
                     return;
@@ -127,7 +122,7 @@ public class ModuleEmailTemplatesXmlGenerator extends FileGenerator {
                 final int endPos = insertPos + textBuf.length() + 1;
 
                 this.codeStyleManager.reformatText(emailTemplateXmlFile, insertPos, endPos);
-                this.psiDocumentManager.commitDocument(document);
+                BatchGenerationUtil.commitDocument(this.psiDocumentManager, document);
             }
         });
 
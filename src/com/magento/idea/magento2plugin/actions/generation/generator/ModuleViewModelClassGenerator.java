@@ -11,6 +11,7 @@ import com.intellij.psi.PsiFile;
 import com.jetbrains.php.lang.psi.PhpFile;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.actions.generation.data.ViewModelFileData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.DirectoryGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FileFromTemplateGenerator;
 import com.magento.idea.magento2plugin.bundles.CommonBundle;
@@ -21,7 +22,6 @@ import com.magento.idea.magento2plugin.magento.packages.File;
 import com.magento.idea.magento2plugin.magento.packages.Package;
 import com.magento.idea.magento2plugin.util.GetPhpClassByFQN;
 import java.util.Properties;
-import javax.swing.JOptionPane;
 import org.jetbrains.annotations.NotNull;
 
 public class ModuleViewModelClassGenerator extends FileGenerator {
@@ -68,11 +68,9 @@ public class ModuleViewModelClassGenerator extends FileGenerator {
                     "validator.file.alreadyExists",
                     "View Model"
             );
-            JOptionPane.showMessageDialog(
-                    null,
+            BatchGenerationUtil.showErrorMessage(
                     errorMessage,
-                    errorTitle,
-                    JOptionPane.ERROR_MESSAGE
+                    errorTitle
             );
 
             return null;
@@ -84,11 +82,9 @@ public class ModuleViewModelClassGenerator extends FileGenerator {
                     "validator.file.cantBeCreated",
                     "View Model"
             );
-            JOptionPane.showMessageDialog(
-                    null,
+            BatchGenerationUtil.showErrorMessage(
                     errorMessage,
-                    errorTitle,
-                    JOptionPane.ERROR_MESSAGE
+                    errorTitle
             );
 
             return null;
@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
@@ -18,6 +17,7 @@ import com.jetbrains.php.lang.PhpCodeUtil;
 import com.jetbrains.php.lang.psi.PhpFile;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.actions.generation.data.ObserverFileData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.DirectoryGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FileFromTemplateGenerator;
 import com.magento.idea.magento2plugin.actions.generation.util.CodeStyleSettings;
@@ -30,7 +30,6 @@ import com.magento.idea.magento2plugin.magento.packages.MagentoPhpClass;
 import com.magento.idea.magento2plugin.util.GetFirstClassOfFile;
 import com.magento.idea.magento2plugin.util.GetPhpClassByFQN;
 import java.util.Properties;
-import javax.swing.JOptionPane;
 
 public class ObserverClassGenerator extends FileGenerator {
     private final DirectoryGenerator directoryGenerator;
@@ -64,7 +63,7 @@ public class ObserverClassGenerator extends FileGenerator {
 
     @Override
     public PsiFile generate(final String actionName) {
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             PhpClass observerClass = GetPhpClassByFQN.getInstance(project).execute(
                     observerFileData.getObserverClassFqn()
             );
@@ -78,11 +77,9 @@ public class ObserverClassGenerator extends FileGenerator {
                         "validator.file.cantBeCreated",
                         "Observer Class"
                 );
-                JOptionPane.showMessageDialog(
-                        null,
+                BatchGenerationUtil.showErrorMessage(
                         errorMessage,
-                        commonBundle.message("common.error"),
-                        JOptionPane.ERROR_MESSAGE
+                        commonBundle.message("common.error")
                 );
 
                 return;
@@ -106,7 +103,7 @@ public class ObserverClassGenerator extends FileGenerator {
             document.insertString(insertPos, methodTemplate);
             final int endPos = insertPos + methodTemplate.length() + 1;
             CodeStyleManager.getInstance(project).reformatText(observerFile, insertPos, endPos);
-            psiDocumentManager.commitDocument(document);
+            BatchGenerationUtil.commitDocument(psiDocumentManager, document);
             codeStyleSettings.restore();
         });
         final PhpClass observerClass = GetPhpClassByFQN.getInstance(project).execute(
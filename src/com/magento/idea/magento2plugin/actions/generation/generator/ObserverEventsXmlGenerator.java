@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -13,6 +12,7 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.codeStyle.CodeStyleManager;
 import com.intellij.psi.xml.XmlFile;
 import com.magento.idea.magento2plugin.actions.generation.data.ObserverEventsXmlData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateEventsXml;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.GetCodeTemplateUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.XmlFilePositionUtil;
@@ -60,7 +60,7 @@ public class ObserverEventsXmlGenerator extends FileGenerator {
                         observerEventsXmlData.getArea()
                 );
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final StringBuffer textBuf = new StringBuffer();
             try {
                 textBuf.append(getCodeTemplateUtil.execute(
@@ -80,7 +80,7 @@ public class ObserverEventsXmlGenerator extends FileGenerator {
                 final int endPos = insertPos + textBuf.length() + 1;
                 CodeStyleManager.getInstance(project)
                         .reformatText(eventsXmlFile, insertPos, endPos);
-                psiDocumentManager.commitDocument(document);
+                BatchGenerationUtil.commitDocument(psiDocumentManager, document);
             }
         });
 
@@ -9,6 +9,7 @@ import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.DirectoryGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FileFromTemplateGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.PhpClassGeneratorUtil;
@@ -19,7 +20,6 @@ import com.magento.idea.magento2plugin.indexes.ModuleIndex;
 import com.magento.idea.magento2plugin.magento.files.AbstractPhpFile;
 import com.magento.idea.magento2plugin.util.GetPhpClassByFQN;
 import java.util.Properties;
-import javax.swing.JOptionPane;
 import org.jetbrains.annotations.NotNull;
 
 public abstract class PhpFileGenerator extends FileGenerator {
@@ -108,15 +108,13 @@ public abstract class PhpFileGenerator extends FileGenerator {
      */
     @SuppressWarnings("PMD.UnusedFormalParameter")
     protected void onClassAlreadyExists(final @NotNull PhpClass phpClass) {
-        JOptionPane.showMessageDialog(
-                null,
+        BatchGenerationUtil.showErrorMessage(
                 this.validatorBundle.message(
                         "validator.file.alreadyExists",
                         file.getHumanReadableName() == null
                                 ? file.getClassName() : file.getHumanReadableName()
                 ),
-                commonBundle.message("common.error"),
-                JOptionPane.ERROR_MESSAGE
+                commonBundle.message("common.error")
         );
     }
 
@@ -129,15 +127,13 @@ public abstract class PhpFileGenerator extends FileGenerator {
     @SuppressWarnings("PMD.UnusedFormalParameter")
     protected void onFileGenerated(final PsiFile generatedFile, final @NotNull String actionName) {
         if (generatedFile == null) {
-            JOptionPane.showMessageDialog(
-                    null,
+            BatchGenerationUtil.showErrorMessage(
                     this.validatorBundle.message(
                             "validator.file.cantBeCreated",
                             file.getHumanReadableName() == null
                                     ? file.getClassName() : file.getHumanReadableName()
                     ),
-                    commonBundle.message("common.error"),
-                    JOptionPane.ERROR_MESSAGE
+                    commonBundle.message("common.error")
             );
         }
     }
@@ -5,8 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.application.ApplicationManager;
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
@@ -25,6 +23,7 @@ import com.jetbrains.php.lang.psi.elements.PhpPsiElement;
 import com.magento.idea.magento2plugin.actions.generation.data.PluginFileData;
 import com.magento.idea.magento2plugin.actions.generation.data.code.PluginMethodData;
 import com.magento.idea.magento2plugin.actions.generation.generator.code.PluginMethodsGenerator;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.DirectoryGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FileFromTemplateGenerator;
 import com.magento.idea.magento2plugin.actions.generation.references.PhpClassReferenceResolver;
@@ -44,7 +43,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
-import javax.swing.JOptionPane;
 import org.jetbrains.annotations.NotNull;
 
 @SuppressWarnings({"PMD.ExcessiveImports"})
@@ -93,7 +91,7 @@ public class PluginClassGenerator extends FileGenerator {
     @Override
     public PsiFile generate(final String actionName) {
         final PsiFile[] pluginFile = {null};
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             PhpClass pluginClass = GetPhpClassByFQN.getInstance(project)
                     .execute(pluginFileData.getPluginFqn());
             final String errorTitle = commonBundle.message("common.error");
@@ -115,14 +113,7 @@ public class PluginClassGenerator extends FileGenerator {
                             fileFromTemplateGenerator.getLastExceptionMessage()
                     );
                 }
-                ApplicationManager.getApplication().invokeLater(
-                        () -> JOptionPane.showMessageDialog(
-                                null,
-                                errorMessage,
-                                errorTitle,
-                                JOptionPane.ERROR_MESSAGE
-                        )
-                );
+                BatchGenerationUtil.showErrorMessageLater(errorMessage, errorTitle);
 
                 return;
             }
@@ -145,14 +136,7 @@ public class PluginClassGenerator extends FileGenerator {
                                 "validator.file.alreadyExists",
                                 "Plugin Class"
                         );
-                ApplicationManager.getApplication().invokeLater(
-                        () -> JOptionPane.showMessageDialog(
-                                null,
-                                errorMessage,
-                                errorTitle,
-                                JOptionPane.ERROR_MESSAGE
-                        )
-                );
+                BatchGenerationUtil.showErrorMessageLater(errorMessage, errorTitle);
 
                 return;
             }
@@ -185,7 +169,7 @@ public class PluginClassGenerator extends FileGenerator {
                 final int endPos = insertPos + textBuf.length() + 1;
                 CodeStyleManager.getInstance(project)
                         .reformatText(pluginFile[0], insertPos, endPos);
-                psiDocumentManager.commitDocument(document);
+                BatchGenerationUtil.commitDocument(psiDocumentManager, document);
             }
             if (!insertedMethodsNames.isEmpty()) {
                 final List<PsiElement> insertedMethods
@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -18,6 +17,7 @@ import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.jetbrains.php.lang.PhpLangUtil;
 import com.magento.idea.magento2plugin.actions.generation.data.PluginDiXmlData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateDiXml;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.GetCodeTemplateUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.XmlFilePositionUtil;
@@ -77,7 +77,7 @@ public class PluginDiXmlGenerator extends FileGenerator {
         if (isPluginDeclared) {
             return null;
         }
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final StringBuffer textBuf = new StringBuffer();
             try {
                 textBuf.append(getCodeTemplateUtil.execute(
@@ -101,7 +101,7 @@ public class PluginDiXmlGenerator extends FileGenerator {
                 document.insertString(insertPos, textBuf);
                 final int endPos = insertPos + textBuf.length() + 1;
                 CodeStyleManager.getInstance(project).reformatText(diXmlFile, insertPos, endPos);
-                psiDocumentManager.commitDocument(document);
+                BatchGenerationUtil.commitDocument(psiDocumentManager, document);
             }
         });
 
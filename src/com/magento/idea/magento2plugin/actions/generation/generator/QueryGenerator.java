@@ -5,13 +5,13 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
 import com.jetbrains.php.lang.psi.PhpFile;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.actions.generation.data.UiComponentDataProviderData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.DirectoryGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FileFromTemplateGenerator;
 import com.magento.idea.magento2plugin.bundles.CommonBundle;
@@ -21,7 +21,6 @@ import com.magento.idea.magento2plugin.magento.files.UiComponentDataProviderFile
 import com.magento.idea.magento2plugin.util.GetFirstClassOfFile;
 import com.magento.idea.magento2plugin.util.GetPhpClassByFQN;
 import java.util.Properties;
-import javax.swing.JOptionPane;
 import org.jetbrains.annotations.NotNull;
 
 public class QueryGenerator extends FileGenerator {
@@ -64,7 +63,7 @@ public class QueryGenerator extends FileGenerator {
     public PsiFile generate(final @NotNull String actionName) {
         final PsiFile[] dataProviderFiles = new PsiFile[1];
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             PhpClass dataProvider = GetPhpClassByFQN.getInstance(project).execute(
                     file.getClassFqn()
             );
@@ -74,11 +73,9 @@ public class QueryGenerator extends FileGenerator {
                         "validator.file.alreadyExists",
                         "DataProvider Class"
                 );
-                JOptionPane.showMessageDialog(
-                        null,
+                BatchGenerationUtil.showErrorMessage(
                         errorMessage,
-                        commonBundle.message("common.error"),
-                        JOptionPane.ERROR_MESSAGE
+                        commonBundle.message("common.error")
                 );
 
                 return;
@@ -91,11 +88,9 @@ public class QueryGenerator extends FileGenerator {
                         "validator.file.cantBeCreated",
                         "DataProvider Class"
                 );
-                JOptionPane.showMessageDialog(
-                        null,
+                BatchGenerationUtil.showErrorMessage(
                         errorMessage,
-                        commonBundle.message("common.error"),
-                        JOptionPane.ERROR_MESSAGE
+                        commonBundle.message("common.error")
                 );
 
                 return;
@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -13,6 +12,7 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.magento.idea.magento2plugin.actions.generation.data.QueueConsumerData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateQueueConsumerXml;
 import com.magento.idea.magento2plugin.magento.packages.MessageQueueConnections;
 import java.util.Properties;
@@ -42,7 +42,7 @@ public class QueueConsumerGenerator extends FileGenerator {
         final PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(project);
         final Document document = psiDocumentManager.getDocument(consumerXml);
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final XmlTag rootTag = consumerXml.getRootTag();
             if (rootTag == null) {
                 return;
@@ -71,7 +71,7 @@ public class QueueConsumerGenerator extends FileGenerator {
                 rootTag.addSubTag(consumerTag, false);
             }
 
-            psiDocumentManager.commitDocument(document);
+            BatchGenerationUtil.commitDocument(psiDocumentManager, document);
         });
 
         return consumerXml;
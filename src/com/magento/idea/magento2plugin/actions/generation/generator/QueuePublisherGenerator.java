@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -14,6 +13,7 @@ import com.intellij.psi.xml.XmlAttribute;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.magento.idea.magento2plugin.actions.generation.data.QueuePublisherData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FindOrCreateQueuePublisherXml;
 import java.util.Properties;
 import org.jetbrains.annotations.NotNull;
@@ -47,7 +47,7 @@ public class QueuePublisherGenerator extends FileGenerator {
         final PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(project);
         final Document document = psiDocumentManager.getDocument(publisherXml);
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final XmlTag rootTag = publisherXml.getRootTag();
             if (rootTag == null) {
                 return;
@@ -92,7 +92,7 @@ public class QueuePublisherGenerator extends FileGenerator {
                 }
             }
 
-            psiDocumentManager.commitDocument(document);
+            BatchGenerationUtil.commitDocument(psiDocumentManager, document);
         });
 
         return publisherXml;
@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator.code;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Pair;
@@ -19,6 +18,7 @@ import com.intellij.psi.xml.XmlTag;
 import com.magento.idea.magento2plugin.actions.generation.data.xml.DiArgumentData;
 import com.magento.idea.magento2plugin.actions.generation.generator.FileGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.code.util.DiXmlTagManipulatorUtil;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.DirectoryGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FileFromTemplateGenerator;
 import com.magento.idea.magento2plugin.indexes.ModuleIndex;
@@ -125,7 +125,7 @@ public final class ArgumentInjectionGenerator extends FileGenerator {
         }
         final PsiFile diXmlFileToReformat = diXmlFile;
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             CodeStyleManager.getInstance(project).reformat(diXmlFileToReformat);
         });
 
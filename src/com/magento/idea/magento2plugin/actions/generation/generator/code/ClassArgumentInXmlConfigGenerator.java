@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator.code;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.TextRange;
@@ -14,6 +13,7 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.codeStyle.CodeStyleManager;
 import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.SmartList;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.GetCodeTemplateUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.XmlFilePositionUtil;
 import com.magento.idea.magento2plugin.magento.files.CommonXml;
@@ -64,7 +64,7 @@ public class ClassArgumentInXmlConfigGenerator {
         final AtomicReference<XmlTag> argumentsTag = new AtomicReference<>(getArgumentsTag(xmlTag));
 
         final boolean isInitialTag = isInitialTag(argumentsTag.get());
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final StringBuffer textBuf = new StringBuffer();
             try {
                 textBuf.append(getCodeTemplateUtil.execute(
@@ -100,7 +100,7 @@ public class ClassArgumentInXmlConfigGenerator {
                         ranges
                 );
 
-                psiDocumentManager.commitDocument(document);
+                BatchGenerationUtil.commitDocument(psiDocumentManager, document);
             }
         });
 
@@ -1,6 +1,5 @@
 package com.magento.idea.magento2plugin.actions.generation.generator.code;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
@@ -10,6 +9,7 @@ import com.magento.idea.magento2plugin.actions.generation.data.UiComponentFormBu
 import com.magento.idea.magento2plugin.actions.generation.data.UiComponentFormFieldData;
 import com.magento.idea.magento2plugin.actions.generation.data.UiComponentFormFieldsetData;
 import com.magento.idea.magento2plugin.actions.generation.data.UiComponentFormFileData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.GetCodeTemplateUtil;
 import com.magento.idea.magento2plugin.magento.files.UiComponentFormXmlFile;
 import com.magento.idea.magento2plugin.util.FirstLetterToLowercaseUtil;
@@ -47,7 +47,7 @@ public class XmlDeclarationsGenerator {
                 PsiDocumentManager.getInstance(project);
         final Document document = psiDocumentManager.getDocument(formFile);
         final XmlFile finalFormFile = formFile;
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             final XmlTag rootTag = finalFormFile.getRootTag();
             if (rootTag == null) {
                 return;
@@ -69,7 +69,7 @@ public class XmlDeclarationsGenerator {
 
             renderFieldsets(rootTag);
 
-            psiDocumentManager.commitDocument(document);
+            BatchGenerationUtil.commitDocument(psiDocumentManager, document);
         });
     }
 
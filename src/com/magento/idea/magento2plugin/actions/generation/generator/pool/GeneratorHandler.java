@@ -80,11 +80,21 @@ public abstract class GeneratorHandler {
      * Run generator.
      */
     public final void generate() {
-        final PsiFile result = generator.generate(
-                getContextData().getActionName(),
-                getContextData().checkIfHasOpenFileFlag()
-        );
+        generate(getContextData().checkIfHasOpenFileFlag());
+    }
+
+    /**
+     * Run generator and open generated file if needed.
+     *
+     * @param openFile boolean
+     *
+     * @return PsiFile
+     */
+    public final PsiFile generate(final boolean openFile) {
+        final PsiFile result = generator.generate(getContextData().getActionName(), openFile);
         afterFileGenerated(result);
+
+        return result;
     }
 
     /**
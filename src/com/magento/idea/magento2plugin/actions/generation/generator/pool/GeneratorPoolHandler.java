@@ -6,11 +6,15 @@
 package com.magento.idea.magento2plugin.actions.generation.generator.pool;
 
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.psi.PsiFile;
 import com.magento.idea.magento2plugin.actions.generation.data.converter.DataObjectConverter;
 import com.magento.idea.magento2plugin.actions.generation.data.dialog.GenerationContextData;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
+import com.magento.idea.magento2plugin.actions.generation.util.NavigateToCreatedFile;
 import com.magento.idea.magento2plugin.bundles.ExceptionBundle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import javax.swing.JOptionPane;
@@ -141,6 +145,58 @@ public final class GeneratorPoolHandler {
         }
     }
 
+    /**
+     * Trigger generation process as a single undoable command.
+     *
+     * <p>All generators are instantiated before any change is made, then files are created and
+     * XML files are modified in one write action with a single documents commit. Generated
+     * files are opened and errors of the generators are shown when the batch is finished.</p>
+     */
+    public void runInBatch() {
+        if (hasErrorMessages()) {
+            showErrorMessages();
+            return;
+        }
+        instantiateAllGenerators();
+        final List<PsiFile> generatedFiles = new ArrayList<>();
+
+        final List<String> generationErrors = BatchGenerationUtil.execute(
+                contextData.getProject(),
+                contextData.getActionName(),
+                () -> {
+                    for (final GeneratorHandler handler : pool) {
+                        if (!handler.validate()) {
+                            continue;
+                        }
+                        final PsiFile file = handler.generate(false);
+
+                        if (file != null) {
+                            generatedFiles.add(file);
+                        }
+                    }
+                }
+        );
+
+        if (!generationErrors.isEmpty()) {
+            JOptionPane.showMessageDialog(
+                    null,
+                    String.join("\n", generationErrors),
+                    exceptionBundle.message("exception.common.title"),
+                    JOptionPane.ERROR_MESSAGE
+            );
+        }
+
+        if (!contextData.checkIfHasOpenFileFlag()) {
+            return;
+        }
+
+        for (final PsiFile file : generatedFiles) {
+            if (file.isValid()) {
+                NavigateToCreatedFile.getInstance().navigate(contextData.getProject(), file);
+            }
+        }
+    }
+
     /**
      * Instantiate all generators.
      */
@@ -150,6 +206,15 @@ public final class GeneratorPoolHandler {
         }
     }
 
+    /**
+     * Get generation handlers in the order of generation.
+     *
+     * @return List[GeneratorHandler]
+     */
+    public List<GeneratorHandler> getHandlers() {
+        return new ArrayList<>(pool);
+    }
+
     /**
      * Check if Generator Pool Handler has any error messages.
      *
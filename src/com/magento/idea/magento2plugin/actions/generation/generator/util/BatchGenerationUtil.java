@@ -0,0 +1,156 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.actions.generation.generator.util;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiDocumentManager;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JOptionPane;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs multi-file generation as one undoable command inside one write action.
+ *
+ * <p>While the batch is active, generation utils don't open their own commands and
+ * don't commit documents one by one. All documents are committed once the batch is done.
+ * Error messages of the generators are collected and returned to the caller instead of
+ * opening modal dialogs inside of the write action.</p>
+ */
+public final class BatchGenerationUtil {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<List<String>> ERROR_MESSAGES
+            = ThreadLocal.withInitial(ArrayList::new);
+
+    private BatchGenerationUtil() {}
+
+    /**
+     * Run generation in the single command and write action.
+     *
+     * @param project Project
+     * @param actionName String
+     * @param runnable Runnable
+     *
+     * @return List[String] error messages reported by the generators during the batch
+     */
+    public static @NotNull List<String> execute(
+            final @NotNull Project project,
+            final @NotNull String actionName,
+            final @NotNull Runnable runnable
+    ) {
+        if (isActive()) {
+            runnable.run();
+            return new ArrayList<>();
+        }
+        ACTIVE.set(true);
+
+        try {
+            WriteCommandAction.writeCommandAction(project)
+                    .withName(actionName)
+                    .run(runnable::run);
+        } finally {
+            ACTIVE.set(false);
+        }
+        PsiDocumentManager.getInstance(project).commitAllDocuments();
+        final List<String> errorMessages = new ArrayList<>(ERROR_MESSAGES.get());
+        ERROR_MESSAGES.remove();
+
+        return errorMessages;
+    }
+
+    /**
+     * Check if batch generation is in progress for the current thread.
+     *
+     * @return boolean
+     */
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * Run write command or join the batch command if the batch is active.
+     *
+     * @param project Project
+     * @param runnable Runnable
+     */
+    public static void runWriteCommand(
+            final @NotNull Project project,
+            final @NotNull Runnable runnable
+    ) {
+        if (isActive()) {
+            runnable.run();
+            return;
+        }
+        WriteCommandAction.runWriteCommandAction(project, runnable);
+    }
+
+    /**
+     * Commit document changed by the generator.
+     *
+     * <p>Inside of the batch only documents changed as text are committed, so the next
+     * generators could modify their PSI. Documents changed through PSI are committed
+     * with the rest of the batch.</p>
+     *
+     * @param psiDocumentManager PsiDocumentManager
+     * @param document Document
+     */
+    public static void commitDocument(
+            final @NotNull PsiDocumentManager psiDocumentManager,
+            final @Nullable Document document
+    ) {
+        if (document == null
+                || isActive() && !psiDocumentManager.isUncommited(document)) {
+            return;
+        }
+        psiDocumentManager.commitDocument(document);
+    }
+
+    /**
+     * Show error message or collect it if the batch is active.
+     *
+     * @param message String
+     * @param title String
+     */
+    public static void showErrorMessage(
+            final @NotNull String message,
+            final @NotNull String title
+    ) {
+        if (isActive()) {
+            ERROR_MESSAGES.get().add(message);
+            return;
+        }
+        JOptionPane.showMessageDialog(
+                null,
+                message,
+                title,
+                JOptionPane.ERROR_MESSAGE
+        );
+    }
+
+    /**
+     * Show error message after the current write action or collect it if the batch is active.
+     *
+     * @param message String
+     * @param title String
+     */
+    public static void showErrorMessageLater(
+            final @NotNull String message,
+            final @NotNull String title
+    ) {
+        if (isActive()) {
+            ERROR_MESSAGES.get().add(message);
+            return;
+        }
+        ApplicationManager.getApplication().invokeLater(
+                () -> showErrorMessage(message, title)
+        );
+    }
+}
@@ -31,7 +31,7 @@ public final class CommitXmlFileUtil {
             final List<XmlTag> subTags,
             final Map<XmlTag, XmlTag> childParentRelationMap
     ) {
-        WriteCommandAction.runWriteCommandAction(xmlFile.getProject(), () -> {
+        execute(xmlFile, () -> {
             for (final XmlTag tag : Lists.reverse(subTags)) {
                 if (childParentRelationMap.containsKey(tag)) {
                     final XmlTag parent = childParentRelationMap.get(tag);
@@ -39,20 +39,16 @@ public final class CommitXmlFileUtil {
                 }
             }
         });
-        final PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(
-                xmlFile.getProject()
-        );
-        final Document document = psiDocumentManager.getDocument(xmlFile);
 
-        if (document != null) {
-            psiDocumentManager.commitDocument(document);
-        }
         return xmlFile;
     }
 
     /**
      * Make some XML editing operation in the safe env.
      *
+     * <p>Inside of the batch generation the operation joins the batch command and document
+     * is committed with the rest of the batch.</p>
+     *
      * @param xmlFile XmlFile
      * @param runnable Runnable
      */
@@ -60,6 +56,10 @@ public final class CommitXmlFileUtil {
             final XmlFile xmlFile,
             final Runnable runnable
     ) {
+        if (BatchGenerationUtil.isActive()) {
+            runnable.run();
+            return;
+        }
         WriteCommandAction.runWriteCommandAction(xmlFile.getProject(), runnable);
 
         final PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(
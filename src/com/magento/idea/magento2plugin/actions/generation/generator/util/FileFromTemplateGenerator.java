@@ -59,20 +59,28 @@ public class FileFromTemplateGenerator {
         exceptionMessage = null;//NOPMD
         final String filePath = baseDir.getText().concat("/").concat(moduleFile.getFileName());
 
-        CommandProcessor.getInstance().executeCommand(project, () -> {
-            final Runnable run = () -> {
-                try {
-                    final PsiFile file = createFile(moduleFile, filePath, baseDir, attributes);
-
-                    if (file != null) {
-                        fileRef.set(file);
-                    }
-                } catch (IncorrectOperationException | IOException exception) {
-                    exceptionRef.set(exception.getMessage());
+        final Runnable run = () -> {
+            try {
+                final PsiFile file = createFile(moduleFile, filePath, baseDir, attributes);
+
+                if (file != null) {
+                    fileRef.set(file);
                 }
-            };
-            ApplicationManager.getApplication().runWriteAction(run);
-        }, actionName, null);
+            } catch (IncorrectOperationException | IOException exception) {
+                exceptionRef.set(exception.getMessage());
+            }
+        };
+
+        if (BatchGenerationUtil.isActive()) {
+            run.run();
+        } else {
+            CommandProcessor.getInstance().executeCommand(
+                    project,
+                    () -> ApplicationManager.getApplication().runWriteAction(run),
+                    actionName,
+                    null
+            );
+        }
 
         if (exceptionRef.isNull()) {
             return fileRef.get();
@@ -5,7 +5,6 @@
 
 package com.magento.idea.magento2plugin.actions.generation.generator.xml;
 
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
@@ -16,6 +15,7 @@ import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.magento.idea.magento2plugin.actions.generation.data.xml.WebApiXmlRouteData;
 import com.magento.idea.magento2plugin.actions.generation.generator.FileGenerator;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.DirectoryGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.FileFromTemplateGenerator;
 import com.magento.idea.magento2plugin.actions.generation.generator.util.GetCodeTemplateUtil;
@@ -29,7 +29,6 @@ import com.magento.idea.magento2plugin.magento.packages.Package;
 import com.magento.idea.magento2plugin.util.magento.FileBasedIndexUtil;
 import java.io.IOException;
 import java.util.Properties;
-import javax.swing.JOptionPane;
 import org.jetbrains.annotations.NotNull;
 
 public final class WebApiDeclarationGenerator extends FileGenerator {
@@ -77,14 +76,12 @@ public final class WebApiDeclarationGenerator extends FileGenerator {
                 new ModuleIndex(project).getModuleDirectoryByModuleName(data.getModuleName());
 
         if (moduleDirectory == null) {
-            JOptionPane.showMessageDialog(
-                    null,
+            BatchGenerationUtil.showErrorMessage(
                     validatorBundle.message(
                             "validator.file.cantBeCreated",
                             "Web API XML file"
                     ),
-                    commonBundle.message("common.error"),
-                    JOptionPane.ERROR_MESSAGE
+                    commonBundle.message("common.error")
             );
             return null;
         }
@@ -110,14 +107,12 @@ public final class WebApiDeclarationGenerator extends FileGenerator {
         }
 
         if (webApiXmlFile == null) {
-            JOptionPane.showMessageDialog(
-                    null,
+            BatchGenerationUtil.showErrorMessage(
                     validatorBundle.message(
                             "validator.file.cantBeCreated",
                             "Web API XML file"
                     ),
-                    commonBundle.message("common.error"),
-                    JOptionPane.ERROR_MESSAGE
+                    commonBundle.message("common.error")
             );
             return null;
         }
@@ -144,16 +139,16 @@ public final class WebApiDeclarationGenerator extends FileGenerator {
                     );
             final int insertPosition = xmlFilePositionUtil.getEndPositionOfTag(rootTag);
 
-            WriteCommandAction.runWriteCommandAction(project, () -> {
+            BatchGenerationUtil.runWriteCommand(project, () -> {
                 document.insertString(insertPosition, declarationXml);
-                psiDocumentManager.commitDocument(document);
+                BatchGenerationUtil.commitDocument(psiDocumentManager, document);
             });
         } catch (IOException exception) {
             showDeclarationCannotBeCreatedDialog();
         }
 
         final PsiFile webApiXmlFileToReformat = webApiXmlFile;
-        WriteCommandAction.runWriteCommandAction(project, () -> {
+        BatchGenerationUtil.runWriteCommand(project, () -> {
             CodeStyleManager.getInstance(project).reformat(webApiXmlFileToReformat);
         });
 
@@ -164,14 +159,12 @@ public final class WebApiDeclarationGenerator extends FileGenerator {
      * Show file cannot be created message dialog.
      */
     private void showDeclarationCannotBeCreatedDialog() {
-        JOptionPane.showMessageDialog(
-                null,
+        BatchGenerationUtil.showErrorMessage(
                 validatorBundle.message(
                         "validator.file.cantBeCreated",
                         "Web API XML file"
                 ),
-                commonBundle.message("common.error"),
-                JOptionPane.ERROR_MESSAGE
+                commonBundle.message("common.error")
         );
     }
 
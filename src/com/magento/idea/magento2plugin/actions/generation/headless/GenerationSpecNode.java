@@ -0,0 +1,140 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.actions.generation.headless;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Mapping node of the generation spec with typed access to its values.
+ *
+ * <p>YAML and JSON specs are read into the same maps and lists structure, scalars could be
+ * strings, numbers or booleans depending on the spec format.</p>
+ */
+public final class GenerationSpecNode {
+
+    private final Map<?, ?> values;
+
+    /**
+     * Generation spec node constructor.
+     *
+     * @param values Map
+     */
+    public GenerationSpecNode(final @NotNull Map<?, ?> values) {
+        this.values = values;
+    }
+
+    /**
+     * Create empty node.
+     *
+     * @return GenerationSpecNode
+     */
+    public static GenerationSpecNode empty() {
+        return new GenerationSpecNode(new HashMap<>());
+    }
+
+    /**
+     * Get scalar value as string.
+     *
+     * @param key String
+     *
+     * @return String
+     */
+    public @Nullable String getString(final @NotNull String key) {
+        final Object value = values.get(key);
+
+        if (value == null || value instanceof Map || value instanceof Collection) {
+            return null;
+        }
+        final String stringValue = value.toString().trim();
+
+        return stringValue.isEmpty() ? null : stringValue;
+    }
+
+    /**
+     * Get scalar value as string or default value if it is not specified.
+     *
+     * @param key String
+     * @param defaultValue String
+     *
+     * @return String
+     */
+    public @NotNull String getString(
+            final @NotNull String key,
+            final @NotNull String defaultValue
+    ) {
+        final String value = getString(key);
+
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Get scalar value as boolean or default value if it is not specified.
+     *
+     * @param key String
+     * @param defaultValue boolean
+     *
+     * @return boolean
+     */
+    public boolean getBoolean(final @NotNull String key, final boolean defaultValue) {
+        final String value = getString(key);
+
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Get list of scalar values as strings. Single scalar is treated as a list of one value.
+     *
+     * @param key String
+     *
+     * @return List[String]
+     */
+    public @NotNull List<String> getStrings(final @NotNull String key) {
+        final List<String> result = new ArrayList<>();
+        final Object value = values.get(key);
+
+        if (value instanceof Collection) {
+            for (final Object item : (Collection<?>) value) {
+                if (item != null && !(item instanceof Map) && !(item instanceof Collection)) {
+                    result.add(item.toString().trim());
+                }
+            }
+        } else if (getString(key) != null) {
+            result.add(getString(key));
+        }
+
+        return result;
+    }
+
+    /**
+     * Get list of mapping nodes.
+     *
+     * @param key String
+     *
+     * @return List[GenerationSpecNode]
+     */
+    public @NotNull List<GenerationSpecNode> getNodes(final @NotNull String key) {
+        final List<GenerationSpecNode> result = new ArrayList<>();
+        final Object value = values.get(key);
+
+        if (!(value instanceof Collection)) {
+            return result;
+        }
+
+        for (final Object item : (Collection<?>) value) {
+            if (item instanceof Map) {
+                result.add(new GenerationSpecNode((Map<?, ?>) item));
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.actions.generation.headless;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * Reads YAML or JSON generation spec into the generation spec node.
+ *
+ * <p>Only files with the dedicated suffix are treated as specs,
+ * e.g. catalog.magento-spec.yml or catalog.magento-spec.json.</p>
+ */
+public final class GenerationSpecReader {
+
+    public static final String SPEC_SUFFIX = ".magento-spec.";
+    public static final String JSON_EXTENSION = "json";
+    public static final List<String> YAML_EXTENSIONS = Arrays.asList("yaml", "yml");
+
+    private GenerationSpecReader() {}
+
+    /**
+     * Check if file could be used as generation spec.
+     *
+     * @param file VirtualFile
+     *
+     * @return boolean
+     */
+    public static boolean isSpecFile(final @Nullable VirtualFile file) {
+        if (file == null || file.isDirectory() || file.getExtension() == null) {
+            return false;
+        }
+        final String extension = file.getExtension().toLowerCase(Locale.ROOT);
+
+        return (JSON_EXTENSION.equals(extension) || YAML_EXTENSIONS.contains(extension))
+                && file.getName().toLowerCase(Locale.ROOT).endsWith(SPEC_SUFFIX + extension);
+    }
+
+    /**
+     * Read spec file. Must be called inside of the read action.
+     *
+     * @param project Project
+     * @param file VirtualFile
+     * @param errors List[String] collects reading errors
+     *
+     * @return GenerationSpecNode or null if spec couldn't be read
+     */
+    public static @Nullable GenerationSpecNode read(
+            final @NotNull Project project,
+            final @NotNull VirtualFile file,
+            final @NotNull List<String> errors
+    ) {
+        if (!isSpecFile(file)) {
+            errors.add(
+                    "Generation spec must be a *.magento-spec.yml or *.magento-spec.json file: "
+                            + file.getPath()
+            );
+            return null;
+        }
+        final PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+
+        if (psiFile == null) {
+            errors.add("Generation spec couldn't be read: " + file.getPath());
+            return null;
+        }
+        final Object root = JSON_EXTENSION.equalsIgnoreCase(file.getExtension())
+                ? readJson(psiFile, errors)
+                : GenerationSpecYamlReader.read(psiFile, errors);
+
+        if (root == null) {
+            return null;
+        }
+
+        if (!(root instanceof Map)) {
+            errors.add("Generation spec root must be a mapping: " + file.getPath());
+            return null;
+        }
+
+        return new GenerationSpecNode((Map<?, ?>) root);
+    }
+
+    private static @Nullable Object readJson(
+            final @NotNull PsiFile psiFile,
+            final @NotNull List<String> errors
+    ) {
+        try {
+            return new JSONParser().parse(psiFile.getText());
+        } catch (ParseException exception) {
+            errors.add("Generation spec couldn't be parsed: " + exception.getMessage());
+        }
+
+        return null;
+    }
+}
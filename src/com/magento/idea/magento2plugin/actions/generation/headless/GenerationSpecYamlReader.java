@@ -0,0 +1,91 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.actions.generation.headless;
+
+import com.intellij.psi.PsiFile;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.psi.YAMLDocument;
+import org.jetbrains.yaml.psi.YAMLFile;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+import org.jetbrains.yaml.psi.YAMLMapping;
+import org.jetbrains.yaml.psi.YAMLScalar;
+import org.jetbrains.yaml.psi.YAMLSequence;
+import org.jetbrains.yaml.psi.YAMLSequenceItem;
+import org.jetbrains.yaml.psi.YAMLValue;
+
+/**
+ * Reads YAML generation spec. Available only with the YAML plugin, see withYaml.xml.
+ */
+public final class GenerationSpecYamlReader {
+
+    private GenerationSpecYamlReader() {}
+
+    /**
+     * Read YAML spec file into the maps and lists structure.
+     *
+     * @param psiFile PsiFile
+     * @param errors List[String] collects reading errors
+     *
+     * @return Object or null if spec couldn't be read
+     */
+    public static @Nullable Object read(
+            final @NotNull PsiFile psiFile,
+            final @NotNull List<String> errors
+    ) {
+        if (!(psiFile instanceof YAMLFile)) {
+            errors.add("Generation spec couldn't be parsed as YAML: " + psiFile.getName());
+            return null;
+        }
+        final List<YAMLDocument> documents = ((YAMLFile) psiFile).getDocuments();
+
+        if (documents.isEmpty()) {
+            errors.add("Generation spec is empty: " + psiFile.getName());
+            return null;
+        }
+
+        return convert(documents.get(0).getTopLevelValue());
+    }
+
+    /**
+     * Convert YAML value into the maps and lists structure.
+     *
+     * @param value YAMLValue
+     *
+     * @return Object
+     */
+    private static @Nullable Object convert(final @Nullable YAMLValue value) {
+        if (value instanceof YAMLMapping) {
+            final Map<String, Object> result = new LinkedHashMap<>();
+
+            for (final YAMLKeyValue keyValue : ((YAMLMapping) value).getKeyValues()) {
+                result.put(keyValue.getKeyText(), convert(keyValue.getValue()));
+            }
+
+            return result;
+        }
+
+        if (value instanceof YAMLSequence) {
+            final List<Object> result = new ArrayList<>();
+
+            for (final YAMLSequenceItem item : ((YAMLSequence) value).getItems()) {
+                result.add(convert(item.getValue()));
+            }
+
+            return result;
+        }
+
+        if (value instanceof YAMLScalar) {
+            return ((YAMLScalar) value).getTextValue();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.actions.generation.headless;
+
+import com.intellij.psi.PsiFile;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Single file generation prepared from the generation spec.
+ */
+public final class GenerationStep {
+
+    private final String generatorName;
+    private final String target;
+    private final boolean module;
+    private final Supplier<PsiFile> generation;
+
+    /**
+     * Generation step constructor.
+     *
+     * @param generatorName String
+     * @param target String spec entry the step is generated for
+     * @param module boolean true if the step declares a new module
+     * @param generation Supplier[PsiFile]
+     */
+    public GenerationStep(
+            final @NotNull String generatorName,
+            final @NotNull String target,
+            final boolean module,
+            final @NotNull Supplier<PsiFile> generation
+    ) {
+        this.generatorName = generatorName;
+        this.target = target;
+        this.module = module;
+        this.generation = generation;
+    }
+
+    /**
+     * Get generator name.
+     *
+     * @return String
+     */
+    public String getGeneratorName() {
+        return generatorName;
+    }
+
+    /**
+     * Get spec entry the step is generated for.
+     *
+     * @return String
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Check if the step declares a new module.
+     *
+     * @return boolean
+     */
+    public boolean isModule() {
+        return module;
+    }
+
+    /**
+     * Run generation.
+     *
+     * @return PsiFile
+     */
+    public @Nullable PsiFile generate() {
+        return generation.get();
+    }
+}
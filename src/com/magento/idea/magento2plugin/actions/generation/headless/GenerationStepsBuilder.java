@@ -0,0 +1,720 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.actions.generation.headless;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileSystem;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiManager;
+import com.jetbrains.php.PhpIndex;
+import com.jetbrains.php.lang.psi.elements.Method;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.magento.idea.magento2plugin.actions.generation.GenerateFromSpecAction;
+import com.magento.idea.magento2plugin.actions.generation.context.EntityCreatorContext;
+import com.magento.idea.magento2plugin.actions.generation.data.CronjobClassData;
+import com.magento.idea.magento2plugin.actions.generation.data.CrontabXmlData;
+import com.magento.idea.magento2plugin.actions.generation.data.ModuleComposerJsonData;
+import com.magento.idea.magento2plugin.actions.generation.data.ModuleRegistrationPhpData;
+import com.magento.idea.magento2plugin.actions.generation.data.ModuleXmlData;
+import com.magento.idea.magento2plugin.actions.generation.data.ObserverEventsXmlData;
+import com.magento.idea.magento2plugin.actions.generation.data.ObserverFileData;
+import com.magento.idea.magento2plugin.actions.generation.data.PluginDiXmlData;
+import com.magento.idea.magento2plugin.actions.generation.data.PluginFileData;
+import com.magento.idea.magento2plugin.actions.generation.data.dialog.EntityCreatorContextData;
+import com.magento.idea.magento2plugin.actions.generation.data.dialog.NewEntityDialogData;
+import com.magento.idea.magento2plugin.actions.generation.dialog.util.ClassPropertyFormatterUtil;
+import com.magento.idea.magento2plugin.actions.generation.generator.CronjobClassGenerator;
+import com.magento.idea.magento2plugin.actions.generation.generator.CrontabXmlGenerator;
+import com.magento.idea.magento2plugin.actions.generation.generator.ModuleComposerJsonGenerator;
+import com.magento.idea.magento2plugin.actions.generation.generator.ModuleRegistrationPhpGenerator;
+import com.magento.idea.magento2plugin.actions.generation.generator.ModuleXmlGenerator;
+import com.magento.idea.magento2plugin.actions.generation.generator.ObserverClassGenerator;
+import com.magento.idea.magento2plugin.actions.generation.generator.ObserverEventsXmlGenerator;
+import com.magento.idea.magento2plugin.actions.generation.generator.PluginClassGenerator;
+import com.magento.idea.magento2plugin.actions.generation.generator.PluginDiXmlGenerator;
+import com.magento.idea.magento2plugin.actions.generation.generator.pool.GeneratorHandler;
+import com.magento.idea.magento2plugin.actions.generation.generator.pool.GeneratorPoolHandler;
+import com.magento.idea.magento2plugin.actions.generation.generator.pool.provider.NewEntityGeneratorsProviderUtil;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.DbSchemaGeneratorUtil;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.NamespaceBuilder;
+import com.magento.idea.magento2plugin.actions.generation.util.GenerationContextRegistry;
+import com.magento.idea.magento2plugin.magento.files.ControllerBackendPhp;
+import com.magento.idea.magento2plugin.magento.files.DataModelFile;
+import com.magento.idea.magento2plugin.magento.files.DataModelInterfaceFile;
+import com.magento.idea.magento2plugin.magento.files.ModuleMenuXml;
+import com.magento.idea.magento2plugin.magento.files.Plugin;
+import com.magento.idea.magento2plugin.magento.files.actions.NewActionFile;
+import com.magento.idea.magento2plugin.magento.packages.Areas;
+import com.magento.idea.magento2plugin.magento.packages.File;
+import com.magento.idea.magento2plugin.magento.packages.Package;
+import com.magento.idea.magento2plugin.magento.packages.database.TableEngines;
+import com.magento.idea.magento2plugin.magento.packages.database.TableResources;
+import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.util.CamelCaseToHyphen;
+import com.magento.idea.magento2plugin.util.CamelCaseToSnakeCase;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Maps generation spec entries onto the generators data objects.
+ *
+ * <p>Everything that needs indexes or PSI lookups (target classes, modules directories) is
+ * resolved here, so the builder is expected to run in the background read action and
+ * the write phase only creates files.</p>
+ */
+@SuppressWarnings({
+        "PMD.ExcessiveImports",
+        "PMD.CouplingBetweenObjects",
+        "PMD.TooManyMethods"
+})
+public final class GenerationStepsBuilder {
+
+    public static final String MODULES_KEY = "modules";
+    public static final String ENTITIES_KEY = "entities";
+    public static final String PLUGINS_KEY = "plugins";
+    public static final String OBSERVERS_KEY = "observers";
+    public static final String CRON_JOBS_KEY = "cronJobs";
+
+    private static final String ACTION_NAME = GenerateFromSpecAction.ACTION_NAME;
+    private static final String DEFAULT_MODULE_PREFIX = "module";
+    private static final String DEFAULT_MODULE_VERSION = "1.0.0";
+    private static final String DEFAULT_CRON_GROUP = "default";
+    private static final String DEFAULT_CRON_SCHEDULE = "* * * * *";
+    private static final String DEFAULT_PARENT_MENU = "Magento_Backend::content";
+    private static final String ENTITY_PROPERTY_NAME = "Name";
+    private static final String ENTITY_PROPERTY_TYPE = "Type";
+
+    private final Project project;
+    private final VirtualFileSystem fileSystem;
+    private final List<String> errors = new ArrayList<>();
+
+    /**
+     * Generation steps builder constructor.
+     *
+     * @param project Project
+     * @param fileSystem VirtualFileSystem of the spec file, project directories are found in it
+     */
+    public GenerationStepsBuilder(
+            final @NotNull Project project,
+            final @NotNull VirtualFileSystem fileSystem
+    ) {
+        this.project = project;
+        this.fileSystem = fileSystem;
+    }
+
+    /**
+     * Build generation steps for all spec entries. Must be called inside of the read action.
+     *
+     * @param spec GenerationSpecNode
+     *
+     * @return List[GenerationStep]
+     */
+    public List<GenerationStep> build(final @NotNull GenerationSpecNode spec) {
+        final List<GenerationStep> steps = new ArrayList<>();
+
+        for (final GenerationSpecNode module : spec.getNodes(MODULES_KEY)) {
+            steps.addAll(buildModuleSteps(module));
+        }
+
+        for (final GenerationSpecNode entity : spec.getNodes(ENTITIES_KEY)) {
+            steps.addAll(buildEntitySteps(entity));
+        }
+
+        for (final GenerationSpecNode plugin : spec.getNodes(PLUGINS_KEY)) {
+            steps.addAll(buildPluginSteps(plugin));
+        }
+
+        for (final GenerationSpecNode observer : spec.getNodes(OBSERVERS_KEY)) {
+            steps.addAll(buildObserverSteps(observer));
+        }
+
+        for (final GenerationSpecNode cronJob : spec.getNodes(CRON_JOBS_KEY)) {
+            steps.addAll(buildCronJobSteps(cronJob));
+        }
+
+        return steps;
+    }
+
+    /**
+     * Get errors of the spec entries that couldn't be mapped.
+     *
+     * @return List[String]
+     */
+    public List<String> getErrors() {
+        return new ArrayList<>(errors);
+    }
+
+    /**
+     * Build module declaration steps: composer.json, registration.php and module.xml.
+     *
+     * @param spec GenerationSpecNode
+     *
+     * @return List[GenerationStep]
+     */
+    private List<GenerationStep> buildModuleSteps(final @NotNull GenerationSpecNode spec) {
+        final List<GenerationStep> steps = new ArrayList<>();
+        final String fullName = requireString(spec, "name", MODULES_KEY);
+
+        if (fullName == null) {
+            return steps;
+        }
+        final String[] nameParts = fullName.split(Package.vendorModuleNameSeparator);
+
+        if (nameParts.length != 2) {
+            errors.add("Module name must be in the Vendor_Module format: " + fullName);
+            return steps;
+        }
+        final PsiDirectory baseDir = getPackagesRootDirectory();
+
+        if (baseDir == null) {
+            errors.add("Directory " + Package.packagesRoot + " is not found for " + fullName);
+            return steps;
+        }
+        final String packageName = nameParts[0];
+        final String moduleName = nameParts[1];
+        final String version = spec.getString("version", DEFAULT_MODULE_VERSION);
+        final List<String> dependencies = spec.getStrings("dependencies");
+        final List<String> licenses = spec.getStrings("license");
+
+        if (licenses.isEmpty()) {
+            licenses.add(Settings.getDefaultLicenseName(project));
+        }
+        final CamelCaseToHyphen camelCaseToHyphen = CamelCaseToHyphen.getInstance();
+        final String composerPackageName = spec.getString(
+                "composerName",
+                camelCaseToHyphen.convert(packageName) + "/" + DEFAULT_MODULE_PREFIX + "-"
+                        + camelCaseToHyphen.convert(moduleName)
+        );
+        final ModuleComposerJsonData composerJsonData = new ModuleComposerJsonData(
+                packageName,
+                moduleName,
+                baseDir,
+                spec.getString("description", ""),
+                composerPackageName,
+                version,
+                licenses,
+                dependencies,
+                true
+        );
+        final ModuleRegistrationPhpData registrationPhpData = new ModuleRegistrationPhpData(
+                packageName,
+                moduleName,
+                baseDir,
+                true
+        );
+        final ModuleXmlData moduleXmlData = new ModuleXmlData(
+                packageName,
+                moduleName,
+                spec.getString("setupVersion"),
+                baseDir,
+                dependencies,
+                true
+        );
+        steps.add(new GenerationStep(
+                ModuleComposerJsonGenerator.class.getSimpleName(),
+                fullName,
+                true,
+                () -> new ModuleComposerJsonGenerator(composerJsonData, project)
+                        .generate(ACTION_NAME)
+        ));
+        steps.add(new GenerationStep(
+                ModuleRegistrationPhpGenerator.class.getSimpleName(),
+                fullName,
+                true,
+                () -> new ModuleRegistrationPhpGenerator(registrationPhpData, project)
+                        .generate(ACTION_NAME)
+        ));
+        steps.add(new GenerationStep(
+                ModuleXmlGenerator.class.getSimpleName(),
+                fullName,
+                true,
+                () -> new ModuleXmlGenerator(moduleXmlData, project).generate(ACTION_NAME)
+        ));
+
+        return steps;
+    }
+
+    /**
+     * Build entity steps with the same generators chain as the New Entity dialog uses.
+     *
+     * @param spec GenerationSpecNode
+     *
+     * @return List[GenerationStep]
+     */
+    private List<GenerationStep> buildEntitySteps(final @NotNull GenerationSpecNode spec) {
+        final List<GenerationStep> steps = new ArrayList<>();
+        final String moduleName = requireString(spec, "module", ENTITIES_KEY);
+        final String entityName = requireString(spec, "name", ENTITIES_KEY);
+
+        if (moduleName == null || entityName == null) {
+            return steps;
+        }
+        final String target = moduleName + Package.fqnSeparator + entityName;
+        final NewEntityDialogData dialogData = getNewEntityDialogData(spec, moduleName, entityName);
+        final EntityCreatorContextData contextData = getEntityCreatorContextData(
+                spec,
+                moduleName,
+                dialogData
+        );
+        final EntityCreatorContext generationContext = new EntityCreatorContext();
+        generationContext.putUserData(
+                EntityCreatorContext.DTO_TYPE,
+                dialogData.hasDtoInterface()
+                        ? contextData.getDtoInterfaceNamespaceBuilder().getClassFqn()
+                        : contextData.getDtoModelNamespaceBuilder().getClassFqn()
+        );
+        generationContext.putUserData(EntityCreatorContext.ENTITY_ID, dialogData.getIdFieldName());
+
+        final GeneratorPoolHandler generatorPoolHandler = new GeneratorPoolHandler(contextData);
+        NewEntityGeneratorsProviderUtil.initializeGenerators(
+                generatorPoolHandler,
+                contextData,
+                dialogData
+        );
+
+        if (generatorPoolHandler.hasErrorMessages()) {
+            errors.add("Generators couldn't be initialized for the entity " + target);
+            return steps;
+        }
+        // Generators are instantiated and validated when the module batch is done,
+        // so they see the modules declared in the same spec.
+        final boolean[] instantiated = {false};
+
+        for (final GeneratorHandler handler : generatorPoolHandler.getHandlers()) {
+            steps.add(new GenerationStep(
+                    handler.getClass().getSimpleName(),
+                    target,
+                    false,
+                    () -> {
+                        if (!instantiated[0]) {
+                            generatorPoolHandler.instantiateAllGenerators();
+                            instantiated[0] = true;
+                        }
+                        // Entity generators share the context of the generated entity.
+                        GenerationContextRegistry.getInstance().setContext(generationContext);
+
+                        return handler.validate() ? handler.generate(false) : null;
+                    }
+            ));
+        }
+
+        return steps;
+    }
+
+    /**
+     * Build plugin class and di.xml declaration steps.
+     *
+     * @param spec GenerationSpecNode
+     *
+     * @return List[GenerationStep]
+     */
+    private List<GenerationStep> buildPluginSteps(final @NotNull GenerationSpecNode spec) {
+        final List<GenerationStep> steps = new ArrayList<>();
+        final String moduleName = requireString(spec, "module", PLUGINS_KEY);
+        final String className = requireString(spec, "class", PLUGINS_KEY);
+        final String targetFqn = requireString(spec, "target", PLUGINS_KEY);
+        final String methodName = requireString(spec, "method", PLUGINS_KEY);
+
+        if (moduleName == null || className == null || targetFqn == null || methodName == null) {
+            return steps;
+        }
+        final String pluginType = spec.getString("type", Plugin.PluginType.after.toString());
+
+        if (Arrays.stream(Plugin.PluginType.values())
+                .noneMatch(type -> type.toString().equals(pluginType))) {
+            errors.add("Unknown plugin type " + pluginType + " for " + className);
+            return steps;
+        }
+        final Collection<PhpClass> targetClasses = PhpIndex.getInstance(project)
+                .getClassesByFQN(targetFqn);
+
+        if (targetClasses.isEmpty()) {
+            errors.add("Plugin target class is not found: " + targetFqn);
+            return steps;
+        }
+        final PhpClass targetClass = targetClasses.iterator().next();
+        final Method targetMethod = targetClass.findMethodByName(methodName);
+
+        if (targetMethod == null) {
+            errors.add("Plugin target method is not found: " + targetFqn + "::" + methodName);
+            return steps;
+        }
+        final String area = getArea(spec);
+        final NamespaceBuilder namespaceBuilder = new NamespaceBuilder(
+                moduleName,
+                className,
+                spec.getString("directory", "Plugin")
+        );
+        final PluginFileData pluginFileData = new PluginFileData(
+                spec.getString("directory", "Plugin"),
+                className,
+                pluginType,
+                moduleName,
+                targetClass,
+                targetMethod,
+                namespaceBuilder.getClassFqn(),
+                namespaceBuilder.getNamespace()
+        );
+        final PluginDiXmlData pluginDiXmlData = new PluginDiXmlData(
+                area,
+                moduleName,
+                targetClass,
+                spec.getString("sortOrder", "10"),
+                spec.getString("name", getDeclarationName(moduleName, className)),
+                namespaceBuilder.getClassFqn()
+        );
+        final String target = namespaceBuilder.getClassFqn();
+        steps.add(new GenerationStep(
+                PluginClassGenerator.class.getSimpleName(),
+                target,
+                false,
+                () -> new PluginClassGenerator(pluginFileData, project).generate(ACTION_NAME)
+        ));
+        steps.add(new GenerationStep(
+                PluginDiXmlGenerator.class.getSimpleName(),
+                target,
+                false,
+                () -> new PluginDiXmlGenerator(pluginDiXmlData, project).generate(ACTION_NAME)
+        ));
+
+        return steps;
+    }
+
+    /**
+     * Build observer class and events.xml declaration steps.
+     *
+     * @param spec GenerationSpecNode
+     *
+     * @return List[GenerationStep]
+     */
+    private List<GenerationStep> buildObserverSteps(final @NotNull GenerationSpecNode spec) {
+        final List<GenerationStep> steps = new ArrayList<>();
+        final String moduleName = requireString(spec, "module", OBSERVERS_KEY);
+        final String className = requireString(spec, "class", OBSERVERS_KEY);
+        final String event = requireString(spec, "event", OBSERVERS_KEY);
+
+        if (moduleName == null || className == null || event == null) {
+            return steps;
+        }
+        final String directory = spec.getString("directory", "Observer");
+        final NamespaceBuilder namespaceBuilder = new NamespaceBuilder(
+                moduleName,
+                className,
+                directory
+        );
+        final ObserverFileData observerFileData = new ObserverFileData(
+                directory,
+                className,
+                moduleName,
+                event,
+                namespaceBuilder.getClassFqn(),
+                namespaceBuilder.getNamespace()
+        );
+        final ObserverEventsXmlData observerEventsXmlData = new ObserverEventsXmlData(
+                getArea(spec),
+                moduleName,
+                event,
+                spec.getString("name", getDeclarationName(moduleName, className)),
+                namespaceBuilder.getClassFqn()
+        );
+        final String target = namespaceBuilder.getClassFqn();
+        steps.add(new GenerationStep(
+                ObserverClassGenerator.class.getSimpleName(),
+                target,
+                false,
+                () -> new ObserverClassGenerator(observerFileData, project).generate(ACTION_NAME)
+        ));
+        steps.add(new GenerationStep(
+                ObserverEventsXmlGenerator.class.getSimpleName(),
+                target,
+                false,
+                () -> new ObserverEventsXmlGenerator(observerEventsXmlData, project)
+                        .generate(ACTION_NAME)
+        ));
+
+        return steps;
+    }
+
+    /**
+     * Build cron job class and crontab.xml declaration steps.
+     *
+     * @param spec GenerationSpecNode
+     *
+     * @return List[GenerationStep]
+     */
+    private List<GenerationStep> buildCronJobSteps(final @NotNull GenerationSpecNode spec) {
+        final List<GenerationStep> steps = new ArrayList<>();
+        final String moduleName = requireString(spec, "module", CRON_JOBS_KEY);
+        final String className = requireString(spec, "class", CRON_JOBS_KEY);
+
+        if (moduleName == null || className == null) {
+            return steps;
+        }
+        final String directory = spec.getString("directory", "Cron");
+        final NamespaceBuilder namespaceBuilder = new NamespaceBuilder(
+                moduleName,
+                className,
+                directory
+        );
+        final String scheduleConfigPath = spec.getString("scheduleConfigPath");
+        final CronjobClassData cronjobClassData = new CronjobClassData(
+                className,
+                directory,
+                namespaceBuilder.getNamespace(),
+                moduleName
+        );
+        final CrontabXmlData crontabXmlData = new CrontabXmlData(
+                moduleName,
+                spec.getString("group", DEFAULT_CRON_GROUP),
+                spec.getString("name", getDeclarationName(moduleName, className)),
+                namespaceBuilder.getClassFqn(),
+                scheduleConfigPath == null
+                        ? spec.getString("schedule", DEFAULT_CRON_SCHEDULE)
+                        : null,
+                scheduleConfigPath
+        );
+        final String target = namespaceBuilder.getClassFqn();
+        steps.add(new GenerationStep(
+                CronjobClassGenerator.class.getSimpleName(),
+                target,
+                false,
+                () -> new CronjobClassGenerator(project, cronjobClassData).generate(ACTION_NAME)
+        ));
+        steps.add(new GenerationStep(
+                CrontabXmlGenerator.class.getSimpleName(),
+                target,
+                false,
+                () -> new CrontabXmlGenerator(project, crontabXmlData).generate(ACTION_NAME)
+        ));
+
+        return steps;
+    }
+
+    /**
+     * Get new entity data with the same defaults as the New Entity dialog suggests.
+     *
+     * @param spec GenerationSpecNode
+     * @param moduleName String
+     * @param entityName String
+     *
+     * @return NewEntityDialogData
+     */
+    private NewEntityDialogData getNewEntityDialogData(
+            final @NotNull GenerationSpecNode spec,
+            final @NotNull String moduleName,
+            final @NotNull String entityName
+    ) {
+        final String snakeName = CamelCaseToSnakeCase.getInstance().convert(entityName);
+        final String label = toLabel(snakeName);
+        final String idFieldName = spec.getString("idField", snakeName.concat("_id"));
+        final List<String> properties = new LinkedList<>();
+        properties.add(ClassPropertyFormatterUtil.formatSingleProperty(idFieldName, "int"));
+
+        for (final GenerationSpecNode property : spec.getNodes("properties")) {
+            final String name = property.getString("name");
+
+            if (name != null) {
+                properties.add(ClassPropertyFormatterUtil.formatSingleProperty(
+                        name,
+                        property.getString("type", "string")
+                ));
+            }
+        }
+
+        return new NewEntityDialogData(
+                entityName,
+                spec.getString("table", snakeName),
+                idFieldName,
+                spec.getString("engine", TableEngines.INNODB.getEngine()),
+                spec.getString("resource", TableResources.DEFAULT.getResource()),
+                false,
+                spec.getBoolean("interface", true),
+                spec.getBoolean("webApi", false),
+                spec.getString("route", snakeName),
+                label.concat(" Form"),
+                snakeName.concat("_form"),
+                snakeName.concat("_listing"),
+                false,
+                false,
+                false,
+                false,
+                false,
+                false,
+                spec.getString("parentAcl", ModuleMenuXml.defaultAcl),
+                spec.getString("acl", moduleName.concat("::management")),
+                spec.getString("aclTitle", label.concat(" Management")),
+                spec.getString("parentMenu", DEFAULT_PARENT_MENU),
+                Integer.parseInt(spec.getString("menuSortOrder", "100")),
+                spec.getString("menu", moduleName.concat("::management")),
+                spec.getString("menuTitle", label.concat(" Management")),
+                ClassPropertyFormatterUtil.joinProperties(properties)
+        );
+    }
+
+    /**
+     * Get entity creator context data with the same values as the New Entity dialog builds.
+     *
+     * @param spec GenerationSpecNode
+     * @param moduleName String
+     * @param dialogData NewEntityDialogData
+     *
+     * @return EntityCreatorContextData
+     */
+    private EntityCreatorContextData getEntityCreatorContextData(
+            final @NotNull GenerationSpecNode spec,
+            final @NotNull String moduleName,
+            final @NotNull NewEntityDialogData dialogData
+    ) {
+        final String entityName = dialogData.getEntityName();
+        final String actionsPathPrefix = dialogData.getRoute() + File.separator
+                + entityName.toLowerCase(Locale.getDefault()) + File.separator;
+        final List<Map<String, String>> shortProperties = new ArrayList<>();
+
+        for (final GenerationSpecNode property : spec.getNodes("properties")) {
+            final String name = property.getString("name");
+
+            if (name == null) {
+                continue;
+            }
+            final Map<String, String> propertyData = new HashMap<>();
+            propertyData.put(ENTITY_PROPERTY_NAME, name);
+            propertyData.put(ENTITY_PROPERTY_TYPE, property.getString("type", "string"));
+            shortProperties.add(propertyData);
+        }
+        final List<Map<String, String>> entityProperties =
+                DbSchemaGeneratorUtil.complementShortPropertiesByDefaults(shortProperties);
+        entityProperties.add(
+                0,
+                DbSchemaGeneratorUtil.getTableIdentityColumnData(dialogData.getIdFieldName())
+        );
+
+        return new EntityCreatorContextData(
+                project,
+                moduleName,
+                ACTION_NAME,
+                false,
+                dialogData.hasWebApi(),
+                actionsPathPrefix.concat("index"),
+                actionsPathPrefix.concat("edit"),
+                actionsPathPrefix.concat("new"),
+                actionsPathPrefix.concat("delete"),
+                new DataModelFile(moduleName, entityName.concat("Data")).getNamespaceBuilder(),
+                new DataModelInterfaceFile(moduleName, entityName.concat("Interface"))
+                        .getNamespaceBuilder(),
+                new NamespaceBuilder(
+                        moduleName,
+                        "Edit",
+                        ControllerBackendPhp.DEFAULT_DIR + File.separator + entityName
+                ),
+                new NewActionFile(moduleName, entityName).getNamespaceBuilder(),
+                entityProperties,
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new ArrayList<>()
+        );
+    }
+
+    /**
+     * Get area of the declaration, base area is used by default.
+     *
+     * @param spec GenerationSpecNode
+     *
+     * @return String
+     */
+    private String getArea(final @NotNull GenerationSpecNode spec) {
+        final String area = spec.getString("area", Areas.base.toString());
+
+        if (Areas.getAreaByString(area) == null) {
+            errors.add("Unknown area " + area + ", base area is used instead");
+
+            return Areas.base.toString();
+        }
+
+        return area;
+    }
+
+    /**
+     * Get required value of the spec entry and register error if it is missing.
+     *
+     * @param spec GenerationSpecNode
+     * @param key String
+     * @param section String
+     *
+     * @return String
+     */
+    private @Nullable String requireString(
+            final @NotNull GenerationSpecNode spec,
+            final @NotNull String key,
+            final @NotNull String section
+    ) {
+        final String value = spec.getString(key);
+
+        if (value == null) {
+            errors.add("Required value \"" + key + "\" is missing in the " + section + " entry");
+        }
+
+        return value;
+    }
+
+    /**
+     * Get packages root (app/code) directory of the project.
+     *
+     * @return PsiDirectory
+     */
+    private @Nullable PsiDirectory getPackagesRootDirectory() {
+        String magentoPath = Settings.getMagentoPath(project);
+
+        if (magentoPath == null || magentoPath.isEmpty()) {
+            magentoPath = project.getBasePath();
+        }
+        final VirtualFile directory = fileSystem.findFileByPath(
+                magentoPath + File.separator + Package.packagesRoot
+        );
+
+        return directory == null ? null : PsiManager.getInstance(project).findDirectory(directory);
+    }
+
+    /**
+     * Get default name of the class declaration in the XML config.
+     *
+     * @param moduleName String
+     * @param className String
+     *
+     * @return String
+     */
+    private static String getDeclarationName(
+            final @NotNull String moduleName,
+            final @NotNull String className
+    ) {
+        return moduleName.toLowerCase(Locale.ROOT) + "_"
+                + CamelCaseToSnakeCase.getInstance().convert(className);
+    }
+
+    /**
+     * Convert snake case name to the label.
+     *
+     * @param snakeName String
+     *
+     * @return String
+     */
+    private static String toLabel(final @NotNull String snakeName) {
+        return Arrays.stream(snakeName.split("_"))
+                .filter(part -> !part.isEmpty())
+                .map(part -> part.substring(0, 1).toUpperCase(Locale.getDefault())
+                        + part.substring(1))
+                .collect(Collectors.joining(" "));
+    }
+}
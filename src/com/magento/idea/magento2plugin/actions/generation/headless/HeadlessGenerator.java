@@ -0,0 +1,183 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.actions.generation.headless;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.magento.idea.magento2plugin.actions.generation.GenerateFromSpecAction;
+import com.magento.idea.magento2plugin.actions.generation.generator.util.BatchGenerationUtil;
+import com.magento.idea.magento2plugin.actions.generation.headless.data.GenerationReportData;
+import com.magento.idea.magento2plugin.actions.generation.headless.data.GeneratorTimingData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generates code declared in the YAML or JSON spec without any dialog.
+ *
+ * <p>Spec is mapped onto the generators in the read action and then all files are generated
+ * in two batches, each of them is a single undoable command: new modules are declared first,
+ * so the rest of the generators could find them.</p>
+ *
+ * <p>Spec example, e.g. catalog.magento-spec.yml:</p>
+ * <pre>
+ * modules:
+ *   - name: Vendor_Module
+ *     dependencies: [Magento_Catalog]
+ * entities:
+ *   - module: Vendor_Module
+ *     name: Book
+ *     properties:
+ *       - {name: title, type: string}
+ * plugins:
+ *   - module: Vendor_Module
+ *     class: ProductPlugin
+ *     target: Magento\Catalog\Model\Product
+ *     method: getName
+ *     type: after
+ * observers:
+ *   - module: Vendor_Module
+ *     class: OrderPlaced
+ *     event: sales_order_place_after
+ * cronJobs:
+ *   - module: Vendor_Module
+ *     class: Cleanup
+ *     schedule: "0 * * * *"
+ * </pre>
+ */
+public final class HeadlessGenerator {
+
+    private static final Logger LOGGER = Logger.getInstance(HeadlessGenerator.class);
+
+    private final Project project;
+
+    /**
+     * Headless generator constructor.
+     *
+     * @param project Project
+     */
+    public HeadlessGenerator(final @NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Generate everything declared in the spec file. Must be called from the EDT.
+     *
+     * @param specFile VirtualFile
+     *
+     * @return GenerationReportData
+     */
+    public GenerationReportData generate(final @NotNull VirtualFile specFile) {
+        final List<String> errors = new ArrayList<>();
+        final List<GenerationStep> steps = ReadAction.compute(
+                () -> prepare(specFile, errors)
+        );
+
+        return generate(steps, errors);
+    }
+
+    /**
+     * Read spec and map it onto the generation steps. Must be called inside of the read action.
+     *
+     * @param specFile VirtualFile
+     * @param errors List[String] collects spec errors
+     *
+     * @return List[GenerationStep]
+     */
+    public List<GenerationStep> prepare(
+            final @NotNull VirtualFile specFile,
+            final @NotNull List<String> errors
+    ) {
+        final GenerationSpecNode spec = GenerationSpecReader.read(project, specFile, errors);
+
+        if (spec == null) {
+            return new ArrayList<>();
+        }
+        final GenerationStepsBuilder stepsBuilder = new GenerationStepsBuilder(
+                project,
+                specFile.getFileSystem()
+        );
+        final List<GenerationStep> steps = stepsBuilder.build(spec);
+        errors.addAll(stepsBuilder.getErrors());
+
+        return steps;
+    }
+
+    /**
+     * Run prepared generation steps. Must be called from the EDT.
+     *
+     * @param steps List[GenerationStep]
+     * @param errors List[String] errors found while steps were prepared
+     *
+     * @return GenerationReportData
+     */
+    public GenerationReportData generate(
+            final @NotNull List<GenerationStep> steps,
+            final @NotNull List<String> errors
+    ) {
+        final GenerationReportData report = new GenerationReportData();
+        report.addErrors(errors);
+        final List<GenerationStep> moduleSteps = new ArrayList<>();
+        final List<GenerationStep> otherSteps = new ArrayList<>();
+
+        for (final GenerationStep step : steps) {
+            if (step.isModule()) {
+                moduleSteps.add(step);
+            } else {
+                otherSteps.add(step);
+            }
+        }
+        final long started = System.nanoTime();
+
+        runBatch(moduleSteps, report);
+        runBatch(otherSteps, report);
+        report.setDurationNanos(System.nanoTime() - started);
+
+        for (final Map.Entry<String, Long> entry : report.getDurationsByGenerator().entrySet()) {
+            LOGGER.info(entry.getKey() + ": " + entry.getValue() + " ms");
+        }
+
+        return report;
+    }
+
+    /**
+     * Run steps as a single batch and measure each of them.
+     * Errors reported by the generators are added to the report.
+     *
+     * @param steps List[GenerationStep]
+     * @param report GenerationReportData
+     */
+    private void runBatch(
+            final @NotNull List<GenerationStep> steps,
+            final @NotNull GenerationReportData report
+    ) {
+        if (steps.isEmpty()) {
+            return;
+        }
+        final List<String> errors = BatchGenerationUtil.execute(
+                project,
+                GenerateFromSpecAction.ACTION_NAME,
+                () -> {
+                    for (final GenerationStep step : steps) {
+                        final long started = System.nanoTime();
+                        final PsiFile file = step.generate();
+
+                        report.addTiming(new GeneratorTimingData(
+                                step.getGeneratorName(),
+                                step.getTarget(),
+                                System.nanoTime() - started,
+                                file != null
+                        ));
+                    }
+                }
+        );
+        report.addErrors(errors);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.actions.generation.headless.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+
+public class GenerationReportData {
+
+    private final List<GeneratorTimingData> timings = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private long durationNanos;
+
+    /**
+     * Add generator timing.
+     *
+     * @param timing GeneratorTimingData
+     */
+    public void addTiming(final @NotNull GeneratorTimingData timing) {
+        timings.add(timing);
+    }
+
+    /**
+     * Add errors.
+     *
+     * @param errors Collection[String]
+     */
+    public void addErrors(final @NotNull Collection<String> errors) {
+        this.errors.addAll(errors);
+    }
+
+    /**
+     * Set total generation duration.
+     *
+     * @param durationNanos long
+     */
+    public void setDurationNanos(final long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    public List<GeneratorTimingData> getTimings() {
+        return new ArrayList<>(timings);
+    }
+
+    public List<String> getErrors() {
+        return new ArrayList<>(errors);
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Get count of generated files.
+     *
+     * @return int
+     */
+    public int getGeneratedFilesCount() {
+        int count = 0;
+
+        for (final GeneratorTimingData timing : timings) {
+            if (timing.isGenerated()) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Get total duration of every generator in milliseconds.
+     *
+     * @return Map[String, Long]
+     */
+    public Map<String, Long> getDurationsByGenerator() {
+        final Map<String, Long> durations = new LinkedHashMap<>();
+
+        for (final GeneratorTimingData timing : timings) {
+            durations.merge(timing.getGeneratorName(), timing.getDurationNanos(), Long::sum);
+        }
+        durations.replaceAll((name, duration) -> TimeUnit.NANOSECONDS.toMillis(duration));
+
+        return durations;
+    }
+}
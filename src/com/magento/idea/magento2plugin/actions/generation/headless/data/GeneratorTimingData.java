@@ -0,0 +1,52 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.actions.generation.headless.data;
+
+import org.jetbrains.annotations.NotNull;
+
+public class GeneratorTimingData {
+
+    private final String generatorName;
+    private final String target;
+    private final long durationNanos;
+    private final boolean generated;
+
+    /**
+     * Generator timing DTO constructor.
+     *
+     * @param generatorName String
+     * @param target String
+     * @param durationNanos long
+     * @param generated boolean
+     */
+    public GeneratorTimingData(
+            final @NotNull String generatorName,
+            final @NotNull String target,
+            final long durationNanos,
+            final boolean generated
+    ) {
+        this.generatorName = generatorName;
+        this.target = target;
+        this.durationNanos = durationNanos;
+        this.generated = generated;
+    }
+
+    public String getGeneratorName() {
+        return generatorName;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public boolean isGenerated() {
+        return generated;
+    }
+}
@@ -10,11 +10,10 @@ import com.intellij.codeInsight.completion.CompletionProvider;
 import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.xml.XmlFile;
 import com.intellij.util.ProcessingContext;
 import com.jetbrains.php.PhpIcons;
 import com.magento.idea.magento2plugin.indexes.UIComponentIndex;
-import java.util.List;
+import java.util.Collection;
 import org.jetbrains.annotations.NotNull;
 
 
@@ -29,14 +28,14 @@ public class UiComponentCompletionProvider extends CompletionProvider<Completion
             return;
         }
 
-        final List<XmlFile> targets = UIComponentIndex.getUiComponentFiles(position.getProject());
-        if (!targets.isEmpty()) {
-            for (final XmlFile file : targets) {
-                result.addElement(LookupElementBuilder
-                            .create(file.getVirtualFile().getNameWithoutExtension())
-                            .withIcon(PhpIcons.XML_TAG_ICON)
-                );
-            }
+        final Collection<String> names = UIComponentIndex.getUiComponentNames(
+                position.getProject()
+        );
+        for (final String name : names) {
+            result.addElement(LookupElementBuilder
+                        .create(name)
+                        .withIcon(PhpIcons.XML_TAG_ICON)
+            );
         }
     }
 }
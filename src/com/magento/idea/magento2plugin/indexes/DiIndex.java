@@ -19,11 +19,11 @@ import com.intellij.util.indexing.FileBasedIndex;
 import com.jetbrains.php.PhpIndex;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.stubs.indexes.VirtualTypeIndex;
+import com.magento.idea.magento2plugin.util.magento.di.DiTypeGraphService;
 import com.magento.idea.magento2plugin.util.xml.XmlPsiTreeUtil;
 // CHECKSTYLE IGNORE check FOR NEXT 1 LINES
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -186,10 +186,13 @@ public class DiIndex {
      * @return Collection<String>
      */
     public Collection<String> getAllVirtualTypeElementNames(PrefixMatcher prefixMatcher, final GlobalSearchScope scope) {
-        Collection<String> keys =
-                FileBasedIndex.getInstance().getAllKeys(VirtualTypeIndex.KEY, project);
+        Collection<String> keys = new ArrayList<>();
 
-        keys.removeIf(k -> !prefixMatcher.prefixMatches(k));
+        for (String name : DiTypeGraphService.getInstance(project).getVirtualTypeNames()) {
+            if (prefixMatcher.prefixMatches(name)) {
+                keys.add(name);
+            }
+        }
         return keys;
     }
 
@@ -201,18 +204,6 @@ public class DiIndex {
      */
     @NotNull
     private String getTopTypeOfVirtualType(@NotNull String name) {
-        List<String> values;
-        int parentNestingLevel = 0;
-        int maxNestingLevel = 5;
-
-        do {
-            values = FileBasedIndex.getInstance()
-                    .getValues(VirtualTypeIndex.KEY, name, GlobalSearchScope.allScope(project));
-            if (values.size() > 0 && values.get(0) != null) {
-                name = values.get(0);
-            }
-        } while (values.size() > 0 || maxNestingLevel > parentNestingLevel++);
-
-        return name;
+        return DiTypeGraphService.getInstance(project).getTopType(name);
     }
 }
@@ -6,17 +6,23 @@
 package com.magento.idea.magento2plugin.indexes;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
 import com.jetbrains.php.lang.psi.PhpFile;
-import com.magento.idea.magento2plugin.magento.files.TestFixture;
 import com.magento.idea.magento2plugin.magento.packages.File;
+import com.magento.idea.magento2plugin.stubs.indexes.TestFixtureIndex;
 import java.util.ArrayList;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
 
 public final class FixtureIndex {
+    private static final String MODULE_SEPARATOR = "::";
+
     private final Project project;
 
     public FixtureIndex(final Project project) {
@@ -25,28 +31,75 @@ public final class FixtureIndex {
 
     /**
      * Getter for data fixtures.
+     *
+     * <p>Fixture is resolved by its path relative to the integration testsuite directory with
+     * the single TestFixtureIndex lookup or, for the Module_Name::path notation, relatively
+     * to the module directory. PSI is created only for the matched files.</p>
+     *
+     * @param fixtureIdentifier String
+     *
+     * @return List[PhpFile]
      */
     public List<PhpFile> getDataFixtures(final String fixtureIdentifier) {
         final List<PhpFile> result = new ArrayList<>();
+        final String identifier = fixtureIdentifier.trim();
+        final int moduleSeparatorIndex = identifier.indexOf(MODULE_SEPARATOR);
+
+        if (moduleSeparatorIndex != -1) {
+            addModuleFixture(
+                    identifier.substring(0, moduleSeparatorIndex),
+                    identifier.substring(moduleSeparatorIndex + MODULE_SEPARATOR.length()),
+                    result
+            );
 
-        final String[] fixturePathParts = fixtureIdentifier.split(File.separator);
-        final String fixtureName = fixturePathParts[fixturePathParts.length - 1];
-        final String exactFilePath = TestFixture.FIXTURES_LOCATION.concat(fixtureIdentifier);
+            return result;
+        }
+        final PsiManager psiManager = PsiManager.getInstance(project);
 
-        @NotNull final PsiFile[] psiFiles = FilenameIndex.getFilesByName(
-                project,
-                fixtureName,
+        for (final VirtualFile virtualFile : FileBasedIndex.getInstance().getContainingFiles(
+                TestFixtureIndex.KEY,
+                StringUtil.trimStart(identifier, File.separator),
                 GlobalSearchScope.allScope(project)
-        );
+        )) {
+            final PsiFile psiFile = psiManager.findFile(virtualFile);
 
-        for (final PsiFile psiFile: psiFiles) {
-            @NotNull final String filePath = psiFile.getVirtualFile().getPath();
-            if (!filePath.contains(TestFixture.FIXTURES_EXCLUDE_PATH)
-                    && filePath.contains(exactFilePath)) {
+            if (psiFile instanceof PhpFile) {
                 result.add((PhpFile) psiFile);
             }
         }
 
         return result;
     }
+
+    /**
+     * Add fixture declared relatively to the module directory.
+     *
+     * @param moduleName String
+     * @param fixturePath String
+     * @param result List[PhpFile]
+     */
+    private void addModuleFixture(
+            final @NotNull String moduleName,
+            final @NotNull String fixturePath,
+            final @NotNull List<PhpFile> result
+    ) {
+        final PsiDirectory moduleDirectory = new ModuleIndex(project)
+                .getModuleDirectoryByModuleName(moduleName);
+
+        if (moduleDirectory == null) {
+            return;
+        }
+        final VirtualFile virtualFile = moduleDirectory.getVirtualFile().findFileByRelativePath(
+                StringUtil.trimStart(fixturePath, File.separator)
+        );
+
+        if (virtualFile == null || virtualFile.isDirectory()) {
+            return;
+        }
+        final PsiFile psiFile = PsiManager.getInstance(project).findFile(virtualFile);
+
+        if (psiFile instanceof PhpFile) {
+            result.add((PhpFile) psiFile);
+        }
+    }
 }
@@ -14,6 +14,8 @@ import com.magento.idea.magento2plugin.stubs.indexes.EventObserverIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.ModuleNameIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.ModulePackageIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.PluginIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.PluginTargetIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.TestFixtureIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.VirtualTypeIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.WebApiTypeIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.graphql.GraphQlResolverIndex;
@@ -27,9 +29,10 @@ import com.magento.idea.magento2plugin.stubs.indexes.mftf.TestExtendsIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.mftf.TestNameIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.xml.AclResourceIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.xml.DeclarativeSchemaElementsIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LayoutHandleIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.xml.MenuIndex;
-import com.magento.idea.magento2plugin.stubs.indexes.xml.PhpClassNameIndex;
-import com.magento.idea.magento2plugin.stubs.indexes.xml.UIComponentIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.PhpClassDeclarationIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.UiComponentNameIndex;
 
 @SuppressWarnings({"PMD.ClassNamingConventions", "PMD.UseUtilityClass"})
 public class IndexManager {
@@ -43,19 +46,23 @@ public class IndexManager {
             ModulePackageIndex.KEY,
             // xml|di configuration
             PluginIndex.KEY,
+            PluginTargetIndex.KEY,
             VirtualTypeIndex.KEY,
             DeclarativeSchemaElementsIndex.KEY,
             // layouts
             BlockNameIndex.KEY,
             ContainerNameIndex.KEY,
-            UIComponentIndex.KEY,
+            LayoutHandleIndex.KEY,
+            UiComponentNameIndex.KEY,
             // events
             EventNameIndex.KEY,
             EventObserverIndex.KEY,
             // webapi
             WebApiTypeIndex.KEY,
+            // integration tests
+            TestFixtureIndex.KEY,
             ModuleNameIndex.KEY,
-            PhpClassNameIndex.KEY,
+            PhpClassDeclarationIndex.KEY,
             //acl
             AclResourceIndex.KEY,
             //menu
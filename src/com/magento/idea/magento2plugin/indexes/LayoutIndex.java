@@ -9,18 +9,21 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
-import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.intellij.util.indexing.ID;
+import com.magento.idea.magento2plugin.magento.packages.Areas;
 import com.magento.idea.magento2plugin.stubs.indexes.BlockNameIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.ContainerNameIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LayoutHandleIndex;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -64,22 +67,56 @@ public class LayoutIndex {
         return isLayoutFile(virtualFile);
     }
 
+    /**
+     * Get layout files of the handle or all layout files if the handle isn't specified.
+     *
+     * @param project Project
+     * @param fileName String layout handle
+     *
+     * @return List[XmlFile]
+     */
     public static List<XmlFile> getLayoutFiles(Project project, @Nullable String fileName) {
-        List<XmlFile> results = new ArrayList<XmlFile>();
-        Collection<VirtualFile> xmlFiles = FilenameIndex.getAllFilesByExt(project, "xml");
+        return getLayoutFiles(project, fileName, null);
+    }
 
-        PsiManager psiManager = PsiManager.getInstance(project);
-        for (VirtualFile xmlFile: xmlFiles) {
-            if (isLayoutFile(xmlFile)) {
-                if (fileName != null && !xmlFile.getNameWithoutExtension().equals(fileName)) {
-                    continue;
-                }
-
-                PsiFile file = psiManager.findFile(xmlFile);
-                if (file != null) {
-                    results.add((XmlFile)file);
-                }
-            }
+    /**
+     * Get layout files of the handle declared in the specified area.
+     *
+     * @param project Project
+     * @param fileName String layout handle, all handles if null
+     * @param area Areas, all areas if null
+     *
+     * @return List[XmlFile]
+     */
+    public static List<XmlFile> getLayoutFiles(
+            final @NotNull Project project,
+            final @Nullable String fileName,
+            final @Nullable Areas area
+    ) {
+        final List<XmlFile> results = new ArrayList<>();
+        final Collection<String> handles = fileName == null
+                ? getLayoutHandles(project) : Collections.singletonList(fileName);
+        final PsiManager psiManager = PsiManager.getInstance(project);
+        final GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+
+        for (final String handle : handles) {
+            FileBasedIndex.getInstance().processValues(
+                    LayoutHandleIndex.KEY,
+                    handle,
+                    null,
+                    (file, fileArea) -> {
+                        if (area == null || area.toString().equals(fileArea)) {
+                            final PsiFile psiFile = psiManager.findFile(file);
+
+                            if (psiFile instanceof XmlFile) {
+                                results.add((XmlFile) psiFile);
+                            }
+                        }
+
+                        return true;
+                    },
+                    scope
+            );
         }
 
         return results;
@@ -89,6 +126,33 @@ public class LayoutIndex {
         return getLayoutFiles(project, null);
     }
 
+    /**
+     * Get all layout handles of the project.
+     *
+     * @param project Project
+     *
+     * @return Collection[String]
+     */
+    public static Collection<String> getLayoutHandles(final @NotNull Project project) {
+        final List<String> handles = new ArrayList<>();
+        final GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+
+        FileBasedIndex.getInstance().processAllKeys(
+                LayoutHandleIndex.KEY,
+                handle -> {
+                    handles.add(handle);
+
+                    return true;
+                },
+                scope,
+                null
+        );
+        handles.removeIf(handle -> FileBasedIndex.getInstance()
+                .getContainingFiles(LayoutHandleIndex.KEY, handle, scope).isEmpty());
+
+        return handles;
+    }
+
     public static Collection<String> getAllKeys(ID<String, Void> id, Project project) {
         return FileBasedIndex.getInstance().getAllKeys(id, project);
     }
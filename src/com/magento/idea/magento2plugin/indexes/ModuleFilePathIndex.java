@@ -0,0 +1,133 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.indexes;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Project level index of files inside of the module directories by their names without
+ * extension, so Vendor_Module::path/to/file references are resolved in every area and theme
+ * of the module without walking the module directory or scanning files with the same name
+ * in other modules.
+ *
+ * <p>Every module directory is visited once, the index is dropped on any VFS structure
+ * modification.</p>
+ */
+public final class ModuleFilePathIndex {
+
+    private static final Key<CachedValue<ModuleFilePathIndex>> CACHE_KEY
+            = Key.create("magento2.module.file.path.index");
+    private static final char EXTENSION_SEPARATOR = '.';
+
+    private final Map<VirtualFile, Map<String, List<VirtualFile>>> filesByModule
+            = new ConcurrentHashMap<>();
+
+    private ModuleFilePathIndex() {
+    }
+
+    /**
+     * Get module file path index for the project.
+     *
+     * @param project Project
+     *
+     * @return ModuleFilePathIndex
+     */
+    public static ModuleFilePathIndex getInstance(final @NotNull Project project) {
+        return CachedValuesManager.getManager(project).getCachedValue(
+                project,
+                CACHE_KEY,
+                () -> CachedValueProvider.Result.create(
+                        new ModuleFilePathIndex(),
+                        VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS
+                ),
+                false
+        );
+    }
+
+    /**
+     * Find files of the module by the path relative to any of the module directories.
+     *
+     * @param moduleDirectory VirtualFile
+     * @param filePath String e.g. js/view/grid or templates/grid.phtml
+     * @param withExtension boolean false if file path omits the extension
+     *
+     * @return List[VirtualFile]
+     */
+    public @NotNull List<VirtualFile> findFiles(
+            final @NotNull VirtualFile moduleDirectory,
+            final @NotNull String filePath,
+            final boolean withExtension
+    ) {
+        final String fileName = filePath.substring(filePath.lastIndexOf('/') + 1);
+        final String nameWithoutExtension = withExtension
+                ? removeExtension(fileName)
+                : fileName;
+        final List<VirtualFile> candidates = filesByModule.computeIfAbsent(
+                moduleDirectory,
+                ModuleFilePathIndex::collectFiles
+        ).getOrDefault(nameWithoutExtension, Collections.emptyList());
+        final List<VirtualFile> result = new ArrayList<>();
+
+        for (final VirtualFile candidate : candidates) {
+            if (!candidate.isValid()) {
+                continue;
+            }
+            final String path = candidate.getPath();
+
+            if (withExtension
+                    ? fileName.equals(candidate.getName()) && path.endsWith(filePath)
+                    : path.endsWith(filePath + EXTENSION_SEPARATOR + candidate.getExtension())) {
+                result.add(candidate);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Collect all files of the module directory by their names without extension.
+     *
+     * @param moduleDirectory VirtualFile
+     *
+     * @return Map[String, List[VirtualFile]]
+     */
+    private static Map<String, List<VirtualFile>> collectFiles(
+            final @NotNull VirtualFile moduleDirectory
+    ) {
+        final Map<String, List<VirtualFile>> files = new HashMap<>();
+
+        VfsUtilCore.iterateChildrenRecursively(moduleDirectory, null, file -> {
+            if (!file.isDirectory() && file.getExtension() != null) {
+                files.computeIfAbsent(file.getNameWithoutExtension(), key -> new ArrayList<>())
+                        .add(file);
+            }
+
+            return true;
+        });
+
+        return files;
+    }
+
+    private static String removeExtension(final @NotNull String fileName) {
+        final int extensionIndex = fileName.lastIndexOf(EXTENSION_SEPARATOR);
+
+        return extensionIndex == -1 ? fileName : fileName.substring(0, extensionIndex);
+    }
+}
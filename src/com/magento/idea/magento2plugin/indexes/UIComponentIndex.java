@@ -10,13 +10,17 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
-import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.intellij.util.indexing.ID;
+import com.magento.idea.magento2plugin.magento.packages.Areas;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.UiComponentNameIndex;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 @SuppressWarnings("PMD")
@@ -49,26 +53,77 @@ public final class UIComponentIndex {
             final Project project,
             final @Nullable String fileName
     ) {
-        final List<XmlFile> results = new ArrayList<XmlFile>();//NOPMD
-        final Collection<VirtualFile> xmlFiles = FilenameIndex.getAllFilesByExt(project, "xml");
+        return getUiComponentFiles(project, fileName, null);
+    }
 
+    /**
+     * Get ui component files declared in the specified area.
+     *
+     * @param project Project
+     * @param fileName String ui component name, all components if null
+     * @param area Areas, all areas if null
+     * @return List
+     */
+    public static List<XmlFile> getUiComponentFiles(
+            final @NotNull Project project,
+            final @Nullable String fileName,
+            final @Nullable Areas area
+    ) {
+        final List<XmlFile> results = new ArrayList<>();
+        final Collection<String> names = fileName == null
+                ? getUiComponentNames(project) : Collections.singletonList(fileName);
         final PsiManager psiManager = PsiManager.getInstance(project);
-        for (final VirtualFile xmlFile: xmlFiles) {
-            if (isUiComponentFile(xmlFile)) {
-                if (fileName != null && !xmlFile.getNameWithoutExtension().equals(fileName)) {
-                    continue;
-                }
-
-                final PsiFile file = psiManager.findFile(xmlFile);
-                if (file != null) {
-                    results.add((XmlFile)file);
-                }
-            }
+        final GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+
+        for (final String name : names) {
+            FileBasedIndex.getInstance().processValues(
+                    UiComponentNameIndex.KEY,
+                    name,
+                    null,
+                    (file, fileArea) -> {
+                        if (area == null || area.toString().equals(fileArea)) {
+                            final PsiFile psiFile = psiManager.findFile(file);
+
+                            if (psiFile instanceof XmlFile) {
+                                results.add((XmlFile) psiFile);
+                            }
+                        }
+
+                        return true;
+                    },
+                    scope
+            );
         }
 
         return results;
     }
 
+    /**
+     * Get names of all ui components of the project.
+     *
+     * @param project Project
+     * @return Collection
+     */
+    public static Collection<String> getUiComponentNames(final @NotNull Project project) {
+        final List<String> names = new ArrayList<>();
+        final GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+
+        FileBasedIndex.getInstance().processAllKeys(
+                UiComponentNameIndex.KEY,
+                name -> {
+                    names.add(name);
+
+                    return true;
+                },
+                scope,
+                null
+        );
+        names.removeIf(name -> FileBasedIndex.getInstance()
+                .getContainingFiles(UiComponentNameIndex.KEY, name, scope).isEmpty());
+
+        return names;
+    }
+
     /**
      * Get ui component files.
      *
@@ -101,24 +156,7 @@ public final class UIComponentIndex {
      * @return List
      */
     public static List<XmlFile> getUIComponentFiles(Project project, @Nullable String fileName) {
-        List<XmlFile> results = new ArrayList<XmlFile>();
-        Collection<VirtualFile> xmlFiles = FilenameIndex.getAllFilesByExt(project, "xml");
-
-        PsiManager psiManager = PsiManager.getInstance(project);
-        for (VirtualFile xmlFile: xmlFiles) {
-            if (isUIComponentFile(xmlFile)) {
-                if (fileName != null && !xmlFile.getNameWithoutExtension().equals(fileName)) {
-                    continue;
-                }
-
-                PsiFile file = psiManager.findFile(xmlFile);
-                if (file != null) {
-                    results.add((XmlFile)file);
-                }
-            }
-        }
-
-        return results;
+        return getUiComponentFiles(project, fileName);
     }
 
     /**
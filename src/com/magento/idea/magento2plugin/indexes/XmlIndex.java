@@ -5,27 +5,46 @@
 
 package com.magento.idea.magento2plugin.indexes;
 
-import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlAttribute;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
-import com.intellij.psi.xml.XmlTagValue;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
-import com.magento.idea.magento2plugin.stubs.indexes.xml.PhpClassNameIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PhpClassDeclarationData;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.PhpClassDeclarationIndex;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public final class XmlIndex {
 
     private XmlIndex() {
     }
 
+    /**
+     * Check if PHP class is declared in any of the *.xml files.
+     *
+     * <p>Only the index is queried, XML files are not parsed.</p>
+     *
+     * @param phpClass PhpClass
+     *
+     * @return boolean
+     */
+    public static boolean hasPhpClassDeclarations(final @NotNull PhpClass phpClass) {
+        return !FileBasedIndex.getInstance().processValues(
+                PhpClassDeclarationIndex.KEY,
+                phpClass.getPresentableFQN(),
+                null,
+                (file, declarations) -> declarations.isEmpty(),
+                GlobalSearchScope.allScope(phpClass.getProject())
+        );
+    }
+
     /**
      * Get PHP class declarations in the *.xml files.
      *
@@ -33,65 +52,56 @@ public final class XmlIndex {
      *
      * @return List[XmlTag]
      */
-    public static List<XmlTag> getPhpClassDeclarations(final PhpClass phpClass) {
-        
+    public static List<XmlTag> getPhpClassDeclarations(final @NotNull PhpClass phpClass) {
         final List<XmlTag> result = new ArrayList<>();
-        final String fqn = phpClass.getPresentableFQN();
         final PsiManager psiManager = PsiManager.getInstance(phpClass.getProject());
-        final Collection<VirtualFile> vfs = FileBasedIndex.getInstance()
-                .getContainingFiles(
-                        PhpClassNameIndex.KEY,
-                        fqn,
-                        GlobalSearchScope.allScope(phpClass.getProject())
-                );
 
-        for (final VirtualFile vf : vfs) {
-            final PsiFile psiFile = psiManager.findFile(vf);
+        FileBasedIndex.getInstance().processValues(
+                PhpClassDeclarationIndex.KEY,
+                phpClass.getPresentableFQN(),
+                null,
+                (file, declarations) -> {
+                    final PsiFile psiFile = psiManager.findFile(file);
 
-            if (!(psiFile instanceof XmlFile)) {
-                continue;
-            }
-            final XmlFile xmlFile = (XmlFile) psiFile;
-            final XmlTag[] xmlTags = PsiTreeUtil.getChildrenOfType(
-                    xmlFile.getFirstChild(),
-                    XmlTag.class
-            );
+                    if (psiFile instanceof XmlFile) {
+                        for (final PhpClassDeclarationData declaration : declarations) {
+                            final XmlTag xmlTag = findDeclarationTag(psiFile, declaration);
 
-            if (xmlTags == null) {
-                continue;
-            }
-            for (final XmlTag xmlTag: xmlTags) {
-                fillList(xmlTag, fqn, result);
-            }
-        }
+                            if (xmlTag != null) {
+                                result.add(xmlTag);
+                            }
+                        }
+                    }
+
+                    return true;
+                },
+                GlobalSearchScope.allScope(phpClass.getProject())
+        );
 
         return result;
     }
 
-    private static void fillList(
-            final XmlTag parentTag,
-            final String fqn,
-            final List<XmlTag> list
+    /**
+     * Find tag of the indexed declaration.
+     *
+     * @param psiFile PsiFile
+     * @param declaration PhpClassDeclarationData
+     *
+     * @return XmlTag
+     */
+    private static @Nullable XmlTag findDeclarationTag(
+            final @NotNull PsiFile psiFile,
+            final @NotNull PhpClassDeclarationData declaration
     ) {
-        for (final XmlTag childTag: parentTag.getSubTags()) {
-            for (final XmlAttribute xmlAttribute: childTag.getAttributes()) {
-                String xmlAttributeValue = xmlAttribute.getValue();
-                if (xmlAttributeValue != null) {
-                    xmlAttributeValue = xmlAttributeValue.startsWith("\\")
-                            ? xmlAttributeValue.substring(1) : xmlAttributeValue;
-                    if (xmlAttributeValue.startsWith(fqn)) {
-                        list.add(childTag);
-                    }
-                }
-            }
-            final XmlTagValue childTagValue = childTag.getValue();
-            String tagValue = childTagValue.getTrimmedText();
-            tagValue = tagValue.startsWith("\\") ? tagValue.substring(1) : tagValue;
+        final PsiElement element = psiFile.findElementAt(declaration.getOffset());
+        final XmlTag xmlTag = PsiTreeUtil.getParentOfType(element, XmlTag.class, false);
 
-            if (!tagValue.isEmpty() && tagValue.startsWith(fqn)) {
-                list.add(childTag);
-            }
-            fillList(childTag, fqn, list);
+        if (xmlTag == null
+                || xmlTag.getTextRange().getStartOffset() != declaration.getOffset()
+                || !xmlTag.getName().equals(declaration.getTagName())) {
+            return null;
         }
+
+        return xmlTag;
     }
 }
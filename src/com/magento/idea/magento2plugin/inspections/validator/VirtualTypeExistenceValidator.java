@@ -6,10 +6,7 @@
 package com.magento.idea.magento2plugin.inspections.validator;
 
 import com.intellij.openapi.project.Project;
-import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.util.indexing.FileBasedIndex;
-import com.magento.idea.magento2plugin.stubs.indexes.VirtualTypeIndex;
-import java.util.Collection;
+import com.magento.idea.magento2plugin.util.magento.di.DiTypeGraphService;
 import org.jetbrains.annotations.NotNull;
 
 public class VirtualTypeExistenceValidator implements InspectionValidator {
@@ -25,12 +22,7 @@ public class VirtualTypeExistenceValidator implements InspectionValidator {
         if (value == null) {
             return false;
         }
-        final @NotNull Collection<String> virtualTypes = FileBasedIndex.getInstance().getValues(
-                VirtualTypeIndex.KEY,
-                value,
-                GlobalSearchScope.allScope(project)
-        );
 
-        return !virtualTypes.isEmpty();
+        return DiTypeGraphService.getInstance(project).isVirtualType(value);
     }
 }
@@ -9,12 +9,12 @@ import com.intellij.codeInsight.daemon.LineMarkerInfo;
 import com.intellij.codeInsight.daemon.LineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.icons.AllIcons;
+import com.intellij.openapi.util.NotNullLazyValue;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.xml.XmlTag;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.indexes.XmlIndex;
 import com.magento.idea.magento2plugin.project.Settings;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -41,22 +41,26 @@ public class ClassConfigurationLineMarkerProvider implements LineMarkerProvider
         }
         for (PsiElement psiElement: elements) {
             if (psiElement instanceof PhpClass) {
-                List<XmlTag> results = new ArrayList<XmlTag>();
+                final PhpClass phpClass = (PhpClass) psiElement;
 
-                results.addAll(XmlIndex.getPhpClassDeclarations((PhpClass) psiElement));
-
-                if (!(results.size() > 0)) {
+                if (!XmlIndex.hasPhpClassDeclarations(phpClass)) {
                     continue;
                 }
-                results.sort(Comparator.comparing(XmlTag::getName));
 
                 String tooltipText = "Navigate to configuration";
                 NavigationGutterIconBuilder<PsiElement> builder = NavigationGutterIconBuilder
                         .create(AllIcons.FileTypes.Xml)
-                        .setTargets(results)
+                        .setTargets(NotNullLazyValue.createValue(() -> {
+                            final List<XmlTag> results = XmlIndex.getPhpClassDeclarations(
+                                    phpClass
+                            );
+                            results.sort(Comparator.comparing(XmlTag::getName));
+
+                            return results;
+                        }))
                         .setTooltipText(tooltipText);
 
-                PsiElement className = ((PhpClass) psiElement).getNameIdentifier();
+                PsiElement className = phpClass.getNameIdentifier();
                 if (className != null) {
                     result.add(builder.createLineMarkerInfo(className));
                 }
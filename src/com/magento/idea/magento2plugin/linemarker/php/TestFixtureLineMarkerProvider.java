@@ -16,7 +16,6 @@ import com.jetbrains.php.lang.psi.PhpFile;
 import com.magento.idea.magento2plugin.indexes.FixtureIndex;
 import com.magento.idea.magento2plugin.magento.files.TestFixture;
 import com.magento.idea.magento2plugin.project.Settings;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
@@ -39,7 +38,6 @@ public class TestFixtureLineMarkerProvider implements LineMarkerProvider {
             return;
         }
         final FixtureIndex fixtureIndex = new FixtureIndex(elements.get(0).getProject());
-        final List<PhpFile> results = new ArrayList();
         for (final PsiElement psiElement: elements) {
             if (psiElement instanceof PhpDocTag) {
                 @NotNull final String tagName = ((PhpDocTag) psiElement).getName();
@@ -58,12 +56,10 @@ public class TestFixtureLineMarkerProvider implements LineMarkerProvider {
                     continue;
                 }
 
-                results.addAll(dataFixtures);
-
                 final String tooltipText = "Navigate to fixtures";
                 final NavigationGutterIconBuilder<PsiElement> builder = NavigationGutterIconBuilder
                         .create(PhpIcons.PHP_FILE)
-                        .setTargets(results)
+                        .setTargets(dataFixtures)
                         .setTooltipText(tooltipText);
 
                 result.add(builder.createLineMarkerInfo(PsiTreeUtil.getDeepestFirst(psiElement)));
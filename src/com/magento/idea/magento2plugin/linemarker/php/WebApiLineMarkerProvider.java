@@ -8,15 +8,19 @@ package com.magento.idea.magento2plugin.linemarker.php;
 import com.intellij.codeInsight.daemon.LineMarkerInfo;
 import com.intellij.codeInsight.daemon.LineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlAttribute;
 import com.intellij.psi.xml.XmlTag;
 import com.jetbrains.php.lang.psi.elements.Method;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.MagentoIcons;
 import com.magento.idea.magento2plugin.project.Settings;
 import com.magento.idea.magento2plugin.stubs.indexes.WebApiTypeIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.data.WebApiRouteData;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -30,6 +34,7 @@ import org.jetbrains.annotations.Nullable;
  * <p/>
  * Allows to open related web API config.
  * Tooltip displays a list of related REST routes.
+ * Routes are taken from the index, config tags are found only when the marker is clicked.
  */
 public class WebApiLineMarkerProvider implements LineMarkerProvider {
 
@@ -54,7 +59,7 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
         final WebApiRoutesCollector collector = new WebApiRoutesCollector();
 
         for (final PsiElement psiElement : psiElements) {
-            List<XmlTag> results = new ArrayList<>();
+            List<Pair<VirtualFile, WebApiRouteData>> results = new ArrayList<>();
 
             if (psiElement instanceof Method) {
                 results = collector.getRoutes((Method) psiElement);
@@ -69,24 +74,58 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
             final StringBuilder tooltipText = new StringBuilder(
                     "Navigate to Web API configuration:<pre>"
             );
-            for (final XmlTag routeTag : results) {
-                tooltipText.append(routeTag.getName()).append('\n');
+            for (final Pair<VirtualFile, WebApiRouteData> route : results) {
+                tooltipText.append(route.getSecond().getPresentableName()).append('\n');
             }
             tooltipText.append("</pre>");
+            final List<Pair<VirtualFile, WebApiRouteData>> routes = results;
+            final Project project = psiElement.getProject();
             final NavigationGutterIconBuilder<PsiElement> builder = NavigationGutterIconBuilder
                     .create(MagentoIcons.WEB_API)
-                    .setTargets(results)
+                    .setTargets(NotNullLazyValue.createValue(() -> findRouteTags(project, routes)))
                     .setTooltipText(tooltipText.toString());
             collection.add(builder.createLineMarkerInfo(PsiTreeUtil.getDeepestFirst(psiElement)));
         }
     }
 
     /**
-     * Web API config nodes collector for service methods and classes. Has built in caching.
+     * Find config tags of the indexed routes.
+     *
+     * @param project Project
+     * @param routes List[Pair[VirtualFile, WebApiRouteData]]
+     *
+     * @return List[XmlTag]
+     */
+    private static List<XmlTag> findRouteTags(
+            final @NotNull Project project,
+            final @NotNull List<Pair<VirtualFile, WebApiRouteData>> routes
+    ) {
+        final List<XmlTag> tags = new ArrayList<>();
+
+        for (final Pair<VirtualFile, WebApiRouteData> route : routes) {
+            final XmlTag tag = WebApiTypeIndex.findRouteTag(
+                    project,
+                    route.getFirst(),
+                    route.getSecond()
+            );
+
+            if (tag != null) {
+                tags.add(tag);
+            }
+        }
+
+        return tags;
+    }
+
+    /**
+     * Web API routes collector for service methods and classes. Has built in caching.
      */
     private static class WebApiRoutesCollector {
 
-        private final Map<String, List<XmlTag>> routesCache = new HashMap<>();
+        private final Map<String, List<Pair<VirtualFile, WebApiRouteData>>> routesCache
+                = new HashMap<>();
+        private final Map<String, List<Pair<VirtualFile, WebApiRouteData>>> classRoutesCache
+                = new HashMap<>();
         private final Map<String, Integer> httpMethodsSortOrder;
 
         public WebApiRoutesCollector() {
@@ -100,8 +139,10 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
         /**
          * Get sorted list of Web API routes related to the specified class.
          */
-        public List<XmlTag> getRoutes(final @NotNull PhpClass phpClass) {
-            final List<XmlTag> routesForClass = new ArrayList<>();
+        public List<Pair<VirtualFile, WebApiRouteData>> getRoutes(
+                final @NotNull PhpClass phpClass
+        ) {
+            final List<Pair<VirtualFile, WebApiRouteData>> routesForClass = new ArrayList<>();
 
             for (final Method method : phpClass.getMethods()) {
                 routesForClass.addAll(getRoutes(method));
@@ -116,11 +157,12 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
          * <p/>
          * Results are cached.
          */
-        public List<XmlTag> getRoutes(final @NotNull Method method) {
+        public List<Pair<VirtualFile, WebApiRouteData>> getRoutes(final @NotNull Method method) {
             final String methodFqn = method.getFQN();
 
             if (!routesCache.containsKey(methodFqn)) {
-                final List<XmlTag> routesForMethod = extractRoutesForMethod(method);
+                final List<Pair<VirtualFile, WebApiRouteData>> routesForMethod
+                        = extractRoutesForMethod(method);
                 sortRoutes(routesForMethod);
                 routesCache.put(methodFqn, routesForMethod);
             }
@@ -134,23 +176,26 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
          * Web API declarations for parent classes are taken into account.
          * Results are not cached.
          */
-        public List<XmlTag> extractRoutesForMethod(final @NotNull Method method) {
-            final List<XmlTag> routesForMethod = new ArrayList<>();
-            final Map<String, List<XmlTag>> routesForMethodMap = new HashMap<>();
+        public List<Pair<VirtualFile, WebApiRouteData>> extractRoutesForMethod(
+                final @NotNull Method method
+        ) {
+            final List<Pair<VirtualFile, WebApiRouteData>> routesForMethod = new ArrayList<>();
+            final Map<String, List<Pair<VirtualFile, WebApiRouteData>>> routesForMethodMap
+                    = new HashMap<>();
 
-            for (final Map.Entry<String, List<XmlTag>> entry
-                    : extractRoutesForMethodRecursively(method, routesForMethodMap).entrySet()) {
+            for (final Map.Entry<String, List<Pair<VirtualFile, WebApiRouteData>>> entry
+                    : extractRoutesRecursively(method, routesForMethodMap).entrySet()) {
                 routesForMethod.addAll(entry.getValue());
             }
 
             return routesForMethod;
         }
 
-        private Map<String, List<XmlTag>> extractRoutesForMethodRecursively(
+        private Map<String, List<Pair<VirtualFile, WebApiRouteData>>> extractRoutesRecursively(
                 final @NotNull Method method,
-                final Map<String, List<XmlTag>> routesForMethod
+                final Map<String, List<Pair<VirtualFile, WebApiRouteData>>> routesForMethod
         ) {
-            routesForMethod.put(method.getFQN(), WebApiTypeIndex.getWebApiRoutes(method));
+            routesForMethod.put(method.getFQN(), getDeclaredRoutes(method));
             final PhpClass phpClass = method.getContainingClass();
 
             if (phpClass == null) {
@@ -164,7 +209,7 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
                             continue;
                         }
                         routesForMethod.putAll(
-                                extractRoutesForMethodRecursively(
+                                extractRoutesRecursively(
                                         parentMethod,
                                         routesForMethod
                                 )
@@ -176,16 +221,43 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
             return routesForMethod;
         }
 
+        /**
+         * Get routes declared for the method itself. The index is queried once per class.
+         */
+        private List<Pair<VirtualFile, WebApiRouteData>> getDeclaredRoutes(
+                final @NotNull Method method
+        ) {
+            final List<Pair<VirtualFile, WebApiRouteData>> routes = new ArrayList<>();
+            final PhpClass phpClass = method.getContainingClass();
+
+            if (phpClass == null || !method.getAccess().isPublic()) {
+                return routes;
+            }
+            final List<Pair<VirtualFile, WebApiRouteData>> classRoutes = classRoutesCache
+                    .computeIfAbsent(
+                            phpClass.getPresentableFQN(),
+                            key -> WebApiTypeIndex.getWebApiRoutes(phpClass)
+                    );
+
+            for (final Pair<VirtualFile, WebApiRouteData> route : classRoutes) {
+                if (method.getName().equals(route.getSecond().getServiceMethod())) {
+                    routes.add(route);
+                }
+            }
+
+            return routes;
+        }
+
         /**
          * Make sure that routes are sorted as follows: GET, PUT, POST, DELETE. Then by path.
          */
-        private void sortRoutes(final List<XmlTag> routes) {
+        private void sortRoutes(final List<Pair<VirtualFile, WebApiRouteData>> routes) {
             routes.sort(
-                    (tag1, tag2) -> {
-                        final String firstUrl = GetTagAttributeValueUtil.getValue(tag1, "url");
-                        final String secondUrl = GetTagAttributeValueUtil.getValue(tag2, "url");
-                        final String method1 = GetTagAttributeValueUtil.getValue(tag1, "method");
-                        final String method2 = GetTagAttributeValueUtil.getValue(tag2, "method");
+                    (route1, route2) -> {
+                        final String firstUrl = route1.getSecond().getUrl();
+                        final String secondUrl = route2.getSecond().getUrl();
+                        final String method1 = route1.getSecond().getHttpMethod();
+                        final String method2 = route2.getSecond().getHttpMethod();
 
                         if (method1.isEmpty() || method2.isEmpty()) {
                             return firstUrl.compareTo(secondUrl);
@@ -208,26 +280,4 @@ public class WebApiLineMarkerProvider implements LineMarkerProvider {
             );
         }
     }
-
-    @SuppressWarnings("PMD.UseUtilityClass")
-    private static class GetTagAttributeValueUtil {
-
-        public static @NotNull String getValue(
-                final XmlTag tag,
-                final @NotNull String attributeName
-        ) {
-            final XmlAttribute attribute = tag.getAttribute(attributeName);
-
-            if (attribute == null) {
-                return "";
-            }
-            final String value = attribute.getValue();
-
-            if (value == null) {
-                return "";
-            }
-
-            return value.trim();
-        }
-    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.magento.packages;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Values of the composer.json read once, so the components don't keep the JSON PSI.
+ */
+public final class ComposerPackageData implements ComposerPackageModel {
+
+    private final String name;
+    private final String type;
+    private final String vendor;
+    private final String version;
+    private final String[] autoloadFiles;
+    private final Map<String, String> autoloadPsr4;
+
+    /**
+     * Composer package DTO constructor.
+     *
+     * @param composerPackageModel ComposerPackageModel values are copied from
+     */
+    public ComposerPackageData(final @NotNull ComposerPackageModel composerPackageModel) {
+        name = composerPackageModel.getName();
+        type = composerPackageModel.getType();
+        vendor = composerPackageModel.getVendor();
+        version = composerPackageModel.getVersion();
+        final String[] files = composerPackageModel.getAutoloadFiles();
+        autoloadFiles = files == null ? null : files.clone();
+        final Map<String, String> psr4 = composerPackageModel.getAutoloadPsr4();
+        autoloadPsr4 = psr4 == null ? null : new HashMap<>(psr4);
+    }
+
+    @Override
+    public @Nullable String getName() {
+        return name;
+    }
+
+    @Override
+    public @Nullable String getType() {
+        return type;
+    }
+
+    @Override
+    public @Nullable String getVendor() {
+        return vendor;
+    }
+
+    @Override
+    public @Nullable String getVersion() {
+        return version;
+    }
+
+    @Override
+    public @Nullable String[] getAutoloadFiles() {
+        return autoloadFiles == null ? null : autoloadFiles.clone();
+    }
+
+    @Override
+    public @Nullable Map<String, String> getAutoloadPsr4() {
+        return autoloadPsr4 == null ? null : new HashMap<>(autoloadPsr4);
+    }
+}
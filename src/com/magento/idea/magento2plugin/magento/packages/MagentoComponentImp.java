@@ -4,17 +4,32 @@
  */
 package com.magento.idea.magento2plugin.magento.packages;
 
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * Magento component keeps parsed composer.json data and the directory file only,
+ * PSI of the component is resolved on request.
+ */
 public class MagentoComponentImp implements MagentoComponent {
     protected final ComposerPackageModel composerPackageModel;
-    protected final PsiDirectory directory;
-
-    public MagentoComponentImp(@NotNull ComposerPackageModel composerPackageModel, @NotNull PsiDirectory directory) {
+    protected final VirtualFile directory;
+    protected final Project project;
+
+    public MagentoComponentImp(
+            @NotNull ComposerPackageModel composerPackageModel,
+            @NotNull VirtualFile directory,
+            @NotNull Project project
+    ) {
         this.composerPackageModel = composerPackageModel;
         this.directory = directory;
+        this.project = project;
     }
 
     @Override
@@ -23,22 +38,23 @@ public class MagentoComponentImp implements MagentoComponent {
     }
 
     @Override
+    @Nullable
     public PsiDirectory getDirectory() {
+        return directory.isValid()
+                ? PsiManager.getInstance(project).findDirectory(directory)
+                : null;
+    }
+
+    @Override
+    @NotNull
+    public VirtualFile getDirectoryFile() {
         return directory;
     }
 
     @Override
     public boolean isFileInContext(@NotNull PsiFile psiFile) {
-        PsiDirectory containingDirectory = psiFile.getOriginalFile().getContainingDirectory();
-        while (containingDirectory != null) {
-            if (containingDirectory.getManager().areElementsEquivalent(containingDirectory, directory)) {
-                return true;
-            }
+        VirtualFile file = psiFile.getOriginalFile().getVirtualFile();
 
-            containingDirectory = containingDirectory.getParentDirectory();
-        }
-
-        return false;
+        return file != null && VfsUtilCore.isAncestor(directory, file, false);
     }
-
 }
@@ -1,140 +1,484 @@
-/**
+/*
  * Copyright © Magento, Inc. All rights reserved.
  * See COPYING.txt for license details.
  */
+
 package com.magento.idea.magento2plugin.magento.packages;
 
 import com.intellij.json.psi.JsonFile;
 import com.intellij.json.psi.JsonObject;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeAnyChangeAbstractAdapter;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.magento.idea.magento2plugin.stubs.indexes.ModulePackageIndex;
-import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public class MagentoComponentManager {
-    private Map<String, MagentoComponent> components = new HashMap<>();
-    private long cacheStartTime;
-    private static final int CACHE_LIFE_TIME = 20000;
-    private static MagentoComponentManager magentoComponentManager;
-    private Project project;
+/**
+ * Project level registry of Magento components (composer packages of magento2-* types).
+ *
+ * <p>Components are loaded from the ModulePackageIndex once and then updated from VFS and PSI
+ * events: only components of changed, moved or deleted composer.json and etc/module.xml files
+ * are reloaded. Components are also mapped by their root directories, so the component of
+ * a file is resolved by walking the file parents up to the root instead of checking every
+ * component.</p>
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class MagentoComponentManager implements Disposable {
+
+    private static final String COMPOSER_FILE = "composer.json";
+    private static final String MODULE_FILE = "etc/module.xml";
 
-    private MagentoComponentManager(Project project){
+    private final Project project;
+    private final Set<String> changedConfigPaths = ConcurrentHashMap.newKeySet();
+    private volatile boolean reloadRequired = true;
+    private volatile ComponentsSnapshot snapshot = new ComponentsSnapshot();
+
+    /**
+     * Magento component manager constructor.
+     *
+     * @param project Project
+     */
+    public MagentoComponentManager(final @NotNull Project project) {
         this.project = project;
+        project.getMessageBus().connect(this).subscribe(
+                VirtualFileManager.VFS_CHANGES,
+                new BulkFileListener() {
+                    @Override
+                    public void after(final @NotNull List<? extends VFileEvent> events) {
+                        handleFileEvents(events);
+                    }
+                }
+        );
+        PsiManager.getInstance(project).addPsiTreeChangeListener(
+                new PsiTreeAnyChangeAbstractAdapter() {
+                    @Override
+                    protected void onChange(final @Nullable PsiFile file) {
+                        handlePsiChange(file);
+                    }
+                },
+                this
+        );
     }
 
-    public static MagentoComponentManager getInstance(@NotNull Project project) {
-        if (magentoComponentManager == null) {
-            magentoComponentManager = new MagentoComponentManager(project);
-        }
-        return magentoComponentManager;
+    /**
+     * Get components manager of the project.
+     *
+     * @param project Project
+     *
+     * @return MagentoComponentManager
+     */
+    public static MagentoComponentManager getInstance(final @NotNull Project project) {
+        return project.getService(MagentoComponentManager.class);
     }
 
+    /**
+     * Get all components of the project.
+     *
+     * @return Collection[MagentoComponent]
+     */
     public Collection<MagentoComponent> getAllComponents() {
-        return getComponents().values();
+        return getSnapshot().components.values();
     }
 
-    @SuppressWarnings("unchecked")
-    public <T extends MagentoComponent> Collection<T> getAllComponentsOfType(@NotNull Class<T> type) {
-        Collection<T> result = new ArrayList<>();
-        Map<String, MagentoComponent> components = getComponents();
-        for (String key: components.keySet()) {
-            if (type.isInstance(components.get(key))) {
-                result.add((T)components.get(key));
+    /**
+     * Get all components of the specified type.
+     *
+     * @param type Class[T]
+     * @param <T> component type
+     *
+     * @return Collection[T]
+     */
+    public <T extends MagentoComponent> Collection<T> getAllComponentsOfType(
+            final @NotNull Class<T> type
+    ) {
+        final Collection<T> result = new ArrayList<>();
+
+        for (final MagentoComponent component : getAllComponents()) {
+            if (type.isInstance(component)) {
+                result.add(type.cast(component));
             }
         }
 
         return result;
     }
 
-    synchronized private Map<String, MagentoComponent> getComponents() {
-        if (DumbService.getInstance(project).isDumb() || project.isDisposed()) {
-            return new HashMap<>();
-        }
+    /**
+     * Get the nearest component that contains the file.
+     *
+     * @param psiFile PsiFile
+     *
+     * @return MagentoComponent
+     */
+    public @Nullable MagentoComponent getComponentForFile(final @NotNull PsiFile psiFile) {
+        return getComponentOfTypeForFile(psiFile, MagentoComponent.class);
+    }
+
+    /**
+     * Get the nearest component of the specified type that contains the file.
+     *
+     * @param psiFile PsiFile
+     * @param type Class[T]
+     * @param <T> component type
+     *
+     * @return T
+     */
+    public @Nullable <T extends MagentoComponent> T getComponentOfTypeForFile(
+            final @NotNull PsiFile psiFile,
+            final @NotNull Class<T> type
+    ) {
+        final PsiDirectory containingDirectory = psiFile.getOriginalFile().getContainingDirectory();
 
-        if (cacheStartTime + CACHE_LIFE_TIME < System.currentTimeMillis()) {
-            flushModules();
-            loadModules();
-            cacheStartTime = System.currentTimeMillis();
+        if (containingDirectory == null) {
+            return null;
         }
 
-        return components;
+        return getComponentOfTypeForFile(containingDirectory.getVirtualFile(), type);
     }
 
-    @Nullable
-    public MagentoComponent getComponentForFile(@NotNull PsiFile psiFile) {
-        for (MagentoComponent magentoComponent: this.getAllComponents()) {
-            if (magentoComponent.isFileInContext(psiFile)) {
-                return magentoComponent;
+    /**
+     * Get the nearest component that contains the file or directory.
+     *
+     * @param file VirtualFile
+     *
+     * @return MagentoComponent
+     */
+    public @Nullable MagentoComponent getComponentForFile(final @NotNull VirtualFile file) {
+        return getComponentOfTypeForFile(file, MagentoComponent.class);
+    }
+
+    /**
+     * Get the nearest component of the specified type that contains the file or directory.
+     *
+     * @param file VirtualFile
+     * @param type Class[T]
+     * @param <T> component type
+     *
+     * @return T
+     */
+    public @Nullable <T extends MagentoComponent> T getComponentOfTypeForFile(
+            final @NotNull VirtualFile file,
+            final @NotNull Class<T> type
+    ) {
+        final Map<VirtualFile, MagentoComponent> componentsByDirectory
+                = getSnapshot().componentsByDirectory;
+        VirtualFile directory = file;
+
+        while (directory != null) {
+            final MagentoComponent component = componentsByDirectory.get(directory);
+
+            if (type.isInstance(component) && component.getDirectoryFile().isValid()) {
+                return type.cast(component);
             }
+            directory = directory.getParent();
         }
 
         return null;
     }
 
-    @Nullable
-    @SuppressWarnings("unchecked")
-    public <T extends MagentoComponent> T getComponentOfTypeForFile(@NotNull PsiFile psiFile, @NotNull Class<T> type) {
-        for (MagentoComponent magentoComponent: this.getAllComponents()) {
-            if (type.isInstance(magentoComponent) && magentoComponent.isFileInContext(psiFile)) {
-                return (T)magentoComponent;
+    /**
+     * Drop all components, they are loaded again on the next request.
+     */
+    public void flushModules() {
+        reloadRequired = true;
+    }
+
+    @Override
+    public void dispose() {
+        changedConfigPaths.clear();
+        snapshot = new ComponentsSnapshot();
+    }
+
+    /**
+     * Get components, changes collected from the VFS are applied before.
+     *
+     * @return ComponentsSnapshot
+     */
+    private ComponentsSnapshot getSnapshot() {
+        if (!reloadRequired && changedConfigPaths.isEmpty()
+                || project.isDisposed()
+                || DumbService.getInstance(project).isDumb()) {
+            return snapshot;
+        }
+
+        return ReadAction.compute(this::refresh);
+    }
+
+    /**
+     * Reload all components or only changed ones.
+     *
+     * @return ComponentsSnapshot
+     */
+    private synchronized ComponentsSnapshot refresh() {
+        if (reloadRequired) {
+            reloadRequired = false;
+            changedConfigPaths.clear();
+            snapshot = loadComponents();
+
+            return snapshot;
+        }
+
+        if (changedConfigPaths.isEmpty()) {
+            return snapshot;
+        }
+        final Set<String> configPaths = new HashSet<>(changedConfigPaths);
+        changedConfigPaths.removeAll(configPaths);
+        final ComponentsSnapshot updated = new ComponentsSnapshot(snapshot);
+
+        for (final String configPath : configPaths) {
+            updated.remove(configPath);
+        }
+        final LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+
+        for (final String configPath : configPaths) {
+            final VirtualFile configFile = fileSystem.findFileByPath(configPath);
+
+            if (configFile == null) {
+                continue;
+            }
+
+            for (final String packageName : FileBasedIndex.getInstance().getFileData(
+                    ModulePackageIndex.KEY,
+                    configFile,
+                    project
+            ).keySet()) {
+                if (!updated.hasPackage(packageName)) {
+                    updated.add(packageName, configFile, createComponent(configFile));
+                }
             }
         }
+        snapshot = updated;
 
-        return null;
+        return snapshot;
     }
 
-    synchronized public void flushModules() {
-        components = new HashMap<>();
+    /**
+     * Load all components from the index.
+     *
+     * @return ComponentsSnapshot
+     */
+    private ComponentsSnapshot loadComponents() {
+        final ComponentsSnapshot loaded = new ComponentsSnapshot();
+        final FileBasedIndex index = FileBasedIndex.getInstance();
+        final GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+
+        for (final String packageName : index.getAllKeys(ModulePackageIndex.KEY, project)) {
+            final Collection<VirtualFile> containingFiles = index.getContainingFiles(
+                    ModulePackageIndex.KEY,
+                    packageName,
+                    scope
+            );
+
+            if (!containingFiles.isEmpty()) {
+                final VirtualFile configFile = containingFiles.iterator().next();
+                loaded.add(packageName, configFile, createComponent(configFile));
+            }
+        }
+
+        return loaded;
     }
 
-    private void loadModules() {
-        Collection<String> packages = FileBasedIndex.getInstance().getAllKeys(ModulePackageIndex.KEY, this.project);
-        PsiManager psiManager = PsiManager.getInstance(this.project);
-        for (String packageName: packages) {
-            if (components.containsKey(packageName)) {
-                continue;
+    /**
+     * Create component for the composer.json file.
+     *
+     * <p>Component keeps values of the composer.json and the directory file only,
+     * so PSI of the components isn't held for the project lifetime.</p>
+     *
+     * @param configFile VirtualFile
+     *
+     * @return MagentoComponent
+     */
+    private @Nullable MagentoComponent createComponent(final @NotNull VirtualFile configFile) {
+        if (!configFile.isValid()) {
+            return null;
+        }
+        final VirtualFile directory = configFile.getParent();
+        final PsiFile psiFile = PsiManager.getInstance(project).findFile(configFile);
+
+        if (!(psiFile instanceof JsonFile) || directory == null) {
+            return null;
+        }
+        final JsonObject jsonObject = PsiTreeUtil.getChildOfType(psiFile, JsonObject.class);
+
+        if (jsonObject == null) {
+            return null;
+        }
+        final ComposerPackageModel composerPackageModel = new ComposerPackageData(
+                new ComposerPackageModelImpl(jsonObject)
+        );
+
+        if ("magento2-module".equals(composerPackageModel.getType())) {
+            return new MagentoModuleImpl(composerPackageModel, directory, project);
+        }
+
+        return new MagentoComponentImp(composerPackageModel, directory, project);
+    }
+
+    /**
+     * Collect composer.json files affected by the VFS changes.
+     *
+     * @param events List[VFileEvent]
+     */
+    private void handleFileEvents(final @NotNull List<? extends VFileEvent> events) {
+        if (reloadRequired) {
+            return;
+        }
+
+        for (final VFileEvent event : events) {
+            final VirtualFile file = event.getFile();
+            final boolean isDirectory = file != null && file.isDirectory();
+
+            if (isDirectory && isStructureChange(event)) {
+                // Created or moved directory could contain any number of components.
+                reloadRequired = true;
+                return;
             }
+            collectAffectedConfigPaths(event.getPath(), isDirectory);
 
-            Collection<VirtualFile> containingFiles = FileBasedIndex.getInstance()
-                .getContainingFiles(ModulePackageIndex.KEY, packageName, GlobalSearchScope.allScope(this.project));
+            if (event instanceof VFileMoveEvent) {
+                collectAffectedConfigPaths(((VFileMoveEvent) event).getOldPath(), false);
+            } else if (event instanceof VFilePropertyChangeEvent
+                    && ((VFilePropertyChangeEvent) event).isRename()) {
+                collectAffectedConfigPaths(
+                        ((VFilePropertyChangeEvent) event).getOldPath(),
+                        false
+                );
+            }
+        }
+    }
 
-            if (containingFiles.size() > 0) {
-                VirtualFile configurationFile = containingFiles.iterator().next();
+    /**
+     * Collect composer.json or module.xml changed in the editor, even if it isn't saved yet.
+     *
+     * @param psiFile PsiFile
+     */
+    private void handlePsiChange(final @Nullable PsiFile psiFile) {
+        if (psiFile == null || reloadRequired) {
+            return;
+        }
+        final VirtualFile file = psiFile.getOriginalFile().getVirtualFile();
 
-                PsiFile psiFile = psiManager.findFile(configurationFile);
-                if (psiFile != null && psiFile instanceof JsonFile) {
-                    JsonObject jsonObject = PsiTreeUtil.getChildOfType((JsonFile) psiFile, JsonObject.class);
-                    if (jsonObject == null) {
-                        continue;
-                    }
+        if (file != null) {
+            collectAffectedConfigPaths(file.getPath(), false);
+        }
+    }
 
-                    MagentoComponent magentoComponent;
-                    ComposerPackageModel composerPackageModel = new ComposerPackageModelImpl(jsonObject);
-                    if ("magento2-module".equals(composerPackageModel.getType())) {
-                        magentoComponent = new MagentoModuleImpl(new ComposerPackageModelImpl(jsonObject), psiFile.getContainingDirectory());
-                    } else {
-                        magentoComponent = new MagentoComponentImp(new ComposerPackageModelImpl(jsonObject), psiFile.getContainingDirectory());
-                    }
+    /**
+     * Check if event creates, copies, moves or renames the file.
+     *
+     * @param event VFileEvent
+     *
+     * @return boolean
+     */
+    private static boolean isStructureChange(final @NotNull VFileEvent event) {
+        return event instanceof VFileCreateEvent
+                || event instanceof VFileCopyEvent
+                || event instanceof VFileMoveEvent
+                || event instanceof VFilePropertyChangeEvent
+                && ((VFilePropertyChangeEvent) event).isRename();
+    }
 
-                    components.put(
-                        packageName,
-                        magentoComponent
-                    );
-                }
+    /**
+     * Collect composer.json files affected by the change of the file or directory.
+     * Change of the etc/module.xml affects the composer.json of the same module.
+     *
+     * @param path String
+     * @param isDirectory boolean
+     */
+    private void collectAffectedConfigPaths(final @NotNull String path, final boolean isDirectory) {
+        if (!isDirectory) {
+            if (path.endsWith("/" + COMPOSER_FILE)) {
+                changedConfigPaths.add(path);
+            } else if (path.endsWith("/" + MODULE_FILE)) {
+                // Module name is read from the module.xml, so its component is reloaded.
+                changedConfigPaths.add(
+                        path.substring(0, path.length() - MODULE_FILE.length()) + COMPOSER_FILE
+                );
+            }
+
+            return;
+        }
+        final String directoryPrefix = path + "/";
+
+        for (final String configPath : snapshot.components.keySet()) {
+            if (configPath.startsWith(directoryPrefix)) {
+                changedConfigPaths.add(configPath);
+            }
+        }
+    }
+
+    /**
+     * Immutable after publishing set of components.
+     */
+    private static final class ComponentsSnapshot {
+
+        private final Map<String, MagentoComponent> components;
+        private final Map<String, String> packageNames;
+        private final Map<VirtualFile, MagentoComponent> componentsByDirectory;
+
+        private ComponentsSnapshot() {
+            components = new LinkedHashMap<>();
+            packageNames = new HashMap<>();
+            componentsByDirectory = new HashMap<>();
+        }
+
+        private ComponentsSnapshot(final @NotNull ComponentsSnapshot snapshot) {
+            components = new LinkedHashMap<>(snapshot.components);
+            packageNames = new HashMap<>(snapshot.packageNames);
+            componentsByDirectory = new HashMap<>(snapshot.componentsByDirectory);
+        }
+
+        private boolean hasPackage(final @NotNull String packageName) {
+            return packageNames.containsValue(packageName);
+        }
+
+        private void add(
+                final @NotNull String packageName,
+                final @NotNull VirtualFile configFile,
+                final @Nullable MagentoComponent component
+        ) {
+            if (component == null) {
+                return;
+            }
+            components.put(configFile.getPath(), component);
+            packageNames.put(configFile.getPath(), packageName);
+            componentsByDirectory.put(component.getDirectoryFile(), component);
+        }
+
+        private void remove(final @NotNull String configPath) {
+            final MagentoComponent component = components.remove(configPath);
+            packageNames.remove(configPath);
+
+            if (component != null) {
+                componentsByDirectory.values().remove(component);
             }
         }
     }
@@ -142,11 +486,15 @@ public class MagentoComponentManager {
 
 class MagentoModuleImpl extends MagentoComponentImp implements MagentoModule {
     private static final String DEFAULT_MODULE_NAME = "Undefined module";
-    private static final String CONFIGURATION_PATH = "etc";
+    private static final String CONFIGURATION_FILE_PATH = "etc/module.xml";
     private String moduleName;
 
-    public MagentoModuleImpl(@NotNull ComposerPackageModel composerPackageModel, @NotNull PsiDirectory directory) {
-        super(composerPackageModel, directory);
+    public MagentoModuleImpl(
+            @NotNull ComposerPackageModel composerPackageModel,
+            @NotNull VirtualFile directory,
+            @NotNull Project project
+    ) {
+        super(composerPackageModel, directory, project);
     }
 
     @Override
@@ -155,12 +503,15 @@ class MagentoModuleImpl extends MagentoComponentImp implements MagentoModule {
             return moduleName;
         }
 
-        PsiDirectory configurationDir = directory.findSubdirectory(CONFIGURATION_PATH);
-        if (configurationDir != null) {
-            PsiFile configurationFile = configurationDir.findFile("module.xml");
+        VirtualFile configurationFile = directory.isValid()
+                ? directory.findFileByRelativePath(CONFIGURATION_FILE_PATH)
+                : null;
+        if (configurationFile != null) {
+            PsiFile configurationPsiFile = PsiManager.getInstance(project)
+                    .findFile(configurationFile);
 
-            if (configurationFile != null && configurationFile instanceof XmlFile) {
-                XmlTag rootTag = ((XmlFile) configurationFile).getRootTag();
+            if (configurationPsiFile instanceof XmlFile) {
+                XmlTag rootTag = ((XmlFile) configurationPsiFile).getRootTag();
                 if (rootTag != null) {
                     XmlTag module = rootTag.findFirstSubTag("module");
                     if (module != null && module.getAttributeValue("name") != null) {
@@ -0,0 +1,34 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.project;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Keeps URN map of the XSD files up to date with the VFS changes.
+ */
+public class UrnMapFileListener implements BulkFileListener {
+
+    private final Project project;
+
+    /**
+     * URN map file listener constructor.
+     *
+     * @param project Project
+     */
+    public UrnMapFileListener(final @NotNull Project project) {
+        this.project = project;
+    }
+
+    @Override
+    public void after(final @NotNull List<? extends VFileEvent> events) {
+        UrnMapService.getInstance(project).handleFileEvents(events);
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.project;
+
+import com.intellij.javaee.ExternalResourceManager;
+import com.intellij.javaee.ExternalResourceManagerEx;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.psi.search.FilenameIndex;
+import com.magento.idea.magento2plugin.magento.packages.MagentoComponent;
+import com.magento.idea.magento2plugin.magento.packages.MagentoComponentManager;
+import com.magento.idea.magento2plugin.magento.packages.MagentoModule;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Maps Magento URNs of the XSD files to their locations in the external resources.
+ *
+ * <p>Mappings are computed in a cancellable background task: files are processed in batches,
+ * each batch in its own non-blocking read action. Only the resulting batch of resources is
+ * registered in a short write action. After XSD files change only they are mapped again.</p>
+ *
+ * <p>External resources are persisted by the IDE, so Magento URNs registered in the previous
+ * sessions are loaded before the first mapping. Otherwise URNs of XSD files deleted or moved
+ * after restart would never be removed.</p>
+ */
+public final class UrnMapService {
+
+    private static final String FRAMEWORK = "urn:magento:framework:";
+    private static final String MODULE = "urn:magento:module:";
+    private static final String XSD_EXTENSION = "xsd";
+    private static final int BATCH_SIZE = 200;
+
+    private final Project project;
+    private final Map<String, String> registeredUrns = new ConcurrentHashMap<>();
+    private final Set<String> changedPaths = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean regenerationRequested = new AtomicBoolean();
+    private final AtomicBoolean taskQueued = new AtomicBoolean();
+    private final AtomicBoolean registeredUrnsLoaded = new AtomicBoolean();
+
+    /**
+     * URN map service constructor.
+     *
+     * @param project Project
+     */
+    public UrnMapService(final @NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Get URN map service of the project.
+     *
+     * @param project Project
+     *
+     * @return UrnMapService
+     */
+    public static UrnMapService getInstance(final @NotNull Project project) {
+        return project.getService(UrnMapService.class);
+    }
+
+    /**
+     * Map URNs of all XSD files of the project in the background.
+     */
+    public void regenerate() {
+        regenerationRequested.set(true);
+        queueTask();
+    }
+
+    /**
+     * Collect XSD files and directories affected by the VFS changes and map them again.
+     *
+     * @param events List[VFileEvent]
+     */
+    public void handleFileEvents(final @NotNull List<? extends VFileEvent> events) {
+        if (project.isDisposed() || !Settings.isEnabled(project)) {
+            return;
+        }
+        boolean hasChanges = false;
+
+        for (final VFileEvent event : events) {
+            final VirtualFile file = event.getFile();
+            final boolean isDirectory = file != null && file.isDirectory();
+
+            if (!isDirectory && !event.getPath().endsWith("." + XSD_EXTENSION)
+                    || isDirectory && !isStructureChange(event)) {
+                continue;
+            }
+            changedPaths.add(event.getPath());
+
+            if (event instanceof VFileMoveEvent) {
+                changedPaths.add(((VFileMoveEvent) event).getOldPath());
+            } else if (event instanceof VFilePropertyChangeEvent) {
+                changedPaths.add(((VFilePropertyChangeEvent) event).getOldPath());
+            }
+            hasChanges = true;
+        }
+
+        if (hasChanges) {
+            queueTask();
+        }
+    }
+
+    /**
+     * Build URN of the XSD file.
+     *
+     * @param file VirtualFile
+     *
+     * @return String
+     */
+    public @Nullable String buildUrn(final @NotNull VirtualFile file) {
+        if (!file.isValid()) {
+            return null;
+        }
+        final MagentoComponent component = MagentoComponentManager.getInstance(project)
+                .getComponentForFile(file);
+
+        if (component == null || !component.getDirectoryFile().isValid()) {
+            return null;
+        }
+        String prefix = null;
+
+        if (component instanceof MagentoModule) {
+            prefix = MODULE + ((MagentoModule) component).getMagentoName() + ":";
+        } else if ("magento2-library".equals(component.getComposerModel().getType())) {
+            prefix = FRAMEWORK;
+        }
+
+        if (prefix == null) {
+            return null;
+        }
+        final String relativePath = VfsUtilCore.getRelativePath(
+                file,
+                component.getDirectoryFile(),
+                '/'
+        );
+
+        return relativePath == null ? null : prefix + relativePath;
+    }
+
+    private static boolean isStructureChange(final @NotNull VFileEvent event) {
+        return event instanceof VFileCreateEvent
+                || event instanceof VFileCopyEvent
+                || event instanceof VFileDeleteEvent
+                || event instanceof VFileMoveEvent
+                || event instanceof VFilePropertyChangeEvent
+                && ((VFilePropertyChangeEvent) event).isRename();
+    }
+
+    private void queueTask() {
+        if (taskQueued.compareAndSet(false, true)) {
+            ApplicationManager.getApplication().invokeLater(
+                    () -> new UrnMapTask().queue(),
+                    project.getDisposed()
+            );
+        }
+    }
+
+    private boolean hasPendingChanges() {
+        return regenerationRequested.get() || !changedPaths.isEmpty();
+    }
+
+    /**
+     * Background task that computes URN mappings and registers them.
+     */
+    private final class UrnMapTask extends Task.Backgroundable {
+
+        private final Map<String, String> urns = new HashMap<>();
+        private final Map<String, String> locations = new HashMap<>();
+        private final Set<String> removedPaths = new HashSet<>();
+
+        private UrnMapTask() {
+            super(project, "Regenerating Magento URN map", true);
+        }
+
+        @Override
+        public void run(final @NotNull ProgressIndicator indicator) {
+            indicator.setIndeterminate(false);
+
+            if (!registeredUrnsLoaded.get()) {
+                runReadAction(indicator, () -> {
+                    loadRegisteredUrns();
+                    return registeredUrns;
+                });
+                registeredUrnsLoaded.set(true);
+            }
+            final List<VirtualFile> xsdFiles = new ArrayList<>();
+
+            if (regenerationRequested.getAndSet(false)) {
+                changedPaths.clear();
+                removedPaths.addAll(registeredUrns.keySet());
+                xsdFiles.addAll(runReadAction(
+                        indicator,
+                        () -> FilenameIndex.getAllFilesByExt(project, XSD_EXTENSION)
+                ));
+            } else {
+                final Set<String> paths = new HashSet<>(changedPaths);
+                changedPaths.removeAll(paths);
+                collectChangedFiles(paths, xsdFiles);
+            }
+
+            for (int start = 0; start < xsdFiles.size(); start += BATCH_SIZE) {
+                indicator.checkCanceled();
+                indicator.setFraction((double) start / xsdFiles.size());
+                final List<VirtualFile> batch = xsdFiles.subList(
+                        start,
+                        Math.min(start + BATCH_SIZE, xsdFiles.size())
+                );
+                runReadAction(indicator, () -> {
+                    mapBatch(batch);
+                    return batch;
+                });
+            }
+            indicator.setFraction(1);
+        }
+
+        @Override
+        public void onSuccess() {
+            removedPaths.removeAll(urns.keySet());
+
+            if (project.isDisposed() || urns.isEmpty() && removedPaths.isEmpty()) {
+                return;
+            }
+            WriteAction.run(this::registerResources);
+        }
+
+        @Override
+        public void onFinished() {
+            taskQueued.set(false);
+
+            if (hasPendingChanges()) {
+                queueTask();
+            }
+        }
+
+        private void collectChangedFiles(
+                final @NotNull Collection<String> paths,
+                final @NotNull List<VirtualFile> xsdFiles
+        ) {
+            final LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+
+            for (final String path : paths) {
+                final VirtualFile file = fileSystem.findFileByPath(path);
+
+                if (file == null || !file.isValid()) {
+                    final String directoryPrefix = path + "/";
+                    removedPaths.add(path);
+
+                    for (final String registeredPath : registeredUrns.keySet()) {
+                        if (registeredPath.startsWith(directoryPrefix)) {
+                            removedPaths.add(registeredPath);
+                        }
+                    }
+                    continue;
+                }
+                removedPaths.add(path);
+                VfsUtilCore.iterateChildrenRecursively(file, null, child -> {
+                    if (!child.isDirectory() && XSD_EXTENSION.equals(child.getExtension())) {
+                        xsdFiles.add(child);
+                    }
+
+                    return true;
+                });
+            }
+        }
+
+        /**
+         * Load Magento URNs registered for the project in the previous sessions.
+         */
+        private void loadRegisteredUrns() {
+            final ExternalResourceManager resourceManager = ExternalResourceManager.getInstance();
+
+            if (!(resourceManager instanceof ExternalResourceManagerEx)) {
+                return;
+            }
+            final ExternalResourceManagerEx resourceManagerEx =
+                    (ExternalResourceManagerEx) resourceManager;
+
+            for (final String urn : resourceManagerEx.getAvailableUrls(project)) {
+                if (!urn.startsWith(FRAMEWORK) && !urn.startsWith(MODULE)) {
+                    continue;
+                }
+                final String location = resourceManagerEx.getResourceLocation(urn, project);
+
+                if (location != null) {
+                    registeredUrns.putIfAbsent(location, urn);
+                }
+            }
+        }
+
+        private void mapBatch(final @NotNull List<VirtualFile> batch) {
+            for (final VirtualFile file : batch) {
+                final String urn = buildUrn(file);
+
+                if (urn != null) {
+                    urns.put(file.getPath(), urn);
+                    final String location = file.getCanonicalPath();
+                    locations.put(file.getPath(), location == null ? file.getPath() : location);
+                }
+            }
+        }
+
+        private void registerResources() {
+            final ExternalResourceManager resourceManager = ExternalResourceManager.getInstance();
+
+            for (final String path : removedPaths) {
+                final String urn = registeredUrns.remove(path);
+
+                if (urn != null) {
+                    removeResource(resourceManager, urn);
+                }
+            }
+
+            for (final Map.Entry<String, String> entry : urns.entrySet()) {
+                final String location = locations.get(entry.getKey());
+                final String previousUrn = registeredUrns.get(entry.getKey());
+
+                if (previousUrn != null && !previousUrn.equals(entry.getValue())) {
+                    removeResource(resourceManager, previousUrn);
+                }
+
+                // we need to attach resource to a project scope
+                // but with ExternalResourceManager itself it's not
+                // possible unfortunately
+                if (resourceManager instanceof ExternalResourceManagerEx) {
+                    ((ExternalResourceManagerEx) resourceManager).addResource(
+                            entry.getValue(),
+                            location,
+                            project
+                    );
+                } else {
+                    resourceManager.addResource(entry.getValue(), location);
+                }
+                registeredUrns.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        private void removeResource(
+                final @NotNull ExternalResourceManager resourceManager,
+                final @NotNull String urn
+        ) {
+            if (resourceManager instanceof ExternalResourceManagerEx) {
+                ((ExternalResourceManagerEx) resourceManager).removeResource(urn, project);
+            } else {
+                resourceManager.removeResource(urn);
+            }
+        }
+
+        private <T> T runReadAction(
+                final @NotNull ProgressIndicator indicator,
+                final @NotNull Callable<T> action
+        ) {
+            return ReadAction.nonBlocking(action)
+                    .inSmartMode(project)
+                    .wrapProgress(indicator)
+                    .executeSynchronously();
+        }
+    }
+}
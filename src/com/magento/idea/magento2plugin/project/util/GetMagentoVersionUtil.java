@@ -5,19 +5,19 @@
 
 package com.magento.idea.magento2plugin.project.util;
 
-import com.intellij.json.psi.JsonObject;
-import com.intellij.json.psi.JsonProperty;
 import com.intellij.openapi.util.Pair;
-import com.intellij.psi.util.PsiTreeUtil;
 import com.magento.idea.magento2plugin.magento.files.ComposerLock;
 import com.magento.idea.magento2plugin.magento.packages.code.MagentoVersion;
-import java.util.Collection;
+import java.io.IOException;
+import java.io.Reader;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.apache.commons.lang.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
 
 public final class GetMagentoVersionUtil {
 
@@ -25,66 +25,182 @@ public final class GetMagentoVersionUtil {
     }
 
     /**
-     * Find Magento Package version in composer.lock json object.
+     * Find Magento Package version in composer.lock content.
      *
-     * @param object JsonObject
+     * <p>Content is read as a stream of JSON tokens and reading is stopped as soon as the
+     * version is known, so the rest of the packages list is never parsed.</p>
+     *
+     * @param reader Reader
      *
      * @return Pair[String, String]
+     *
+     * @throws IOException if content couldn't be read
      */
-    @SuppressWarnings("PMD.CyclomaticComplexity")
-    public static @Nullable Pair<String, String> getVersion(final @NotNull JsonObject object) {
-        final JsonProperty packagesProperty = object.findProperty(ComposerLock.PACKAGES_PROP);
+    public static @Nullable Pair<String, String> getVersion(
+            final @NotNull Reader reader
+    ) throws IOException {
+        final MagentoPackagesHandler handler = new MagentoPackagesHandler();
 
-        if (packagesProperty == null) {
-            return null;
+        try {
+            new JSONParser().parse(reader, handler);
+        } catch (ParseException exception) { //NOPMD
+            // Broken composer.lock, use packages found before the error.
+        }
+
+        return handler.getVersion();
+    }
+
+    /**
+     * Collects Magento product packages from the composer.lock packages list.
+     */
+    private static final class MagentoPackagesHandler implements ContentHandler {
+
+        private static final int ROOT_DEPTH = 1;
+        private static final int PACKAGE_DEPTH = 3;
+
+        private final List<MagentoVersion> versions = MagentoVersion.getVersions();
+        private final List<String> versionNames = MagentoVersion.getVersionsNames();
+        private final String lastVersionName = versionNames.stream()
+                .max(String::compareTo)
+                .orElse("");
+        private final Map<String, String> foundMagentoPackages = new HashMap<>();
+        private int depth;
+        private boolean inPackages;
+        private boolean packagesSorted = true;
+        private String previousName;
+        private String packageKey;
+        private String packageName;
+        private String packageVersion;
+
+        @Override
+        public void startJSON() {
+            depth = 0;
+        }
+
+        @Override
+        public void endJSON() {
+            // Nothing to finalize.
         }
-        final Collection<JsonObject> packages = PsiTreeUtil.findChildrenOfType(
-                packagesProperty,
-                JsonObject.class
-        );
-        final List<MagentoVersion> versions = MagentoVersion.getVersions();
-        final List<String> versionNames = MagentoVersion.getVersionsNames();
-        final Map<String, String> foundMagentoPackages = new HashMap<>();
-
-        for (final JsonObject packageItem : packages) {
-            final JsonProperty nameProperty = packageItem.findProperty(
-                    ComposerLock.PACKAGE_NAME_PROP
-            );
-
-            if (nameProperty == null || nameProperty.getValue() == null) {
-                continue;
+
+        @Override
+        public boolean startObject() {
+            depth++;
+
+            if (inPackages && depth == PACKAGE_DEPTH) {
+                packageName = null;
+                packageVersion = null;
             }
-            final String name = StringUtils.strip(nameProperty.getValue().getText(), "\"");
 
-            if (versionNames.contains(name)) {
-                final JsonProperty versionProperty = packageItem.findProperty(
-                        ComposerLock.PACKAGE_VERSION_PROP
-                );
+            return true;
+        }
 
-                if (versionProperty == null || versionProperty.getValue() == null) {
-                    continue;
-                }
+        @Override
+        public boolean endObject() {
+            if (inPackages && depth == PACKAGE_DEPTH) {
+                depth--;
 
-                final String value = StringUtils.strip(
-                        versionProperty.getValue().getText(), "\""
-                );
-                foundMagentoPackages.put(name, value);
+                return processPackage();
+            }
+            depth--;
 
-                if (MagentoVersion.ENTERPRISE_EDITION.getName().equals(name)) {
-                    break;
-                }
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(final String key) {
+            if (depth == ROOT_DEPTH) {
+                inPackages = ComposerLock.PACKAGES_PROP.equals(key);
+            } else if (depth == PACKAGE_DEPTH) {
+                packageKey = key;
+            }
+
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            if (depth == ROOT_DEPTH && inPackages) {
+                // Packages list is over, nothing else could be found.
+                inPackages = false;
+
+                return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            depth++;
+
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            depth--;
+
+            return true;
+        }
+
+        @Override
+        public boolean primitive(final Object value) {
+            if (!inPackages || depth != PACKAGE_DEPTH || !(value instanceof String)) {
+                return true;
+            }
+
+            if (ComposerLock.PACKAGE_NAME_PROP.equals(packageKey)) {
+                packageName = (String) value;
+            } else if (ComposerLock.PACKAGE_VERSION_PROP.equals(packageKey)) {
+                packageVersion = (String) value;
             }
+
+            return true;
         }
 
-        for (final MagentoVersion version : versions) {
-            if (foundMagentoPackages.containsKey(version.getName())) {
-                return new Pair<>(
-                        foundMagentoPackages.get(version.getName()),
-                        version.getDisplayName()
-                );
+        /**
+         * Register just read package and decide if reading should go on.
+         *
+         * @return boolean
+         */
+        private boolean processPackage() {
+            if (packageName == null) {
+                return true;
+            }
+
+            if (previousName != null && previousName.compareTo(packageName) > 0) {
+                packagesSorted = false;
+            }
+            previousName = packageName;
+
+            if (versionNames.contains(packageName) && packageVersion != null) {
+                foundMagentoPackages.put(packageName, packageVersion);
+
+                if (MagentoVersion.ENTERPRISE_EDITION.getName().equals(packageName)) {
+                    return false;
+                }
             }
+
+            // Composer keeps packages sorted by name, so product packages can't follow.
+            return !packagesSorted || packageName.compareTo(lastVersionName) <= 0;
         }
 
-        return null;
+        /**
+         * Get version of the highest priority Magento package found.
+         *
+         * @return Pair[String, String]
+         */
+        private @Nullable Pair<String, String> getVersion() {
+            for (final MagentoVersion version : versions) {
+                if (foundMagentoPackages.containsKey(version.getName())) {
+                    return new Pair<>(
+                            foundMagentoPackages.get(version.getName()),
+                            version.getDisplayName()
+                    );
+                }
+            }
+
+            return null;
+        }
     }
 }
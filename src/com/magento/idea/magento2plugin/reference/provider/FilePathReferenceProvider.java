@@ -7,7 +7,6 @@ package com.magento.idea.magento2plugin.reference.provider;
 
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiReference;
@@ -15,26 +14,24 @@ import com.intellij.psi.PsiReferenceProvider;
 import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.ProcessingContext;
-import com.magento.idea.magento2plugin.reference.provider.util.GetAllSubFilesOfVirtualFileUtil;
+import com.magento.idea.magento2plugin.indexes.ModuleFilePathIndex;
 import com.magento.idea.magento2plugin.reference.provider.util.GetFilePathUtil;
 import com.magento.idea.magento2plugin.reference.provider.util.GetModuleNameUtil;
 import com.magento.idea.magento2plugin.reference.provider.util.GetModuleSourceFilesUtil;
 import com.magento.idea.magento2plugin.reference.xml.PolyVariantReferenceBase;
-import gnu.trove.THashMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 import org.jetbrains.annotations.NotNull;
 
 public class FilePathReferenceProvider extends PsiReferenceProvider {
 
-    @SuppressWarnings({
-            "PMD.CognitiveComplexity",
-            "PMD.CyclomaticComplexity",
-            "PMD.NPathComplexity",
-            "PMD.AvoidInstantiatingObjectsInLoops"
-    })
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile(".*\\.\\w+$");
+
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
     @NotNull
     @Override
     public PsiReference[] getReferencesByElement(
@@ -49,136 +46,116 @@ public class FilePathReferenceProvider extends PsiReferenceProvider {
         }
 
         // Find all files based on provided path
-        final Collection<VirtualFile> files = getFiles(element);
+        final Collection<VirtualFile> files = getFiles(element, filePath);
 
         if (files.isEmpty()) {
             return PsiReference.EMPTY_ARRAY;
         }
         final PsiManager psiManager = PsiManager.getInstance(element.getProject());
+        final String[] pathParts = filePath.split("/");
+        final List<Set<VirtualFile>> segments = new ArrayList<>(pathParts.length);
+
+        for (int i = 0; i < pathParts.length; i++) {
+            segments.add(new LinkedHashSet<>());
+        }
+
+        // Every file is located by the path, so its parents are the path segments
+        for (final VirtualFile file : files) {
+            VirtualFile segment = file;
 
+            for (int i = pathParts.length - 1; i >= 0 && segment != null; i--) {
+                segments.get(i).add(segment);
+                segment = segment.getParent();
+            }
+        }
         final List<PsiReference> psiReferences = new ArrayList<>();
+        final int pathOffset = origValue.indexOf(filePath);
+        int segmentOffset = 0;
 
-        String currentPath = "";
-        final String[] pathParts = filePath.split("/");
         for (int i = 0; i < pathParts.length; i++) {
-            final String pathPart = pathParts[i];
-            Boolean currentPathIsBuilt = false;
+            final List<PsiElement> psiElements = new ArrayList<>();
 
-            final Map<TextRange, List<PsiElement>> psiPathElements = new THashMap<>();
-
-            for (final VirtualFile file : files) {
-                final String fileUrl = file.getUrl();
-                if (!fileUrl.contains(filePath)) {
-                    continue;
-                }
-                final String rootPathUrl = fileUrl.substring(0, fileUrl.indexOf(filePath));
-                final String[] relativePathParts
-                        = fileUrl.substring(fileUrl.indexOf(filePath)).split("/");
-
-                if (!currentPathIsBuilt) {
-                    currentPath = currentPath.isEmpty()
-                            ? currentPath.concat(relativePathParts[i])
-                            : currentPath.concat("/").concat(relativePathParts[i]);
-                    currentPathIsBuilt = true;
-                }
+            for (final VirtualFile segment : segments.get(i)) {
+                final PsiElement psiElement = segment.isDirectory()
+                        ? psiManager.findDirectory(segment)
+                        : psiManager.findFile(segment);
 
-                final VirtualFile currentVf = VirtualFileManager.getInstance()
-                        .findFileByUrl(rootPathUrl.concat(currentPath));
-
-                if (null != currentVf) {
-                    final PsiElement psiElement = currentVf.isDirectory()
-                            ? psiManager.findDirectory(currentVf)
-                            : psiManager.findFile(currentVf);
-                    if (null != psiElement) {
-                        final int currentPathIndex = currentPath.lastIndexOf('/') == -1
-                                ? 0 : currentPath.lastIndexOf('/') + 1;
-
-                        final TextRange pathRange = new TextRange(
-                                origValue.indexOf(filePath)
-                                    + currentPathIndex,
-                                origValue.indexOf(filePath)
-                                    + currentPathIndex
-                                    + pathPart.length()
-                        );
-
-                        if (psiPathElements.containsKey(pathRange)) {
-                            psiPathElements.get(pathRange).add(psiElement);
-                        } else {
-                            final List<PsiElement> list = new ArrayList<>();
-                            list.add(psiElement);
-                            psiPathElements.put(pathRange, list);
-                        }
-                    }
+                if (null != psiElement) {
+                    psiElements.add(psiElement);
                 }
             }
 
-            if (!psiPathElements.isEmpty()) {
-                psiPathElements.forEach((textRange, psiElements) ->
-                        psiReferences.add(
-                                new PolyVariantReferenceBase(element, textRange, psiElements)
-                        )
-                );
+            if (!psiElements.isEmpty()) {
+                psiReferences.add(new PolyVariantReferenceBase(
+                        element,
+                        new TextRange(
+                                pathOffset + segmentOffset,
+                                pathOffset + segmentOffset + pathParts[i].length()
+                        ),
+                        psiElements
+                ));
             }
+            segmentOffset += pathParts[i].length() + 1;
         }
 
         return psiReferences.toArray(new PsiReference[0]);
     }
 
-    @SuppressWarnings("PMD.CognitiveComplexity")
-    private Collection<VirtualFile> getFiles(final @NotNull PsiElement element) {
-        Collection<VirtualFile> files = new ArrayList<>();
+    /**
+     * Find files located by the path. Files of the module are taken from the module file path
+     * index, other files are found by their names.
+     *
+     * @param element PsiElement
+     * @param filePath String
+     *
+     * @return Collection[VirtualFile]
+     */
+    private Collection<VirtualFile> getFiles(
+            final @NotNull PsiElement element,
+            final @NotNull String filePath
+    ) {
+        final String fileName = filePath.substring(filePath.lastIndexOf('/') + 1);
+        final boolean withExtension = EXTENSION_PATTERN.matcher(fileName).matches();
+        final Collection<VirtualFile> vfs = isModuleNamePresent(element)
+                ? GetModuleSourceFilesUtil.getInstance()
+                        .execute(element.getText(), element.getProject())
+                : null;
+
+        if (null == vfs) {
+            // module is not declared or its directories can't be resolved
+            return withExtension ? getFilesByName(element, fileName, filePath) : new ArrayList<>();
+        }
+        final Collection<VirtualFile> files = new ArrayList<>();
+        final ModuleFilePathIndex moduleFilePathIndex = ModuleFilePathIndex.getInstance(
+                element.getProject()
+        );
 
-        final String filePath = GetFilePathUtil.getInstance().execute(element.getText());
-        if (null == filePath) {
-            return files;
+        for (final VirtualFile vf : vfs) {
+            files.addAll(moduleFilePathIndex.findFiles(vf, filePath, withExtension));
         }
 
-        final String fileName = filePath.substring(filePath.lastIndexOf('/') + 1);
+        return files;
+    }
 
-        if (fileName.matches(".*\\.\\w+$")) {
-            // extension presents
-            files = FilenameIndex.getVirtualFilesByName(
-                    fileName,
-                    GlobalSearchScope.allScope(element.getProject())
-            );
-            files.removeIf(f -> !f.getPath().endsWith(filePath));
-
-            // filter by module
-            final Collection<VirtualFile> vfs = GetModuleSourceFilesUtil.getInstance()
-                    .execute(element.getText(), element.getProject());
-            if (null != vfs) {
-                files.removeIf(f -> {
-                    for (final VirtualFile vf : vfs) {
-                        if (f.getPath().startsWith(vf.getPath().concat("/"))) {
-                            return false;
-                        }
-                    }
-                    return true;
-                });
-            }
-        } else if (isModuleNamePresent(element)) {
-            // extension absent
-            final Collection<VirtualFile> vfs = GetModuleSourceFilesUtil.getInstance()
-                    .execute(element.getText(), element.getProject());
-            if (null != vfs) {
-                for (final VirtualFile vf : vfs) {
-                    final Collection<VirtualFile> vfChildren = GetAllSubFilesOfVirtualFileUtil
-                            .getInstance().execute(vf);
-                    if (null != vfChildren) {
-                        vfChildren.removeIf(f -> {
-                            if (!f.isDirectory()) { //NOPMD
-                                final String ext = f.getExtension();
-                                if (null != ext) {
-                                    return !f.getPath().endsWith(filePath.concat(".").concat(ext));
-                                }
-                            }
-                            return true;
-                        });
-                        files.addAll(vfChildren);
-                    }
-                }
-            }
-        }
+    /**
+     * Find files by their name which paths end with the file path.
+     *
+     * @param element PsiElement
+     * @param fileName String
+     * @param filePath String
+     *
+     * @return Collection[VirtualFile]
+     */
+    private Collection<VirtualFile> getFilesByName(
+            final @NotNull PsiElement element,
+            final @NotNull String fileName,
+            final @NotNull String filePath
+    ) {
+        final Collection<VirtualFile> files = FilenameIndex.getVirtualFilesByName(
+                fileName,
+                GlobalSearchScope.allScope(element.getProject())
+        );
+        files.removeIf(f -> !f.getPath().endsWith(filePath));
 
         return files;
     }
@@ -5,47 +5,39 @@
 
 package com.magento.idea.magento2plugin.reference.provider;
 
-import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceProvider;
-import com.intellij.psi.stubs.StubIndex;
 import com.intellij.util.ProcessingContext;
-import com.jetbrains.php.PhpIndex;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.jetbrains.php.lang.psi.elements.PhpNamespace;
-import com.jetbrains.php.lang.psi.stubs.indexes.PhpNamespaceIndex;
 import com.magento.idea.magento2plugin.reference.xml.PolyVariantReferenceBase;
-import com.magento.idea.magento2plugin.util.RegExUtil;
+import com.magento.idea.magento2plugin.util.php.PhpClassLookupCache;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.jetbrains.annotations.NotNull;
 
 @SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops"})
 public class PhpClassReferenceProvider extends PsiReferenceProvider {
 
+    private static final Locale NAMESPACE_LOCALE = new Locale("en", "EN");
+    private static final String QUOTE = "\"";
+
     @Override
     public @NotNull PsiReference[] getReferencesByElement(
             final @NotNull PsiElement element,
             final @NotNull ProcessingContext context
     ) {
         final String origValue = element.getText();
-
-        final Pattern pattern = Pattern.compile(RegExUtil.PhpRegex.FQN);
-        final Matcher matcher = pattern.matcher(origValue);
-        if (!matcher.find()) {
-            return PsiReference.EMPTY_ARRAY;
-        }
-
-        final String classFQN = origValue.replaceAll("^\"|\"$", "");
+        final String classFQN = StringUtil.trimEnd(StringUtil.trimStart(origValue, QUOTE), QUOTE);
         final String[] fqnParts = classFQN.split("\\\\");
-
-        final PhpIndex phpIndex = PhpIndex.getInstance(element.getProject());
+        final PhpClassLookupCache lookupCache = PhpClassLookupCache.getInstance(
+                element.getProject()
+        );
 
         final StringBuilder namespace = new StringBuilder();
         String namespacePart;
@@ -58,12 +50,9 @@ public class PhpClassReferenceProvider extends PsiReferenceProvider {
 
             final String namespaceId = namespace
                     .toString()
-                    .toLowerCase(new Locale("en","EN"));
+                    .toLowerCase(NAMESPACE_LOCALE);
 
-            final Collection<PhpNamespace> references = hasNamespaceInIndex(
-                    namespaceId,
-                    element.getProject()
-            ) ? phpIndex.getNamespacesByName(namespaceId) : new ArrayList<>();
+            final Collection<PhpNamespace> references = lookupCache.getNamespaces(namespaceId);
 
             if (!references.isEmpty()) {
                 final TextRange range = new TextRange(
@@ -77,7 +66,7 @@ public class PhpClassReferenceProvider extends PsiReferenceProvider {
         final String className = classFQN.substring(classFQN.lastIndexOf(92) + 1);
 
         try {
-            final Collection<PhpClass> classes = phpIndex.getAnyByFQN(classFQN);
+            final Collection<PhpClass> classes = lookupCache.getClasses(classFQN);
 
             if (!classes.isEmpty()) {
                 final TextRange range = new TextRange(
@@ -92,24 +81,4 @@ public class PhpClassReferenceProvider extends PsiReferenceProvider {
 
         return psiReferences.toArray(new PsiReference[0]);
     }
-
-    /**
-     * Check if php namespace index has specified identifier.
-     *
-     * @param namespaceIdentifier String
-     * @param project Project
-     *
-     * @return boolean
-     */
-    private boolean hasNamespaceInIndex(
-            final @NotNull String namespaceIdentifier,
-            final @NotNull Project project
-    ) {
-        final Collection<String> keys = StubIndex.getInstance().getAllKeys(
-                PhpNamespaceIndex.KEY,
-                project
-        );
-
-        return keys.contains(namespaceIdentifier);
-    }
 }
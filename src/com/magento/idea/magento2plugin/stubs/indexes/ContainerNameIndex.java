@@ -30,6 +30,6 @@ public class ContainerNameIndex extends NamedComponentIndex {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 2;
     }
 }
\ No newline at end of file
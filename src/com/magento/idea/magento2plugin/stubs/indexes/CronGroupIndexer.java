@@ -5,17 +5,14 @@
 package com.magento.idea.magento2plugin.stubs.indexes;
 
 import com.intellij.ide.highlighter.XmlFileType;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.magento.idea.magento2plugin.magento.files.CronGroups;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlParser;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlTag;
 import org.jetbrains.annotations.NotNull;
 import java.util.HashMap;
 import java.util.Map;
@@ -26,6 +23,7 @@ import java.util.Map;
 public class CronGroupIndexer extends FileBasedIndexExtension<String, String> {
     public static final ID<String, String> KEY
             = ID.create("com.magento.idea.magento2plugin.stubs.indexes.cron_tabs");
+    private static final int GROUP_TAG_DEPTH = 2;
     private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @NotNull
@@ -39,34 +37,18 @@ public class CronGroupIndexer extends FileBasedIndexExtension<String, String> {
     public DataIndexer<String, String, FileContent> getIndexer() {
         return fileContent -> {
             Map<String, String> map = new HashMap<>();
-            PsiFile psiFile = fileContent.getPsiFile();
 
-            if (!Settings.isEnabled(psiFile.getProject())) {
+            if (!Settings.isEnabled(fileContent.getProject())) {
                 return map;
             }
+            LightXmlTag xmlTag = LightXmlParser.parse(fileContent, GROUP_TAG_DEPTH);
 
-            if (!(psiFile instanceof XmlFile)) {
-                return map;
-            }
-
-            XmlDocument document = ((XmlFile) psiFile).getDocument();
-            if (document == null) {
-                return map;
-            }
-
-            XmlTag[] xmlTags = PsiTreeUtil.getChildrenOfType(psiFile.getFirstChild(), XmlTag.class);
-            if (xmlTags == null) {
-                return map;
-            }
-
-            for (XmlTag xmlTag: xmlTags) {
-                if (xmlTag.getName().equals(CronGroups.CONFIG_TAG)) {
-                    for (XmlTag typeNode: xmlTag.findSubTags(CronGroups.GROUP_TAG)) {
-                        String groupId = typeNode.getAttributeValue(CronGroups.ID_ATTRIBUTE);
+            if (xmlTag != null && xmlTag.getName().equals(CronGroups.CONFIG_TAG)) {
+                for (LightXmlTag typeNode: xmlTag.findSubTags(CronGroups.GROUP_TAG)) {
+                    String groupId = typeNode.getAttributeValue(CronGroups.ID_ATTRIBUTE);
 
-                        if (groupId != null) {
-                            map.put(groupId, fileContent.getFile().getPath());
-                        }
+                    if (groupId != null) {
+                        map.put(groupId, fileContent.getFile().getPath());
                     }
                 }
             }
@@ -101,6 +83,6 @@ public class CronGroupIndexer extends FileBasedIndexExtension<String, String> {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 2;
     }
 }
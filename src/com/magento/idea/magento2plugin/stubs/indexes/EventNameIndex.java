@@ -9,9 +9,6 @@ import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
@@ -20,6 +17,8 @@ import com.jetbrains.php.lang.psi.PhpFile;
 import com.jetbrains.php.lang.psi.elements.MethodReference;
 import com.jetbrains.php.lang.psi.elements.ParameterList;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlParser;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlTag;
 import com.magento.idea.magento2plugin.util.php.PhpPatternsHelper;
 import org.jetbrains.annotations.NotNull;
 
@@ -33,6 +32,7 @@ import java.util.Map;
  */
 public class EventNameIndex extends ScalarIndexExtension<String> {
     public static final ID<String, Void> KEY = ID.create("com.magento.idea.magento2plugin.stubs.indexes.event_name");
+    private static final int EVENT_TAG_DEPTH = 2;
     private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @NotNull
@@ -46,16 +46,19 @@ public class EventNameIndex extends ScalarIndexExtension<String> {
     public DataIndexer<String, Void, FileContent> getIndexer() {
         return inputData -> {
             Map<String, Void> map = new HashMap<>();
-            PsiFile psiFile = inputData.getPsiFile();
 
-            if (!Settings.isEnabled(psiFile.getProject())) {
+            if (!Settings.isEnabled(inputData.getProject())) {
                 return map;
             }
 
+            if (inputData.getFileType() == XmlFileType.INSTANCE) {
+                grabEventNamesFromXmlFile(inputData, map);
+                return map;
+            }
+            PsiFile psiFile = inputData.getPsiFile();
+
             if (psiFile instanceof PhpFile) {
                 grabEventNamesFromPhpFile((PhpFile) psiFile, map);
-            } else if (psiFile instanceof XmlFile) {
-                grabEventNamesFromXmlFile((XmlFile) psiFile, map);
             }
 
             return map;
@@ -95,16 +98,13 @@ public class EventNameIndex extends ScalarIndexExtension<String> {
         return methodReference.getName() != null && methodReference.getName().equals("dispatch");
     }
 
-    private void grabEventNamesFromXmlFile(XmlFile file, Map<String, Void> map) {
-        XmlDocument xmlDocument = file.getDocument();
-        if (xmlDocument != null) {
-            XmlTag xmlRootTag = xmlDocument.getRootTag();
-            if (xmlRootTag != null) {
-                for (XmlTag eventTag : xmlRootTag.findSubTags("event")) {
-                    String name = eventTag.getAttributeValue("name");
-                    if (name != null && !name.isEmpty()) {
-                        map.put(name, null);
-                    }
+    private void grabEventNamesFromXmlFile(FileContent fileContent, Map<String, Void> map) {
+        LightXmlTag xmlRootTag = LightXmlParser.parse(fileContent, EVENT_TAG_DEPTH);
+        if (xmlRootTag != null) {
+            for (LightXmlTag eventTag : xmlRootTag.findSubTags("event")) {
+                String name = eventTag.getAttributeValue("name");
+                if (name != null && !name.isEmpty()) {
+                    map.put(name, null);
                 }
             }
         }
@@ -132,6 +132,6 @@ public class EventNameIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 2;
     }
 }
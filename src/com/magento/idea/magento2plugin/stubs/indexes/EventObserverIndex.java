@@ -5,11 +5,6 @@
 package com.magento.idea.magento2plugin.stubs.indexes;
 
 import com.intellij.ide.highlighter.XmlFileType;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
@@ -17,6 +12,8 @@ import com.intellij.util.io.KeyDescriptor;
 import com.jetbrains.php.lang.PhpLangUtil;
 import com.jetbrains.php.lang.psi.stubs.indexes.StringSetDataExternalizer;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlParser;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlTag;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
@@ -30,6 +27,7 @@ import java.util.Set;
 public class EventObserverIndex extends FileBasedIndexExtension<String,Set<String>> {
     public static final ID<String, Set<String>> KEY =
             ID.create("com.magento.idea.magento2plugin.stubs.indexes.event_observer");
+    private static final int OBSERVER_TAG_DEPTH = 3;
     private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @NotNull
@@ -47,42 +45,28 @@ public class EventObserverIndex extends FileBasedIndexExtension<String,Set<Strin
             public Map<String, Set<String>> map(@NotNull FileContent fileContent) {
                 Map<String, Set<String>> map = new HashMap<>();
 
-                PsiFile psiFile = fileContent.getPsiFile();
-                if (!Settings.isEnabled(psiFile.getProject())) {
+                if (!Settings.isEnabled(fileContent.getProject())) {
                     return map;
                 }
+                LightXmlTag rootTag = LightXmlParser.parse(fileContent, OBSERVER_TAG_DEPTH);
 
-                if (!(psiFile instanceof XmlFile)) {
+                if (rootTag == null || !rootTag.getName().equals("config")) {
                     return map;
                 }
 
-                XmlDocument document = ((XmlFile) psiFile).getDocument();
-                if (document == null) {
-                    return map;
-                }
-
-                XmlTag xmlTags[] = PsiTreeUtil.getChildrenOfType(psiFile.getFirstChild(), XmlTag.class);
-                if (xmlTags == null) {
-                    return map;
-                }
-
-                for (XmlTag xmlTag: xmlTags) {
-                    if (xmlTag.getName().equals("config")) {
-                        for (XmlTag eventNode: xmlTag.findSubTags("event")) {
-                            if (eventNode.getAttributeValue("name") != null) {
-                                map.put(eventNode.getAttributeValue("name"), getObserversForEvent(eventNode));
-                            }
-                        }
+                for (LightXmlTag eventNode: rootTag.findSubTags("event")) {
+                    if (eventNode.getAttributeValue("name") != null) {
+                        map.put(eventNode.getAttributeValue("name"), getObserversForEvent(eventNode));
                     }
                 }
 
                 return map;
             }
 
-            private Set<String> getObserversForEvent(XmlTag eventNode) {
+            private Set<String> getObserversForEvent(LightXmlTag eventNode) {
                 Set<String> observerNames = new HashSet<String>();
 
-                for (XmlTag observerTag: eventNode.findSubTags("observer")) {
+                for (LightXmlTag observerTag: eventNode.findSubTags("observer")) {
                     String name = observerTag.getAttributeValue("instance");
                     if (name != null) {
                         observerNames.add(PhpLangUtil.toPresentableFQN(name));
@@ -119,6 +103,6 @@ public class EventObserverIndex extends FileBasedIndexExtension<String,Set<Strin
 
     @Override
     public int getVersion() {
-        return 2;
+        return 4;
     }
 }
@@ -4,14 +4,11 @@
  */
 package com.magento.idea.magento2plugin.stubs.indexes;
 
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.FileContent;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlParser;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlTag;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
@@ -43,34 +40,22 @@ public class LayoutDataIndexer implements DataIndexer<String, Void, FileContent>
     public Map<String, Void> map(@NotNull FileContent fileContent) {
         Map<String, Void> map = new HashMap<>();
 
-        PsiFile psiFile = fileContent.getPsiFile();
-        if (!Settings.isEnabled(psiFile.getProject())) {
+        if (!Settings.isEnabled(fileContent.getProject())) {
             return map;
         }
 
-        if (!(psiFile instanceof XmlFile)) {
+        LightXmlTag rootTag = LightXmlParser.parse(fileContent);
+        if (rootTag == null) {
             return map;
         }
 
-        XmlDocument document = ((XmlFile) psiFile).getDocument();
-        if (document == null) {
-            return map;
-        }
-
-        XmlTag xmlTags[] = PsiTreeUtil.getChildrenOfType(psiFile.getFirstChild(), XmlTag.class);
-        if (xmlTags == null) {
-            return map;
-        }
-
-        for (XmlTag xmlTag: xmlTags) {
-            fillResultMap(xmlTag, map);
-        }
+        fillResultMap(rootTag, map);
 
         return map;
     }
 
-    private void fillResultMap(XmlTag parentTag, Map<String, Void> resultMap) {
-        for (XmlTag childTag: parentTag.getSubTags()) {
+    private void fillResultMap(LightXmlTag parentTag, Map<String, Void> resultMap) {
+        for (LightXmlTag childTag: parentTag.getSubTags()) {
             if (childTag.getName().equals(indexTag)) {
                 String attributeValue = childTag.getAttributeValue(indexAttribute);
                 if (attributeValue != null) {
@@ -5,11 +5,6 @@
 package com.magento.idea.magento2plugin.stubs.indexes;
 
 import com.intellij.ide.highlighter.XmlFileType;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
@@ -17,6 +12,8 @@ import com.intellij.util.io.KeyDescriptor;
 import com.jetbrains.php.lang.PhpLangUtil;
 import com.jetbrains.php.lang.psi.stubs.indexes.StringSetDataExternalizer;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlParser;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlTag;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
@@ -27,6 +24,7 @@ import java.util.Set;
 public class PluginIndex extends FileBasedIndexExtension<String, Set<String>> {
     public static final ID<String, Set<String>> KEY
             = ID.create("com.magento.idea.magento2plugin.stubs.indexes.plugin_to_type");
+    private static final int PLUGIN_TAG_DEPTH = 3;
     private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @NotNull
@@ -44,34 +42,24 @@ public class PluginIndex extends FileBasedIndexExtension<String, Set<String>> {
             public Map<String, Set<String>> map(@NotNull FileContent fileContent) {
                 Map<String, Set<String>> map = new HashMap<>();
 
-                PsiFile psiFile = fileContent.getPsiFile();
-                if (!Settings.isEnabled(psiFile.getProject())) {
+                if (!Settings.isEnabled(fileContent.getProject())) {
                     return map;
                 }
+                LightXmlTag rootTag = LightXmlParser.parse(fileContent, PLUGIN_TAG_DEPTH);
 
-                if (!(psiFile instanceof XmlFile)) {
-                    return map;
-                }
-                XmlDocument document = ((XmlFile) psiFile).getDocument();
-                if(document == null) {
-                    return map;
-                }
-
-                XmlTag xmlTags[] = PsiTreeUtil.getChildrenOfType(psiFile.getFirstChild(), XmlTag.class);
-                if (xmlTags == null) {
+                if (rootTag == null || !rootTag.getName().equals("config")) {
                     return map;
                 }
 
-                for (XmlTag xmlTag: xmlTags) {
-                    if (xmlTag.getName().equals("config")) {
-                        for (XmlTag typeNode: xmlTag.findSubTags("type")) {
-                            String typeName = typeNode.getAttributeValue("name");
-                            if (typeName != null) {
-                                Set<String> plugins = getPluginsForType(typeNode);
-                                if (plugins.size() > 0) {
-                                    map.put(PhpLangUtil.toPresentableFQN(typeName), plugins);
-                                }
-                            }
+                for (LightXmlTag typeNode: rootTag.findSubTags("type")) {
+                    String typeName = typeNode.getAttributeValue("name");
+                    if (typeName != null) {
+                        Set<String> plugins = getPluginsForType(typeNode);
+                        if (plugins.size() > 0) {
+                            map.computeIfAbsent(
+                                    PhpLangUtil.toPresentableFQN(typeName),
+                                    key -> new HashSet<>()
+                            ).addAll(plugins);
                         }
                     }
                 }
@@ -79,10 +67,10 @@ public class PluginIndex extends FileBasedIndexExtension<String, Set<String>> {
                 return map;
             }
 
-            private Set<String> getPluginsForType(XmlTag typeNode) {
+            private Set<String> getPluginsForType(LightXmlTag typeNode) {
                 Set<String> results = new HashSet<String>();
 
-                for (XmlTag pluginTag: typeNode.findSubTags("plugin")) {
+                for (LightXmlTag pluginTag: typeNode.findSubTags("plugin")) {
                     String pluginType = pluginTag.getAttributeValue("type");
                     if (pluginType != null) {
                         results.add(PhpLangUtil.toPresentableFQN(pluginType));
@@ -119,6 +107,6 @@ public class PluginIndex extends FileBasedIndexExtension<String, Set<String>> {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 3;
     }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.php.lang.PhpLangUtil;
+import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PluginDeclarationData;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlParser;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlTag;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reverse of the PluginIndex: plugin class to the types it intercepts.
+ */
+public class PluginTargetIndex
+        extends FileBasedIndexExtension<String, List<PluginDeclarationData>> {
+
+    public static final ID<String, List<PluginDeclarationData>> KEY = ID.create(
+            "com.magento.idea.magento2plugin.stubs.indexes.plugin_target");
+    private static final int PLUGIN_TAG_DEPTH = 3;
+
+    @NotNull
+    @Override
+    public ID<String, List<PluginDeclarationData>> getName() {
+        return KEY;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<PluginDeclarationData>, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, List<PluginDeclarationData>> map = new HashMap<>();//NOPMD
+
+            if (!Settings.isEnabled(inputData.getProject())) {
+                return map;
+            }
+            final LightXmlTag rootTag = LightXmlParser.parse(inputData, PLUGIN_TAG_DEPTH);
+
+            if (rootTag == null || !"config".equals(rootTag.getName())) {
+                return map;
+            }
+
+            for (final LightXmlTag typeTag : rootTag.findSubTags("type")) {
+                final String typeName = typeTag.getAttributeValue("name");
+
+                if (typeName == null) {
+                    continue;
+                }
+
+                for (final LightXmlTag pluginTag : typeTag.findSubTags("plugin")) {
+                    final String pluginType = pluginTag.getAttributeValue("type");
+
+                    if (pluginType == null) {
+                        continue;
+                    }
+                    final String pluginName = pluginTag.getAttributeValue("name");
+                    map.computeIfAbsent(
+                            PhpLangUtil.toPresentableFQN(pluginType),
+                            key -> new ArrayList<>()
+                    ).add(new PluginDeclarationData(
+                            PhpLangUtil.toPresentableFQN(typeName),
+                            pluginName == null ? "" : pluginName,
+                            parseSortOrder(pluginTag.getAttributeValue("sortOrder"))
+                    ));
+                }
+            }
+
+            return map;
+        };
+    }
+
+    /**
+     * Parse sort order attribute value.
+     *
+     * @param sortOrder String
+     *
+     * @return Integer null if it isn't declared or isn't a number
+     */
+    private static @Nullable Integer parseSortOrder(final @Nullable String sortOrder) {
+        if (sortOrder == null) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(sortOrder.trim());
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return new EnumeratorStringDescriptor();
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<PluginDeclarationData>> getValueExternalizer() {
+        return new DeclarationsExternalizer();
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return virtualFile -> virtualFile.getFileType() == XmlFileType.INSTANCE
+                && "di".equals(virtualFile.getNameWithoutExtension());
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @Override
+    public int getVersion() {
+        return 3;
+    }
+
+    private static final class DeclarationsExternalizer
+            implements DataExternalizer<List<PluginDeclarationData>> {
+
+        @Override
+        public void save(
+                final @NotNull DataOutput out,
+                final List<PluginDeclarationData> declarations
+        ) throws IOException {
+            DataInputOutputUtil.writeINT(out, declarations.size());
+
+            for (final PluginDeclarationData declaration : declarations) {
+                out.writeUTF(declaration.getTargetType());
+                out.writeUTF(declaration.getPluginName());
+                out.writeBoolean(declaration.getSortOrder() != null);
+
+                if (declaration.getSortOrder() != null) {
+                    out.writeInt(declaration.getSortOrder());
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+        public List<PluginDeclarationData> read(final @NotNull DataInput in)
+                throws IOException {
+            final int size = DataInputOutputUtil.readINT(in);
+            final List<PluginDeclarationData> declarations = new ArrayList<>(size);
+
+            for (int index = 0; index < size; index++) {
+                final String targetType = in.readUTF();
+                final String pluginName = in.readUTF();
+                final Integer sortOrder = in.readBoolean() ? in.readInt() : null;
+                declarations.add(new PluginDeclarationData(targetType, pluginName, sortOrder));
+            }
+
+            return declarations;
+        }
+    }
+}
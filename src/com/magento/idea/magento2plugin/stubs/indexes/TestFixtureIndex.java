@@ -0,0 +1,100 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.php.lang.PhpFileType;
+import com.magento.idea.magento2plugin.magento.files.TestFixture;
+import com.magento.idea.magento2plugin.project.Settings;
+import java.util.Collections;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of the integration test fixtures.
+ *
+ * <p>Key is the path of the fixture relative to the integration testsuite directory, the same
+ * one used in the @magentoDataFixture annotation, e.g. Magento/Catalog/_files/product.php.
+ * Only the file path is indexed, so the file content isn't read.</p>
+ */
+public class TestFixtureIndex extends ScalarIndexExtension<String> {
+
+    public static final ID<String, Void> KEY = ID.create(
+            "com.magento.idea.magento2plugin.stubs.indexes.test_fixture"
+    );
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+
+    @Override
+    public @NotNull ID<String, Void> getName() {
+        return KEY;
+    }
+
+    @Override
+    public @NotNull DataIndexer<String, Void, FileContent> getIndexer() {
+        return inputData -> {
+            if (!Settings.isEnabled(inputData.getProject())) {
+                return Collections.emptyMap();
+            }
+            final String fixturePath = getFixturePath(inputData.getFile().getPath());
+
+            if (fixturePath == null) {
+                return Collections.emptyMap();
+            }
+
+            return Collections.singletonMap(fixturePath, null);
+        };
+    }
+
+    /**
+     * Get fixture path relative to the integration testsuite directory.
+     *
+     * @param filePath String
+     *
+     * @return String or null if the file isn't a fixture
+     */
+    public static @Nullable String getFixturePath(final @NotNull String filePath) {
+        if (filePath.contains(TestFixture.FIXTURES_EXCLUDE_PATH)) {
+            return null;
+        }
+        final int locationIndex = filePath.lastIndexOf(TestFixture.FIXTURES_LOCATION);
+
+        if (locationIndex == -1) {
+            return null;
+        }
+        final String fixturePath = filePath.substring(
+                locationIndex + TestFixture.FIXTURES_LOCATION.length()
+        );
+
+        return fixturePath.isEmpty() ? null : fixturePath;
+    }
+
+    @Override
+    public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @Override
+    public @NotNull FileBasedIndex.InputFilter getInputFilter() {
+        return file -> file.getFileType() == PhpFileType.INSTANCE
+                && file.getPath().contains(TestFixture.FIXTURES_LOCATION);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return false;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+}
@@ -5,16 +5,14 @@
 package com.magento.idea.magento2plugin.stubs.indexes;
 
 import com.intellij.ide.highlighter.XmlFileType;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.intellij.util.xml.impl.DomApplicationComponent;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlParser;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlTag;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
 
@@ -23,6 +21,7 @@ import java.util.Map;
 public class VirtualTypeIndex extends FileBasedIndexExtension<String, String> {
     public static final ID<String, String> KEY = ID.create(
             "com.magento.idea.magento2plugin.stubs.indexes.virtual_type");
+    private static final int VIRTUAL_TYPE_TAG_DEPTH = 2;
     private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @NotNull
@@ -30,24 +29,18 @@ public class VirtualTypeIndex extends FileBasedIndexExtension<String, String> {
     public DataIndexer<String, String, FileContent> getIndexer() {
         return inputData -> {
             Map<String, String> map = new THashMap<>();
-            PsiFile psiFile = inputData.getPsiFile();
-            if (!Settings.isEnabled(psiFile.getProject())) {
+            if (!Settings.isEnabled(inputData.getProject())) {
                 return map;
             }
 
-            if (psiFile instanceof XmlFile) {
-                XmlDocument xmlDocument = ((XmlFile) psiFile).getDocument();
-                if (xmlDocument != null) {
-                    XmlTag xmlRootTag = xmlDocument.getRootTag();
-                    if (xmlRootTag != null) {
-                        for (XmlTag virtualTypeTag : xmlRootTag.findSubTags("virtualType")) {
-                            String name = virtualTypeTag.getAttributeValue("name");
-                            String type = virtualTypeTag.getAttributeValue("type");
+            LightXmlTag xmlRootTag = LightXmlParser.parse(inputData, VIRTUAL_TYPE_TAG_DEPTH);
+            if (xmlRootTag != null) {
+                for (LightXmlTag virtualTypeTag : xmlRootTag.findSubTags("virtualType")) {
+                    String name = virtualTypeTag.getAttributeValue("name");
+                    String type = virtualTypeTag.getAttributeValue("type");
 
-                            if (name != null && type != null && !name.isEmpty() && !type.isEmpty()) {
-                                map.put(name, type);
-                            }
-                        }
+                    if (name != null && type != null && !name.isEmpty() && !type.isEmpty()) {
+                        map.put(name, type);
                     }
                 }
             }
@@ -86,6 +79,6 @@ public class VirtualTypeIndex extends FileBasedIndexExtension<String, String> {
 
     @Override
     public int getVersion() {
-        return DomApplicationComponent.getInstance().getCumulativeVersion(false);
+        return DomApplicationComponent.getInstance().getCumulativeVersion(false) + 1;
     }
 }
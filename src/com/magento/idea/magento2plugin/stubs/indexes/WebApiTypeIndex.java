@@ -6,93 +6,132 @@
 package com.magento.idea.magento2plugin.stubs.indexes;
 
 import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlDocument;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
 import com.intellij.util.indexing.FileContent;
 import com.intellij.util.indexing.ID;
-import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.jetbrains.php.lang.PhpLangUtil;
-import com.jetbrains.php.lang.psi.elements.Method;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.linemarker.xml.LineMarkerXmlTagDecorator;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.data.WebApiRouteData;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlParser;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlTag;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Indexer for classes/interfaces which have methods exposed via Web API.
+ *
+ * <p>Key is the presentable FQN of the service class, value contains every route declared for
+ * the class methods with its URL, HTTP method, ACL resources and offset, so line markers could
+ * be rendered without parsing webapi.xml files. Files are read with the LightXmlParser.</p>
  */
-public class WebApiTypeIndex extends ScalarIndexExtension<String> {
+public class WebApiTypeIndex extends FileBasedIndexExtension<String, List<WebApiRouteData>> {
 
-    public static final ID<String, Void> KEY = ID.create(
+    public static final ID<String, List<WebApiRouteData>> KEY = ID.create(
             "com.magento.idea.magento2plugin.stubs.indexes.webapi_type"
     );
+    private static final int RESOURCE_TAG_DEPTH = 4;
     private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
 
     @Override
-    public @NotNull ID<String, Void> getName() {
+    public @NotNull ID<String, List<WebApiRouteData>> getName() {
         return KEY;
     }
 
-    @SuppressWarnings("PMD.CognitiveComplexity")
     @Override
-    public @NotNull DataIndexer<String, Void, FileContent> getIndexer() {
+    public @NotNull DataIndexer<String, List<WebApiRouteData>, FileContent> getIndexer() {
         return inputData -> {
-            final Map<String, Void> map = new HashMap<>();
-            final PsiFile psiFile = inputData.getPsiFile();
+            final Map<String, List<WebApiRouteData>> map = new HashMap<>();//NOPMD
 
-            if (!Settings.isEnabled(psiFile.getProject())) {
+            if (!Settings.isEnabled(inputData.getProject())) {
                 return map;
             }
+            final LightXmlTag rootTag = LightXmlParser.parse(inputData, RESOURCE_TAG_DEPTH);
 
-            if (!(psiFile instanceof XmlFile)) {
+            if (rootTag == null || !"routes".equals(rootTag.getName())) {
                 return map;
             }
-            final XmlDocument document = ((XmlFile) psiFile).getDocument();
 
-            if (document == null) {
-                return map;
+            for (final LightXmlTag routeTag : rootTag.findSubTags("route")) {
+                fillMap(routeTag, map);
             }
-            final XmlTag[] xmlTags = PsiTreeUtil.getChildrenOfType(
-                    psiFile.getFirstChild(),
-                    XmlTag.class
-            );
 
-            if (xmlTags == null) {
-                return map;
-            }
+            return map;
+        };
+    }
+
+    /**
+     * Collect services of the route.
+     *
+     * @param routeTag LightXmlTag
+     * @param map Map[String, List[WebApiRouteData]]
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private void fillMap(
+            final @NotNull LightXmlTag routeTag,
+            final @NotNull Map<String, List<WebApiRouteData>> map
+    ) {
+        final List<String> resources = new ArrayList<>();
 
-            for (final XmlTag xmlTag : xmlTags) {
-                if ("routes".equals(xmlTag.getName())) {
-                    for (final XmlTag routeNode : xmlTag.findSubTags("route")) {
-                        for (final XmlTag serviceNode : routeNode.findSubTags("service")) {
-                            final String typeName = serviceNode.getAttributeValue("class");
+        for (final LightXmlTag resourcesTag : routeTag.findSubTags("resources")) {
+            for (final LightXmlTag resourceTag : resourcesTag.findSubTags("resource")) {
+                final String resource = resourceTag.getAttributeValue("ref");
 
-                            if (typeName != null) {
-                                map.put(PhpLangUtil.toPresentableFQN(typeName), null);
-                            }
-                        }
-                    }
+                if (resource != null) {
+                    resources.add(resource);
                 }
             }
+        }
 
-            return map;
-        };
+        for (final LightXmlTag serviceTag : routeTag.findSubTags("service")) {
+            final String typeName = serviceTag.getAttributeValue("class");
+            final String methodName = serviceTag.getAttributeValue("method");
+
+            if (typeName == null) {
+                continue;
+            }
+            map.computeIfAbsent(PhpLangUtil.toPresentableFQN(typeName), key -> new ArrayList<>())
+                    .add(new WebApiRouteData(
+                            methodName == null ? "" : methodName,
+                            getAttributeValue(routeTag, "url"),
+                            getAttributeValue(routeTag, "method"),
+                            resources,
+                            routeTag.getOffset()
+                    ));
+        }
+    }
+
+    private static @NotNull String getAttributeValue(
+            final @NotNull LightXmlTag tag,
+            final @NotNull String attributeName
+    ) {
+        final String value = tag.getAttributeValue(attributeName);
+
+        return value == null ? "" : value.trim();
     }
 
     @Override
@@ -100,6 +139,11 @@ public class WebApiTypeIndex extends ScalarIndexExtension<String> {
         return keyDescriptor;
     }
 
+    @Override
+    public @NotNull DataExternalizer<List<WebApiRouteData>> getValueExternalizer() {
+        return new RoutesExternalizer();
+    }
+
     @Override
     public @NotNull FileBasedIndex.InputFilter getInputFilter() {
         return file -> file.getFileType() == XmlFileType.INSTANCE
@@ -114,87 +158,75 @@ public class WebApiTypeIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 3;
     }
 
     /**
-     * Get list of Web API routes associated with the provided method.
-     * Parent classes are not taken into account.
+     * Get list of Web API routes declared for any method of the provided class.
+     * Parent classes are not taken into account. Only the index is queried.
      *
-     * @param method Method
+     * @param phpClass PhpClass
      *
-     * @return List[XmlTag]
+     * @return List[Pair[VirtualFile, WebApiRouteData]]
      */
-    public static List<XmlTag> getWebApiRoutes(final Method method) {
-        final List<XmlTag> tags = new ArrayList<>();
-
-        if (!method.getAccess().isPublic()) {
-            return tags;
-        }
-        final PhpClass phpClass = method.getContainingClass();
-
-        if (phpClass == null) {
-            return tags;
-        }
-        final String classFqn = phpClass.getPresentableFQN();
-        final Collection<VirtualFile> containingFiles = FileBasedIndex
-                .getInstance()
-                .getContainingFiles(
-                        KEY,
-                        classFqn,
-                        GlobalSearchScope.allScope(phpClass.getProject())
-                );
-
-        final PsiManager psiManager = PsiManager.getInstance(phpClass.getProject());
-        final String methodFqn = method.getName();
-
-        for (final VirtualFile virtualFile : containingFiles) {
-            if (virtualFile.getFileType() != XmlFileType.INSTANCE) {
-                continue;
-            }
-            final XmlFile file = (XmlFile) psiManager.findFile(virtualFile);
-
-            if (file == null) {
-                continue;
-            }
-            final XmlTag rootTag = file.getRootTag();
+    public static List<Pair<VirtualFile, WebApiRouteData>> getWebApiRoutes(
+            final @NotNull PhpClass phpClass
+    ) {
+        final List<Pair<VirtualFile, WebApiRouteData>> routes = new ArrayList<>();
+
+        FileBasedIndex.getInstance().processValues(
+                KEY,
+                phpClass.getPresentableFQN(),
+                null,
+                (file, fileRoutes) -> {
+                    for (final WebApiRouteData route : fileRoutes) {
+                        routes.add(Pair.create(file, route));
+                    }
 
-            if (rootTag == null) {
-                continue;
-            }
-            fillRelatedTags(classFqn, methodFqn, rootTag, tags);
-        }
+                    return true;
+                },
+                GlobalSearchScope.allScope(phpClass.getProject())
+        );
 
-        return tags;
+        return routes;
     }
 
     /**
-     * Find routes related to the specified method within single webapi.xml.
+     * Find route tag of the indexed route, the tag is decorated to be rendered in the line
+     * marker popup.
      *
-     * @param classFqn String
-     * @param methodFqn String
-     * @param parentTag XmlTag
-     * @param tagsReferences List[XmlTag]
+     * @param project Project
+     * @param file VirtualFile
+     * @param route WebApiRouteData
+     *
+     * @return XmlTag
      */
-    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
-    private static void fillRelatedTags(
-            final String classFqn,
-            final String methodFqn,
-            final XmlTag parentTag,
-            final List<XmlTag> tagsReferences
+    public static @Nullable XmlTag findRouteTag(
+            final @NotNull Project project,
+            final @NotNull VirtualFile file,
+            final @NotNull WebApiRouteData route
     ) {
-        for (final XmlTag routeNode : parentTag.findSubTags("route")) {
-            for (final XmlTag serviceNode : routeNode.findSubTags("service")) {
-                final String typeName = serviceNode.getAttributeValue("class");
-                final String methodName = serviceNode.getAttributeValue("method");
-
-                if (typeName != null && typeName.equals(classFqn)
-                        && methodName != null && methodName.equals(methodFqn)
-                ) {
-                    tagsReferences.add(new WebApiLineMarkerXmlTagDecorator(routeNode));
-                }
-            }
+        if (!file.isValid()) {
+            return null;
+        }
+        final PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+
+        if (!(psiFile instanceof XmlFile)) {
+            return null;
         }
+        final XmlTag xmlTag = PsiTreeUtil.getParentOfType(
+                psiFile.findElementAt(route.getOffset()),
+                XmlTag.class,
+                false
+        );
+
+        if (xmlTag == null
+                || xmlTag.getTextRange().getStartOffset() != route.getOffset()
+                || !"route".equals(xmlTag.getName())) {
+            return null;
+        }
+
+        return new WebApiLineMarkerXmlTagDecorator(xmlTag);
     }
 
     /**
@@ -223,4 +255,56 @@ public class WebApiTypeIndex extends ScalarIndexExtension<String> {
             return xmlTag.getName();
         }
     }
+
+    private static final class RoutesExternalizer
+            implements DataExternalizer<List<WebApiRouteData>> {
+
+        @Override
+        public void save(
+                final @NotNull DataOutput out,
+                final List<WebApiRouteData> routes
+        ) throws IOException {
+            DataInputOutputUtil.writeINT(out, routes.size());
+
+            for (final WebApiRouteData route : routes) {
+                out.writeUTF(route.getServiceMethod());
+                out.writeUTF(route.getUrl());
+                out.writeUTF(route.getHttpMethod());
+                DataInputOutputUtil.writeINT(out, route.getResources().size());
+
+                for (final String resource : route.getResources()) {
+                    out.writeUTF(resource);
+                }
+                DataInputOutputUtil.writeINT(out, route.getOffset());
+            }
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+        public List<WebApiRouteData> read(final @NotNull DataInput in) throws IOException {
+            final int size = DataInputOutputUtil.readINT(in);
+            final List<WebApiRouteData> routes = new ArrayList<>(size);
+
+            for (int index = 0; index < size; index++) {
+                final String serviceMethod = in.readUTF();
+                final String url = in.readUTF();
+                final String httpMethod = in.readUTF();
+                final int resourcesCount = DataInputOutputUtil.readINT(in);
+                final List<String> resources = new ArrayList<>(resourcesCount);
+
+                for (int resource = 0; resource < resourcesCount; resource++) {
+                    resources.add(in.readUTF());
+                }
+                routes.add(new WebApiRouteData(
+                        serviceMethod,
+                        url,
+                        httpMethod,
+                        resources,
+                        DataInputOutputUtil.readINT(in)
+                ));
+            }
+
+            return routes;
+        }
+    }
 }
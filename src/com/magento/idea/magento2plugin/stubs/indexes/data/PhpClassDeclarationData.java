@@ -0,0 +1,69 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Occurrence of the PHP class name in the XML configuration file.
+ */
+public class PhpClassDeclarationData {
+
+    private final String tagName;
+    private final String tagPath;
+    private final int offset;
+
+    /**
+     * PHP class declaration DTO constructor.
+     *
+     * @param tagName String
+     * @param tagPath String slash separated names of the tag and its parents
+     * @param offset int start offset of the tag in the file
+     */
+    public PhpClassDeclarationData(
+            final @NotNull String tagName,
+            final @NotNull String tagPath,
+            final int offset
+    ) {
+        this.tagName = tagName;
+        this.tagPath = tagPath;
+        this.offset = offset;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public String getTagPath() {
+        return tagPath;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+        final PhpClassDeclarationData that = (PhpClassDeclarationData) object;
+
+        return offset == that.offset
+                && tagName.equals(that.tagName)
+                && tagPath.equals(that.tagPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tagName, tagPath, offset);
+    }
+}
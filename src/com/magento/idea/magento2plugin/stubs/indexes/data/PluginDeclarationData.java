@@ -0,0 +1,70 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Plugin declaration of the di.xml file.
+ */
+public class PluginDeclarationData {
+
+    private final String targetType;
+    private final String pluginName;
+    private final Integer sortOrder;
+
+    /**
+     * Plugin declaration DTO constructor.
+     *
+     * @param targetType String presentable FQN of the intercepted type
+     * @param pluginName String
+     * @param sortOrder Integer null if the sort order isn't declared
+     */
+    public PluginDeclarationData(
+            final @NotNull String targetType,
+            final @NotNull String pluginName,
+            final @Nullable Integer sortOrder
+    ) {
+        this.targetType = targetType;
+        this.pluginName = pluginName;
+        this.sortOrder = sortOrder;
+    }
+
+    public String getTargetType() {
+        return targetType;
+    }
+
+    public String getPluginName() {
+        return pluginName;
+    }
+
+    public @Nullable Integer getSortOrder() {
+        return sortOrder;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+        final PluginDeclarationData that = (PluginDeclarationData) object;
+
+        return targetType.equals(that.targetType)
+                && pluginName.equals(that.pluginName)
+                && Objects.equals(sortOrder, that.sortOrder);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(targetType, pluginName, sortOrder);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Web API route declared for the service method in the webapi.xml file.
+ */
+public class WebApiRouteData {
+
+    private final String serviceMethod;
+    private final String url;
+    private final String httpMethod;
+    private final List<String> resources;
+    private final int offset;
+
+    /**
+     * Web API route DTO constructor.
+     *
+     * @param serviceMethod String name of the service method
+     * @param url String
+     * @param httpMethod String
+     * @param resources List[String] ACL resources of the route
+     * @param offset int start offset of the route tag in the file
+     */
+    public WebApiRouteData(
+            final @NotNull String serviceMethod,
+            final @NotNull String url,
+            final @NotNull String httpMethod,
+            final @NotNull List<String> resources,
+            final int offset
+    ) {
+        this.serviceMethod = serviceMethod;
+        this.url = url;
+        this.httpMethod = httpMethod;
+        this.resources = Collections.unmodifiableList(new ArrayList<>(resources));
+        this.offset = offset;
+    }
+
+    public String getServiceMethod() {
+        return serviceMethod;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public List<String> getResources() {
+        return resources;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Get route as it is rendered in the web API line marker, e.g. `  GET     /V1/products`.
+     *
+     * @return String
+     */
+    public String getPresentableName() {
+        return String.format("  %-7s %s", httpMethod, url);
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+        final WebApiRouteData that = (WebApiRouteData) object;
+
+        return offset == that.offset
+                && serviceMethod.equals(that.serviceMethod)
+                && url.equals(that.url)
+                && httpMethod.equals(that.httpMethod)
+                && resources.equals(that.resources);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(serviceMethod, url, httpMethod, resources, offset);
+    }
+}
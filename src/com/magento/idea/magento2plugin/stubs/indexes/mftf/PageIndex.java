@@ -6,18 +6,15 @@ package com.magento.idea.magento2plugin.stubs.indexes.mftf;
 
 import com.intellij.ide.highlighter.XmlFileType;
 import com.intellij.openapi.project.Project;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlAttribute;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.magento.idea.magento2plugin.magento.files.MftfPage;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlParser;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlTag;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
 
@@ -28,6 +25,7 @@ public class PageIndex extends FileBasedIndexExtension<String, String> {
         "com.magento.idea.magento2plugin.stubs.indexes.mftf.page_index"
     );
 
+    private static final int INDEXED_TAG_DEPTH = 2;
     private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @NotNull
@@ -35,36 +33,19 @@ public class PageIndex extends FileBasedIndexExtension<String, String> {
     public DataIndexer<String, String, FileContent> getIndexer() {
         return inputData -> {
             Map<String, String> map = new THashMap<>();
-            PsiFile psiFile = inputData.getPsiFile();
-            Project project = psiFile.getProject();
+            Project project = inputData.getProject();
 
             if (!Settings.isEnabled(project) || !Settings.isMftfSupportEnabled(project)) {
                 return map;
             }
 
-            if (!(psiFile instanceof XmlFile)) {
-                return map;
-            }
-
-            XmlDocument xmlDocument = ((XmlFile) psiFile).getDocument();
-
-            if (xmlDocument == null) {
-                return map;
-            }
-
-            XmlTag xmlRootTag = xmlDocument.getRootTag();
+            LightXmlTag xmlRootTag = LightXmlParser.parse(inputData, INDEXED_TAG_DEPTH);
 
             if (xmlRootTag == null || !xmlRootTag.getName().equals(MftfPage.ROOT_TAG)) {
                 return map;
             }
 
-            XmlTag xmlTags[] = PsiTreeUtil.getChildrenOfType(psiFile.getFirstChild(), XmlTag.class);
-
-            if (xmlTags == null) {
-                return map;
-            }
-
-            for (XmlTag pageTag : xmlRootTag.findSubTags(MftfPage.PAGE_TAG)) {
+            for (LightXmlTag pageTag : xmlRootTag.findSubTags(MftfPage.PAGE_TAG)) {
                 String name = pageTag.getAttributeValue(MftfPage.NAME_ATTRIBUTE);
 
                 if (name == null || name.isEmpty()) {
@@ -111,6 +92,6 @@ public class PageIndex extends FileBasedIndexExtension<String, String> {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 2;
     }
 }
@@ -7,11 +7,6 @@ package com.magento.idea.magento2plugin.stubs.indexes.mftf;
 
 import com.intellij.ide.highlighter.XmlFileType;
 import com.intellij.openapi.project.Project;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.intellij.util.indexing.FileContent;
@@ -21,6 +16,8 @@ import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.magento.idea.magento2plugin.magento.files.MftfTest;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlParser;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlTag;
 import gnu.trove.THashMap;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
@@ -31,6 +28,7 @@ public class TestExtendsIndex extends ScalarIndexExtension<String> {
             "com.magento.idea.magento2plugin.stubs.indexes.mftf.test_extends_index"
     );
 
+    private static final int TEST_TAG_DEPTH = 2;
     private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @NotNull
@@ -39,36 +37,18 @@ public class TestExtendsIndex extends ScalarIndexExtension<String> {
     public DataIndexer<String, Void, FileContent> getIndexer() {
         return inputData -> {
             final Map<String, Void> map = new THashMap<>();
-            final PsiFile psiFile = inputData.getPsiFile();
-            final Project project = psiFile.getProject();
+            final Project project = inputData.getProject();
 
-            if (!Settings.isEnabled(project)
-                    || !Settings.isMftfSupportEnabled(project)
-                    || !(psiFile instanceof XmlFile)
-            ) {
+            if (!Settings.isEnabled(project) || !Settings.isMftfSupportEnabled(project)) {
                 return map;
             }
-            final XmlDocument xmlDocument = ((XmlFile) psiFile).getDocument();
-
-            if (xmlDocument == null) {
-                return map;
-            }
-            final XmlTag xmlRootTag = xmlDocument.getRootTag();
+            final LightXmlTag xmlRootTag = LightXmlParser.parse(inputData, TEST_TAG_DEPTH);
 
             if (xmlRootTag == null
                     || !xmlRootTag.getName().equals(MftfTest.ROOT_TAG)) {
                 return map;
             }
-            final XmlTag[] xmlTags = PsiTreeUtil.getChildrenOfType(
-                    psiFile.getFirstChild(),
-                    XmlTag.class
-            );
-
-            if (xmlTags == null) {
-                return map;
-            }
-
-            for (final XmlTag childTag : xmlRootTag.getSubTags()) {
+            for (final LightXmlTag childTag : xmlRootTag.getSubTags()) {
                 final String name = childTag.getAttributeValue(MftfTest.EXTENDS_ATTRIBUTE);
 
                 if (name == null || name.isEmpty()) {
@@ -108,6 +88,6 @@ public class TestExtendsIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 2;
     }
 }
@@ -2,16 +2,13 @@ package com.magento.idea.magento2plugin.stubs.indexes.mftf;
 
 import com.intellij.ide.highlighter.XmlFileType;
 import com.intellij.openapi.project.Project;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.magento.idea.magento2plugin.magento.files.MftfTest;
 import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlParser;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.LightXmlTag;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
 import java.util.Map;
@@ -21,6 +18,7 @@ public class TestNameIndex extends ScalarIndexExtension<String> {
         "com.magento.idea.magento2plugin.stubs.indexes.mftf.test_name_index"
     );
 
+    private static final int INDEXED_TAG_DEPTH = 2;
     private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @NotNull
@@ -28,36 +26,19 @@ public class TestNameIndex extends ScalarIndexExtension<String> {
     public DataIndexer<String, Void, FileContent> getIndexer() {
         return inputData -> {
             Map<String, Void> map = new THashMap<>();
-            PsiFile psiFile = inputData.getPsiFile();
-            Project project = psiFile.getProject();
+            Project project = inputData.getProject();
 
             if (!Settings.isEnabled(project) || !Settings.isMftfSupportEnabled(project)) {
                 return map;
             }
 
-            if (!(psiFile instanceof XmlFile)) {
-                return map;
-            }
-
-            XmlDocument xmlDocument = ((XmlFile) psiFile).getDocument();
-
-            if (xmlDocument == null) {
-                return map;
-            }
-
-            XmlTag xmlRootTag = xmlDocument.getRootTag();
+            LightXmlTag xmlRootTag = LightXmlParser.parse(inputData, INDEXED_TAG_DEPTH);
 
             if (xmlRootTag == null || !xmlRootTag.getName().equals(MftfTest.ROOT_TAG)) {
                 return map;
             }
 
-            XmlTag xmlTags[] = PsiTreeUtil.getChildrenOfType(psiFile.getFirstChild(), XmlTag.class);
-
-            if (xmlTags == null) {
-                return map;
-            }
-
-            for (XmlTag childTag : xmlRootTag.getSubTags()) {
+            for (LightXmlTag childTag : xmlRootTag.getSubTags()) {
                 String name = childTag.getAttributeValue(MftfTest.NAME_ATTRIBUTE);
                 if (childTag.getAttributeValue(MftfTest.NAME_ATTRIBUTE) == null ||
                     childTag.getAttributeValue(MftfTest.NAME_ATTRIBUTE).isEmpty()
@@ -99,6 +80,6 @@ public class TestNameIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return 1;
+        return 2;
     }
 }
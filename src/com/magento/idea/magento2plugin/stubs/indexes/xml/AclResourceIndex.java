@@ -6,10 +6,6 @@
 package com.magento.idea.magento2plugin.stubs.indexes.xml;
 
 import com.intellij.ide.highlighter.XmlFileType;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.intellij.util.indexing.FileBasedIndexExtension;
@@ -35,34 +31,31 @@ public class AclResourceIndex extends FileBasedIndexExtension<String, String> {
     public DataIndexer<String, String, FileContent> getIndexer() {
         return inputData -> {
             final Map<String, String> map = new THashMap<>();//NOPMD
-            final PsiFile psiFile = inputData.getPsiFile();
-            if (!Settings.isEnabled(psiFile.getProject())) {
+            if (!Settings.isEnabled(inputData.getProject())) {
                 return map;
             }
+            final LightXmlTag xmlRootTag = LightXmlParser.parse(inputData);
 
-            if (psiFile instanceof XmlFile) {
-                final XmlDocument xmlDocument = ((XmlFile) psiFile).getDocument();
-                if (xmlDocument != null) {
-                    final XmlTag xmlRootTag = xmlDocument.getRootTag();
-                    if (xmlRootTag != null) { //NOPMD
-                        parseRootTag(map, xmlRootTag);
-                    }
-                }
+            if (xmlRootTag != null) {
+                parseRootTag(map, xmlRootTag);
             }
+
             return map;
         };
     }
 
-    protected void parseRootTag(final Map<String, String> map, final XmlTag xmlRootTag) {
-        for (final XmlTag aclTag : xmlRootTag.findSubTags(ModuleAclXml.XML_TAG_ACL)) {
-            for (final XmlTag resourcesTag : aclTag.findSubTags(ModuleAclXml.XML_TAG_RESOURCES)) {
+    protected void parseRootTag(final Map<String, String> map, final LightXmlTag xmlRootTag) {
+        for (final LightXmlTag aclTag : xmlRootTag.findSubTags(ModuleAclXml.XML_TAG_ACL)) {
+            for (final LightXmlTag resourcesTag
+                    : aclTag.findSubTags(ModuleAclXml.XML_TAG_RESOURCES)) {
                 parseResourceTag(map, resourcesTag);
             }
         }
     }
 
-    private void parseResourceTag(final Map<String, String> map, final XmlTag resourcesTag) {
-        for (final XmlTag resourceTag : resourcesTag.findSubTags(ModuleAclXml.XML_TAG_RESOURCE)) {
+    private void parseResourceTag(final Map<String, String> map, final LightXmlTag resourcesTag) {
+        for (final LightXmlTag resourceTag
+                : resourcesTag.findSubTags(ModuleAclXml.XML_TAG_RESOURCE)) {
             final String identifier = resourceTag.getAttributeValue(ModuleAclXml.XML_ATTR_ID);
             final String title = resourceTag.getAttributeValue(ModuleAclXml.XML_ATTR_TITLE);
 
@@ -108,6 +101,6 @@ public class AclResourceIndex extends FileBasedIndexExtension<String, String> {
 
     @Override
     public int getVersion() {
-        return DomApplicationComponent.getInstance().getCumulativeVersion(false);
+        return DomApplicationComponent.getInstance().getCumulativeVersion(false) + 1;
     }
 }
@@ -6,10 +6,6 @@
 package com.magento.idea.magento2plugin.stubs.indexes.xml;
 
 import com.intellij.ide.highlighter.XmlFileType;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.intellij.util.indexing.FileBasedIndexExtension;
@@ -30,26 +26,29 @@ import org.jetbrains.annotations.NotNull;
 public class DeclarativeSchemaElementsIndex extends FileBasedIndexExtension<String, Void> {
     public static final ID<String, Void> KEY = ID.create(
             "com.magento.idea.magento2plugin.stubs.indexes.db_schema.tables_and_columns");
+    private static final int COLUMN_TAG_DEPTH = 3;
     private final KeyDescriptor<String> myKeyDescriptor = new EnumeratorStringDescriptor();
 
     @Override
     public @NotNull DataIndexer<String, Void, FileContent> getIndexer() {
         return inputData -> {
             final Map<String, Void> map = new HashMap<>();
-            final PsiFile psiFile = inputData.getPsiFile();
-            final XmlDocument document = ((XmlFile) psiFile).getDocument();
-            final XmlTag root = ((XmlFile) psiFile).getRootTag();
 
-            if (!Settings.isEnabled(psiFile.getProject()) || document == null || root == null) {
+            if (!Settings.isEnabled(inputData.getProject())) {
                 return map;
             }
+            final LightXmlTag root = LightXmlParser.parse(inputData, COLUMN_TAG_DEPTH);
 
-            for (final XmlTag tableTag : root.getSubTags()) {
+            if (root == null) {
+                return map;
+            }
+
+            for (final LightXmlTag tableTag : root.getSubTags()) {
                 if (tableTag.getName().equals("table")) {
                     final String tableName = tableTag.getAttributeValue("name");
                     map.put(tableName, null);
 
-                    for (final XmlTag columnTag : tableTag.getSubTags()) {
+                    for (final LightXmlTag columnTag : tableTag.getSubTags()) {
                         if (columnTag.getName().equals("column")) {
                             map.put(tableName + "." + columnTag.getAttributeValue("name"), null);
                         }
@@ -77,7 +76,7 @@ public class DeclarativeSchemaElementsIndex extends FileBasedIndexExtension<Stri
 
     @Override
     public int getVersion() {
-        return 1;
+        return 2;
     }
 
     @NotNull
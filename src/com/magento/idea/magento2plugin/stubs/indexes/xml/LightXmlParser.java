@@ -0,0 +1,315 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes.xml;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.xml.XmlAttribute;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.psi.xml.XmlText;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.text.CharSequenceReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Streaming XML parser for file-based indexers.
+ *
+ * <p>Builds a tree of LightXmlTag directly from the file text with the StAX pull parser,
+ * so indexing of Magento XML configuration doesn't require PSI. Files that aren't
+ * well-formed fall back to PSI, which recovers after errors.</p>
+ */
+public final class LightXmlParser {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY
+            = ThreadLocal.withInitial(LightXmlParser::createFactory);
+
+    private LightXmlParser() {}
+
+    /**
+     * Parse root tag of the indexed file.
+     *
+     * @param fileContent FileContent
+     *
+     * @return LightXmlTag
+     */
+    public static @Nullable LightXmlTag parse(final @NotNull FileContent fileContent) {
+        return parse(fileContent, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Parse root tag of the indexed file skipping tags nested deeper than specified.
+     *
+     * <p>If the file isn't well-formed, e.g. it has an unclosed tag or an undeclared entity
+     * like &amp;nbsp;, the tree is built from the recovering PSI parser instead.</p>
+     *
+     * @param fileContent FileContent
+     * @param maxDepth int root tag has depth 1
+     *
+     * @return LightXmlTag
+     */
+    public static @Nullable LightXmlTag parse(
+            final @NotNull FileContent fileContent,
+            final int maxDepth
+    ) {
+        final LightXmlTag[] rootTag = {null};
+
+        try {
+            read(fileContent.getContentAsText(), maxDepth, rootTag);
+        } catch (XMLStreamException exception) {
+            final PsiFile psiFile = fileContent.getPsiFile();
+
+            if (!(psiFile instanceof XmlFile)) {
+                return null;
+            }
+            final XmlTag xmlRootTag = ((XmlFile) psiFile).getRootTag();
+
+            return xmlRootTag == null ? null : createTag(xmlRootTag, 1, maxDepth);
+        }
+
+        return rootTag[0];
+    }
+
+    /**
+     * Parse root tag of the XML text skipping tags nested deeper than specified.
+     *
+     * <p>If the text isn't well-formed only tags read before the first error are returned.</p>
+     *
+     * @param text CharSequence
+     * @param maxDepth int root tag has depth 1
+     *
+     * @return LightXmlTag
+     */
+    public static @Nullable LightXmlTag parse(
+            final @NotNull CharSequence text,
+            final int maxDepth
+    ) {
+        final LightXmlTag[] rootTag = {null};
+
+        try {
+            read(text, maxDepth, rootTag);
+        } catch (XMLStreamException exception) { //NOPMD
+            // The text is broken, so only tags read before the error are returned.
+        }
+
+        return rootTag[0];
+    }
+
+    /**
+     * Read tags of the XML text into the tree.
+     *
+     * @param text CharSequence
+     * @param maxDepth int root tag has depth 1
+     * @param rootTag LightXmlTag[] receives root tag as soon as it is read
+     *
+     * @throws XMLStreamException if the text isn't well-formed
+     */
+    @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity"})
+    private static void read(
+            final @NotNull CharSequence text,
+            final int maxDepth,
+            final @NotNull LightXmlTag[] rootTag
+    ) throws XMLStreamException {
+        final Deque<LightXmlTag> openedTags = new ArrayDeque<>();
+        int depth = 0;
+        int tagOffset = -1;
+        XMLStreamReader reader = null;
+
+        try {
+            reader = FACTORY.get().createXMLStreamReader(new CharSequenceReader(text));
+
+            while (reader.hasNext()) {
+                final int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    // Skipped tags are passed too, so the next tag is found after them.
+                    tagOffset = findTagStart(text, tagOffset + 1);
+
+                    if (depth > maxDepth) {
+                        continue;
+                    }
+                    final LightXmlTag tag = createTag(reader, tagOffset);
+
+                    if (openedTags.isEmpty()) {
+                        rootTag[0] = tag;
+                    } else {
+                        openedTags.peek().addSubTag(tag);
+                    }
+                    openedTags.push(tag);
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth <= maxDepth) {
+                        openedTags.pop();
+                    }
+                    depth--;
+                } else if ((event == XMLStreamConstants.CHARACTERS
+                        || event == XMLStreamConstants.CDATA)
+                        && depth <= maxDepth && !openedTags.isEmpty()) {
+                    openedTags.peek().appendText(reader.getText());
+                }
+            }
+        } finally {
+            close(reader);
+        }
+    }
+
+    /**
+     * Create tag from the PSI tag with sub tags up to the max depth.
+     *
+     * @param xmlTag XmlTag
+     * @param depth int
+     * @param maxDepth int
+     *
+     * @return LightXmlTag
+     */
+    private static LightXmlTag createTag(
+            final @NotNull XmlTag xmlTag,
+            final int depth,
+            final int maxDepth
+    ) {
+        final LightXmlTag tag = new LightXmlTag(
+                xmlTag.getName(),
+                xmlTag.getTextRange().getStartOffset()
+        );
+
+        for (final XmlAttribute attribute : xmlTag.getAttributes()) {
+            if (!attribute.isNamespaceDeclaration()) {
+                tag.setAttribute(
+                        attribute.getName(),
+                        StringUtil.notNullize(attribute.getDisplayValue())
+                );
+            }
+        }
+
+        for (final XmlText xmlText : xmlTag.getValue().getTextElements()) {
+            tag.appendText(xmlText.getValue());
+        }
+
+        if (depth < maxDepth) {
+            for (final XmlTag subTag : xmlTag.getSubTags()) {
+                tag.addSubTag(createTag(subTag, depth + 1, maxDepth));
+            }
+        }
+
+        return tag;
+    }
+
+    /**
+     * Create tag for the current start element.
+     *
+     * @param reader XMLStreamReader
+     * @param offset int
+     *
+     * @return LightXmlTag
+     */
+    private static LightXmlTag createTag(
+            final @NotNull XMLStreamReader reader,
+            final int offset
+    ) {
+        final LightXmlTag tag = new LightXmlTag(
+                toQualifiedName(reader.getPrefix(), reader.getLocalName()),
+                offset
+        );
+
+        for (int index = 0; index < reader.getAttributeCount(); index++) {
+            tag.setAttribute(
+                    toQualifiedName(
+                            reader.getAttributePrefix(index),
+                            reader.getAttributeLocalName(index)
+                    ),
+                    reader.getAttributeValue(index)
+            );
+        }
+
+        return tag;
+    }
+
+    /**
+     * Find start offset of the next start tag skipping end tags, comments, CDATA sections,
+     * processing instructions and declarations.
+     *
+     * <p>Start tags are reported by the pull parser in the document order and the raw "&lt;"
+     * character can't appear in the text or attribute values, so the found tag is the one
+     * being read. The offset isn't taken from the reader location, as the reader reads
+     * ahead.</p>
+     *
+     * @param text CharSequence
+     * @param fromOffset int
+     *
+     * @return int or -1 if there is no start tag
+     */
+    private static int findTagStart(final @NotNull CharSequence text, final int fromOffset) {
+        int offset = StringUtil.indexOf(text, '<', fromOffset);
+
+        while (offset != -1 && offset + 1 < text.length()) {
+            final char next = text.charAt(offset + 1);
+            final int skipTo;
+
+            if (next == '/') {
+                skipTo = offset + 1;
+            } else if (next == '?') {
+                skipTo = skipAfter(text, offset, "?>");
+            } else if (StringUtil.startsWith(text, offset, "<!--")) {
+                skipTo = skipAfter(text, offset, "-->");
+            } else if (StringUtil.startsWith(text, offset, "<![CDATA[")) {
+                skipTo = skipAfter(text, offset, "]]>");
+            } else if (next == '!') {
+                skipTo = skipAfter(text, offset, ">");
+            } else {
+                return offset;
+            }
+
+            if (skipTo == -1) {
+                return -1;
+            }
+            offset = StringUtil.indexOf(text, '<', skipTo);
+        }
+
+        return -1;
+    }
+
+    private static int skipAfter(
+            final @NotNull CharSequence text,
+            final int offset,
+            final @NotNull String terminator
+    ) {
+        final int terminatorOffset = StringUtil.indexOf(text, terminator, offset + 1);
+
+        return terminatorOffset == -1 ? -1 : terminatorOffset + terminator.length();
+    }
+
+    private static String toQualifiedName(final @Nullable String prefix, final String localName) {
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    private static void close(final @Nullable XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+
+        try {
+            reader.close();
+        } catch (XMLStreamException exception) { //NOPMD
+            // Nothing to release.
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+
+        return factory;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes.xml;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lightweight XML tag built by the LightXmlParser for file-based indexers.
+ *
+ * <p>It keeps only names, attributes, sub tags, the text and the start offset of the tag,
+ * so indexers could walk the file content in the same manner as XmlTag without building
+ * PSI.</p>
+ */
+public final class LightXmlTag {
+
+    private final String name;
+    private final int offset;
+    private final Map<String, String> attributes = new HashMap<>();
+    private final List<LightXmlTag> subTags = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Light XML tag constructor.
+     *
+     * @param name String
+     * @param offset int start offset of the tag in the file
+     */
+    LightXmlTag(final @NotNull String name, final int offset) {
+        this.name = name;
+        this.offset = offset;
+    }
+
+    /**
+     * Get tag name.
+     *
+     * @return String
+     */
+    public @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * Get attribute value.
+     *
+     * @param attributeName String
+     *
+     * @return String
+     */
+    public @Nullable String getAttributeValue(final @NotNull String attributeName) {
+        return attributes.get(attributeName);
+    }
+
+    /**
+     * Get values of all attributes.
+     *
+     * @return Collection[String]
+     */
+    public @NotNull Collection<String> getAttributeValues() {
+        return Collections.unmodifiableCollection(attributes.values());
+    }
+
+    /**
+     * Get all sub tags.
+     *
+     * @return List[LightXmlTag]
+     */
+    public @NotNull List<LightXmlTag> getSubTags() {
+        return Collections.unmodifiableList(subTags);
+    }
+
+    /**
+     * Find sub tags with the specified name.
+     *
+     * @param tagName String
+     *
+     * @return List[LightXmlTag]
+     */
+    public @NotNull List<LightXmlTag> findSubTags(final @NotNull String tagName) {
+        final List<LightXmlTag> result = new ArrayList<>();
+
+        for (final LightXmlTag subTag : subTags) {
+            if (tagName.equals(subTag.name)) {
+                result.add(subTag);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the first sub tag with the specified name.
+     *
+     * @param tagName String
+     *
+     * @return LightXmlTag
+     */
+    public @Nullable LightXmlTag findFirstSubTag(final @NotNull String tagName) {
+        for (final LightXmlTag subTag : subTags) {
+            if (tagName.equals(subTag.name)) {
+                return subTag;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get start offset of the tag in the file.
+     *
+     * @return int
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Get trimmed text of the tag, text of sub tags isn't included.
+     *
+     * @return String
+     */
+    public @NotNull String getValue() {
+        return text.toString().trim();
+    }
+
+    void setAttribute(final @NotNull String attributeName, final @NotNull String value) {
+        attributes.put(attributeName, value);
+    }
+
+    void addSubTag(final @NotNull LightXmlTag subTag) {
+        subTags.add(subTag);
+    }
+
+    void appendText(final @NotNull String value) {
+        text.append(value);
+    }
+}
@@ -6,10 +6,6 @@
 package com.magento.idea.magento2plugin.stubs.indexes.xml;
 
 import com.intellij.ide.highlighter.XmlFileType;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.xml.XmlDocument;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.intellij.util.indexing.FileContent;
@@ -35,28 +31,21 @@ public class MenuIndex extends ScalarIndexExtension<String> {
     public DataIndexer<String, Void, FileContent> getIndexer() {
         return inputData -> {
             final Map<String, Void> map = new THashMap<>();//NOPMD
-            final PsiFile psiFile = inputData.getPsiFile();
-            if (!Settings.isEnabled(psiFile.getProject())) {
+            if (!Settings.isEnabled(inputData.getProject())) {
                 return map;
             }
+            final LightXmlTag xmlRootTag = LightXmlParser.parse(inputData);
 
-            if (!(psiFile instanceof XmlFile)) {
-                return map;
-            }
-            final XmlDocument xmlDocument = ((XmlFile) psiFile).getDocument();
-            if (xmlDocument != null) {
-                final XmlTag xmlRootTag = xmlDocument.getRootTag();
-                if (xmlRootTag != null) {
-                    parseRootTag(map, xmlRootTag);
-                }
+            if (xmlRootTag != null) {
+                parseRootTag(map, xmlRootTag);
             }
 
             return map;
         };
     }
 
-    protected void parseRootTag(final Map<String, Void> map, final XmlTag xmlRootTag) {
-        @Nullable final XmlTag menuTag = xmlRootTag.findFirstSubTag(ModuleMenuXml.menuTag);
+    protected void parseRootTag(final Map<String, Void> map, final LightXmlTag xmlRootTag) {
+        @Nullable final LightXmlTag menuTag = xmlRootTag.findFirstSubTag(ModuleMenuXml.menuTag);
         if (menuTag == null) {
             return;
         }
@@ -64,8 +53,8 @@ public class MenuIndex extends ScalarIndexExtension<String> {
         parseMenuTag(map, menuTag);
     }
 
-    private void parseMenuTag(final Map<String, Void> map, final XmlTag menuTag) {
-        for (final XmlTag addTag : menuTag.findSubTags(ModuleMenuXml.addTag)) {
+    private void parseMenuTag(final Map<String, Void> map, final LightXmlTag menuTag) {
+        for (final LightXmlTag addTag : menuTag.findSubTags(ModuleMenuXml.addTag)) {
             final String identifier = addTag.getAttributeValue(ModuleMenuXml.idTagAttribute);
 
             if (identifier != null && !identifier.isEmpty()) {
@@ -101,6 +90,6 @@ public class MenuIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return DomApplicationComponent.getInstance().getCumulativeVersion(false);
+        return DomApplicationComponent.getInstance().getCumulativeVersion(false) + 1;
     }
 }
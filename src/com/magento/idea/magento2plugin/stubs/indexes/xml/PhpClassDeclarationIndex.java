@@ -0,0 +1,283 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes.xml;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.magento.idea.magento2plugin.magento.files.RegistrationPhp;
+import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PhpClassDeclarationData;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of PHP classes declared in the XML configuration files.
+ *
+ * <p>Key is the presentable FQN of the class, value contains the path and offset of every tag
+ * that mentions the class in its attributes or text (including `Class::member` notation),
+ * so the declarations could be listed without parsing the XML files.</p>
+ *
+ * <p>Only Magento configuration (etc), layout and UI component files are indexed and they
+ * are read with the LightXmlParser instead of PSI.</p>
+ */
+public class PhpClassDeclarationIndex
+        extends FileBasedIndexExtension<String, List<PhpClassDeclarationData>> {
+
+    public static final ID<String, List<PhpClassDeclarationData>> KEY = ID.create(
+            "com.magento.idea.magento2plugin.stubs.indexes.xml.php_class_declaration");
+
+    private static final String MEMBER_SEPARATOR = "::";
+    private static final String PATH_SEPARATOR = "/";
+    private static final String XINCLUDE_TAG = "xi:include";
+    private static final String CONFIGURATION_DIRECTORY = "etc";
+    private static final String TEST_FIXTURES_PATH = "/_files/";
+
+    @NotNull
+    @Override
+    public ID<String, List<PhpClassDeclarationData>> getName() {
+        return KEY;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<PhpClassDeclarationData>, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, List<PhpClassDeclarationData>> map = new HashMap<>();//NOPMD
+
+            if (!Settings.isEnabled(inputData.getProject())) {
+                return map;
+            }
+            final LightXmlTag rootTag = LightXmlParser.parse(inputData);
+
+            if (rootTag != null) {
+                fillMap(rootTag, rootTag.getName(), map);
+            }
+
+            return map;
+        };
+    }
+
+    /**
+     * Collect class declarations of the tag children.
+     *
+     * @param parentTag LightXmlTag
+     * @param parentPath String
+     * @param resultMap Map[String, List[PhpClassDeclarationData]]
+     */
+    private void fillMap(
+            final @NotNull LightXmlTag parentTag,
+            final @NotNull String parentPath,
+            final @NotNull Map<String, List<PhpClassDeclarationData>> resultMap
+    ) {
+        for (final LightXmlTag childTag : parentTag.getSubTags()) {
+            if (XINCLUDE_TAG.equals(childTag.getName())) {
+                continue;
+            }
+            final String tagPath = parentPath + PATH_SEPARATOR + childTag.getName();
+            final List<String> classNames = new ArrayList<>();
+
+            for (final String attributeValue : childTag.getAttributeValues()) {
+                addClassName(attributeValue, classNames);
+            }
+            addClassName(childTag.getValue(), classNames);
+
+            if (!classNames.isEmpty()) {
+                final PhpClassDeclarationData declaration = new PhpClassDeclarationData(
+                        childTag.getName(),
+                        tagPath,
+                        childTag.getOffset()
+                );
+
+                for (final String className : classNames) {
+                    resultMap.computeIfAbsent(className, key -> new ArrayList<>())
+                            .add(declaration);
+                }
+            }
+            fillMap(childTag, tagPath, resultMap);
+        }
+    }
+
+    /**
+     * Add presentable FQN of the class mentioned in the value.
+     *
+     * @param value String
+     * @param classNames List[String]
+     */
+    private void addClassName(
+            final @Nullable String value,
+            final @NotNull List<String> classNames
+    ) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String className = value.startsWith("\\") ? value.substring(1) : value;
+        final int memberSeparatorIndex = className.indexOf(MEMBER_SEPARATOR);
+
+        if (memberSeparatorIndex != -1) {
+            className = className.substring(0, memberSeparatorIndex);
+        }
+
+        if (!classNames.contains(className) && isClassName(className)) {
+            classNames.add(className);
+        }
+    }
+
+    /**
+     * Check if the value is a namespaced PHP class name.
+     *
+     * <p>Same as matching against the "CLASS_NAME(\\CLASS_NAME)+" expression of
+     * RegExUtil.PhpRegex: only class name characters and at least one namespace separator,
+     * but without the regular expression.</p>
+     *
+     * @param value CharSequence
+     *
+     * @return boolean
+     */
+    public static boolean isClassName(final @NotNull CharSequence value) {
+        boolean hasSeparator = false;
+
+        for (int index = 0; index < value.length(); index++) {
+            final char character = value.charAt(index);
+
+            if (character == '\\') {
+                hasSeparator = true;
+            } else if (!isClassNameCharacter(character)) {
+                return false;
+            }
+        }
+
+        return hasSeparator;
+    }
+
+    private static boolean isClassNameCharacter(final char character) {
+        return character >= 'a' && character <= 'z'
+                || character >= 'A' && character <= 'Z'
+                || character >= '0' && character <= '9'
+                || character == '_'
+                || character >= 0x7f && character <= 0xff;
+    }
+
+    /**
+     * Check if the file is Magento configuration (etc), layout or UI component file.
+     *
+     * <p>Configuration files are looked up in any etc directory up to the module root, so
+     * nested files like etc/adminhtml/system/*.xml are indexed as well. Test fixtures in the
+     * _files directories are skipped.</p>
+     *
+     * @param file VirtualFile
+     *
+     * @return boolean
+     */
+    public static boolean isIndexedFile(final @NotNull VirtualFile file) {
+        if (file.getFileType() != XmlFileType.INSTANCE
+                || file.getPath().contains(TEST_FIXTURES_PATH)) {
+            return false;
+        }
+        VirtualFile parent = file.getParent();
+
+        if (parent == null) {
+            return false;
+        }
+        final String parentName = parent.getName();
+
+        if (parentName.endsWith("layout") || "ui_component".equals(parentName)) {
+            return true;
+        }
+
+        while (parent != null) {
+            if (CONFIGURATION_DIRECTORY.equals(parent.getName())) {
+                return true;
+            }
+
+            if (parent.findChild(RegistrationPhp.FILE_NAME) != null) {
+                return false;
+            }
+            parent = parent.getParent();
+        }
+
+        return false;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return new EnumeratorStringDescriptor();
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<PhpClassDeclarationData>> getValueExternalizer() {
+        return new DeclarationsExternalizer();
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return PhpClassDeclarationIndex::isIndexedFile;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @Override
+    public int getVersion() {
+        return 4;
+    }
+
+    private static final class DeclarationsExternalizer
+            implements DataExternalizer<List<PhpClassDeclarationData>> {
+
+        @Override
+        public void save(
+                final @NotNull DataOutput out,
+                final List<PhpClassDeclarationData> declarations
+        ) throws IOException {
+            DataInputOutputUtil.writeINT(out, declarations.size());
+
+            for (final PhpClassDeclarationData declaration : declarations) {
+                out.writeUTF(declaration.getTagName());
+                out.writeUTF(declaration.getTagPath());
+                DataInputOutputUtil.writeINT(out, declaration.getOffset());
+            }
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+        public List<PhpClassDeclarationData> read(final @NotNull DataInput in)
+                throws IOException {
+            final int size = DataInputOutputUtil.readINT(in);
+            final List<PhpClassDeclarationData> declarations = new ArrayList<>(size);
+
+            for (int index = 0; index < size; index++) {
+                declarations.add(new PhpClassDeclarationData(
+                        in.readUTF(),
+                        in.readUTF(),
+                        DataInputOutputUtil.readINT(in)
+                ));
+            }
+
+            return declarations;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes.xml;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.magento.idea.magento2plugin.magento.packages.Areas;
+import com.magento.idea.magento2plugin.project.Settings;
+import com.magento.idea.magento2plugin.util.magento.area.AreaResolverUtil;
+import java.util.HashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index of UI component files keyed by the UI component name.
+ *
+ * <p>Value is the area of the file or an empty string if the area couldn't be resolved.
+ * Only file paths are indexed, so the index doesn't depend on the file content.</p>
+ */
+public class UiComponentNameIndex extends FileBasedIndexExtension<String, String> {
+
+    public static final ID<String, String> KEY = ID.create(
+            "com.magento.idea.magento2plugin.stubs.indexes.xml.ui_component_name");
+    private static final String UI_COMPONENT_DIRECTORY = "ui_component";
+
+    @NotNull
+    @Override
+    public ID<String, String> getName() {
+        return KEY;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, String, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, String> map = new HashMap<>();//NOPMD
+
+            if (!Settings.isEnabled(inputData.getProject())) {
+                return map;
+            }
+            final VirtualFile file = inputData.getFile();
+            final Areas area = AreaResolverUtil.getForFile(file);
+            map.put(file.getNameWithoutExtension(), area == null ? "" : area.toString());
+
+            return map;
+        };
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return new EnumeratorStringDescriptor();
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<String> getValueExternalizer() {
+        return new EnumeratorStringDescriptor();
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return file -> {
+            final VirtualFile parent = file.getParent();
+
+            return file.getFileType() == XmlFileType.INSTANCE
+                    && parent != null
+                    && parent.getName().endsWith(UI_COMPONENT_DIRECTORY);
+        };
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return false;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+}
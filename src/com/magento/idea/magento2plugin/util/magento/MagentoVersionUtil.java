@@ -5,22 +5,26 @@
 
 package com.magento.idea.magento2plugin.util.magento;
 
-import com.intellij.json.psi.JsonFile;
-import com.intellij.json.psi.JsonObject;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiManager;
-import com.intellij.psi.util.PsiTreeUtil;
 import com.magento.idea.magento2plugin.magento.files.ComposerLock;
 import com.magento.idea.magento2plugin.magento.packages.File;
 import com.magento.idea.magento2plugin.project.util.GetMagentoVersionUtil;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class MagentoVersionUtil {
 
     public static final String DEFAULT_VERSION = "any";
+    private static final Map<String, CachedVersionData> VERSIONS_CACHE
+            = new ConcurrentHashMap<>();
 
     private MagentoVersionUtil() {}
 
@@ -41,7 +45,9 @@ public final class MagentoVersionUtil {
     }
 
     /**
-     * Parse composer.lock to detect Magento 2 version
+     * Parse composer.lock to detect Magento 2 version.
+     *
+     * <p>Result is cached until composer.lock modification stamp is changed.</p>
      *
      * @param project Project
      * @param magentoPath String
@@ -60,25 +66,28 @@ public final class MagentoVersionUtil {
         if (file == null) {
             return versionData;
         }
-        final PsiManager psiManager = PsiManager.getInstance(project);
-        final PsiFile composerFile = psiManager.findFile(file);
-
-        if (composerFile instanceof JsonFile) {
-            final JsonFile composerJsonFile = (JsonFile) composerFile;
-            final JsonObject jsonObject = PsiTreeUtil.getChildOfType(
-                    composerJsonFile,
-                    JsonObject.class
-            );
-
-            if (jsonObject == null) {
-                return versionData;
-            }
-            final Pair<String, String> version = GetMagentoVersionUtil.getVersion(jsonObject);
+        final long modificationStamp = file.getModificationStamp();
+        final CachedVersionData cachedData = VERSIONS_CACHE.get(file.getPath());
+
+        if (cachedData != null && cachedData.modificationStamp == modificationStamp) {
+            return cachedData.versionData;
+        }
+        Pair<String, String> version;
+
+        try (Reader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            version = GetMagentoVersionUtil.getVersion(reader);
+        } catch (IOException exception) {
+            return versionData;
+        }
 
-            return version == null ? versionData : version;
+        if (version == null) {
+            version = versionData;
         }
+        VERSIONS_CACHE.put(file.getPath(), new CachedVersionData(modificationStamp, version));
 
-        return versionData;
+        return version;
     }
 
     private static String getFilePath(final String magentoPath) {
@@ -116,4 +125,18 @@ public final class MagentoVersionUtil {
         }
         return false;
     }
+
+    private static final class CachedVersionData {
+
+        private final long modificationStamp;
+        private final Pair<String, String> versionData;
+
+        private CachedVersionData(
+                final long modificationStamp,
+                final Pair<String, String> versionData
+        ) {
+            this.modificationStamp = modificationStamp;
+            this.versionData = versionData;
+        }
+    }
 }
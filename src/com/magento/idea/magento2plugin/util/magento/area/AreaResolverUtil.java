@@ -42,6 +42,19 @@ public final class AreaResolverUtil {
         return getArea(virtualFile.getPath(), MODULE_AREA);
     }
 
+    /**
+     * Get Magento 2 area for the specified file in the module or in the custom theme.
+     *
+     * @param virtualFile VirtualFile
+     *
+     * @return Areas or null if file does not belong to the module or theme area.
+     */
+    public static @Nullable Areas getForFile(final @NotNull VirtualFile virtualFile) {
+        final Areas moduleArea = getForFileInModule(virtualFile);
+
+        return moduleArea == null ? getForFileInCustomTheme(virtualFile) : moduleArea;
+    }
+
     private static @Nullable Areas getArea(
             final @NotNull String filePath,
             final @NotNull String searchingRegex
@@ -0,0 +1,355 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.util.magento.di;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeAnyChangeAbstractAdapter;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.messages.MessageBusConnection;
+import com.magento.idea.magento2plugin.stubs.indexes.VirtualTypeIndex;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Project level graph of the virtual types declared in di.xml files.
+ *
+ * <p>Virtual types of every di.xml are loaded from the VirtualTypeIndex once and then only
+ * the di.xml files changed in the VFS or in the editor are reloaded. Chains of the virtual
+ * types are resolved on the first request and kept until the next change of any di.xml,
+ * so completion, references and inspections get the concrete type with a single map
+ * lookup. Cyclic chains are detected and resolved to the virtual type itself.</p>
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class DiTypeGraphService implements Disposable {
+
+    private static final String DI_FILE = "di.xml";
+
+    private final Project project;
+    private final Set<String> changedConfigPaths = ConcurrentHashMap.newKeySet();
+    private volatile boolean reloadRequired = true;
+    private volatile TypeGraphSnapshot snapshot = new TypeGraphSnapshot();
+
+    /**
+     * DI type graph service constructor.
+     *
+     * @param project Project
+     */
+    public DiTypeGraphService(final @NotNull Project project) {
+        this.project = project;
+        final MessageBusConnection connection = project.getMessageBus().connect(this);
+        connection.subscribe(
+                VirtualFileManager.VFS_CHANGES,
+                new BulkFileListener() {
+                    @Override
+                    public void after(final @NotNull List<? extends VFileEvent> events) {
+                        handleFileEvents(events);
+                    }
+                }
+        );
+        connection.subscribe(
+                DumbService.DUMB_MODE,
+                new DumbService.DumbModeListener() {
+                    @Override
+                    public void exitDumbMode() {
+                        reloadRequired = true;
+                    }
+                }
+        );
+        PsiManager.getInstance(project).addPsiTreeChangeListener(
+                new PsiTreeAnyChangeAbstractAdapter() {
+                    @Override
+                    protected void onChange(final @Nullable PsiFile file) {
+                        handlePsiChange(file);
+                    }
+                },
+                this
+        );
+    }
+
+    /**
+     * Get DI type graph of the project.
+     *
+     * @param project Project
+     *
+     * @return DiTypeGraphService
+     */
+    public static DiTypeGraphService getInstance(final @NotNull Project project) {
+        return project.getService(DiTypeGraphService.class);
+    }
+
+    /**
+     * Check if the virtual type is declared in any di.xml.
+     *
+     * @param name String
+     *
+     * @return boolean
+     */
+    public boolean isVirtualType(final @NotNull String name) {
+        return getSnapshot().parentTypes.containsKey(name);
+    }
+
+    /**
+     * Get names of all declared virtual types.
+     *
+     * @return Collection[String] unmodifiable
+     */
+    public Collection<String> getVirtualTypeNames() {
+        return Collections.unmodifiableSet(getSnapshot().parentTypes.keySet());
+    }
+
+    /**
+     * Get the concrete type of the virtual type or the name itself if it isn't a virtual type.
+     *
+     * @param name String
+     *
+     * @return String
+     */
+    public @NotNull String getTopType(final @NotNull String name) {
+        final VirtualTypeChainData chain = getVirtualTypeChain(name);
+
+        return chain == null ? name : chain.getTopType();
+    }
+
+    /**
+     * Get resolved chain of the virtual type.
+     *
+     * @param name String
+     *
+     * @return VirtualTypeChainData or null if it isn't a virtual type
+     */
+    public @Nullable VirtualTypeChainData getVirtualTypeChain(final @NotNull String name) {
+        final TypeGraphSnapshot graph = getSnapshot();
+
+        if (!graph.parentTypes.containsKey(name)) {
+            return null;
+        }
+
+        return graph.chains.computeIfAbsent(name, graph::resolveChain);
+    }
+
+    @Override
+    public void dispose() {
+        changedConfigPaths.clear();
+        snapshot = new TypeGraphSnapshot();
+    }
+
+    /**
+     * Get graph, changes collected from the VFS and PSI are applied before.
+     *
+     * @return TypeGraphSnapshot
+     */
+    private TypeGraphSnapshot getSnapshot() {
+        if (!reloadRequired && changedConfigPaths.isEmpty()
+                || project.isDisposed()
+                || DumbService.getInstance(project).isDumb()) {
+            return snapshot;
+        }
+
+        return ReadAction.compute(this::refresh);
+    }
+
+    /**
+     * Reload all di.xml files or only changed ones.
+     *
+     * @return TypeGraphSnapshot
+     */
+    private synchronized TypeGraphSnapshot refresh() {
+        if (reloadRequired) {
+            reloadRequired = false;
+            changedConfigPaths.clear();
+            snapshot = loadGraph();
+
+            return snapshot;
+        }
+
+        if (changedConfigPaths.isEmpty()) {
+            return snapshot;
+        }
+        final Set<String> configPaths = new HashSet<>(changedConfigPaths);
+        changedConfigPaths.removeAll(configPaths);
+        final Map<String, Map<String, String>> typesByFile = new TreeMap<>(snapshot.typesByFile);
+        final LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+
+        for (final String configPath : configPaths) {
+            typesByFile.remove(configPath);
+            final VirtualFile configFile = fileSystem.findFileByPath(configPath);
+
+            if (configFile != null && configFile.isValid()) {
+                addFileTypes(typesByFile, configFile);
+            }
+        }
+        snapshot = new TypeGraphSnapshot(typesByFile);
+
+        return snapshot;
+    }
+
+    /**
+     * Load virtual types of all di.xml files from the index.
+     *
+     * @return TypeGraphSnapshot
+     */
+    private TypeGraphSnapshot loadGraph() {
+        final Map<String, Map<String, String>> typesByFile = new TreeMap<>();
+
+        for (final VirtualFile configFile : FilenameIndex.getVirtualFilesByName(
+                project,
+                DI_FILE,
+                GlobalSearchScope.allScope(project)
+        )) {
+            addFileTypes(typesByFile, configFile);
+        }
+
+        return new TypeGraphSnapshot(typesByFile);
+    }
+
+    /**
+     * Add virtual types declared in the di.xml file.
+     *
+     * @param typesByFile Map[String, Map[String, String]]
+     * @param configFile VirtualFile
+     */
+    private void addFileTypes(
+            final @NotNull Map<String, Map<String, String>> typesByFile,
+            final @NotNull VirtualFile configFile
+    ) {
+        final Map<String, String> fileTypes = FileBasedIndex.getInstance().getFileData(
+                VirtualTypeIndex.KEY,
+                configFile,
+                project
+        );
+
+        if (!fileTypes.isEmpty()) {
+            typesByFile.put(configFile.getPath(), new HashMap<>(fileTypes));
+        }
+    }
+
+    /**
+     * Collect di.xml files affected by the VFS changes.
+     *
+     * @param events List[VFileEvent]
+     */
+    private void handleFileEvents(final @NotNull List<? extends VFileEvent> events) {
+        if (reloadRequired) {
+            return;
+        }
+
+        for (final VFileEvent event : events) {
+            final VirtualFile file = event.getFile();
+
+            if (file != null && file.isDirectory()) {
+                // Changed directory could contain any number of di.xml files.
+                reloadRequired = true;
+                return;
+            }
+            collectAffectedConfigPath(event.getPath());
+
+            if (event instanceof VFileMoveEvent) {
+                collectAffectedConfigPath(((VFileMoveEvent) event).getOldPath());
+            } else if (event instanceof VFilePropertyChangeEvent
+                    && ((VFilePropertyChangeEvent) event).isRename()) {
+                collectAffectedConfigPath(((VFilePropertyChangeEvent) event).getOldPath());
+            }
+        }
+    }
+
+    /**
+     * Collect di.xml file changed in the editor.
+     *
+     * @param psiFile PsiFile
+     */
+    private void handlePsiChange(final @Nullable PsiFile psiFile) {
+        if (psiFile == null || reloadRequired) {
+            return;
+        }
+        final VirtualFile file = psiFile.getOriginalFile().getVirtualFile();
+
+        if (file != null) {
+            collectAffectedConfigPath(file.getPath());
+        }
+    }
+
+    private void collectAffectedConfigPath(final @NotNull String path) {
+        if (path.endsWith("/" + DI_FILE)) {
+            changedConfigPaths.add(path);
+        }
+    }
+
+    /**
+     * Immutable after publishing graph of virtual types with lazily resolved chains.
+     */
+    private static final class TypeGraphSnapshot {
+
+        private final Map<String, Map<String, String>> typesByFile;
+        private final Map<String, String> parentTypes;
+        private final Map<String, VirtualTypeChainData> chains = new ConcurrentHashMap<>();
+
+        private TypeGraphSnapshot() {
+            this(new TreeMap<>());
+        }
+
+        /**
+         * Merge virtual types of all files, the first declaration by the file path wins.
+         *
+         * @param typesByFile Map[String, Map[String, String]] sorted by the file path
+         */
+        private TypeGraphSnapshot(final @NotNull Map<String, Map<String, String>> typesByFile) {
+            this.typesByFile = typesByFile;
+            parentTypes = new HashMap<>();
+
+            for (final Map<String, String> fileTypes : typesByFile.values()) {
+                for (final Map.Entry<String, String> entry : fileTypes.entrySet()) {
+                    parentTypes.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        /**
+         * Follow parents of the virtual type until the concrete type or a cycle is met.
+         *
+         * @param name String
+         *
+         * @return VirtualTypeChainData
+         */
+        private VirtualTypeChainData resolveChain(final @NotNull String name) {
+            final Set<String> chain = new LinkedHashSet<>();
+            String type = name;
+
+            while (type != null) {
+                if (!chain.add(type)) {
+                    return new VirtualTypeChainData(new ArrayList<>(chain), true);
+                }
+                type = parentTypes.get(type);
+            }
+
+            return new VirtualTypeChainData(new ArrayList<>(chain), false);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.util.magento.di;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Resolved chain of the virtual type: the virtual type itself, its virtual parents and
+ * the concrete type the chain ends with.
+ */
+public class VirtualTypeChainData {
+
+    private final List<String> chain;
+    private final boolean cyclic;
+
+    /**
+     * Virtual type chain DTO constructor.
+     *
+     * @param chain List[String] starts with the virtual type name
+     * @param cyclic boolean
+     */
+    public VirtualTypeChainData(final @NotNull List<String> chain, final boolean cyclic) {
+        this.chain = Collections.unmodifiableList(new ArrayList<>(chain));
+        this.cyclic = cyclic;
+    }
+
+    /**
+     * Get virtual type name the chain starts with.
+     *
+     * @return String
+     */
+    public String getName() {
+        return chain.get(0);
+    }
+
+    /**
+     * Get the concrete type of the chain. For a cyclic chain the name itself is returned.
+     *
+     * @return String
+     */
+    public String getTopType() {
+        return cyclic ? getName() : chain.get(chain.size() - 1);
+    }
+
+    /**
+     * Get all types of the chain in the resolution order.
+     *
+     * @return List[String] unmodifiable
+     */
+    public List<String> getChain() {
+        return chain;
+    }
+
+    /**
+     * Check if the chain refers to one of its own virtual types.
+     *
+     * @return boolean
+     */
+    public boolean isCyclic() {
+        return cyclic;
+    }
+}
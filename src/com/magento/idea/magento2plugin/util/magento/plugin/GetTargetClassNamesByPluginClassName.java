@@ -7,49 +7,55 @@ package com.magento.idea.magento2plugin.util.magento.plugin;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.indexing.FileBasedIndex;
-import com.magento.idea.magento2plugin.stubs.indexes.PluginIndex;
-
+import com.magento.idea.magento2plugin.stubs.indexes.PluginTargetIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PluginDeclarationData;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Returns all targets class names for the plugin
  */
 public class GetTargetClassNamesByPluginClassName {
-    private static GetTargetClassNamesByPluginClassName INSTANCE = null;
-    private Project project;
+    private final Project project;
+
+    private GetTargetClassNamesByPluginClassName(final @NotNull Project project) {
+        this.project = project;
+    }
 
     public static GetTargetClassNamesByPluginClassName getInstance(Project project) {
-        if (null == INSTANCE) {
-            INSTANCE = new GetTargetClassNamesByPluginClassName();
-        }
-        INSTANCE.project = project;
-        return INSTANCE;
+        return new GetTargetClassNamesByPluginClassName(project);
     }
 
     public ArrayList<String> execute(String currentClassName) {
         ArrayList<String> targetClassNames = new ArrayList<>();
-        Collection<String> allKeys = FileBasedIndex.getInstance()
-                .getAllKeys(PluginIndex.KEY, project);
-
-        for (String targetClassName : allKeys) {
-            List<Set<String>> pluginsList = FileBasedIndex.getInstance()
-                    .getValues(com.magento.idea.magento2plugin.stubs.indexes.PluginIndex.KEY, targetClassName, GlobalSearchScope.allScope(project));
-            if (pluginsList.isEmpty()) {
-                continue;
-            }
-            for (Set<String> plugins : pluginsList) {
-                for (String plugin : plugins) {
-                    if (!plugin.equals(currentClassName)) {
-                        continue;
-                    }
-                    targetClassNames.add(targetClassName);
-                }
-            }
+
+        for (final PluginDeclarationData declaration : getDeclarations(currentClassName)) {
+            targetClassNames.add(declaration.getTargetType());
         }
 
         return targetClassNames;
     }
+
+    /**
+     * Get all di.xml declarations of the plugin class.
+     *
+     * @param pluginClassName String presentable FQN of the plugin class
+     *
+     * @return List[PluginDeclarationData]
+     */
+    public List<PluginDeclarationData> getDeclarations(final @NotNull String pluginClassName) {
+        final List<PluginDeclarationData> declarations = new ArrayList<>();
+
+        for (final List<PluginDeclarationData> fileDeclarations : FileBasedIndex.getInstance()
+                .getValues(
+                        PluginTargetIndex.KEY,
+                        pluginClassName,
+                        GlobalSearchScope.allScope(project)
+                )) {
+            declarations.addAll(fileDeclarations);
+        }
+
+        return declarations;
+    }
 }
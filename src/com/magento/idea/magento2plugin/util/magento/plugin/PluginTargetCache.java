@@ -0,0 +1,158 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.util.magento.plugin;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.jetbrains.php.PhpIndex;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.magento.idea.magento2plugin.stubs.indexes.PluginIndex;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Project level cache of plugins declared for the target classes.
+ *
+ * <p>The cache is dropped on any PSI or VFS structure modification and on any update of the
+ * plugin index, so it never outlives di.xml or PHP classes it was built from. Values are
+ * computed outside of the cache maps, so index and PSI lookups don't run under their locks.</p>
+ */
+public final class PluginTargetCache {
+
+    private static final Key<CachedValue<PluginTargetCache>> CACHE_KEY
+            = Key.create("magento2.plugin.target.cache");
+
+    private final Project project;
+    private final Map<String, List<PhpClass>> declaredPlugins = new ConcurrentHashMap<>();
+    private final Map<PhpClass, PluginTargetData> classPlugins = new ConcurrentHashMap<>();
+
+    private PluginTargetCache(final @NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Get plugin target cache for the project.
+     *
+     * @param project Project
+     *
+     * @return PluginTargetCache
+     */
+    public static PluginTargetCache getInstance(final @NotNull Project project) {
+        return CachedValuesManager.getManager(project).getCachedValue(
+                project,
+                CACHE_KEY,
+                () -> CachedValueProvider.Result.create(
+                        new PluginTargetCache(project),
+                        PsiModificationTracker.MODIFICATION_COUNT,
+                        VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+                        (ModificationTracker) () -> FileBasedIndex.getInstance()
+                                .getIndexModificationStamp(PluginIndex.KEY, project)
+                ),
+                false
+        );
+    }
+
+    /**
+     * Get plugins declared for the class and all its parents.
+     *
+     * <p>Result is kept per class declaration, since classes with the same FQN
+     * could extend different parents.</p>
+     *
+     * @param phpClass PhpClass
+     *
+     * @return PluginTargetData
+     */
+    public @NotNull PluginTargetData getPluginsForClass(final @NotNull PhpClass phpClass) {
+        final PluginTargetData cachedPlugins = classPlugins.get(phpClass);
+
+        if (cachedPlugins != null) {
+            return cachedPlugins;
+        }
+        final PluginTargetData plugins = collectPluginsForClass(phpClass);
+        final PluginTargetData previousPlugins = classPlugins.putIfAbsent(phpClass, plugins);
+
+        return previousPlugins == null ? plugins : previousPlugins;
+    }
+
+    /**
+     * Collect plugins of the class hierarchy.
+     *
+     * @param phpClass PhpClass
+     *
+     * @return PluginTargetData
+     */
+    private PluginTargetData collectPluginsForClass(final @NotNull PhpClass phpClass) {
+        final Set<PhpClass> plugins = new LinkedHashSet<>();
+        final Set<String> visited = new HashSet<>();
+        final Deque<PhpClass> classes = new ArrayDeque<>();
+        classes.add(phpClass);
+
+        while (!classes.isEmpty()) {
+            final PhpClass currentClass = classes.poll();
+
+            if (!visited.add(currentClass.getPresentableFQN())) {
+                continue;
+            }
+            plugins.addAll(getDeclaredPlugins(currentClass.getPresentableFQN()));
+
+            for (final PhpClass parent : currentClass.getSupers()) {
+                classes.add(parent);
+            }
+        }
+
+        return new PluginTargetData(plugins);
+    }
+
+    /**
+     * Get plugins declared exactly for the target class.
+     *
+     * @param classFqn String
+     *
+     * @return List[PhpClass]
+     */
+    private List<PhpClass> getDeclaredPlugins(final @NotNull String classFqn) {
+        final List<PhpClass> cachedResults = declaredPlugins.get(classFqn);
+
+        if (cachedResults != null) {
+            return cachedResults;
+        }
+        final List<PhpClass> results = new ArrayList<>();
+        final List<Set<String>> plugins = FileBasedIndex.getInstance().getValues(
+                PluginIndex.KEY,
+                classFqn,
+                GlobalSearchScope.allScope(project)
+        );
+
+        if (!plugins.isEmpty()) {
+            final PhpIndex phpIndex = PhpIndex.getInstance(project);
+
+            for (final Set<String> pluginClassNames : plugins) {
+                for (final String pluginClassName : pluginClassNames) {
+                    results.addAll(phpIndex.getClassesByFQN(pluginClassName));
+                }
+            }
+        }
+        final List<PhpClass> previousResults = declaredPlugins.putIfAbsent(classFqn, results);
+
+        return previousResults == null ? results : previousResults;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.util.magento.plugin;
+
+import com.jetbrains.php.lang.psi.elements.Method;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.magento.idea.magento2plugin.magento.files.Plugin;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang.WordUtils;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Plugins declared for the target class with their methods grouped by the target method name
+ * and plugin type.
+ */
+public class PluginTargetData {
+
+    private static final int MIN_PLUGIN_METHOD_NAME_LENGTH = 6;
+
+    private final List<PhpClass> pluginClasses;
+    private final Map<String, Map<Plugin.PluginType, List<Method>>> pluginMethods;
+
+    /**
+     * Plugin target DTO constructor.
+     *
+     * @param pluginClasses Collection[PhpClass]
+     */
+    public PluginTargetData(final @NotNull Collection<PhpClass> pluginClasses) {
+        this.pluginClasses = new ArrayList<>(pluginClasses);
+        pluginMethods = new HashMap<>();
+
+        for (final PhpClass pluginClass : this.pluginClasses) {
+            for (final Method method : pluginClass.getMethods()) {
+                if (!method.getAccess().isPublic()
+                        || method.getName().length() <= MIN_PLUGIN_METHOD_NAME_LENGTH) {
+                    continue;
+                }
+                addPluginMethod(method);
+            }
+        }
+    }
+
+    /**
+     * Get plugin classes.
+     *
+     * @return List[PhpClass]
+     */
+    public List<PhpClass> getPluginClasses() {
+        return new ArrayList<>(pluginClasses);
+    }
+
+    /**
+     * Get plugin methods of all types for the target method.
+     *
+     * @param targetMethodName String
+     *
+     * @return List[Method]
+     */
+    public List<Method> getPluginMethods(final @NotNull String targetMethodName) {
+        final List<Method> methods = new ArrayList<>();
+        final Map<Plugin.PluginType, List<Method>> methodsByType = pluginMethods.get(
+                WordUtils.capitalize(targetMethodName)
+        );
+
+        if (methodsByType != null) {
+            methodsByType.values().forEach(methods::addAll);
+        }
+
+        return methods;
+    }
+
+    /**
+     * Get plugin methods of the specified type for the target method.
+     *
+     * @param targetMethodName String
+     * @param pluginType Plugin.PluginType
+     *
+     * @return List[Method]
+     */
+    public List<Method> getPluginMethods(
+            final @NotNull String targetMethodName,
+            final @NotNull Plugin.PluginType pluginType
+    ) {
+        final Map<Plugin.PluginType, List<Method>> methodsByType = pluginMethods.get(
+                WordUtils.capitalize(targetMethodName)
+        );
+
+        if (methodsByType == null || !methodsByType.containsKey(pluginType)) {
+            return new ArrayList<>();
+        }
+
+        return new ArrayList<>(methodsByType.get(pluginType));
+    }
+
+    /**
+     * Register plugin method under its type and target method name.
+     *
+     * @param method Method
+     */
+    private void addPluginMethod(final @NotNull Method method) {
+        final String methodName = method.getName();
+
+        for (final Plugin.PluginType pluginType : Plugin.PluginType.values()) {
+            final String prefix = pluginType.toString();
+
+            if (!methodName.startsWith(prefix)) {
+                continue;
+            }
+            pluginMethods
+                    .computeIfAbsent(
+                            methodName.substring(prefix.length()),
+                            key -> new EnumMap<>(Plugin.PluginType.class)
+                    )
+                    .computeIfAbsent(pluginType, key -> new ArrayList<>())
+                    .add(method);
+
+            return;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.util.php;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.jetbrains.php.PhpIndex;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.jetbrains.php.lang.psi.elements.PhpNamespace;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Project level cache of PHP namespaces and classes lookups by their exact names.
+ *
+ * <p>Every name is resolved with a single keyed index query and the result is kept until any
+ * PSI or VFS structure modification, so references of the same class names in XML configs
+ * are built without repeated index queries.</p>
+ */
+public final class PhpClassLookupCache {
+
+    private static final Key<CachedValue<PhpClassLookupCache>> CACHE_KEY
+            = Key.create("magento2.php.class.lookup.cache");
+
+    private final Project project;
+    private final Map<String, Collection<PhpNamespace>> namespaces = new ConcurrentHashMap<>();
+    private final Map<String, Collection<PhpClass>> classes = new ConcurrentHashMap<>();
+
+    private PhpClassLookupCache(final @NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Get PHP class lookup cache for the project.
+     *
+     * @param project Project
+     *
+     * @return PhpClassLookupCache
+     */
+    public static PhpClassLookupCache getInstance(final @NotNull Project project) {
+        return CachedValuesManager.getManager(project).getCachedValue(
+                project,
+                CACHE_KEY,
+                () -> CachedValueProvider.Result.create(
+                        new PhpClassLookupCache(project),
+                        PsiModificationTracker.MODIFICATION_COUNT,
+                        VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS
+                ),
+                false
+        );
+    }
+
+    /**
+     * Get namespaces by the lower case namespace identifier, e.g. \magento\catalog.
+     *
+     * @param namespaceId String
+     *
+     * @return Collection[PhpNamespace] unmodifiable
+     */
+    public @NotNull Collection<PhpNamespace> getNamespaces(final @NotNull String namespaceId) {
+        return namespaces.computeIfAbsent(
+                namespaceId,
+                key -> Collections.unmodifiableList(
+                        new ArrayList<>(PhpIndex.getInstance(project).getNamespacesByName(key))
+                )
+        );
+    }
+
+    /**
+     * Get classes, interfaces and traits by FQN.
+     *
+     * @param fqn String
+     *
+     * @return Collection[PhpClass] unmodifiable
+     */
+    public @NotNull Collection<PhpClass> getClasses(final @NotNull String fqn) {
+        return classes.computeIfAbsent(
+                fqn,
+                key -> Collections.unmodifiableList(
+                        new ArrayList<>(PhpIndex.getInstance(project).getAnyByFQN(key))
+                )
+        );
+    }
+}
@@ -5,36 +5,31 @@
 
 package com.magento.idea.magento2uct.execution;
 
-import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.execution.process.ProcessAdapter;
 import com.intellij.execution.process.ProcessEvent;
 import com.intellij.execution.process.ProcessHandler;
-import com.intellij.json.psi.JsonFile;
 import com.intellij.openapi.application.ApplicationManager;
-import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDirectory;
-import com.intellij.psi.PsiDocumentManager;
-import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.magento.idea.magento2plugin.util.magento.MagentoVersionUtil;
+import com.magento.idea.magento2uct.execution.analysis.UctAnalysisEngine;
+import com.magento.idea.magento2uct.execution.analysis.UctAnalysisResultsCache;
+import com.magento.idea.magento2uct.execution.analysis.data.FileAnalysisData;
+import com.magento.idea.magento2uct.execution.analysis.data.IssueData;
 import com.magento.idea.magento2uct.execution.output.ReportBuilder;
 import com.magento.idea.magento2uct.execution.output.Summary;
 import com.magento.idea.magento2uct.execution.output.UctReportOutputUtil;
 import com.magento.idea.magento2uct.execution.process.OutputWrapper;
-import com.magento.idea.magento2uct.execution.scanner.ModuleFilesScanner;
 import com.magento.idea.magento2uct.execution.scanner.ModuleScanner;
-import com.magento.idea.magento2uct.execution.scanner.data.ComponentData;
 import com.magento.idea.magento2uct.execution.scanner.filter.ExcludeMagentoBundledFilter;
-import com.magento.idea.magento2uct.inspections.UctInspectionManager;
-import com.magento.idea.magento2uct.inspections.UctProblemsHolder;
-import com.magento.idea.magento2uct.packages.SupportedIssue;
 import com.magento.idea.magento2uct.settings.UctSettingsService;
-import com.magento.idea.magento2uct.util.inspection.FilterDescriptorResultsUtil;
-import com.magento.idea.magento2uct.util.inspection.SortDescriptorResultsUtil;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
@@ -81,7 +76,7 @@ public class GenerateUctReportCommand {
     /**
      * Execute command.
      */
-    @SuppressWarnings({"PMD.ExcessiveMethodLength", "PMD.AvoidInstantiatingObjectsInLoops"})
+    @SuppressWarnings("PMD.ExcessiveMethodLength")
     public void execute() {
         output.write("Upgrade compatibility tool\n");
         final PsiDirectory rootDirectory = getTargetPsiDirectory(settingsService.getModulePath());
@@ -114,7 +109,10 @@ public class GenerateUctReportCommand {
                 settingsService.getCurrentVersion(),
                 settingsService.getTargetVersion()
         );
-        final ReportBuilder reportBuilder = new ReportBuilder(project);
+        final ReportBuilder reportBuilder = new ReportBuilder(
+                project,
+                settingsService.getReportFormat()
+        );
         final UctReportOutputUtil outputUtil = new UctReportOutputUtil(output);
         final Pair<String, String> version = MagentoVersionUtil.getVersionData(
                 project,
@@ -125,85 +123,136 @@ public class GenerateUctReportCommand {
                 : version.getSecond();
 
         ApplicationManager.getApplication().executeOnPooledThread(() -> {
-            ApplicationManager.getApplication().runReadAction(() -> {
-                summary.trackProcessStarted();
-                for (final ComponentData componentData : scanner) {
-                    if (process.isProcessTerminated()) {
-                        return;
-                    }
-                    boolean isModuleHeaderPrinted = false;
-
-                    for (final PsiFile psiFile : new ModuleFilesScanner(componentData)) {
-                        final String filename = psiFile.getVirtualFile().getPath();
-                        final UctInspectionManager inspectionManager = new UctInspectionManager(
-                                project
-                        );
-                        final UctProblemsHolder fileProblemsHolder = inspectionManager.run(psiFile);
+            summary.trackProcessStarted();
+            final UctAnalysisResultsCache resultsCache = new UctAnalysisResultsCache(
+                    project,
+                    settingsService
+            );
+            resultsCache.load();
+            final UctAnalysisEngine analysisEngine = new UctAnalysisEngine(
+                    project,
+                    settingsService.getAnalysisThreadsCount(),
+                    process::isProcessTerminated,
+                    resultsCache
+            );
+            final boolean isCompleted = analysisEngine.run(scanner, moduleData -> {
+                boolean isModuleHeaderPrinted = false;
 
-                        if (fileProblemsHolder == null) {
-                            continue;
+                for (final FileAnalysisData fileData : moduleData.getFiles()) {
+                    if (fileData.hasProblems()) {
+                        if (!isModuleHeaderPrinted) {
+                            outputUtil.printModuleName(moduleData.getComponentData());
+                            isModuleHeaderPrinted = true;
                         }
+                        outputUtil.printProblemFile(fileData.getFilename());
+                    }
 
-                        if (fileProblemsHolder.hasResults()) {
-                            if (!isModuleHeaderPrinted) {
-                                outputUtil.printModuleName(componentData);
-                                isModuleHeaderPrinted = true;
-                            }
-                            outputUtil.printProblemFile(filename);
-                        }
-                        final List<ProblemDescriptor> problems = SortDescriptorResultsUtil.sort(
-                                FilterDescriptorResultsUtil.filter(fileProblemsHolder)
+                    for (final IssueData issueData : fileData.getIssues()) {
+                        summary.addToSummary(issueData.getIssue().getLevel());
+                        reportBuilder.addIssue(fileData.getFilename(), issueData);
+                        outputUtil.printIssue(
+                                issueData.getLine(),
+                                issueData.getMessage(),
+                                issueData.getIssue()
                         );
-
-                        for (final ProblemDescriptor descriptor : problems) {
-                            final SupportedIssue issue = fileProblemsHolder.getIssue(descriptor);
-
-                            final String errorMessage = descriptor
-                                    .getDescriptionTemplate()
-                                    .substring(6)
-                                    .trim();
-                            summary.addToSummary(issue.getLevel());
-                            reportBuilder.addIssue(
-                                    descriptor.getLineNumber() + 1,
-                                    filename,
-                                    errorMessage,
-                                    issue
-                            );
-                            outputUtil.printIssue(descriptor, issue.getCode());
-                        }
                     }
                 }
-                summary.trackProcessFinished();
-                summary.setProcessedModules(scanner.getModuleCount());
-                summary.setProcessedThemes(scanner.getThemeCount());
-                outputUtil.printSummary(summary, resolvedEdition);
-
-                if (summary.getProcessedModules() == 0 && summary.getProcessedThemes() == 0) {
-                    process.destroyProcess();
-                    return;
-                }
-                reportBuilder.addSummary(summary);
-            });
-
-            ApplicationManager.getApplication().invokeLaterOnWriteThread(() -> {
-                final JsonFile report = reportBuilder.build();
+            }, this::handleAnalysisError);
 
-                if (report != null) {
-                    final PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(
-                            project
-                    );
-                    final Document document = psiDocumentManager.getDocument(report);
+            if (!isCompleted || process.isProcessTerminated()) {
+                reportBuilder.discard();
+                return;
+            }
+            saveResultsCache(resultsCache);
+            printResolutionStatistics(analysisEngine);
+            summary.trackProcessFinished();
+            summary.setProcessedModules(scanner.getModuleCount());
+            summary.setProcessedThemes(scanner.getThemeCount());
+            outputUtil.printSummary(summary, resolvedEdition);
 
-                    if (document != null) {
-                        psiDocumentManager.commitDocument(document);
-                    }
-                    outputUtil.printReportFile(report.getVirtualFile().getPath());
-                }
+            if (summary.getProcessedModules() == 0 && summary.getProcessedThemes() == 0) {
+                reportBuilder.discard();
                 process.destroyProcess();
-            });
+                return;
+            }
+            reportBuilder.addSummary(summary);
+            final Path reportPath = buildReport(reportBuilder);
+
+            if (reportPath != null) {
+                // Make the report visible to VFS, so it could be opened from the console link.
+                LocalFileSystem.getInstance().refreshAndFindFileByNioFile(reportPath);
+                outputUtil.printReportFile(reportPath.toString());
+            }
+            process.destroyProcess();
         });
     }
 
+    /**
+     * Print the analysis failure and stop the process.
+     *
+     * @param error Throwable
+     */
+    private void handleAnalysisError(final @NotNull Throwable error) {
+        output.print(output.wrapCritical("Analysis failed: " + error).concat("\n"));
+        process.destroyProcess();
+    }
+
+    /**
+     * Finish the report file.
+     *
+     * @param reportBuilder ReportBuilder
+     *
+     * @return Path or null if there is no report
+     */
+    private @Nullable Path buildReport(final @NotNull ReportBuilder reportBuilder) {
+        try {
+            return reportBuilder.build();
+        } catch (IOException exception) {
+            output.print(
+                    output.wrapError("Could not write report file: "
+                            + exception.getMessage()).concat("\n")
+            );
+
+            return null;
+        }
+    }
+
+    /**
+     * Persist analysis results for the next run, the report doesn't depend on it.
+     *
+     * @param resultsCache UctAnalysisResultsCache
+     */
+    private void saveResultsCache(final @NotNull UctAnalysisResultsCache resultsCache) {
+        try {
+            resultsCache.save();
+        } catch (IOException exception) {
+            output.print(
+                    output.wrapError("Could not save analysis results cache: "
+                            + exception.getMessage()).concat("\n")
+            );
+        }
+
+        if (resultsCache.getReusedCount() > 0) {
+            output.print(
+                    output.wrapInfo("Reused analysis results of "
+                            + resultsCache.getReusedCount() + " unchanged files").concat("\n")
+            );
+        }
+    }
+
+    /**
+     * Print how many references resolutions were shared between the UCT inspections.
+     *
+     * @param analysisEngine UctAnalysisEngine
+     */
+    private void printResolutionStatistics(final @NotNull UctAnalysisEngine analysisEngine) {
+        output.print(
+                output.wrapInfo("Resolved references: " + analysisEngine.getResolutionMisses()
+                        + ", reused resolutions: " + analysisEngine.getResolutionHits())
+                        .concat("\n")
+        );
+    }
+
     /**
      * Get target psi directory.
      *
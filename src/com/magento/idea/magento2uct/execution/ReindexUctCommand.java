@@ -11,13 +11,19 @@ import com.intellij.execution.process.ProcessHandler;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
-import com.intellij.psi.PsiFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.magento.idea.magento2uct.execution.process.OutputWrapper;
-import com.magento.idea.magento2uct.execution.scanner.ModuleFilesScanner;
+import com.magento.idea.magento2uct.execution.reindex.UctReindexEngine;
 import com.magento.idea.magento2uct.execution.scanner.ModuleScanner;
-import com.magento.idea.magento2uct.execution.scanner.data.ComponentData;
 import com.magento.idea.magento2uct.packages.IndexRegistry;
 import com.magento.idea.magento2uct.packages.SupportedVersion;
+import com.magento.idea.magento2uct.settings.UctSettingsService;
+import com.magento.idea.magento2uct.versioning.processors.IndexBaseline;
+import com.magento.idea.magento2uct.versioning.processors.IndexProcessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import org.jetbrains.annotations.NotNull;
 
 public class ReindexUctCommand {
@@ -61,34 +67,73 @@ public class ReindexUctCommand {
      * @param version SupportedVersion
      * @param index IndexRegistry
      */
-    @SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops"})
     public void execute(
             final @NotNull SupportedVersion version,
             final @NotNull IndexRegistry index
     ) {
-        if (project.getBasePath() == null) {
+        execute(version, Collections.singletonList(index));
+    }
+
+    /**
+     * Execute command for several indexes in a single pass over the modules files.
+     *
+     * @param version SupportedVersion
+     * @param indexes Collection[IndexRegistry]
+     */
+    public void execute(
+            final @NotNull SupportedVersion version,
+            final @NotNull Collection<IndexRegistry> indexes
+    ) {
+        final String basePath = project.getBasePath();
+
+        if (basePath == null || indexes.isEmpty()) {
             return;
         }
         output.write("Indexing process...\n\n");
 
         ApplicationManager.getApplication().executeOnPooledThread(() -> {
-            ApplicationManager.getApplication().runReadAction(() -> {
-                index.getProcessor().clearData();
-
-                for (final ComponentData componentData : new ModuleScanner(directory)) {
-                    if (process.isProcessTerminated()) {
-                        return;
-                    }
-                    output.print(output.wrapInfo(componentData.getName()).concat("\n"));
-
-                    for (final PsiFile psiFile : new ModuleFilesScanner(componentData)) {
-                        index.getProcessor().process(psiFile);
-                    }
-                }
-                index.getProcessor().save(project.getBasePath(), version);
-
-                process.destroyProcess();
-            });
+            final List<IndexProcessor> processors = new ArrayList<>();
+
+            for (final IndexRegistry index : indexes) {
+                final IndexProcessor processor = index.getProcessor();
+                processor.clearData();
+                processors.add(processor);
+            }
+            final IndexBaseline baseline = new IndexBaseline(basePath, version);
+            baseline.preload(indexes, AppExecutorUtil.getAppExecutorService());
+
+            final UctReindexEngine engine = new UctReindexEngine(
+                    project,
+                    UctSettingsService.getInstance(project).getAnalysisThreadsCount(),
+                    process::isProcessTerminated
+            );
+            final boolean isCompleted = engine.run(
+                    new ModuleScanner(directory),
+                    processors,
+                    componentData -> output.print(
+                            output.wrapInfo(componentData.getName()).concat("\n")
+                    ),
+                    this::handleReindexError
+            );
+
+            if (!isCompleted || process.isProcessTerminated()) {
+                return;
+            }
+
+            for (final IndexProcessor processor : processors) {
+                processor.save(baseline);
+            }
+            process.destroyProcess();
         });
     }
+
+    /**
+     * Print the reindex failure and stop the process.
+     *
+     * @param error Throwable
+     */
+    private void handleReindexError(final @NotNull Throwable error) {
+        output.print(output.wrapCritical("Indexing failed: " + error).concat("\n"));
+        process.destroyProcess();
+    }
 }
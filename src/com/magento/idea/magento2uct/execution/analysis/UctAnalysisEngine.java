@@ -0,0 +1,270 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.analysis;
+
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.magento.idea.magento2uct.execution.analysis.data.FileAnalysisData;
+import com.magento.idea.magento2uct.execution.analysis.data.IssueData;
+import com.magento.idea.magento2uct.execution.analysis.data.ModuleAnalysisData;
+import com.magento.idea.magento2uct.execution.scanner.ModuleFilesScanner;
+import com.magento.idea.magento2uct.execution.scanner.data.ComponentData;
+import com.magento.idea.magento2uct.inspections.UctInspectionManager;
+import com.magento.idea.magento2uct.inspections.UctProblemsHolder;
+import com.magento.idea.magento2uct.inspections.UctReferenceResolutionCache;
+import com.magento.idea.magento2uct.util.inspection.FilterDescriptorResultsUtil;
+import com.magento.idea.magento2uct.util.inspection.SortDescriptorResultsUtil;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs UCT inspections for modules on a bounded worker pool.
+ *
+ * <p>Every file is inspected in its own non-blocking read action, so write actions are not
+ * blocked by the analysis. Module results are handed to the consumer in the same order
+ * as modules were passed in, regardless of the order in which workers finish.</p>
+ */
+public class UctAnalysisEngine {
+
+    private static final String EXECUTOR_NAME = "Magento UCT Analysis";
+    private static final int ISSUE_MESSAGE_PREFIX_LENGTH = 6;
+
+    private final Project project;
+    private final int threadsCount;
+    private final BooleanSupplier isCancelled;
+    private final UctAnalysisResultsCache resultsCache;
+    private final AtomicInteger resolutionHits = new AtomicInteger();
+    private final AtomicInteger resolutionMisses = new AtomicInteger();
+
+    /**
+     * UCT analysis engine constructor.
+     *
+     * @param project Project
+     * @param threadsCount int
+     * @param isCancelled BooleanSupplier
+     */
+    public UctAnalysisEngine(
+            final @NotNull Project project,
+            final int threadsCount,
+            final @NotNull BooleanSupplier isCancelled
+    ) {
+        this(project, threadsCount, isCancelled, null);
+    }
+
+    /**
+     * UCT analysis engine constructor.
+     *
+     * @param project Project
+     * @param threadsCount int
+     * @param isCancelled BooleanSupplier
+     * @param resultsCache UctAnalysisResultsCache
+     */
+    public UctAnalysisEngine(
+            final @NotNull Project project,
+            final int threadsCount,
+            final @NotNull BooleanSupplier isCancelled,
+            final @Nullable UctAnalysisResultsCache resultsCache
+    ) {
+        this.project = project;
+        this.threadsCount = Math.max(1, threadsCount);
+        this.isCancelled = isCancelled;
+        this.resultsCache = resultsCache;
+    }
+
+    /**
+     * Analyse components and pass results to the consumer in the components order.
+     *
+     * <p>Components are discovered lazily under the read action, each found component is
+     * submitted for analysis immediately, so analysis starts while discovery continues.
+     * The analysis is stopped on the first failure of any module, the failure is passed
+     * to the error consumer.</p>
+     *
+     * @param components Iterable[ComponentData]
+     * @param consumer Consumer[ModuleAnalysisData]
+     * @param errorConsumer Consumer[Throwable]
+     *
+     * @return boolean true if all components were analysed
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public boolean run(
+            final @NotNull Iterable<ComponentData> components,
+            final @NotNull Consumer<ModuleAnalysisData> consumer,
+            final @NotNull Consumer<Throwable> errorConsumer
+    ) {
+        final ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor(
+                EXECUTOR_NAME,
+                threadsCount
+        );
+        final Iterator<ComponentData> componentsIterator = components.iterator();
+        final Deque<Future<ModuleAnalysisData>> results = new ArrayDeque<>();
+
+        try {
+            while (!isCancelled.getAsBoolean()) {
+                final ComponentData componentData = ReadAction.compute(
+                        () -> componentsIterator.hasNext() ? componentsIterator.next() : null
+                );
+
+                if (componentData == null) {
+                    break;
+                }
+                results.add(executor.submit(() -> analyseModule(componentData)));
+
+                // Hand over already analysed modules while discovery continues.
+                while (!results.isEmpty() && results.peek().isDone()) {
+                    consumer.accept(results.poll().get());
+                }
+            }
+
+            while (!results.isEmpty()) {
+                if (isCancelled.getAsBoolean()) {
+                    return false;
+                }
+                consumer.accept(results.poll().get());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        } catch (ExecutionException exception) {
+            if (!(exception.getCause() instanceof ProcessCanceledException)) {
+                errorConsumer.accept(exception.getCause());
+            }
+
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return !isCancelled.getAsBoolean();
+    }
+
+    /**
+     * Get count of references resolutions served from the per-file resolution caches.
+     *
+     * @return int
+     */
+    public int getResolutionHits() {
+        return resolutionHits.get();
+    }
+
+    /**
+     * Get count of references resolutions that were actually performed.
+     *
+     * @return int
+     */
+    public int getResolutionMisses() {
+        return resolutionMisses.get();
+    }
+
+    /**
+     * Analyse all files of the component, unchanged files results are taken from the cache.
+     *
+     * @param componentData ComponentData
+     *
+     * @return ModuleAnalysisData
+     */
+    private ModuleAnalysisData analyseModule(final @NotNull ComponentData componentData) {
+        final ModuleAnalysisData moduleData = new ModuleAnalysisData(componentData);
+        final Iterator<VirtualFile> filesIterator = ReadAction.compute(
+                () -> new ModuleFilesScanner(componentData).iterator()
+        );
+
+        while (!isCancelled.getAsBoolean()) {
+            final VirtualFile file = ReadAction.compute(
+                    () -> filesIterator.hasNext() ? filesIterator.next() : null
+            );
+
+            if (file == null) {
+                break;
+            }
+
+            if (resultsCache != null) {
+                final FileAnalysisData cachedData = resultsCache.get(file);
+
+                if (cachedData != null) {
+                    moduleData.addFile(cachedData);
+                    continue;
+                }
+            }
+            final long timeStamp = file.getTimeStamp();
+            final long length = file.getLength();
+            final FileAnalysisData fileData = ReadAction
+                    .nonBlocking(() -> analyseFile(file))
+                    .inSmartMode(project)
+                    .expireWhen(isCancelled)
+                    .executeSynchronously();
+
+            if (fileData != null) {
+                moduleData.addFile(fileData);
+
+                if (resultsCache != null) {
+                    resultsCache.put(file, timeStamp, length, fileData);
+                }
+            }
+        }
+
+        return moduleData;
+    }
+
+    /**
+     * Run all UCT inspections for the file.
+     *
+     * @param file VirtualFile
+     *
+     * @return FileAnalysisData
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private @Nullable FileAnalysisData analyseFile(final @NotNull VirtualFile file) {
+        if (!file.isValid()) {
+            return null;
+        }
+        final PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+
+        if (psiFile == null) {
+            return null;
+        }
+        final UctProblemsHolder problemsHolder = new UctInspectionManager(project).run(psiFile);
+
+        if (problemsHolder == null) {
+            return null;
+        }
+        final UctReferenceResolutionCache resolutionCache = problemsHolder.getResolutionCache();
+        resolutionHits.addAndGet(resolutionCache.getHits());
+        resolutionMisses.addAndGet(resolutionCache.getMisses());
+        final List<IssueData> issues = new ArrayList<>();
+
+        for (final ProblemDescriptor descriptor : SortDescriptorResultsUtil.sort(
+                FilterDescriptorResultsUtil.filter(problemsHolder)
+        )) {
+            issues.add(new IssueData(
+                    descriptor.getLineNumber() + 1,
+                    descriptor.getDescriptionTemplate()
+                            .substring(ISSUE_MESSAGE_PREFIX_LENGTH)
+                            .trim(),
+                    problemsHolder.getIssue(descriptor)
+            ));
+        }
+
+        return new FileAnalysisData(file.getPath(), problemsHolder.hasResults(), issues);
+    }
+}
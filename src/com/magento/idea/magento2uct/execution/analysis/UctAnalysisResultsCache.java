@@ -0,0 +1,302 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.analysis;
+
+import com.intellij.ide.plugins.IdeaPluginDescriptor;
+import com.intellij.ide.plugins.PluginManagerCore;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.extensions.PluginId;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.magento.idea.magento2uct.execution.analysis.data.FileAnalysisData;
+import com.magento.idea.magento2uct.execution.analysis.data.IssueData;
+import com.magento.idea.magento2uct.packages.IssueSeverityLevel;
+import com.magento.idea.magento2uct.packages.SupportedIssue;
+import com.magento.idea.magento2uct.packages.SupportedVersion;
+import com.magento.idea.magento2uct.settings.UctSettingsService;
+import com.magento.idea.magento2uct.versioning.indexes.storage.MappedIndexData;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Persists per-file UCT analysis results between runs.
+ *
+ * <p>Results are valid only for the same plugin build, bundled indexes format, current/target
+ * versions and issue filtering settings, and only for files whose timestamp and length haven't
+ * changed since they were analysed. Files that weren't met during the run are dropped on save,
+ * so the storage doesn't grow with deleted files.</p>
+ *
+ * <p>The storage is kept in the IDE system directory per project location, so it never gets
+ * into the project tree.</p>
+ */
+public class UctAnalysisResultsCache {
+
+    private static final String CACHE_DIRECTORY = "magento2uct";
+    private static final String CACHE_FILENAME = "analysis-results.dat";
+    private static final int FORMAT_VERSION = 1;
+    private static final String PLUGIN_ID = "com.magento.idea.magento2plugin";
+
+    private final Path cacheFile;
+    private final String configurationKey;
+    private final Map<String, CachedResult> loaded = new HashMap<>();
+    private final Map<String, CachedResult> results = new ConcurrentHashMap<>();
+    private final AtomicInteger reusedCount = new AtomicInteger();
+
+    /**
+     * UCT analysis results cache constructor.
+     *
+     * @param project Project
+     * @param settings UctSettingsService
+     */
+    public UctAnalysisResultsCache(
+            final @NotNull Project project,
+            final @NotNull UctSettingsService settings
+    ) {
+        cacheFile = Paths.get(
+                PathManager.getSystemPath(),
+                CACHE_DIRECTORY,
+                project.getLocationHash(),
+                CACHE_FILENAME
+        );
+        configurationKey = buildConfigurationKey(settings);
+    }
+
+    /**
+     * Load results stored by the previous run. Stale or unreadable storage is ignored.
+     */
+    public void load() {
+        loaded.clear();
+
+        if (!Files.exists(cacheFile)) {
+            return;
+        }
+
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(cacheFile))
+        )) {
+            if (input.readInt() != FORMAT_VERSION || !configurationKey.equals(input.readUTF())) {
+                return;
+            }
+            final int filesCount = input.readInt();
+
+            for (int fileIndex = 0; fileIndex < filesCount; fileIndex++) {
+                final CachedResult result = readResult(input);
+
+                if (result != null) {
+                    loaded.put(result.data.getFilename(), result);
+                }
+            }
+        } catch (IOException exception) {
+            loaded.clear();
+        }
+    }
+
+    /**
+     * Get cached result if the file hasn't changed since it was analysed.
+     *
+     * @param file VirtualFile
+     *
+     * @return FileAnalysisData
+     */
+    public @Nullable FileAnalysisData get(final @NotNull VirtualFile file) {
+        final CachedResult result = loaded.get(file.getPath());
+
+        if (result == null || !result.isUpToDate(file)) {
+            return null;
+        }
+        results.put(file.getPath(), result);
+        reusedCount.incrementAndGet();
+
+        return result.data;
+    }
+
+    /**
+     * Store analysis result of the file.
+     *
+     * @param file VirtualFile
+     * @param timeStamp long file timestamp taken before the analysis
+     * @param length long file length taken before the analysis
+     * @param data FileAnalysisData
+     */
+    public void put(
+            final @NotNull VirtualFile file,
+            final long timeStamp,
+            final long length,
+            final @NotNull FileAnalysisData data
+    ) {
+        if (FileDocumentManager.getInstance().isFileModified(file)) {
+            // Unsaved document content doesn't match the file stamp.
+            return;
+        }
+        results.put(file.getPath(), new CachedResult(timeStamp, length, data));
+    }
+
+    /**
+     * Get count of files whose results were reused during the run.
+     *
+     * @return int
+     */
+    public int getReusedCount() {
+        return reusedCount.get();
+    }
+
+    /**
+     * Write results of the run to the storage.
+     *
+     * @throws IOException if the storage couldn't be written
+     */
+    public void save() throws IOException {
+        Files.createDirectories(cacheFile.getParent());
+        final Path temporaryFile = cacheFile.resolveSibling(CACHE_FILENAME + ".tmp");
+
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporaryFile))
+        )) {
+            output.writeInt(FORMAT_VERSION);
+            output.writeUTF(configurationKey);
+            output.writeInt(results.size());
+
+            for (final CachedResult result : results.values()) {
+                writeResult(output, result);
+            }
+        }
+        Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Build key of the plugin build, bundled indexes and settings that affect the analysis
+     * results.
+     *
+     * @param settings UctSettingsService
+     *
+     * @return String
+     */
+    private static String buildConfigurationKey(final @NotNull UctSettingsService settings) {
+        final SupportedVersion currentVersion = settings.getCurrentVersion();
+        final SupportedVersion targetVersion = settings.getTargetVersion();
+        final IssueSeverityLevel minIssueLevel = settings.getMinIssueLevel();
+
+        final IdeaPluginDescriptor plugin = PluginManagerCore.getPlugin(PluginId.getId(PLUGIN_ID));
+
+        return String.join(
+                ";",
+                plugin == null ? "" : plugin.getVersion(),
+                String.valueOf(MappedIndexData.FORMAT_VERSION),
+                currentVersion == null ? "" : currentVersion.getVersion(),
+                targetVersion == null ? "" : targetVersion.getVersion(),
+                minIssueLevel == null ? "" : minIssueLevel.name(),
+                String.valueOf(settings.shouldIgnoreCurrentVersion())
+        );
+    }
+
+    /**
+     * Read cached file result.
+     *
+     * @param input DataInputStream
+     *
+     * @return CachedResult
+     *
+     * @throws IOException if the storage is broken
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static @Nullable CachedResult readResult(final @NotNull DataInputStream input)
+            throws IOException {
+        final String filename = input.readUTF();
+        final long timeStamp = input.readLong();
+        final long length = input.readLong();
+        final boolean hasProblems = input.readBoolean();
+        final int issuesCount = input.readInt();
+        final List<IssueData> issues = new ArrayList<>(issuesCount);
+        boolean isSupported = true;
+
+        for (int issueIndex = 0; issueIndex < issuesCount; issueIndex++) {
+            final int line = input.readInt();
+            final SupportedIssue issue = SupportedIssue.getByCode(input.readInt());
+            final String message = input.readUTF();
+
+            if (issue == null) {
+                isSupported = false;
+                continue;
+            }
+            issues.add(new IssueData(line, message, issue));
+        }
+
+        if (!isSupported) {
+            return null;
+        }
+
+        return new CachedResult(
+                timeStamp,
+                length,
+                new FileAnalysisData(filename, hasProblems, issues)
+        );
+    }
+
+    /**
+     * Write cached file result.
+     *
+     * @param output DataOutputStream
+     * @param result CachedResult
+     *
+     * @throws IOException if the storage couldn't be written
+     */
+    private static void writeResult(
+            final @NotNull DataOutputStream output,
+            final @NotNull CachedResult result
+    ) throws IOException {
+        final List<IssueData> issues = result.data.getIssues();
+        output.writeUTF(result.data.getFilename());
+        output.writeLong(result.timeStamp);
+        output.writeLong(result.length);
+        output.writeBoolean(result.data.hasProblems());
+        output.writeInt(issues.size());
+
+        for (final IssueData issue : issues) {
+            output.writeInt(issue.getLine());
+            output.writeInt(issue.getIssue().getCode());
+            output.writeUTF(issue.getMessage());
+        }
+    }
+
+    private static final class CachedResult {
+
+        private final long timeStamp;
+        private final long length;
+        private final FileAnalysisData data;
+
+        private CachedResult(
+                final long timeStamp,
+                final long length,
+                final @NotNull FileAnalysisData data
+        ) {
+            this.timeStamp = timeStamp;
+            this.length = length;
+            this.data = data;
+        }
+
+        private boolean isUpToDate(final @NotNull VirtualFile file) {
+            return file.getTimeStamp() == timeStamp
+                    && file.getLength() == length
+                    && !FileDocumentManager.getInstance().isFileModified(file);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.analysis.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+public class FileAnalysisData {
+
+    private final String filename;
+    private final boolean hasProblems;
+    private final List<IssueData> issues;
+
+    /**
+     * Analysed file DTO constructor.
+     *
+     * @param filename String
+     * @param hasProblems boolean
+     * @param issues List[IssueData]
+     */
+    public FileAnalysisData(
+            final @NotNull String filename,
+            final boolean hasProblems,
+            final @NotNull List<IssueData> issues
+    ) {
+        this.filename = filename;
+        this.hasProblems = hasProblems;
+        this.issues = new ArrayList<>(issues);
+    }
+
+    /**
+     * Get analysed file path.
+     *
+     * @return String
+     */
+    public String getFilename() {
+        return filename;
+    }
+
+    /**
+     * Check if any problem was registered for the file.
+     *
+     * @return boolean
+     */
+    public boolean hasProblems() {
+        return hasProblems;
+    }
+
+    /**
+     * Get found issues sorted by line.
+     *
+     * @return List[IssueData]
+     */
+    public List<IssueData> getIssues() {
+        return new ArrayList<>(issues);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.analysis.data;
+
+import com.magento.idea.magento2uct.packages.SupportedIssue;
+import org.jetbrains.annotations.NotNull;
+
+public class IssueData {
+
+    private final int line;
+    private final String message;
+    private final SupportedIssue issue;
+
+    /**
+     * Found issue DTO constructor.
+     *
+     * @param line int
+     * @param message String
+     * @param issue SupportedIssue
+     */
+    public IssueData(
+            final int line,
+            final @NotNull String message,
+            final @NotNull SupportedIssue issue
+    ) {
+        this.line = line;
+        this.message = message;
+        this.issue = issue;
+    }
+
+    /**
+     * Get line number (starts from 1).
+     *
+     * @return int
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * Get issue message.
+     *
+     * @return String
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Get issue.
+     *
+     * @return SupportedIssue
+     */
+    public SupportedIssue getIssue() {
+        return issue;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.analysis.data;
+
+import com.magento.idea.magento2uct.execution.scanner.data.ComponentData;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+public class ModuleAnalysisData {
+
+    private final ComponentData componentData;
+    private final List<FileAnalysisData> files;
+
+    /**
+     * Analysed module DTO constructor.
+     *
+     * @param componentData ComponentData
+     */
+    public ModuleAnalysisData(final @NotNull ComponentData componentData) {
+        this.componentData = componentData;
+        files = new ArrayList<>();
+    }
+
+    /**
+     * Add analysed file in the scanning order.
+     *
+     * @param fileData FileAnalysisData
+     */
+    public void addFile(final @NotNull FileAnalysisData fileData) {
+        files.add(fileData);
+    }
+
+    /**
+     * Get analysed component.
+     *
+     * @return ComponentData
+     */
+    public ComponentData getComponentData() {
+        return componentData;
+    }
+
+    /**
+     * Get analysed files in the scanning order.
+     *
+     * @return List[FileAnalysisData]
+     */
+    public List<FileAnalysisData> getFiles() {
+        return new ArrayList<>(files);
+    }
+}
@@ -75,11 +75,26 @@ public class UctReportOutputUtil {
         }
         final String errorMessage = descriptor.getDescriptionTemplate().substring(6).trim();
 
+        printIssue(descriptor.getLineNumber() + 1, errorMessage, issue);
+    }
+
+    /**
+     * Print issue message.
+     *
+     * @param line int
+     * @param message String
+     * @param issue SupportedIssue
+     */
+    public void printIssue(
+            final int line,
+            final @NotNull String message,
+            final @NotNull SupportedIssue issue
+    ) {
         final String output = ISSUE_FORMAT
                 .replace("{SEVERITY}", issue.getLevel().getFormattedLabel())
-                .replace("{code}", Integer.toString(code))
-                .replace("{line}", Integer.toString(descriptor.getLineNumber() + 1))
-                .replace("{message}", errorMessage)
+                .replace("{code}", Integer.toString(issue.getCode()))
+                .replace("{line}", Integer.toString(line))
+                .replace("{message}", message)
                 .concat("\n");
 
         stdout.print(output);
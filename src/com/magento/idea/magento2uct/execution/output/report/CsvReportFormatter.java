@@ -0,0 +1,55 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.output.report;
+
+import com.magento.idea.magento2uct.execution.analysis.data.IssueData;
+import com.magento.idea.magento2uct.execution.output.Summary;
+import java.io.IOException;
+import java.io.Writer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Report in the CSV format, one issue per row. Summary isn't a part of the table.
+ */
+public class CsvReportFormatter implements ReportFormatter {
+
+    private static final String HEADER = "fileName,lineNumber,level,code,message\n";
+    private static final String QUOTE = "\"";
+
+    @Override
+    public void writeHeader(final @NotNull Writer writer) throws IOException {
+        writer.write(HEADER);
+    }
+
+    @Override
+    public void writeIssue(
+            final @NotNull Writer writer,
+            final @NotNull String filename,
+            final @NotNull IssueData issue
+    ) throws IOException {
+        writer.write(quote(filename) + ","
+                + issue.getLine() + ","
+                + issue.getIssue().getLevel().getLabel() + ","
+                + issue.getIssue().getCode() + ","
+                + quote(issue.getMessage()) + "\n");
+    }
+
+    @Override
+    public void writeFooter(final @NotNull Writer writer, final @NotNull Summary summary) {
+        // Nothing to close in the CSV table.
+    }
+
+    /**
+     * Quote CSV field.
+     *
+     * @param value String
+     *
+     * @return String
+     */
+    private static String quote(final @NotNull String value) {
+        return QUOTE + value.replace(QUOTE, QUOTE + QUOTE) + QUOTE;
+    }
+}
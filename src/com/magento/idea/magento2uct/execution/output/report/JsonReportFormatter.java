@@ -0,0 +1,64 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.output.report;
+
+import com.magento.idea.magento2uct.execution.analysis.data.IssueData;
+import com.magento.idea.magento2uct.execution.output.Summary;
+import java.io.IOException;
+import java.io.Writer;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+/**
+ * Report in the layout of the UCT JSON report: issues list followed by the stats object.
+ */
+public class JsonReportFormatter implements ReportFormatter {
+
+    private static final String VALIDATION_TYPE = "php";
+
+    private boolean hasIssues;
+
+    @Override
+    public void writeHeader(final @NotNull Writer writer) throws IOException {
+        writer.write("{\n  \"issues\": [");
+    }
+
+    @Override
+    public void writeIssue(
+            final @NotNull Writer writer,
+            final @NotNull String filename,
+            final @NotNull IssueData issue
+    ) throws IOException {
+        writer.write(hasIssues ? ",\n    {" : "\n    {");
+        writer.write("\"lineNumber\": " + issue.getLine() + ", ");
+        writer.write("\"level\": \"" + issue.getIssue().getLevel().getLabel() + "\", ");
+        writer.write("\"message\": \"" + JSONObject.escape(issue.getMessage()) + "\", ");
+        writer.write("\"code\": \"" + issue.getIssue().getCode() + "\", ");
+        writer.write("\"fileName\": \"" + JSONObject.escape(filename) + "\", ");
+        writer.write("\"validationType\": \"" + VALIDATION_TYPE + "\"}");
+        hasIssues = true;
+    }
+
+    @Override
+    public void writeFooter(
+            final @NotNull Writer writer,
+            final @NotNull Summary summary
+    ) throws IOException {
+        writer.write("\n  ],\n  \"stats\": {\n");
+        writer.write("    \"installedVersion\": \""
+                + JSONObject.escape(summary.getInstalledVersion()) + "\",\n");
+        writer.write("    \"AdobeCommerceVersion\": \""
+                + JSONObject.escape(summary.getTargetVersion()) + "\",\n");
+        writer.write("    \"checkedModules\": " + summary.getProcessedModules() + ",\n");
+        writer.write("    \"checkedThemes\": " + summary.getProcessedThemes() + ",\n");
+        writer.write("    \"runningTime\": \"" + summary.getProcessRunningTime() + "\",\n");
+        writer.write("    \"totalWarnings\": " + summary.getPhpWarnings() + ",\n");
+        writer.write("    \"totalErrors\": " + summary.getPhpErrors() + ",\n");
+        writer.write("    \"totalCriticalErrors\": " + summary.getPhpCriticalErrors() + ",\n");
+        writer.write("    \"complexityScore\": " + summary.getComplexityScore() + "\n");
+        writer.write("  }\n}\n");
+    }
+}
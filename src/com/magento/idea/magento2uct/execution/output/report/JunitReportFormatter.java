@@ -0,0 +1,88 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.output.report;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.magento.idea.magento2uct.execution.analysis.data.IssueData;
+import com.magento.idea.magento2uct.execution.output.Summary;
+import java.io.IOException;
+import java.io.Writer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Report in the JUnit XML format: every issue is a failed test case of its file.
+ *
+ * <p>Totals aren't known until the analysis is finished, so they are written
+ * to the system-out element of the test suite.</p>
+ */
+public class JunitReportFormatter implements ReportFormatter {
+
+    private static final String SUITE_NAME = "Upgrade Compatibility Tool";
+
+    @Override
+    public void writeHeader(final @NotNull Writer writer) throws IOException {
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<testsuites>\n  <testsuite name=\"" + SUITE_NAME + "\">\n");
+    }
+
+    @Override
+    public void writeIssue(
+            final @NotNull Writer writer,
+            final @NotNull String filename,
+            final @NotNull IssueData issue
+    ) throws IOException {
+        writer.write("    <testcase classname=\"" + escapeAttribute(filename)
+                + "\" name=\"line " + issue.getLine() + ": " + issue.getIssue().getCode() + "\">");
+        writer.write("<failure type=\"" + issue.getIssue().getLevel().getLabel()
+                + "\" message=\"" + escapeAttribute(issue.getMessage()) + "\">"
+                + escape(issue.getMessage()) + "</failure>");
+        writer.write("</testcase>\n");
+    }
+
+    @Override
+    public void writeFooter(
+            final @NotNull Writer writer,
+            final @NotNull Summary summary
+    ) throws IOException {
+        writer.write("    <system-out>");
+        writer.write(escape("Installed version: " + summary.getInstalledVersion()
+                + "; Target version: " + summary.getTargetVersion()
+                + "; Checked modules: " + summary.getProcessedModules()
+                + "; Checked themes: " + summary.getProcessedThemes()
+                + "; Running time: " + summary.getProcessRunningTime()
+                + "; Warnings: " + summary.getPhpWarnings()
+                + "; Errors: " + summary.getPhpErrors()
+                + "; Critical errors: " + summary.getPhpCriticalErrors()
+                + "; Complexity score: " + summary.getComplexityScore()));
+        writer.write("</system-out>\n  </testsuite>\n</testsuites>\n");
+    }
+
+    /**
+     * Escape text for XML attribute or element value.
+     *
+     * @param text String
+     *
+     * @return String
+     */
+    private static String escape(final @NotNull String text) {
+        return StringUtil.escapeXmlEntities(text);
+    }
+
+    /**
+     * Escape text for XML attribute, line breaks and tabs are kept as character references,
+     * otherwise they are normalized to spaces by XML parsers.
+     *
+     * @param text String
+     *
+     * @return String
+     */
+    private static String escapeAttribute(final @NotNull String text) {
+        return escape(text)
+                .replace("\n", "&#10;")
+                .replace("\r", "&#13;")
+                .replace("\t", "&#9;");
+    }
+}
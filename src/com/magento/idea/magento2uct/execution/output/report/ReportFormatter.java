@@ -0,0 +1,54 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.output.report;
+
+import com.magento.idea.magento2uct.execution.analysis.data.IssueData;
+import com.magento.idea.magento2uct.execution.output.Summary;
+import java.io.IOException;
+import java.io.Writer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Writes UCT report of the specific format piece by piece, as issues are found.
+ *
+ * <p>Formatter instance is created for a single report and may keep the state between calls.</p>
+ */
+public interface ReportFormatter {
+
+    /**
+     * Write report beginning. It is written before the first issue.
+     *
+     * @param writer Writer
+     *
+     * @throws IOException if report couldn't be written
+     */
+    void writeHeader(@NotNull Writer writer) throws IOException;
+
+    /**
+     * Write issue.
+     *
+     * @param writer Writer
+     * @param filename String
+     * @param issue IssueData
+     *
+     * @throws IOException if report couldn't be written
+     */
+    void writeIssue(
+            @NotNull Writer writer,
+            @NotNull String filename,
+            @NotNull IssueData issue
+    ) throws IOException;
+
+    /**
+     * Write report ending. It is written after the last issue.
+     *
+     * @param writer Writer
+     * @param summary Summary
+     *
+     * @throws IOException if report couldn't be written
+     */
+    void writeFooter(@NotNull Writer writer, @NotNull Summary summary) throws IOException;
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.output.report;
+
+import com.magento.idea.magento2uct.execution.analysis.data.IssueData;
+import com.magento.idea.magento2uct.execution.output.Summary;
+import com.magento.idea.magento2uct.packages.IssueSeverityLevel;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Paths;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+/**
+ * Report in the SARIF 2.1.0 format, summary is stored in the run properties.
+ */
+public class SarifReportFormatter implements ReportFormatter {
+
+    private static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+    private static final String VERSION = "2.1.0";
+    private static final String TOOL_NAME = "Upgrade Compatibility Tool";
+
+    private boolean hasIssues;
+
+    @Override
+    public void writeHeader(final @NotNull Writer writer) throws IOException {
+        writer.write("{\n  \"$schema\": \"" + SCHEMA + "\",\n");
+        writer.write("  \"version\": \"" + VERSION + "\",\n");
+        writer.write("  \"runs\": [{\n");
+        writer.write("    \"tool\": {\"driver\": {\"name\": \"" + TOOL_NAME + "\"}},\n");
+        writer.write("    \"results\": [");
+    }
+
+    @Override
+    public void writeIssue(
+            final @NotNull Writer writer,
+            final @NotNull String filename,
+            final @NotNull IssueData issue
+    ) throws IOException {
+        writer.write(hasIssues ? ",\n      {" : "\n      {");
+        writer.write("\"ruleId\": \"" + issue.getIssue().getCode() + "\", ");
+        writer.write("\"level\": \"" + toSarifLevel(issue.getIssue().getLevel()) + "\", ");
+        writer.write("\"message\": {\"text\": \""
+                + JSONObject.escape(issue.getMessage()) + "\"}, ");
+        writer.write("\"locations\": [{\"physicalLocation\": {");
+        writer.write("\"artifactLocation\": {\"uri\": \""
+                + JSONObject.escape(Paths.get(filename).toUri().toString()) + "\"}, ");
+        writer.write("\"region\": {\"startLine\": " + Math.max(1, issue.getLine()) + "}}}]}");
+        hasIssues = true;
+    }
+
+    @Override
+    public void writeFooter(
+            final @NotNull Writer writer,
+            final @NotNull Summary summary
+    ) throws IOException {
+        writer.write("\n    ],\n    \"properties\": {\n");
+        writer.write("      \"installedVersion\": \""
+                + JSONObject.escape(summary.getInstalledVersion()) + "\",\n");
+        writer.write("      \"AdobeCommerceVersion\": \""
+                + JSONObject.escape(summary.getTargetVersion()) + "\",\n");
+        writer.write("      \"checkedModules\": " + summary.getProcessedModules() + ",\n");
+        writer.write("      \"checkedThemes\": " + summary.getProcessedThemes() + ",\n");
+        writer.write("      \"runningTime\": \"" + summary.getProcessRunningTime() + "\",\n");
+        writer.write("      \"complexityScore\": " + summary.getComplexityScore() + "\n");
+        writer.write("    }\n  }]\n}\n");
+    }
+
+    /**
+     * Convert issue severity level to the SARIF result level.
+     *
+     * @param level IssueSeverityLevel
+     *
+     * @return String
+     */
+    private static String toSarifLevel(final @NotNull IssueSeverityLevel level) {
+        return level == IssueSeverityLevel.WARNING ? "warning" : "error";
+    }
+}
@@ -14,6 +14,7 @@ import com.magento.idea.magento2uct.execution.ReindexUctCommand;
 import com.magento.idea.magento2uct.packages.IndexRegistry;
 import com.magento.idea.magento2uct.packages.SupportedVersion;
 import java.io.OutputStream;
+import java.util.Collection;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,13 +29,13 @@ public class ReindexHandler extends ProcessHandler {
      * @param project Project
      * @param directory PsiDirectory
      * @param version SupportedVersion
-     * @param index IndexRegistry
+     * @param indexes Collection[IndexRegistry]
      */
     public ReindexHandler(
             final @NotNull Project project,
             final @NotNull PsiDirectory directory,
             final @NotNull SupportedVersion version,
-            final @NotNull IndexRegistry index
+            final @NotNull Collection<IndexRegistry> indexes
     ) {
         super();
         this.project = project;
@@ -43,7 +44,7 @@ public class ReindexHandler extends ProcessHandler {
                 new ProcessAdapter() {
                     @Override
                     public void startNotified(final @NotNull ProcessEvent event) {
-                        ReindexHandler.this.execute(version, index);
+                        ReindexHandler.this.execute(version, indexes);
                     }
                 }
         );
@@ -53,11 +54,11 @@ public class ReindexHandler extends ProcessHandler {
      * Run indexing process.
      *
      * @param version SupportedVersion
-     * @param index IndexRegistry
+     * @param indexes Collection[IndexRegistry]
      */
     public void execute(
             final @NotNull SupportedVersion version,
-            final @NotNull IndexRegistry index
+            final @NotNull Collection<IndexRegistry> indexes
     ) {
         final ReindexUctCommand command = new ReindexUctCommand(
                 project,
@@ -65,7 +66,7 @@ public class ReindexHandler extends ProcessHandler {
                 new OutputWrapper(this),
                 this
         );
-        command.execute(version, index);
+        command.execute(version, indexes);
     }
 
     @Override
@@ -0,0 +1,188 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.reindex;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.magento.idea.magento2uct.execution.scanner.ModuleFilesScanner;
+import com.magento.idea.magento2uct.execution.scanner.data.ComponentData;
+import com.magento.idea.magento2uct.versioning.processors.IndexProcessor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Feeds module files to the UCT index processors on a bounded worker pool.
+ *
+ * <p>Every file is parsed once and passed to all processors in the same non-blocking
+ * read action, so several indexes are collected in a single pass. Processors must
+ * accumulate data in a thread safe way.</p>
+ */
+public class UctReindexEngine {
+
+    private static final String EXECUTOR_NAME = "Magento UCT Reindex";
+
+    private final Project project;
+    private final int threadsCount;
+    private final BooleanSupplier isCancelled;
+
+    /**
+     * UCT reindex engine constructor.
+     *
+     * @param project Project
+     * @param threadsCount int
+     * @param isCancelled BooleanSupplier
+     */
+    public UctReindexEngine(
+            final @NotNull Project project,
+            final int threadsCount,
+            final @NotNull BooleanSupplier isCancelled
+    ) {
+        this.project = project;
+        this.threadsCount = Math.max(1, threadsCount);
+        this.isCancelled = isCancelled;
+    }
+
+    /**
+     * Process files of all components.
+     *
+     * <p>The consumer is notified about processed components in the components order.
+     * Processing is stopped on the first failure of any module, the failure is passed
+     * to the error consumer.</p>
+     *
+     * @param components Iterable[ComponentData]
+     * @param processors Collection[IndexProcessor]
+     * @param consumer Consumer[ComponentData]
+     * @param errorConsumer Consumer[Throwable]
+     *
+     * @return boolean true if all components were processed
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public boolean run(
+            final @NotNull Iterable<ComponentData> components,
+            final @NotNull Collection<IndexProcessor> processors,
+            final @NotNull Consumer<ComponentData> consumer,
+            final @NotNull Consumer<Throwable> errorConsumer
+    ) {
+        final ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor(
+                EXECUTOR_NAME,
+                threadsCount
+        );
+        final List<IndexProcessor> indexProcessors = new ArrayList<>(processors);
+        final Iterator<ComponentData> componentsIterator = components.iterator();
+        final Deque<Future<ComponentData>> results = new ArrayDeque<>();
+
+        try {
+            while (!isCancelled.getAsBoolean()) {
+                final ComponentData componentData = ReadAction.compute(
+                        () -> componentsIterator.hasNext() ? componentsIterator.next() : null
+                );
+
+                if (componentData == null) {
+                    break;
+                }
+                results.add(executor.submit(() -> processModule(componentData, indexProcessors)));
+
+                while (!results.isEmpty() && results.peek().isDone()) {
+                    consumer.accept(results.poll().get());
+                }
+            }
+
+            while (!results.isEmpty()) {
+                if (isCancelled.getAsBoolean()) {
+                    return false;
+                }
+                consumer.accept(results.poll().get());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        } catch (ExecutionException exception) {
+            if (!(exception.getCause() instanceof ProcessCanceledException)) {
+                errorConsumer.accept(exception.getCause());
+            }
+
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return !isCancelled.getAsBoolean();
+    }
+
+    /**
+     * Pass all files of the component to the processors.
+     *
+     * @param componentData ComponentData
+     * @param processors List[IndexProcessor]
+     *
+     * @return ComponentData
+     */
+    private ComponentData processModule(
+            final @NotNull ComponentData componentData,
+            final @NotNull List<IndexProcessor> processors
+    ) {
+        final Iterator<VirtualFile> filesIterator = ReadAction.compute(
+                () -> new ModuleFilesScanner(componentData).iterator()
+        );
+
+        while (!isCancelled.getAsBoolean()) {
+            final VirtualFile file = ReadAction.compute(
+                    () -> filesIterator.hasNext() ? filesIterator.next() : null
+            );
+
+            if (file == null) {
+                break;
+            }
+            ReadAction
+                    .nonBlocking(() -> processFile(file, processors))
+                    .inSmartMode(project)
+                    .expireWhen(isCancelled)
+                    .executeSynchronously();
+        }
+
+        return componentData;
+    }
+
+    /**
+     * Pass file to the processors.
+     *
+     * @param file VirtualFile
+     * @param processors List[IndexProcessor]
+     */
+    private void processFile(
+            final @NotNull VirtualFile file,
+            final @NotNull List<IndexProcessor> processors
+    ) {
+        if (!file.isValid()) {
+            return;
+        }
+        final PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+
+        if (psiFile == null) {
+            return;
+        }
+
+        for (final IndexProcessor processor : processors) {
+            processor.process(psiFile);
+        }
+    }
+}
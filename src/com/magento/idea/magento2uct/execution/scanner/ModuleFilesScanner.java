@@ -5,19 +5,30 @@
 
 package com.magento.idea.magento2uct.execution.scanner;
 
-import com.intellij.psi.PsiDirectory;
-import com.intellij.psi.PsiFile;
+import com.intellij.lang.Language;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.fileTypes.FileTypeManager;
+import com.intellij.openapi.fileTypes.LanguageFileType;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.magento.idea.magento2uct.execution.scanner.data.ComponentData;
 import com.magento.idea.magento2uct.packages.SupportedIssue;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import org.jetbrains.annotations.NotNull;
 
-public class ModuleFilesScanner implements Iterable<PsiFile> {
+/**
+ * Lazily walks module directory and yields files supported by the UCT analysis.
+ *
+ * <p>Files are filtered by their file type on the VFS level, so PSI is not created
+ * during discovery.</p>
+ */
+public class ModuleFilesScanner implements Iterable<VirtualFile> {
 
     private final ComponentData componentData;
-    private final List<PsiFile> files;
 
     /**
      * Module files scanner constructor.
@@ -26,43 +37,91 @@ public class ModuleFilesScanner implements Iterable<PsiFile> {
      */
     public ModuleFilesScanner(final @NotNull ComponentData componentData) {
         this.componentData = componentData;
-        files = new ArrayList<>();
     }
 
     @Override
-    public @NotNull Iterator<PsiFile> iterator() {
-        return run().iterator();
+    public @NotNull Iterator<VirtualFile> iterator() {
+        return new FilesIterator(componentData.getDirectory().getVirtualFile());
     }
 
     /**
-     * Collect module files.
+     * Check if file is supported by the UCT analysis.
+     *
+     * @param file VirtualFile
      *
-     * @return List[PsiFile]
+     * @return boolean
      */
-    private List<PsiFile> run() {
-        files.clear();
-        collectFilesInDirectoryRecursively(componentData.getDirectory());
+    public static boolean isSupported(final @NotNull VirtualFile file) {
+        final FileType fileType = FileTypeManager.getInstance()
+                .getFileTypeByFileName(file.getNameSequence());
+
+        if (!(fileType instanceof LanguageFileType)) {
+            return false;
+        }
+        final Language language = ((LanguageFileType) fileType).getLanguage();
 
-        return files;
+        return SupportedIssue.getSupportedLanguages().stream().anyMatch(language::isKindOf);
     }
 
-    /**
-     * Collect all files in directory recursively.
-     *
-     * @param directory PsiDirectory
-     */
-    private void collectFilesInDirectoryRecursively(final @NotNull PsiDirectory directory) {
-        for (final PsiFile file : directory.getFiles()) {
-            if (SupportedIssue.getSupportedFileTypes().stream().noneMatch(
-                    clazz -> clazz.isInstance(file))
-            ) {
-                continue;
+    private static final class FilesIterator implements Iterator<VirtualFile> {
+
+        private final Deque<VirtualFile> directories = new ArrayDeque<>();
+        private final Deque<VirtualFile> files = new ArrayDeque<>();
+        private final FileTypeManager fileTypeManager = FileTypeManager.getInstance();
+
+        /**
+         * Files iterator constructor.
+         *
+         * @param rootDirectory VirtualFile
+         */
+        private FilesIterator(final @NotNull VirtualFile rootDirectory) {
+            directories.push(rootDirectory);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (files.isEmpty() && !directories.isEmpty()) {
+                collectDirectory(directories.pop());
             }
-            files.add(file);
+
+            return !files.isEmpty();
+        }
+
+        @Override
+        public VirtualFile next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return files.poll();
         }
 
-        for (final PsiDirectory subDirectory : directory.getSubdirectories()) {
-            collectFilesInDirectoryRecursively(subDirectory);
+        /**
+         * Queue supported files of directory, then its subdirectories in the original order.
+         *
+         * @param directory VirtualFile
+         */
+        private void collectDirectory(final @NotNull VirtualFile directory) {
+            if (!directory.isValid()) {
+                return;
+            }
+            final List<VirtualFile> subdirectories = new ArrayList<>();
+
+            for (final VirtualFile child : directory.getChildren()) {
+                if (fileTypeManager.isFileIgnored(child)) {
+                    continue;
+                }
+
+                if (child.isDirectory()) {
+                    subdirectories.add(child);
+                } else if (isSupported(child)) {
+                    files.add(child);
+                }
+            }
+
+            for (int i = subdirectories.size() - 1; i >= 0; i--) {
+                directories.push(subdirectories.get(i));
+            }
         }
     }
 }
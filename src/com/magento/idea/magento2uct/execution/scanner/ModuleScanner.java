@@ -9,10 +9,13 @@ import com.intellij.json.psi.JsonFile;
 import com.intellij.json.psi.JsonObject;
 import com.intellij.json.psi.JsonProperty;
 import com.intellij.json.psi.JsonValue;
+import com.intellij.openapi.fileTypes.FileTypeManager;
 import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.jetbrains.php.lang.psi.PhpFile;
 import com.jetbrains.php.lang.psi.elements.ClassConstantReference;
@@ -24,16 +27,19 @@ import com.magento.idea.magento2plugin.magento.files.RegistrationPhp;
 import com.magento.idea.magento2plugin.magento.packages.ComponentType;
 import com.magento.idea.magento2uct.execution.scanner.data.ComponentData;
 import com.magento.idea.magento2uct.execution.scanner.filter.ModuleScannerFilter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public final class ModuleScanner implements Iterable<ComponentData> {
 
     private final List<PsiDirectory> rootDirectories;
-    private final List<ComponentData> componentDataList;
     private final List<ModuleScannerFilter> filters;
     private int modulesQty;
     private int themesQty;
@@ -65,14 +71,16 @@ public final class ModuleScanner implements Iterable<ComponentData> {
     ) {
         this.rootDirectories = new ArrayList<>(directories);
         this.filters = Arrays.asList(filters);
-        componentDataList = new ArrayList<>();
         modulesQty = 0;
         themesQty = 0;
     }
 
     @Override
     public @NotNull Iterator<ComponentData> iterator() {
-        return run().iterator();
+        modulesQty = 0;
+        themesQty = 0;
+
+        return new ComponentsIterator();
     }
 
     /**
@@ -94,24 +102,13 @@ public final class ModuleScanner implements Iterable<ComponentData> {
     }
 
     /**
-     * Run scanner.
+     * Look up magento 2 module component in the directory.
      *
-     * @return List[ComponentData]
-     */
-    private List<ComponentData> run() {
-        componentDataList.clear();
-
-        for (final PsiDirectory rootDirectory : rootDirectories) {
-            findModuleComponent(rootDirectory);
-        }
-
-        return componentDataList;
-    }
-
-    /**
-     * Look up magento 2 module components.
+     * @param directory VirtualFile
+     * @param psiManager PsiManager
+     * @param subdirectories Deque[VirtualFile] to push subdirectories that should be scanned
      *
-     * @param directory PsiDirectory
+     * @return ComponentData or null if directory is not a component or component is excluded
      */
     @SuppressWarnings({
             "PMD.NPathComplexity",
@@ -119,12 +116,19 @@ public final class ModuleScanner implements Iterable<ComponentData> {
             "PMD.CognitiveComplexity",
             "PMD.AvoidDeeplyNestedIfStmts"
     })
-    private void findModuleComponent(final @NotNull PsiDirectory directory) {
+    private @Nullable ComponentData findModuleComponent(
+            final @NotNull VirtualFile directory,
+            final @NotNull PsiManager psiManager,
+            final @NotNull Deque<VirtualFile> subdirectories
+    ) {
         String name = null;
         String composerBasedName = null;
         ComponentType type = null;
 
-        final PsiFile registration = directory.findFile(RegistrationPhp.FILE_NAME);
+        final VirtualFile registrationFile = directory.findChild(RegistrationPhp.FILE_NAME);
+        final PsiFile registration = registrationFile == null
+                ? null
+                : psiManager.findFile(registrationFile);
 
         if (registration instanceof PhpFile) {
             final Pair<String, ComponentType> registrationMeta = scanRegistrationMeta(
@@ -135,9 +139,10 @@ public final class ModuleScanner implements Iterable<ComponentData> {
                 name = registrationMeta.getFirst();
                 type = registrationMeta.getSecond();
             }
+            final PsiDirectory psiDirectory = psiManager.findDirectory(directory);
 
-            if (name != null) {
-                final PsiFile composerFile = directory.findFile(ComposerJson.FILE_NAME);
+            if (name != null && psiDirectory != null) {
+                final PsiFile composerFile = psiDirectory.findFile(ComposerJson.FILE_NAME);
 
                 if (composerFile instanceof JsonFile) {
                     composerBasedName = getComposerComponentName((JsonFile) composerFile);
@@ -146,32 +151,37 @@ public final class ModuleScanner implements Iterable<ComponentData> {
                         name,
                         composerBasedName,
                         type,
-                        directory
+                        psiDirectory
                 );
-                boolean isExcluded = false;
 
                 for (final ModuleScannerFilter filter : filters) {
                     if (filter.isExcluded(component)) {
-                        isExcluded = true;
-                        break;
+                        return null;
                     }
                 }
 
-                if (!isExcluded) {
-                    if (component.getType().equals(ComponentType.theme)) {
-                        themesQty++;
-                    } else {
-                        modulesQty++;
-                    }
-                    componentDataList.add(component);
+                if (component.getType().equals(ComponentType.theme)) {
+                    themesQty++;
+                } else {
+                    modulesQty++;
                 }
-                return;
+
+                return component;
             }
         }
+        final List<VirtualFile> children = new ArrayList<>();
 
-        for (final PsiDirectory subDirectory : directory.getSubdirectories()) {
-            findModuleComponent(subDirectory);
+        for (final VirtualFile child : directory.getChildren()) {
+            if (child.isDirectory() && !FileTypeManager.getInstance().isFileIgnored(child)) {
+                children.add(child);
+            }
         }
+
+        for (int i = children.size() - 1; i >= 0; i--) {
+            subdirectories.push(children.get(i));
+        }
+
+        return null;
     }
 
     /**
@@ -252,4 +262,52 @@ public final class ModuleScanner implements Iterable<ComponentData> {
 
         return null;
     }
+
+    /**
+     * Yields components as soon as they are found.
+     * Must be iterated under the read action.
+     */
+    private final class ComponentsIterator implements Iterator<ComponentData> {
+
+        private final Deque<VirtualFile> directories = new ArrayDeque<>();
+        private PsiManager psiManager;
+        private ComponentData nextComponent;
+
+        /**
+         * Components iterator constructor.
+         */
+        private ComponentsIterator() {
+            if (!rootDirectories.isEmpty()) {
+                psiManager = rootDirectories.get(0).getManager();
+            }
+
+            for (int i = rootDirectories.size() - 1; i >= 0; i--) {
+                directories.push(rootDirectories.get(i).getVirtualFile());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (nextComponent == null && !directories.isEmpty()) {
+                final VirtualFile directory = directories.pop();
+
+                if (directory.isValid()) {
+                    nextComponent = findModuleComponent(directory, psiManager, directories);
+                }
+            }
+
+            return nextComponent != null;
+        }
+
+        @Override
+        public ComponentData next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final ComponentData component = nextComponent;
+            nextComponent = null;
+
+            return component;
+        }
+    }
 }
@@ -21,6 +21,8 @@ import org.jetbrains.annotations.NotNull;
 public class UctProblemsHolder extends ProblemsHolder {
 
     private final Map<ProblemDescriptor, SupportedIssue> myProblemCodes = new HashMap<>();
+    private final UctReferenceResolutionCache resolutionCache
+            = new UctReferenceResolutionCache();
     private SupportedIssue issue;
 
     /**
@@ -60,6 +62,15 @@ public class UctProblemsHolder extends ProblemsHolder {
         return myProblemCodes.get(problemDescriptor);
     }
 
+    /**
+     * Get references resolution cache shared by all UCT inspections of the file.
+     *
+     * @return UctReferenceResolutionCache
+     */
+    public @NotNull UctReferenceResolutionCache getResolutionCache() {
+        return resolutionCache;
+    }
+
     @Override
     public void registerProblem(final @NotNull ProblemDescriptor problemDescriptor) {
         if (issue == null) {
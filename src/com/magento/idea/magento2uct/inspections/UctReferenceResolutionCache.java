@@ -0,0 +1,133 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.inspections;
+
+import com.intellij.psi.PsiElement;
+import com.jetbrains.php.PhpIndex;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.jetbrains.php.lang.psi.elements.PhpReference;
+import com.magento.idea.magento2uct.util.php.MagentoTypeEscapeUtil;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Caches references resolution results for one UCT inspections run.
+ *
+ * <p>All UCT visitors of the file share the same instance (see UctProblemsHolder), so every
+ * reference is resolved only once, no matter how many inspections are interested in it.
+ * The cache lives in the single read action of the file analysis and isn't thread safe.</p>
+ */
+public class UctReferenceResolutionCache {
+
+    private final Map<PsiElement, ResolvedReference> references = new HashMap<>();
+    private int hits;
+    private int misses;
+
+    /**
+     * Resolve reference to its target element.
+     *
+     * @param reference PhpReference
+     *
+     * @return PsiElement
+     */
+    public @Nullable PsiElement resolve(final @NotNull PhpReference reference) {
+        final ResolvedReference resolvedReference = getResolvedReference(reference);
+
+        if (resolvedReference.isTargetResolved) {
+            hits++;
+        } else {
+            misses++;
+            resolvedReference.target = reference.resolve();
+            resolvedReference.isTargetResolved = true;
+        }
+
+        return resolvedReference.target;
+    }
+
+    /**
+     * Resolve reference to its type, Factory and Proxy types are resolved to the escaped type.
+     *
+     * @param reference PhpReference
+     *
+     * @return PsiElement
+     */
+    public @Nullable PsiElement resolveType(final @NotNull PhpReference reference) {
+        final ResolvedReference resolvedReference = getResolvedReference(reference);
+
+        if (resolvedReference.escapedFqn == null) {
+            return null;
+        }
+
+        if (!resolvedReference.isFactoryOrProxy) {
+            return resolve(reference);
+        }
+
+        if (resolvedReference.isTypeResolved) {
+            hits++;
+            return resolvedReference.type;
+        }
+        misses++;
+        final Collection<PhpClass> classes = PhpIndex.getInstance(reference.getProject())
+                .getAnyByFQN(resolvedReference.escapedFqn);
+        resolvedReference.type = classes.isEmpty() ? null : classes.iterator().next();
+        resolvedReference.isTypeResolved = true;
+
+        return resolvedReference.type;
+    }
+
+    /**
+     * Get count of resolutions served from the cache.
+     *
+     * @return int
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Get count of resolutions that were actually performed.
+     *
+     * @return int
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get or create cache entry for the reference.
+     *
+     * @param reference PhpReference
+     *
+     * @return ResolvedReference
+     */
+    private ResolvedReference getResolvedReference(final @NotNull PhpReference reference) {
+        return references.computeIfAbsent(reference, key -> {
+            final ResolvedReference resolvedReference = new ResolvedReference();
+            final String fqn = reference.getFQN();
+
+            if (fqn != null) {
+                resolvedReference.escapedFqn = MagentoTypeEscapeUtil.escape(fqn);
+                resolvedReference.isFactoryOrProxy = MagentoTypeEscapeUtil
+                        .FACTORY_PROXY_TYPE_PATTERN.matcher(fqn).find();
+            }
+
+            return resolvedReference;
+        });
+    }
+
+    private static final class ResolvedReference {
+
+        private PsiElement target;
+        private boolean isTargetResolved;
+        private PsiElement type;
+        private boolean isTypeResolved;
+        private String escapedFqn;
+        private boolean isFactoryOrProxy;
+    }
+}
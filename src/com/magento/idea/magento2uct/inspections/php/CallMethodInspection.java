@@ -15,6 +15,7 @@ import com.jetbrains.php.lang.psi.elements.MethodReference;
 import com.jetbrains.php.lang.psi.visitors.PhpElementVisitor;
 import com.magento.idea.magento2uct.packages.IssueSeverityLevel;
 import com.magento.idea.magento2uct.settings.UctSettingsService;
+import com.magento.idea.magento2uct.util.php.ReferenceResolverUtil;
 import org.jetbrains.annotations.NotNull;
 
 public abstract class CallMethodInspection extends PhpInspection {
@@ -35,7 +36,10 @@ public abstract class CallMethodInspection extends PhpInspection {
                         || !settings.isIssueLevelSatisfiable(getSeverityLevel())) {
                     return;
                 }
-                final PsiElement resolvedElement = reference.resolve();
+                final PsiElement resolvedElement = ReferenceResolverUtil.resolveTarget(
+                        problemsHolder,
+                        reference
+                );
 
                 if (!(resolvedElement instanceof Method)) {
                     return;
@@ -20,6 +20,7 @@ import com.jetbrains.php.lang.psi.visitors.PhpElementVisitor;
 import com.magento.idea.magento2plugin.util.GetFirstClassOfFile;
 import com.magento.idea.magento2uct.packages.IssueSeverityLevel;
 import com.magento.idea.magento2uct.settings.UctSettingsService;
+import com.magento.idea.magento2uct.util.php.ReferenceResolverUtil;
 import org.jetbrains.annotations.NotNull;
 
 public abstract class ImportInspection extends PhpInspection {
@@ -66,7 +67,10 @@ public abstract class ImportInspection extends PhpInspection {
                 final PhpReference phpReference = use.getTargetReference();
 
                 if (phpReference != null) {
-                    final PsiElement element = phpReference.resolve();
+                    final PsiElement element = ReferenceResolverUtil.resolveTarget(
+                            problemsHolder,
+                            phpReference
+                    );
 
                     if (element == null) {
                         return use.getFQN().contains("Interface");
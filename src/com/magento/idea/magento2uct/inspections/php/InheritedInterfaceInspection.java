@@ -15,6 +15,7 @@ import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.jetbrains.php.lang.psi.visitors.PhpElementVisitor;
 import com.magento.idea.magento2uct.packages.IssueSeverityLevel;
 import com.magento.idea.magento2uct.settings.UctSettingsService;
+import com.magento.idea.magento2uct.util.php.ReferenceResolverUtil;
 import org.jetbrains.annotations.NotNull;
 
 public abstract class InheritedInterfaceInspection extends PhpInspection {
@@ -40,7 +41,10 @@ public abstract class InheritedInterfaceInspection extends PhpInspection {
 
                 for (final ClassReference ref : clazz.getExtendsList().getReferenceElements()) {
                     final String interfaceFqn = ref.getFQN();
-                    final PsiElement interfaceClass = ref.resolve();
+                    final PsiElement interfaceClass = ReferenceResolverUtil.resolveTarget(
+                            problemsHolder,
+                            ref
+                    );
 
                     if (interfaceFqn == null || !(interfaceClass instanceof PhpClass)) {
                         continue;
@@ -18,6 +18,7 @@ import com.jetbrains.php.lang.psi.elements.impl.ClassConstImpl;
 import com.jetbrains.php.lang.psi.visitors.PhpElementVisitor;
 import com.magento.idea.magento2uct.packages.IssueSeverityLevel;
 import com.magento.idea.magento2uct.settings.UctSettingsService;
+import com.magento.idea.magento2uct.util.php.ReferenceResolverUtil;
 import org.jetbrains.annotations.NotNull;
 
 public abstract class UsedFieldInspection extends PhpInspection {
@@ -38,7 +39,10 @@ public abstract class UsedFieldInspection extends PhpInspection {
                         || !settings.isIssueLevelSatisfiable(getSeverityLevel())) {
                     return;
                 }
-                final PsiElement element = fieldReference.resolve();
+                final PsiElement element = ReferenceResolverUtil.resolveTarget(
+                        problemsHolder,
+                        fieldReference
+                );
                 final PsiFile file = fieldReference.getContainingFile();
 
                 if (!(element instanceof Field) || element.getContainingFile().equals(file)) {
@@ -58,7 +62,10 @@ public abstract class UsedFieldInspection extends PhpInspection {
                         || !settings.isIssueLevelSatisfiable(getSeverityLevel())) {
                     return;
                 }
-                final PsiElement element = constantReference.resolve();
+                final PsiElement element = ReferenceResolverUtil.resolveTarget(
+                        problemsHolder,
+                        constantReference
+                );
                 final PsiFile file = constantReference.getContainingFile();
 
                 if (!(element instanceof ClassConstImpl)
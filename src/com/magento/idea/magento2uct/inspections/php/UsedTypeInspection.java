@@ -46,7 +46,7 @@ public abstract class UsedTypeInspection extends PhpInspection {
                         || !settings.isIssueLevelSatisfiable(getSeverityLevel())) {
                     return;
                 }
-                PsiElement resolved = ReferenceResolverUtil.resolve(reference);
+                PsiElement resolved = ReferenceResolverUtil.resolve(problemsHolder, reference);
 
                 if (resolved instanceof Method
                         && MagentoPhpClass.CONSTRUCT_METHOD_NAME
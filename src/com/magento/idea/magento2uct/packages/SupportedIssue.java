@@ -6,8 +6,11 @@
 package com.magento.idea.magento2uct.packages;
 
 import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.lang.Language;
+import com.intellij.lang.xml.XMLLanguage;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.xml.XmlFile;
+import com.jetbrains.php.lang.PhpLanguage;
 import com.jetbrains.php.lang.psi.PhpFile;
 import com.magento.idea.magento2uct.bundles.UctInspectionBundle;
 import com.magento.idea.magento2uct.inspections.UctProblemsHolder;
@@ -435,6 +438,19 @@ public enum SupportedIssue {
         return types;
     }
 
+    /**
+     * Get languages of files that are supported by the UCT analysis.
+     *
+     * @return List[Language]
+     */
+    public static List<Language> getSupportedLanguages() {
+        final List<Language> languages = new ArrayList<>();
+        languages.add(PhpLanguage.INSTANCE);
+        languages.add(XMLLanguage.INSTANCE);
+
+        return languages;
+    }
+
     /**
      * Build inspection visitor for file.
      *
@@ -0,0 +1,84 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.packages;
+
+import com.magento.idea.magento2uct.execution.output.report.CsvReportFormatter;
+import com.magento.idea.magento2uct.execution.output.report.JsonReportFormatter;
+import com.magento.idea.magento2uct.execution.output.report.JunitReportFormatter;
+import com.magento.idea.magento2uct.execution.output.report.ReportFormatter;
+import com.magento.idea.magento2uct.execution.output.report.SarifReportFormatter;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public enum UctReportFormat {
+
+    JSON("-results.json", JsonReportFormatter::new),
+    SARIF("-results.sarif", SarifReportFormatter::new),
+    JUNIT("-results.xml", JunitReportFormatter::new),
+    CSV("-results.csv", CsvReportFormatter::new);
+
+    private final String filenameSuffix;
+    private final Supplier<ReportFormatter> formatterFactory;
+
+    /**
+     * ENUM constructor.
+     *
+     * @param filenameSuffix String
+     * @param formatterFactory Supplier[ReportFormatter]
+     */
+    UctReportFormat(
+            final String filenameSuffix,
+            final Supplier<ReportFormatter> formatterFactory
+    ) {
+        this.filenameSuffix = filenameSuffix;
+        this.formatterFactory = formatterFactory;
+    }
+
+    /**
+     * Get report filename suffix.
+     *
+     * @return String
+     */
+    public String getFilenameSuffix() {
+        return filenameSuffix;
+    }
+
+    /**
+     * Create formatter for the single report.
+     *
+     * @return ReportFormatter
+     */
+    public @NotNull ReportFormatter createFormatter() {
+        return formatterFactory.get();
+    }
+
+    /**
+     * Get report format by its name.
+     *
+     * @param name String
+     *
+     * @return UctReportFormat
+     */
+    public static @NotNull UctReportFormat getByName(final @Nullable String name) {
+        for (final UctReportFormat format : UctReportFormat.values()) {
+            if (format.name().equals(name)) {
+                return format;
+            }
+        }
+
+        return getDefaultFormat();
+    }
+
+    /**
+     * Get default report format.
+     *
+     * @return UctReportFormat
+     */
+    public static @NotNull UctReportFormat getDefaultFormat() {
+        return JSON;
+    }
+}
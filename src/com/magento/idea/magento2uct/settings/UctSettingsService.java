@@ -11,8 +11,11 @@ import com.intellij.openapi.components.Storage;
 import com.intellij.openapi.project.Project;
 import com.intellij.util.xmlb.XmlSerializerUtil;
 import com.intellij.util.xmlb.annotations.Property;
+import com.intellij.util.xmlb.annotations.Transient;
 import com.magento.idea.magento2uct.packages.IssueSeverityLevel;
 import com.magento.idea.magento2uct.packages.SupportedVersion;
+import com.magento.idea.magento2uct.packages.UctReportFormat;
+import java.util.concurrent.atomic.AtomicLong;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -20,6 +23,10 @@ import org.jetbrains.annotations.Nullable;
 public class UctSettingsService implements PersistentStateComponent<UctSettingsService> {
 
     public static final String M2_UCT_SETTINGS_XML = "magento2uct.xml";
+    public static final int DEFAULT_ANALYSIS_THREADS_COUNT = Math.max(
+            1,
+            Runtime.getRuntime().availableProcessors() - 1
+    );
 
     @Property
     private String uctExecutablePath;
@@ -48,6 +55,15 @@ public class UctSettingsService implements PersistentStateComponent<UctSettingsS
     @Property
     private String additionalPath;
 
+    @Property
+    private Integer analysisThreadsCount;
+
+    @Property
+    private String reportFormat;
+
+    @Transient
+    private final AtomicLong versionsModificationCount = new AtomicLong();
+
     @SuppressWarnings("PMD.UncommentedEmptyConstructor")
     public UctSettingsService() {
     }
@@ -80,6 +96,17 @@ public class UctSettingsService implements PersistentStateComponent<UctSettingsS
     @Override
     public void loadState(final @NotNull UctSettingsService state) {
         XmlSerializerUtil.copyBean(state, this);
+        versionsModificationCount.incrementAndGet();
+    }
+
+    /**
+     * Get modification count of the settings that affect the versions state.
+     * It changes whenever current version, target version or ignore current version flag is set.
+     *
+     * @return long
+     */
+    public long getVersionsModificationCount() {
+        return versionsModificationCount.get();
     }
 
     /**
@@ -153,6 +180,7 @@ public class UctSettingsService implements PersistentStateComponent<UctSettingsS
         } else {
             this.currentVersion = version.getVersion();
         }
+        versionsModificationCount.incrementAndGet();
     }
 
     /**
@@ -185,6 +213,7 @@ public class UctSettingsService implements PersistentStateComponent<UctSettingsS
      */
     public void setTargetVersion(final @NotNull SupportedVersion version) {
         this.targetVersion = version.getVersion();
+        versionsModificationCount.incrementAndGet();
     }
 
     /**
@@ -245,6 +274,7 @@ public class UctSettingsService implements PersistentStateComponent<UctSettingsS
      */
     public void setIgnoreCurrentVersion(final boolean ignoreCurrentVersion) {
         this.ignoreCurrentVersion = ignoreCurrentVersion;
+        versionsModificationCount.incrementAndGet();
     }
 
     /**
@@ -291,4 +321,43 @@ public class UctSettingsService implements PersistentStateComponent<UctSettingsS
     public @Nullable String getAdditionalPath() {
         return additionalPath;
     }
+
+    /**
+     * Set qty of threads used to analyse modules in parallel.
+     *
+     * @param analysisThreadsCount int
+     */
+    public void setAnalysisThreadsCount(final int analysisThreadsCount) {
+        this.analysisThreadsCount = analysisThreadsCount;
+    }
+
+    /**
+     * Get qty of threads used to analyse modules in parallel.
+     *
+     * @return int
+     */
+    public int getAnalysisThreadsCount() {
+        if (analysisThreadsCount == null || analysisThreadsCount < 1) {
+            return DEFAULT_ANALYSIS_THREADS_COUNT;
+        }
+        return analysisThreadsCount;
+    }
+
+    /**
+     * Set format of the report file.
+     *
+     * @param reportFormat UctReportFormat
+     */
+    public void setReportFormat(final @NotNull UctReportFormat reportFormat) {
+        this.reportFormat = reportFormat.name();
+    }
+
+    /**
+     * Get format of the report file.
+     *
+     * @return UctReportFormat
+     */
+    public @NotNull UctReportFormat getReportFormat() {
+        return UctReportFormat.getByName(reportFormat);
+    }
 }
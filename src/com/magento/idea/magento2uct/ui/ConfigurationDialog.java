@@ -20,6 +20,7 @@ import com.magento.idea.magento2plugin.util.magento.MagentoVersionUtil;
 import com.magento.idea.magento2uct.actions.ConfigureUctAction;
 import com.magento.idea.magento2uct.packages.IssueSeverityLevel;
 import com.magento.idea.magento2uct.packages.SupportedVersion;
+import com.magento.idea.magento2uct.packages.UctReportFormat;
 import com.magento.idea.magento2uct.settings.UctSettingsService;
 import com.magento.idea.magento2uct.util.module.UctModulePathValidatorUtil;
 import java.awt.Color;
@@ -50,6 +51,7 @@ public class ConfigurationDialog extends AbstractDialog {
     private JComboBox<ComboBoxItemData> currentVersion;
     private JComboBox<ComboBoxItemData> targetVersion;
     private JComboBox<ComboBoxItemData> issueSeverityLevel;
+    private JComboBox<ComboBoxItemData> reportFormat;
 
     private JPanel contentPanel;
     private JButton buttonCancel;
@@ -58,6 +60,7 @@ public class ConfigurationDialog extends AbstractDialog {
     private JLabel modulePathLabel;//NOPMD
     private JLabel targetVersionLabel;//NOPMD
     private JLabel issueSeverityLevelLabel;//NOPMD
+    private JLabel reportFormatLabel;//NOPMD
     private JLabel modulePathError;//NOPMD
     private JLabel enableComment;//NOPMD
     private JLabel enableCommentPath;//NOPMD
@@ -172,6 +175,11 @@ public class ConfigurationDialog extends AbstractDialog {
                         ((ComboBoxItemData) issueSeverityLevel.getSelectedItem()).getKey()
                 )
         );
+        settingsService.setReportFormat(
+                UctReportFormat.getByName(
+                        ((ComboBoxItemData) reportFormat.getSelectedItem()).getKey()
+                )
+        );
         settingsService.setIgnoreCurrentVersion(ignoreCurrentVersion.isSelected());
         settingsService.setHasAdditionalPath(hasAdditionalPath.isSelected());
         settingsService.setAdditionalPath(additionalPath.getComponent().getText());
@@ -238,6 +246,7 @@ public class ConfigurationDialog extends AbstractDialog {
                     String.valueOf(settingsService.getMinIssueLevel().getLevel())
             );
         }
+        setSelectedValueByItsKey(reportFormat, settingsService.getReportFormat().name());
         final Boolean shouldIgnore = settingsService.shouldIgnoreCurrentVersion();
         ignoreCurrentVersion.setSelected(Objects.requireNonNullElse(shouldIgnore, false));
 
@@ -291,6 +300,11 @@ public class ConfigurationDialog extends AbstractDialog {
                     new ComboBoxItemData(String.valueOf(level.getLevel()), level.getLabel())
             );
         }
+        reportFormat = new ComboBox<>();
+
+        for (final UctReportFormat format : UctReportFormat.values()) {
+            reportFormat.addItem(new ComboBoxItemData(format.name(), format.name()));
+        }
 
         modulePath = new LabeledComponent<>();
         modulePath.setComponent(new TextFieldWithBrowseButton());
@@ -18,6 +18,10 @@ import com.magento.idea.magento2uct.packages.SupportedVersion;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
 import javax.swing.JComponent;
@@ -28,6 +32,8 @@ import org.jetbrains.annotations.NotNull;
 
 public class ReindexDialog extends AbstractDialog {
 
+    private static final String ALL_INDEXES = "ALL";
+
     private final Project project;
     private final PsiDirectory directory;
 
@@ -108,10 +114,11 @@ public class ReindexDialog extends AbstractDialog {
         final SupportedVersion version = SupportedVersion.getVersion(
                 targetVersion.getSelectedItem().toString()
         );
-        final IndexRegistry index = IndexRegistry.getRegistryInfoByKey(
-                targetIndex.getSelectedItem().toString()
+        final List<IndexRegistry> indexes = getSelectedIndexes(
+                (ComboBoxItemData) targetIndex.getSelectedItem()
         );
-        if (version == null || index == null) {
+
+        if (version == null || indexes.isEmpty()) {
             return;
         }
         final DefaultExecutor executor = new DefaultExecutor(
@@ -120,7 +127,7 @@ public class ReindexDialog extends AbstractDialog {
                         project,
                         directory,
                         version,
-                        index
+                        indexes
                 )
         );
         executor.run();
@@ -128,6 +135,22 @@ public class ReindexDialog extends AbstractDialog {
         exit();
     }
 
+    /**
+     * Get indexes for the selected option, all indexes are built in a single pass.
+     *
+     * @param selectedItem ComboBoxItemData
+     *
+     * @return List[IndexRegistry]
+     */
+    private List<IndexRegistry> getSelectedIndexes(final @NotNull ComboBoxItemData selectedItem) {
+        if (ALL_INDEXES.equals(selectedItem.getKey())) {
+            return Arrays.asList(IndexRegistry.values());
+        }
+        final IndexRegistry index = IndexRegistry.getRegistryInfoByKey(selectedItem.getKey());
+
+        return index == null ? new ArrayList<>() : Collections.singletonList(index);
+    }
+
     /**
      * Create custom components and fill their entries.
      */
@@ -140,6 +163,7 @@ public class ReindexDialog extends AbstractDialog {
         }
         targetIndex = new ComboBox<>();
         targetIndex.addItem(new ComboBoxItemData("", " --- Choose Target Index --- "));
+        targetIndex.addItem(new ComboBoxItemData(ALL_INDEXES, "All Indexes"));
 
         for (final String key : IndexRegistry.getIndexList()) {
             targetIndex.addItem(new ComboBoxItemData(key, key));
@@ -9,7 +9,7 @@ import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.psi.PsiElement;
 import com.magento.idea.magento2uct.inspections.UctProblemsHolder;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -77,7 +77,7 @@ public final class FilterDescriptorResultsUtil {
     private static Map<PsiElement, List<ProblemDescriptor>> groupDescriptors(
             final List<ProblemDescriptor> problems
     ) {
-        final Map<PsiElement, List<ProblemDescriptor>> grouped = new HashMap<>();
+        final Map<PsiElement, List<ProblemDescriptor>> grouped = new LinkedHashMap<>();
 
         for (final ProblemDescriptor descriptor : problems) {
             final PsiElement element = descriptor.getPsiElement();
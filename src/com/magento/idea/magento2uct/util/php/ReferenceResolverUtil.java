@@ -5,10 +5,12 @@
 
 package com.magento.idea.magento2uct.util.php;
 
+import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.psi.PsiElement;
 import com.jetbrains.php.PhpIndex;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.jetbrains.php.lang.psi.elements.PhpReference;
+import com.magento.idea.magento2uct.inspections.UctProblemsHolder;
 import java.util.Collection;
 import java.util.regex.Matcher;
 import org.jetbrains.annotations.NotNull;
@@ -49,6 +51,45 @@ public final class ReferenceResolverUtil {
         return resolved;
     }
 
+    /**
+     * Resolve reference, the result is shared between all UCT inspections of the file.
+     *
+     * @param problemsHolder ProblemsHolder
+     * @param reference PhpReference
+     *
+     * @return PsiElement
+     */
+    public static PsiElement resolve(
+            final @NotNull ProblemsHolder problemsHolder,
+            final @NotNull PhpReference reference
+    ) {
+        if (problemsHolder instanceof UctProblemsHolder) {
+            return ((UctProblemsHolder) problemsHolder).getResolutionCache()
+                    .resolveType(reference);
+        }
+
+        return resolve(reference);
+    }
+
+    /**
+     * Resolve reference target, the result is shared between all UCT inspections of the file.
+     *
+     * @param problemsHolder ProblemsHolder
+     * @param reference PhpReference
+     *
+     * @return PsiElement
+     */
+    public static PsiElement resolveTarget(
+            final @NotNull ProblemsHolder problemsHolder,
+            final @NotNull PhpReference reference
+    ) {
+        if (problemsHolder instanceof UctProblemsHolder) {
+            return ((UctProblemsHolder) problemsHolder).getResolutionCache().resolve(reference);
+        }
+
+        return reference.resolve();
+    }
+
     /**
      * Check if provided FQN is a Factory or Proxy.
      *
@@ -13,20 +13,34 @@ import com.magento.idea.magento2uct.versioning.indexes.data.ApiCoverageStateInde
 import com.magento.idea.magento2uct.versioning.indexes.data.DeprecationStateIndex;
 import com.magento.idea.magento2uct.versioning.indexes.data.ExistenceStateIndex;
 import com.magento.idea.magento2uct.versioning.indexes.data.VersionStateIndex;
+import java.lang.ref.WeakReference;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-@SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+/**
+ * Immutable snapshot of the versions state for the UCT settings it was built for.
+ *
+ * <p>The snapshot is published through the atomic reference and replaced as a whole when
+ * the versions settings change, so lookups from any number of inspection threads never take
+ * a monitor. Concurrent rebuilds are harmless: every built snapshot is complete and valid.</p>
+ */
 public final class VersionStateManager {
 
-    private static VersionStateManager instance;
+    private static final AtomicReference<VersionStateManager> INSTANCE
+            = new AtomicReference<>();
+
+    private final WeakReference<UctSettingsService> settingsService;
+    private final long settingsModificationCount;
     private final DeprecationStateIndex deprecationStateIndex;
     private final ExistenceStateIndex existenceStateIndex;
     private final ApiCoverageStateIndex apiCoverageStateIndex;
     private final Boolean isSetIgnoreFlag;
-    private SupportedVersion currentVersion;
-    private SupportedVersion targetVersion;
+    private final SupportedVersion currentVersion;
+    private final SupportedVersion targetVersion;
     private final List<SupportedVersion> versionsToLoad;
 
     /**
@@ -36,20 +50,17 @@ public final class VersionStateManager {
      *
      * @return VersionStateManager
      */
-    public static synchronized VersionStateManager getInstance(
-            final @NotNull Project project
-    ) { //NOPMD
+    public static VersionStateManager getInstance(final @NotNull Project project) {
         final UctSettingsService settingsService = UctSettingsService.getInstance(project);
+        final VersionStateManager instance = INSTANCE.get();
 
-        if (instance == null
-                || !instance.isValidFor(settingsService.shouldIgnoreCurrentVersion(),
-                settingsService.getCurrentVersionOrDefault(),
-                settingsService.getTargetVersion()
-        )) {
-            instance = new VersionStateManager(project);
+        if (instance != null && instance.isValidFor(settingsService)) {
+            return instance;
         }
+        final VersionStateManager newInstance = new VersionStateManager(settingsService);
+        INSTANCE.compareAndSet(instance, newInstance);
 
-        return instance;
+        return newInstance;
     }
 
     /**
@@ -59,7 +70,7 @@ public final class VersionStateManager {
      *
      * @return boolean
      */
-    public synchronized boolean isPresentInCodebase(final @NotNull String fqn) {
+    public boolean isPresentInCodebase(final @NotNull String fqn) {
         return existenceStateIndex.isPresentInCodebase(escapeFqn(fqn));
     }
 
@@ -120,15 +131,20 @@ public final class VersionStateManager {
 
     /**
      * Version state manager constructor.
+     *
+     * @param settingsService UctSettingsService
      */
-    private VersionStateManager(final @NotNull Project project) {
-        final UctSettingsService settingsService = UctSettingsService.getInstance(project);
+    private VersionStateManager(final @NotNull UctSettingsService settingsService) {
+        this.settingsService = new WeakReference<>(settingsService);
+        // Read before the settings values, any later change invalidates this snapshot.
+        settingsModificationCount = settingsService.getVersionsModificationCount();
         isSetIgnoreFlag = settingsService.shouldIgnoreCurrentVersion();
-        currentVersion = settingsService.getCurrentVersionOrDefault();
-        targetVersion = settingsService.getTargetVersion();
+        currentVersion = correctCurrentVersion(
+                settingsService,
+                settingsService.getCurrentVersionOrDefault()
+        );
+        targetVersion = correctTargetVersion(settingsService, settingsService.getTargetVersion());
         versionsToLoad = new LinkedList<>();
-        // Correct settings if stored data isn't valid for current supported versions state.
-        correctSettings(project);
 
         deprecationStateIndex = new DeprecationStateIndex();
         compute(deprecationStateIndex);
@@ -136,57 +152,78 @@ public final class VersionStateManager {
         existenceStateIndex = new ExistenceStateIndex();
         compute(existenceStateIndex);
 
-        apiCoverageStateIndex = new ApiCoverageStateIndex(existenceStateIndex.getIndexData());
+        apiCoverageStateIndex = new ApiCoverageStateIndex(existenceStateIndex);
         compute(apiCoverageStateIndex);
     }
 
     /**
-     * Correct settings if corrupted.
+     * Correct current version setting if stored data isn't valid for supported versions state.
      *
-     * @param project Project
+     * @param settingsService UctSettingsService
+     * @param currentVersion SupportedVersion
+     *
+     * @return SupportedVersion
      */
-    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
-    private synchronized void correctSettings(final @NotNull Project project) {
-        final UctSettingsService settingsService = UctSettingsService.getInstance(project);
+    private static SupportedVersion correctCurrentVersion(
+            final @NotNull UctSettingsService settingsService,
+            final @Nullable SupportedVersion currentVersion
+    ) {
+        if (currentVersion != null
+                && SupportedVersion.getVersion(currentVersion.getVersion()) != null) {
+            return currentVersion;
+        }
         final List<String> allVersions = SupportedVersion.getSupportedVersions();
+        final SupportedVersion correctCurrentVersion = SupportedVersion.getVersion(
+                allVersions.get(0)
+        );
+        settingsService.setCurrentVersion(correctCurrentVersion);
 
-        if (currentVersion == null
-                || SupportedVersion.getVersion(currentVersion.getVersion()) == null) {
-            final SupportedVersion correctCurrentVersion = SupportedVersion.getVersion(
-                    allVersions.get(0)
-            );
-            settingsService.setCurrentVersion(correctCurrentVersion);
-            currentVersion = correctCurrentVersion;
-        }
+        return correctCurrentVersion;
+    }
 
-        if (targetVersion == null
-                || SupportedVersion.getVersion(targetVersion.getVersion()) == null) {
-            final SupportedVersion correctTargetVersion = SupportedVersion.getVersion(
-                    allVersions.get(allVersions.size() - 1)
-            );
-            settingsService.setTargetVersion(correctTargetVersion);
-            targetVersion = correctTargetVersion;
+    /**
+     * Correct target version setting if stored data isn't valid for supported versions state.
+     *
+     * @param settingsService UctSettingsService
+     * @param targetVersion SupportedVersion
+     *
+     * @return SupportedVersion
+     */
+    private static SupportedVersion correctTargetVersion(
+            final @NotNull UctSettingsService settingsService,
+            final @Nullable SupportedVersion targetVersion
+    ) {
+        if (targetVersion != null
+                && SupportedVersion.getVersion(targetVersion.getVersion()) != null) {
+            return targetVersion;
         }
+        final List<String> allVersions = SupportedVersion.getSupportedVersions();
+        final SupportedVersion correctTargetVersion = SupportedVersion.getVersion(
+                allVersions.get(allVersions.size() - 1)
+        );
+        assert correctTargetVersion != null;
+        settingsService.setTargetVersion(correctTargetVersion);
+
+        return correctTargetVersion;
     }
 
     /**
      * Check if current instance is valid for settings.
      *
-     * @param isSetIgnoreFlag boolean
-     * @param currentVersion SupportedVersion
-     * @param targetVersion SupportedVersion
+     * @param settingsService UctSettingsService
      *
      * @return boolean
      */
-    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
-    private synchronized boolean isValidFor(
-            final Boolean isSetIgnoreFlag,
-            final SupportedVersion currentVersion,
-            final SupportedVersion targetVersion
-    ) {
-        return this.isSetIgnoreFlag.equals(isSetIgnoreFlag)
-                && this.currentVersion.equals(currentVersion)
-                && this.targetVersion.equals(targetVersion);
+    private boolean isValidFor(final @NotNull UctSettingsService settingsService) {
+        if (settingsService.equals(this.settingsService.get())
+                && settingsModificationCount == settingsService.getVersionsModificationCount()) {
+            return true;
+        }
+
+        // Another project with the same versions settings can share the snapshot.
+        return Objects.equals(isSetIgnoreFlag, settingsService.shouldIgnoreCurrentVersion())
+                && currentVersion.equals(settingsService.getCurrentVersionOrDefault())
+                && targetVersion.equals(settingsService.getTargetVersion());
     }
 
     /**
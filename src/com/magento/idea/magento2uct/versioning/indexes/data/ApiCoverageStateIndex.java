@@ -5,47 +5,42 @@
 
 package com.magento.idea.magento2uct.versioning.indexes.data;
 
-import com.intellij.openapi.util.Pair;
 import com.magento.idea.magento2uct.packages.IndexRegistry;
 import com.magento.idea.magento2uct.packages.SupportedVersion;
 import com.magento.idea.magento2uct.versioning.indexes.storage.FileLoader;
 import com.magento.idea.magento2uct.versioning.indexes.storage.IndexLoader;
-import com.magento.idea.magento2uct.versioning.indexes.storage.ResourceLoader;
-import com.magento.idea.magento2uct.versioning.processors.util.VersioningDataOperationsUtil;
+import com.magento.idea.magento2uct.versioning.indexes.storage.MappedResourceLoader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class ApiCoverageStateIndex implements VersionStateIndex {
 
     private static final String RESOURCE_DIR = "api";
 
-    private final Map<String, Map<String, Boolean>> versioningData;
-    private final Map<String, Boolean> targetVersionData;
-    private final Map<String, Boolean> codebaseSet;
+    private final ExistenceStateIndex codebaseIndex;
+    private VersionRangeTable table;
+    private long versionsMask;
     private String projectBasePath;
 
     /**
      * Api coverage state index constructor.
      */
     public ApiCoverageStateIndex() {
-        this(new HashMap<>());
+        this(null);
     }
 
     /**
      * Api coverage state index constructor.
      *
-     * @param targetVersionCodebaseData Map
+     * @param codebaseIndex ExistenceStateIndex of the target version codebase
      */
-    public ApiCoverageStateIndex(final Map<String, Boolean> targetVersionCodebaseData) {
-        versioningData = new LinkedHashMap<>();
-        targetVersionData = new HashMap<>();
-        codebaseSet = new HashMap<>(targetVersionCodebaseData);
+    public ApiCoverageStateIndex(final @Nullable ExistenceStateIndex codebaseIndex) {
+        this.codebaseIndex = codebaseIndex;
+        table = new VersionRangeTable(new LinkedHashMap<>());
     }
 
     /**
@@ -64,15 +59,12 @@ public class ApiCoverageStateIndex implements VersionStateIndex {
      *
      * @return boolean
      */
-    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
-    public synchronized boolean has(final @NotNull String fqn) {
-        groupLoadedData();
-
-        if (targetVersionData.containsKey(fqn)) {
+    public boolean has(final @NotNull String fqn) {
+        if (table.isPresent(fqn, versionsMask)) {
             return true;
         }
 
-        return !codebaseSet.containsKey(fqn);
+        return codebaseIndex == null || !codebaseIndex.isPresent(fqn);
     }
 
     /**
@@ -81,15 +73,16 @@ public class ApiCoverageStateIndex implements VersionStateIndex {
      * @return Map[String, Boolean]
      */
     public Map<String, Boolean> getIndexData() {
-        groupLoadedData();
-
-        return targetVersionData;
+        return table.collectPresent(versionsMask);
     }
 
     @Override
     public void load(final @NotNull List<SupportedVersion> versions) {
-        final IndexLoader<String, Map<String, Boolean>> loader = new ResourceLoader<>(RESOURCE_DIR);
-        processLoading(versions, loader);
+        table = VersionRangeTable.getResourceTable(
+                IndexRegistry.API_COVERAGE,
+                new MappedResourceLoader(RESOURCE_DIR)
+        );
+        versionsMask = VersionRangeTable.toMask(versions);
     }
 
     @Override
@@ -99,20 +92,25 @@ public class ApiCoverageStateIndex implements VersionStateIndex {
                     "Project base path is mandatory for loading index data from the file."
             );
         }
-        final IndexLoader<String, Map<String, Boolean>> loader = new FileLoader<>(projectBasePath);
-        processLoading(versions, loader);
+        table = new VersionRangeTable(
+                loadVersioningData(versions, new FileLoader<>(projectBasePath))
+        );
+        versionsMask = VersionRangeTable.toMask(versions);
     }
 
     /**
-     * Process index loading.
+     * Load versioning data.
      *
      * @param versions List[SupportedVersion]
      * @param loader IndexLoader
+     *
+     * @return Map[String, Map[String, Boolean]]
      */
-    private void processLoading(
+    private Map<String, Map<String, Boolean>> loadVersioningData(
             final @NotNull List<SupportedVersion> versions,
             final IndexLoader<String, Map<String, Boolean>> loader
     ) {
+        final Map<String, Map<String, Boolean>> versioningData = new LinkedHashMap<>();
         final IndexRegistry apiIndexInfo = IndexRegistry.getRegistryInfoByClass(
                 ApiCoverageStateIndex.class
         );
@@ -125,7 +123,7 @@ public class ApiCoverageStateIndex implements VersionStateIndex {
             final Map<String, Map<String, Boolean>> loadedData = loader.load(apiIndexesFileName);
 
             if (loadedData == null) {
-                return;
+                return versioningData;
             }
 
             for (final Map.Entry<String, Map<String, Boolean>> loadedEntry
@@ -134,45 +132,17 @@ public class ApiCoverageStateIndex implements VersionStateIndex {
                         loadedEntry.getKey()
                 );
 
-                if (loadedVersion == null || !versions.contains(loadedVersion)) {
+                if (loadedVersion == null
+                        || !versions.contains(loadedVersion)
+                        || loadedEntry.getValue() == null) {
                     continue;
                 }
-                putIndexData(loadedVersion.getVersion(), loadedEntry.getValue());
+                versioningData.put(loadedVersion.getVersion(), loadedEntry.getValue());
             }
         } catch (IOException | ClassNotFoundException exception) { //NOPMD
             // Just go for the next version.
         }
-    }
-
-    /**
-     * Put index for version.
-     *
-     * @param version String
-     * @param indexData Map
-     */
-    private void putIndexData(
-            final @NotNull String version,
-            final Map<String, Boolean> indexData
-    ) {
-        if (indexData != null) {
-            versioningData.put(version, indexData);
-        }
-    }
 
-    /**
-     * Group data according to purpose.
-     */
-    private void groupLoadedData() {
-        if (targetVersionData.isEmpty() && !versioningData.isEmpty()) {
-            final Pair<Map<String, Boolean>, Map<String, String>> gatheredData =
-                    VersioningDataOperationsUtil.unionVersionDataWithChangelog(
-                            versioningData,
-                            new ArrayList<>(Collections.singletonList(
-                                    SupportedVersion.V230.getVersion()
-                            )),
-                            true
-                    );
-            targetVersionData.putAll(gatheredData.getFirst());
-        }
+        return versioningData;
     }
 }
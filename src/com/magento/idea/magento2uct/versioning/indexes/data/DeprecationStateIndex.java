@@ -5,17 +5,12 @@
 
 package com.magento.idea.magento2uct.versioning.indexes.data;
 
-import com.intellij.openapi.util.Pair;
 import com.magento.idea.magento2uct.packages.IndexRegistry;
 import com.magento.idea.magento2uct.packages.SupportedVersion;
 import com.magento.idea.magento2uct.versioning.indexes.storage.FileLoader;
 import com.magento.idea.magento2uct.versioning.indexes.storage.IndexLoader;
-import com.magento.idea.magento2uct.versioning.indexes.storage.ResourceLoader;
-import com.magento.idea.magento2uct.versioning.processors.util.VersioningDataOperationsUtil;
+import com.magento.idea.magento2uct.versioning.indexes.storage.MappedResourceLoader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,18 +20,15 @@ public class DeprecationStateIndex implements VersionStateIndex {
 
     private static final String RESOURCE_DIR = "deprecation";
 
-    private final Map<String, Map<String, Boolean>> versioningData;
-    private final Map<String, Boolean> targetVersionData;
-    private final Map<String, String> changelog;
+    private VersionRangeTable table;
+    private long versionsMask;
     private String projectBasePath;
 
     /**
      * Deprecation state index constructor.
      */
     public DeprecationStateIndex() {
-        versioningData = new LinkedHashMap<>();
-        targetVersionData = new HashMap<>();
-        changelog = new HashMap<>();
+        table = new VersionRangeTable(new LinkedHashMap<>());
     }
 
     /**
@@ -55,11 +47,8 @@ public class DeprecationStateIndex implements VersionStateIndex {
      *
      * @return boolean
      */
-    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
-    public synchronized boolean has(final @NotNull String key) {
-        groupLoadedData();
-
-        return targetVersionData.containsKey(key);
+    public boolean has(final @NotNull String key) {
+        return table.isPresent(key, versionsMask);
     }
 
     /**
@@ -70,15 +59,21 @@ public class DeprecationStateIndex implements VersionStateIndex {
      * @return String
      */
     public String getVersion(final @NotNull String fqn) {
-        final String version = changelog.get(fqn);
+        final SupportedVersion version = table.getLatestAddedVersion(
+                fqn,
+                versionsMask & ~VersionRangeTable.toBit(SupportedVersion.V230)
+        );
 
-        return version == null ? "2.3.0 or before" : version;
+        return version == null ? "2.3.0 or before" : version.getVersion();
     }
 
     @Override
     public void load(final @NotNull List<SupportedVersion> versions) {
-        final IndexLoader<String, Boolean> loader = new ResourceLoader<>(RESOURCE_DIR);
-        processLoading(versions, loader);
+        table = VersionRangeTable.getResourceTable(
+                IndexRegistry.DEPRECATION,
+                new MappedResourceLoader(RESOURCE_DIR)
+        );
+        versionsMask = VersionRangeTable.toMask(versions);
     }
 
     @Override
@@ -88,8 +83,10 @@ public class DeprecationStateIndex implements VersionStateIndex {
                     "Project base path is mandatory for loading index data from the file."
             );
         }
-        final IndexLoader<String, Boolean> loader = new FileLoader<>(projectBasePath);
-        processLoading(versions, loader);
+        table = new VersionRangeTable(
+                loadVersioningData(versions, new FileLoader<>(projectBasePath))
+        );
+        versionsMask = VersionRangeTable.toMask(versions);
     }
 
     /**
@@ -98,21 +95,22 @@ public class DeprecationStateIndex implements VersionStateIndex {
      * @return Map[String, Boolean]
      */
     public Map<String, Boolean> getIndexData() {
-        groupLoadedData();
-
-        return targetVersionData;
+        return table.collectPresent(versionsMask);
     }
 
     /**
-     * Process index loading.
+     * Load versioning data.
      *
      * @param versions List[SupportedVersion]
      * @param loader IndexLoader
+     *
+     * @return Map[String, Map[String, Boolean]]
      */
-    private void processLoading(
+    private Map<String, Map<String, Boolean>> loadVersioningData(
             final @NotNull List<SupportedVersion> versions,
             final IndexLoader<String, Boolean> loader
     ) {
+        final Map<String, Map<String, Boolean>> versioningData = new LinkedHashMap<>();
         final IndexRegistry registrationInfo = IndexRegistry.getRegistryInfoByClass(
                 DeprecationStateIndex.class
         );
@@ -123,40 +121,16 @@ public class DeprecationStateIndex implements VersionStateIndex {
                     .replace("%version", version.getVersion())
                     .replace("%key", registrationInfo.getKey());
             try {
-                putIndexData(version.getVersion(), loader.load(indexName));
+                final Map<String, Boolean> data = loader.load(indexName);
+
+                if (data != null) {
+                    versioningData.put(version.getVersion(), data);
+                }
             } catch (IOException | ClassNotFoundException exception) { //NOPMD
                 // Just go for the next version.
             }
         }
-    }
 
-    /**
-     * Put index for version.
-     *
-     * @param version String
-     * @param data Map
-     */
-    private void putIndexData(final @NotNull String version, final Map<String, Boolean> data) {
-        if (data != null) {
-            versioningData.put(version, data);
-        }
-    }
-
-    /**
-     * Group data according to purpose.
-     */
-    private void groupLoadedData() {
-        if (targetVersionData.isEmpty() && !versioningData.isEmpty()) {
-            final Pair<Map<String, Boolean>, Map<String, String>> gatheredData =
-                    VersioningDataOperationsUtil.unionVersionDataWithChangelog(
-                            versioningData,
-                            new ArrayList<>(Collections.singletonList(
-                                    SupportedVersion.V230.getVersion()
-                            )),
-                            true
-                    );
-            targetVersionData.putAll(gatheredData.getFirst());
-            changelog.putAll(gatheredData.getSecond());
-        }
+        return versioningData;
     }
 }
@@ -5,43 +5,30 @@
 
 package com.magento.idea.magento2uct.versioning.indexes.data;
 
-import com.intellij.openapi.util.Pair;
 import com.magento.idea.magento2uct.packages.IndexRegistry;
 import com.magento.idea.magento2uct.packages.SupportedVersion;
 import com.magento.idea.magento2uct.versioning.indexes.storage.FileLoader;
 import com.magento.idea.magento2uct.versioning.indexes.storage.IndexLoader;
-import com.magento.idea.magento2uct.versioning.indexes.storage.ResourceLoader;
-import com.magento.idea.magento2uct.versioning.processors.util.VersioningDataOperationsUtil;
+import com.magento.idea.magento2uct.versioning.indexes.storage.MappedResourceLoader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 
-@SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
 public class ExistenceStateIndex implements VersionStateIndex {
 
     private static final String RESOURCE_DIR = "existence";
 
-    private final Map<String, Map<String, Boolean>> versioningData;
-    private final Map<String, Boolean> targetVersionData;
-    private final Map<String, String> changelog;
-    private final Set<String> codebase;
+    private VersionRangeTable table;
+    private long versionsMask;
     private String projectBasePath;
 
     /**
      * Existence state index constructor.
      */
     public ExistenceStateIndex() {
-        versioningData = new LinkedHashMap<>();
-        targetVersionData = new HashMap<>();
-        changelog = new HashMap<>();
-        codebase = new HashSet<>();
+        table = new VersionRangeTable(new LinkedHashMap<>());
     }
 
     /**
@@ -60,47 +47,47 @@ public class ExistenceStateIndex implements VersionStateIndex {
      *
      * @return boolean
      */
-    public synchronized boolean has(final @NotNull String fqn) {
-        groupLoadedData();
-
-        if (targetVersionData.containsKey(fqn)) {
+    public boolean has(final @NotNull String fqn) {
+        if (isPresent(fqn)) {
             return true;
         }
 
-        return !changelog.containsKey(fqn);
+        return !table.isRemoved(fqn, getChangelogMask());
     }
 
     /**
-     * Checks if specified FQN was/is in the MBE/VBE.
+     * Check if the specified FQN is present in the loaded versions.
      *
      * @param fqn String
      *
      * @return boolean
      */
-    public synchronized boolean isPresentInCodebase(final @NotNull String fqn) {
-        return codebase.contains(fqn);
+    public boolean isPresent(final @NotNull String fqn) {
+        return table.isPresent(fqn, versionsMask);
     }
 
     /**
-     * Get version for specified FQN from prepared changelog.
+     * Checks if specified FQN was/is in the MBE/VBE.
      *
      * @param fqn String
      *
-     * @return String
+     * @return boolean
      */
-    public String getVersion(final @NotNull String fqn) {
-        final String version = changelog.get(fqn);
-
-        return version == null ? "2.3.0 or before" : version;
+    public boolean isPresentInCodebase(final @NotNull String fqn) {
+        return table.isMentioned(fqn, versionsMask);
     }
 
     /**
-     * Get versioning data.
+     * Get version for specified FQN from prepared changelog.
      *
-     * @return Map
+     * @param fqn String
+     *
+     * @return String
      */
-    public Map<String, Map<String, Boolean>> getAllData() {
-        return versioningData;
+    public String getVersion(final @NotNull String fqn) {
+        final SupportedVersion version = table.getLatestRemovedVersion(fqn, getChangelogMask());
+
+        return version == null ? "2.3.0 or before" : version.getVersion();
     }
 
     /**
@@ -109,15 +96,16 @@ public class ExistenceStateIndex implements VersionStateIndex {
      * @return Map[String, Boolean]
      */
     public Map<String, Boolean> getIndexData() {
-        groupLoadedData();
-
-        return targetVersionData;
+        return table.collectPresent(versionsMask);
     }
 
     @Override
     public void load(final @NotNull List<SupportedVersion> versions) {
-        final IndexLoader<String, Map<String, Boolean>> loader = new ResourceLoader<>(RESOURCE_DIR);
-        processLoading(versions, loader);
+        table = VersionRangeTable.getResourceTable(
+                IndexRegistry.EXISTENCE,
+                new MappedResourceLoader(RESOURCE_DIR)
+        );
+        versionsMask = VersionRangeTable.toMask(versions);
     }
 
     @Override
@@ -127,20 +115,34 @@ public class ExistenceStateIndex implements VersionStateIndex {
                     "Project base path is mandatory for loading index data from the file."
             );
         }
-        final IndexLoader<String, Map<String, Boolean>> loader = new FileLoader<>(projectBasePath);
-        processLoading(versions, loader);
+        table = new VersionRangeTable(
+                loadVersioningData(versions, new FileLoader<>(projectBasePath))
+        );
+        versionsMask = VersionRangeTable.toMask(versions);
     }
 
     /**
-     * Process index loading.
+     * Get mask of the loaded versions that are tracked in the changelog.
+     *
+     * @return long
+     */
+    private long getChangelogMask() {
+        return versionsMask & ~VersionRangeTable.toBit(SupportedVersion.V230);
+    }
+
+    /**
+     * Load versioning data.
      *
      * @param versions List[SupportedVersion]
      * @param loader IndexLoader
+     *
+     * @return Map[String, Map[String, Boolean]]
      */
-    private void processLoading(
+    private Map<String, Map<String, Boolean>> loadVersioningData(
             final @NotNull List<SupportedVersion> versions,
             final IndexLoader<String, Map<String, Boolean>> loader
     ) {
+        final Map<String, Map<String, Boolean>> versioningData = new LinkedHashMap<>();
         final IndexRegistry registrationInfo = IndexRegistry.getRegistryInfoByClass(
                 ExistenceStateIndex.class
         );
@@ -153,7 +155,7 @@ public class ExistenceStateIndex implements VersionStateIndex {
             final Map<String, Map<String, Boolean>> loadedData = loader.load(indexesFileName);
 
             if (loadedData == null) {
-                return;
+                return versioningData;
             }
 
             for (final Map.Entry<String, Map<String, Boolean>> loadedEntry
@@ -162,47 +164,17 @@ public class ExistenceStateIndex implements VersionStateIndex {
                         loadedEntry.getKey()
                 );
 
-                if (loadedVersion == null || !versions.contains(loadedVersion)) {
+                if (loadedVersion == null
+                        || !versions.contains(loadedVersion)
+                        || loadedEntry.getValue() == null) {
                     continue;
                 }
-                putIndexData(loadedVersion.getVersion(), loadedEntry.getValue());
+                versioningData.put(loadedVersion.getVersion(), loadedEntry.getValue());
             }
         } catch (IOException | ClassNotFoundException exception) { //NOPMD
             // Just go for the next version.
         }
-    }
-
-    /**
-     * Put index for version.
-     *
-     * @param version String
-     * @param indexData Map
-     */
-    private void putIndexData(
-            final @NotNull String version,
-            final Map<String, Boolean> indexData
-    ) {
-        if (indexData != null) {
-            versioningData.put(version, indexData);
-        }
-    }
 
-    /**
-     * Group data according to purpose.
-     */
-    private void groupLoadedData() {
-        if (targetVersionData.isEmpty() && !versioningData.isEmpty()) {
-            final Pair<Map<String, Boolean>, Map<String, String>> gatheredData =
-                    VersioningDataOperationsUtil.unionVersionDataWithChangelog(
-                            versioningData,
-                            new ArrayList<>(Collections.singletonList(
-                                    SupportedVersion.V230.getVersion()
-                            )),
-                            false
-                    );
-            targetVersionData.putAll(gatheredData.getFirst());
-            changelog.putAll(gatheredData.getSecond());
-            codebase.addAll(VersioningDataOperationsUtil.unionVersionData(versioningData).keySet());
-        }
+        return versioningData;
     }
 }
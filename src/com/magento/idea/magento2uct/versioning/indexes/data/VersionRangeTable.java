@@ -0,0 +1,341 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.versioning.indexes.data;
+
+import com.magento.idea.magento2uct.packages.IndexRegistry;
+import com.magento.idea.magento2uct.packages.SupportedVersion;
+import com.magento.idea.magento2uct.versioning.indexes.storage.MappedIndexSection;
+import com.magento.idea.magento2uct.versioning.indexes.storage.MappedResourceLoader;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Versioning data of the index folded into the per FQN versions history.
+ *
+ * <p>For every FQN the table keeps two bit masks indexed by the SupportedVersion ordinal:
+ * versions where FQN was added (TRUE flag) and versions where it was removed (FALSE flag).
+ * Any set of loaded versions is represented by the mask as well, so every lookup for any
+ * current/target versions pair is answered with a couple of bitwise operations and
+ * nothing has to be recomputed when the versions settings change.</p>
+ *
+ * <p>The result of lookups is the same as for
+ * VersioningDataOperationsUtil.unionVersionDataWithChangelog applied to the loaded versions:
+ * FQN is present if its latest state in the loaded versions is TRUE.</p>
+ *
+ * <p>Table of the bundled resources reads the masks from the history section built by the
+ * MappedIndexConverter, so lookups are binary searches over the mapped file and nothing
+ * is copied to the heap.</p>
+ */
+public final class VersionRangeTable {
+
+    private static final Map<IndexRegistry, VersionRangeTable> RESOURCE_TABLES
+            = new ConcurrentHashMap<>();
+    private static final SupportedVersion[] VERSIONS = SupportedVersion.values();
+    private static final VersionRangeTable EMPTY = new VersionRangeTable(new HashMap<>());
+
+    static {
+        if (VERSIONS.length > Long.SIZE) {
+            throw new IllegalStateException(
+                    "Version range table supports up to " + Long.SIZE + " versions"
+            );
+        }
+    }
+
+    private final Map<String, History> histories;
+    private final MappedIndexSection historySection;
+
+    /**
+     * Version range table constructor.
+     *
+     * @param versioningData Map[String, Map[String, Boolean]] version to index data
+     */
+    public VersionRangeTable(final @NotNull Map<String, Map<String, Boolean>> versioningData) {
+        histories = new HashMap<>();
+        historySection = null;
+
+        for (final Map.Entry<String, Map<String, Boolean>> versionEntry
+                : versioningData.entrySet()) {
+            final SupportedVersion version = SupportedVersion.getVersion(versionEntry.getKey());
+
+            if (version == null || versionEntry.getValue() == null) {
+                continue;
+            }
+            final long versionBit = toBit(version);
+
+            for (final Map.Entry<String, Boolean> entry : versionEntry.getValue().entrySet()) {
+                final History history = histories.computeIfAbsent(
+                        entry.getKey(),
+                        key -> new History()
+                );
+
+                if (Boolean.TRUE.equals(entry.getValue())) {
+                    history.added |= versionBit;
+                } else {
+                    history.removed |= versionBit;
+                }
+            }
+        }
+    }
+
+    /**
+     * Version range table constructor.
+     *
+     * @param historySection MappedIndexSection versions history sorted by FQN
+     */
+    public VersionRangeTable(final @NotNull MappedIndexSection historySection) {
+        histories = null;
+        this.historySection = historySection;
+    }
+
+    /**
+     * Get table of the bundled resources. It is loaded once for all supported versions.
+     *
+     * @param index IndexRegistry
+     * @param resourceLoader MappedResourceLoader
+     *
+     * @return VersionRangeTable empty if there is no history resource of the index
+     */
+    public static @NotNull VersionRangeTable getResourceTable(
+            final @NotNull IndexRegistry index,
+            final @NotNull MappedResourceLoader resourceLoader
+    ) {
+        final VersionRangeTable cachedTable = RESOURCE_TABLES.get(index);
+
+        if (cachedTable != null) {
+            return cachedTable;
+        }
+        VersionRangeTable table = EMPTY;
+
+        try {
+            final MappedIndexSection historySection = resourceLoader.loadHistory(index.getKey());
+
+            if (historySection != null) {
+                table = new VersionRangeTable(historySection);
+            }
+        } catch (IOException exception) { //NOPMD
+            // Broken resource is treated as the missing one.
+        }
+        final VersionRangeTable previousTable = RESOURCE_TABLES.putIfAbsent(index, table);
+
+        return previousTable == null ? table : previousTable;
+    }
+
+    /**
+     * Get versions mask for the specified versions.
+     *
+     * @param versions Collection[SupportedVersion]
+     *
+     * @return long
+     */
+    public static long toMask(final @NotNull Collection<SupportedVersion> versions) {
+        long mask = 0;
+
+        for (final SupportedVersion version : versions) {
+            mask |= toBit(version);
+        }
+
+        return mask;
+    }
+
+    /**
+     * Get mask bit of the specified version.
+     *
+     * @param version SupportedVersion
+     *
+     * @return long
+     */
+    public static long toBit(final @NotNull SupportedVersion version) {
+        return 1L << version.ordinal();
+    }
+
+    /**
+     * Check if FQN latest state in the specified versions is added (TRUE).
+     *
+     * @param fqn String
+     * @param versionsMask long
+     *
+     * @return boolean
+     */
+    public boolean isPresent(final @NotNull String fqn, final long versionsMask) {
+        final History history = getHistory(fqn);
+
+        return history != null && isPresent(history.added, history.removed, versionsMask);
+    }
+
+    /**
+     * Check if FQN is mentioned in any of the specified versions.
+     *
+     * @param fqn String
+     * @param versionsMask long
+     *
+     * @return boolean
+     */
+    public boolean isMentioned(final @NotNull String fqn, final long versionsMask) {
+        final History history = getHistory(fqn);
+
+        return history != null && ((history.added | history.removed) & versionsMask) != 0;
+    }
+
+    /**
+     * Check if FQN was removed (FALSE) in any of the specified versions.
+     *
+     * @param fqn String
+     * @param versionsMask long
+     *
+     * @return boolean
+     */
+    public boolean isRemoved(final @NotNull String fqn, final long versionsMask) {
+        final History history = getHistory(fqn);
+
+        return history != null && (history.removed & versionsMask) != 0;
+    }
+
+    /**
+     * Get the latest of the specified versions where FQN was added.
+     *
+     * @param fqn String
+     * @param versionsMask long
+     *
+     * @return SupportedVersion
+     */
+    public @Nullable SupportedVersion getLatestAddedVersion(
+            final @NotNull String fqn,
+            final long versionsMask
+    ) {
+        final History history = getHistory(fqn);
+
+        return history == null ? null : toLatestVersion(history.added & versionsMask);
+    }
+
+    /**
+     * Get the latest of the specified versions where FQN was removed.
+     *
+     * @param fqn String
+     * @param versionsMask long
+     *
+     * @return SupportedVersion
+     */
+    public @Nullable SupportedVersion getLatestRemovedVersion(
+            final @NotNull String fqn,
+            final long versionsMask
+    ) {
+        final History history = getHistory(fqn);
+
+        return history == null ? null : toLatestVersion(history.removed & versionsMask);
+    }
+
+    /**
+     * Collect all FQNs that are present in the specified versions.
+     *
+     * @param versionsMask long
+     *
+     * @return Map[String, Boolean]
+     */
+    public Map<String, Boolean> collectPresent(final long versionsMask) {
+        final Map<String, Boolean> present = new HashMap<>();
+
+        if (historySection != null) {
+            for (int index = 0; index < historySection.size(); index++) {
+                if (isPresent(
+                        historySection.historyAt(index, false),
+                        historySection.historyAt(index, true),
+                        versionsMask
+                )) {
+                    present.put(historySection.keyAt(index), true);
+                }
+            }
+
+            return present;
+        }
+
+        for (final Map.Entry<String, History> entry : histories.entrySet()) {
+            final History history = entry.getValue();
+
+            if (isPresent(history.added, history.removed, versionsMask)) {
+                present.put(entry.getKey(), true);
+            }
+        }
+
+        return present;
+    }
+
+    /**
+     * Get versions history of FQN.
+     *
+     * @param fqn String
+     *
+     * @return History
+     */
+    private @Nullable History getHistory(final @NotNull String fqn) {
+        if (historySection == null) {
+            return histories.get(fqn);
+        }
+        final int index = historySection.indexOf(fqn);
+
+        if (index < 0) {
+            return null;
+        }
+
+        return new History(
+                historySection.historyAt(index, false),
+                historySection.historyAt(index, true)
+        );
+    }
+
+    /**
+     * Check if the latest state in the specified versions is added (TRUE).
+     *
+     * @param added long
+     * @param removed long
+     * @param versionsMask long
+     *
+     * @return boolean
+     */
+    private static boolean isPresent(
+            final long added,
+            final long removed,
+            final long versionsMask
+    ) {
+        final long latest = Long.highestOneBit((added | removed) & versionsMask);
+
+        return latest != 0 && (added & latest) != 0;
+    }
+
+    /**
+     * Convert mask to the latest version in it.
+     *
+     * @param mask long
+     *
+     * @return SupportedVersion
+     */
+    private static @Nullable SupportedVersion toLatestVersion(final long mask) {
+        if (mask == 0) {
+            return null;
+        }
+
+        return VERSIONS[Long.SIZE - 1 - Long.numberOfLeadingZeros(mask)];
+    }
+
+    private static final class History {
+
+        private long added;
+        private long removed;
+
+        private History() {
+            this(0, 0);
+        }
+
+        private History(final long added, final long removed) {
+            this.added = added;
+            this.removed = removed;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.versioning.indexes.storage;
+
+import com.magento.idea.magento2uct.packages.SupportedVersion;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Converts Java-serialized UCT indexes (*.idc) into the mapped index format (*.idx).
+ *
+ * <p>Versions of every index are folded into the single history file sorted by FQN, so the
+ * plugin looks up any versions range with a single binary search without loading the index.
+ * Only history files are written by the build.</p>
+ *
+ * <p>Runs during the build (see the `convertUctIndexes` Gradle task), so it must not depend
+ * on the IntelliJ Platform classes.</p>
+ */
+public final class MappedIndexConverter {
+
+    private static final String INDEX_FILE_PREFIX = "indexes.";
+    private static final String VERSION_PREFIX = "v";
+
+    private MappedIndexConverter() {
+    }
+
+    /**
+     * Build history files of all serialized indexes found in the source directory.
+     *
+     * @param args String[] source directory and target directory
+     *
+     * @throws IOException if any index couldn't be converted
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException(
+                    "Usage: MappedIndexConverter <sourceDirectory> <targetDirectory>"
+            );
+        }
+        final Path sourceDirectory = Paths.get(args[0]);
+        final Path targetDirectory = Paths.get(args[1]);
+        final List<Path> sources;
+
+        try (Stream<Path> files = Files.walk(sourceDirectory)) {
+            sources = files
+                    .filter(file -> file.toString()
+                            .endsWith(MappedIndexData.SERIALIZED_FILE_EXTENSION))
+                    .collect(Collectors.toList());
+        }
+
+        final Map<Path, Map<String, Map<String, Boolean>>> historyVersions = new TreeMap<>();
+
+        for (final Path source : sources) {
+            final String fileName = source.getFileName().toString();
+
+            if (!fileName.startsWith(INDEX_FILE_PREFIX)) {
+                continue;
+            }
+            final String indexName = fileName.substring(
+                    INDEX_FILE_PREFIX.length(),
+                    fileName.length() - MappedIndexData.SERIALIZED_FILE_EXTENSION.length()
+            );
+            final int keyPosition = indexName.lastIndexOf('.');
+            final Path history = targetDirectory.resolve(sourceDirectory.relativize(source))
+                    .resolveSibling(
+                            MappedIndexData.toHistoryName(indexName.substring(keyPosition + 1))
+                    );
+            final Map<String, Map<String, Boolean>> sections = read(source);
+
+            if (keyPosition == -1) {
+                // indexes.%key.idc keeps all versions in its sections.
+                if (!sections.containsKey(MappedIndexData.DEFAULT_SECTION)) {
+                    historyVersions.computeIfAbsent(history, key -> new TreeMap<>())
+                            .putAll(sections);
+                }
+            } else if (indexName.startsWith(VERSION_PREFIX)) {
+                // indexes.v%version.%key.idc keeps a single version.
+                historyVersions.computeIfAbsent(history, key -> new TreeMap<>()).put(
+                        indexName.substring(VERSION_PREFIX.length(), keyPosition),
+                        sections.get(MappedIndexData.DEFAULT_SECTION)
+                );
+            }
+        }
+
+        for (final Map.Entry<Path, Map<String, Map<String, Boolean>>> history
+                : historyVersions.entrySet()) {
+            Files.createDirectories(history.getKey().getParent());
+
+            try (OutputStream outputStream = Files.newOutputStream(history.getKey())) {
+                writeHistory(history.getValue(), outputStream);
+            }
+        }
+    }
+
+    /**
+     * Convert serialized index file into the mapped index file.
+     *
+     * @param source Path
+     * @param target Path
+     *
+     * @return Map[String, Map[String, Boolean]] converted sections
+     *
+     * @throws IOException if source couldn't be read or target couldn't be written
+     */
+    public static Map<String, Map<String, Boolean>> convert(
+            final @NotNull Path source,
+            final @NotNull Path target
+    ) throws IOException {
+        final Map<String, Map<String, Boolean>> sections = read(source);
+
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+
+        try (OutputStream outputStream = Files.newOutputStream(target)) {
+            write(sections, outputStream);
+        }
+
+        return sections;
+    }
+
+    /**
+     * Read sections of the serialized index file.
+     *
+     * @param source Path
+     *
+     * @return Map[String, Map[String, Boolean]]
+     *
+     * @throws IOException if source couldn't be read
+     */
+    public static Map<String, Map<String, Boolean>> read(
+            final @NotNull Path source
+    ) throws IOException {
+        try (
+                InputStream inputStream = Files.newInputStream(source);
+                ObjectInputStream objectInputStream = new ObjectInputStream(inputStream)
+        ) {
+            return toSections((Map<?, ?>) objectInputStream.readObject());
+        } catch (ClassNotFoundException | ClassCastException exception) {
+            throw new IOException("Unsupported serialized index: " + source, exception);
+        }
+    }
+
+    /**
+     * Write sections in the mapped index format.
+     *
+     * @param sections Map[String, Map[String, Boolean]]
+     * @param outputStream OutputStream
+     *
+     * @throws IOException if data couldn't be written
+     */
+    public static void write(
+            final @NotNull Map<String, Map<String, Boolean>> sections,
+            final @NotNull OutputStream outputStream
+    ) throws IOException {
+        writeSections(
+                sections,
+                MappedIndexData.FLAG_VALUE_SIZE,
+                (output, value) -> output.writeByte(Boolean.TRUE.equals(value) ? 1 : 0),
+                outputStream
+        );
+    }
+
+    /**
+     * Fold versions of the index into the history of every FQN and write it as the single
+     * section. History of FQN is a pair of masks indexed by the SupportedVersion ordinal:
+     * versions where FQN was added (TRUE flag) and versions where it was removed (FALSE flag).
+     *
+     * @param versions Map[String, Map[String, Boolean]] version to index data
+     * @param outputStream OutputStream
+     *
+     * @throws IOException if data couldn't be written
+     */
+    public static void writeHistory(
+            final @NotNull Map<String, Map<String, Boolean>> versions,
+            final @NotNull OutputStream outputStream
+    ) throws IOException {
+        final Map<String, long[]> histories = new HashMap<>();
+
+        for (final Map.Entry<String, Map<String, Boolean>> versionEntry : versions.entrySet()) {
+            final SupportedVersion version = SupportedVersion.getVersion(versionEntry.getKey());
+
+            if (version == null || versionEntry.getValue() == null) {
+                continue;
+            }
+            final long versionBit = 1L << version.ordinal();
+
+            for (final Map.Entry<String, Boolean> entry : versionEntry.getValue().entrySet()) {
+                final long[] history = histories.computeIfAbsent(
+                        entry.getKey(),
+                        key -> new long[2]
+                );
+                history[Boolean.TRUE.equals(entry.getValue()) ? 0 : 1] |= versionBit;
+            }
+        }
+        final Map<String, Map<String, long[]>> sections = new TreeMap<>();
+        sections.put(MappedIndexData.DEFAULT_SECTION, histories);
+
+        writeSections(
+                sections,
+                MappedIndexData.HISTORY_VALUE_SIZE,
+                (output, value) -> {
+                    output.writeLong(value[0]);
+                    output.writeLong(value[1]);
+                },
+                outputStream
+        );
+    }
+
+    /**
+     * Write sections with values of the fixed size.
+     *
+     * @param sections Map[String, Map[String, T]]
+     * @param valueSize int
+     * @param valueWriter ValueWriter[T]
+     * @param outputStream OutputStream
+     * @param <T> value type
+     *
+     * @throws IOException if data couldn't be written
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static <T> void writeSections(
+            final @NotNull Map<String, Map<String, T>> sections,
+            final int valueSize,
+            final @NotNull ValueWriter<T> valueWriter,
+            final @NotNull OutputStream outputStream
+    ) throws IOException {
+        final List<byte[]> names = new ArrayList<>();
+        final List<List<Map.Entry<byte[], T>>> entries = new ArrayList<>();
+        int position = 3 * Integer.BYTES;
+
+        for (final Map.Entry<String, Map<String, T>> section
+                : new TreeMap<>(sections).entrySet()) {
+            final byte[] name = section.getKey().getBytes(StandardCharsets.UTF_8);
+            final List<Map.Entry<byte[], T>> sectionEntries = new ArrayList<>();
+
+            for (final Map.Entry<String, T> entry : section.getValue().entrySet()) {
+                sectionEntries.add(new AbstractMap.SimpleImmutableEntry<>(
+                        entry.getKey().getBytes(StandardCharsets.UTF_8),
+                        entry.getValue()
+                ));
+            }
+            sectionEntries.sort((first, second) -> Arrays.compareUnsigned(
+                    first.getKey(),
+                    second.getKey()
+            ));
+            names.add(name);
+            entries.add(sectionEntries);
+            position += Integer.BYTES + name.length + 5 * Integer.BYTES;
+        }
+        final DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MappedIndexData.MAGIC);
+        output.writeInt(MappedIndexData.FORMAT_VERSION);
+        output.writeInt(names.size());
+
+        for (int i = 0; i < names.size(); i++) {
+            final int entryCount = entries.get(i).size();
+            final int offsetsPosition = position;
+            final int valuesPosition = offsetsPosition + (entryCount + 1) * Integer.BYTES;
+            final int poolPosition = valuesPosition + entryCount * valueSize;
+            output.writeInt(names.get(i).length);
+            output.write(names.get(i));
+            output.writeInt(entryCount);
+            output.writeInt(valueSize);
+            output.writeInt(offsetsPosition);
+            output.writeInt(valuesPosition);
+            output.writeInt(poolPosition);
+            position = poolPosition + poolSize(entries.get(i));
+        }
+
+        for (final List<Map.Entry<byte[], T>> sectionEntries : entries) {
+            int offset = 0;
+            output.writeInt(offset);
+
+            for (final Map.Entry<byte[], T> entry : sectionEntries) {
+                offset += entry.getKey().length;
+                output.writeInt(offset);
+            }
+
+            for (final Map.Entry<byte[], T> entry : sectionEntries) {
+                valueWriter.write(output, entry.getValue());
+            }
+
+            for (final Map.Entry<byte[], T> entry : sectionEntries) {
+                output.write(entry.getKey());
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Normalize deserialized index to the sections representation.
+     *
+     * @param data Map
+     *
+     * @return Map[String, Map[String, Boolean]]
+     */
+    @SuppressWarnings({"unchecked", "PMD.AvoidInstantiatingObjectsInLoops"})
+    private static Map<String, Map<String, Boolean>> toSections(final @NotNull Map<?, ?> data) {
+        final Map<String, Map<String, Boolean>> sections = new TreeMap<>();
+        final boolean isVersioned = data.values().stream().anyMatch(Map.class::isInstance);
+
+        if (!isVersioned) {
+            sections.put(MappedIndexData.DEFAULT_SECTION, (Map<String, Boolean>) data);
+            return sections;
+        }
+
+        for (final Map.Entry<?, ?> entry : data.entrySet()) {
+            sections.put((String) entry.getKey(), (Map<String, Boolean>) entry.getValue());
+        }
+
+        return sections;
+    }
+
+    private static <T> int poolSize(final @NotNull List<Map.Entry<byte[], T>> entries) {
+        int size = 0;
+
+        for (final Map.Entry<byte[], T> entry : entries) {
+            size += entry.getKey().length;
+        }
+
+        return size;
+    }
+
+    /**
+     * Writer of the section value.
+     *
+     * @param <T> value type
+     */
+    @FunctionalInterface
+    private interface ValueWriter<T> {
+
+        void write(DataOutputStream output, T value) throws IOException;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.versioning.indexes.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Parsed header of the mapped index file.
+ *
+ * <p>File layout (big-endian):</p>
+ * <pre>
+ * int magic, int format version, int sections count
+ * per section: int name length, byte[] name, int entries count, int value size,
+ *              int offsets position, int values position, int string pool position
+ * per section data: int[entries + 1] key offsets, byte[entries * value size] values,
+ *                   byte[] string pool
+ * </pre>
+ * Keys of every section are sorted by unsigned UTF-8 byte order. Values of the index
+ * sections are single byte flags, values of the history section are pairs of long
+ * masks of the versions where the key was added and removed.
+ */
+public final class MappedIndexData {
+
+    public static final int MAGIC = 0x55435449;
+    public static final int FORMAT_VERSION = 2;
+    public static final String FILE_EXTENSION = ".idx";
+    public static final String SERIALIZED_FILE_EXTENSION = ".idc";
+    public static final int FLAG_VALUE_SIZE = 1;
+    public static final int HISTORY_VALUE_SIZE = 2 * Long.BYTES;
+    private static final String HISTORY_FILE_NAME_PATTERN = "indexes.%key.history" + FILE_EXTENSION;
+
+    /**
+     * Name of the section for indexes that are not split by version.
+     */
+    public static final String DEFAULT_SECTION = "";
+
+    private final Map<String, MappedIndexSection> sections;
+
+    private MappedIndexData(final @NotNull Map<String, MappedIndexSection> sections) {
+        this.sections = Collections.unmodifiableMap(sections);
+    }
+
+    /**
+     * Get all sections of the index.
+     *
+     * @return Map[String, MappedIndexSection]
+     */
+    public @NotNull Map<String, MappedIndexSection> getSections() {
+        return sections;
+    }
+
+    /**
+     * Check if index contains only the default section.
+     *
+     * @return boolean
+     */
+    public boolean isSingleSection() {
+        return sections.size() == 1 && sections.containsKey(DEFAULT_SECTION);
+    }
+
+    /**
+     * Get name of the file with the versions history of the index.
+     *
+     * @param indexKey String
+     *
+     * @return String
+     */
+    public static @NotNull String toHistoryName(final @NotNull String indexKey) {
+        return HISTORY_FILE_NAME_PATTERN.replace("%key", indexKey);
+    }
+
+    /**
+     * Memory-map index file.
+     *
+     * @param file Path
+     *
+     * @return MappedIndexData
+     *
+     * @throws IOException if file couldn't be mapped or has invalid format
+     */
+    public static @NotNull MappedIndexData map(final @NotNull Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Read index from the stream into the off-heap buffer.
+     *
+     * @param inputStream InputStream
+     *
+     * @return MappedIndexData
+     *
+     * @throws IOException if stream couldn't be read or has invalid format
+     */
+    public static @NotNull MappedIndexData read(final @NotNull InputStream inputStream)
+            throws IOException {
+        final byte[] content = inputStream.readAllBytes();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(content.length);
+        buffer.put(content);
+        buffer.flip();
+
+        return parse(buffer);
+    }
+
+    /**
+     * Parse index header.
+     *
+     * @param buffer ByteBuffer
+     *
+     * @return MappedIndexData
+     *
+     * @throws IOException if buffer has invalid format
+     */
+    public static @NotNull MappedIndexData parse(final @NotNull ByteBuffer buffer)
+            throws IOException {
+        final ByteBuffer header = buffer.duplicate();
+
+        if (header.remaining() < 3 * Integer.BYTES || header.getInt() != MAGIC) {
+            throw new IOException("Invalid mapped index file.");
+        }
+        final int formatVersion = header.getInt();
+
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported mapped index format version: " + formatVersion);
+        }
+        final int sectionsCount = header.getInt();
+        final Map<String, MappedIndexSection> sections = new LinkedHashMap<>();
+
+        for (int i = 0; i < sectionsCount; i++) {
+            final byte[] name = new byte[header.getInt()];
+            header.get(name);
+            final int entryCount = header.getInt();
+            final int valueSize = header.getInt();
+            final int offsetsPosition = header.getInt();
+            final int valuesPosition = header.getInt();
+            final int poolPosition = header.getInt();
+
+            sections.put(
+                    new String(name, StandardCharsets.UTF_8),
+                    new MappedIndexSection( //NOPMD
+                            buffer,
+                            entryCount,
+                            valueSize,
+                            offsetsPosition,
+                            valuesPosition,
+                            poolPosition
+                    )
+            );
+        }
+
+        return new MappedIndexData(sections);
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.versioning.indexes.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Read-only map view over a single sorted section of the mapped index file.
+ *
+ * <p>Lookups are binary searches over the UTF-8 string table, so keys are never decoded
+ * into heap strings unless the section is iterated. Map view is backed by the flag values,
+ * values of the history section are read with historyAt.</p>
+ */
+public final class MappedIndexSection extends AbstractMap<String, Boolean> {
+
+    private final ByteBuffer buffer;
+    private final int entryCount;
+    private final int valueSize;
+    private final int offsetsPosition;
+    private final int valuesPosition;
+    private final int poolPosition;
+
+    /**
+     * Mapped index section constructor.
+     *
+     * @param buffer ByteBuffer
+     * @param entryCount int
+     * @param valueSize int
+     * @param offsetsPosition int
+     * @param valuesPosition int
+     * @param poolPosition int
+     */
+    public MappedIndexSection(
+            final @NotNull ByteBuffer buffer,
+            final int entryCount,
+            final int valueSize,
+            final int offsetsPosition,
+            final int valuesPosition,
+            final int poolPosition
+    ) {
+        super();
+        this.buffer = buffer;
+        this.entryCount = entryCount;
+        this.valueSize = valueSize;
+        this.offsetsPosition = offsetsPosition;
+        this.valuesPosition = valuesPosition;
+        this.poolPosition = poolPosition;
+    }
+
+    @Override
+    public int size() {
+        return entryCount;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public Boolean get(final Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        final int index = indexOf((String) key);
+
+        return index < 0 ? null : valueAt(index);
+    }
+
+    @Override
+    public @NotNull Set<Map.Entry<String, Boolean>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public @NotNull Iterator<Map.Entry<String, Boolean>> iterator() {
+                return new Iterator<>() {
+                    private int cursor;
+
+                    @Override
+                    public boolean hasNext() {
+                        return cursor < entryCount;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Boolean> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final int index = cursor++;
+
+                        return new SimpleImmutableEntry<>(keyAt(index), valueAt(index));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return entryCount;
+            }
+        };
+    }
+
+    /**
+     * Find position of the specified key in the section.
+     *
+     * @param key String
+     *
+     * @return int or -1 if the key is absent
+     */
+    public int indexOf(final @NotNull String key) {
+        int low = 0;
+        int high = entryCount - 1;
+
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = compareKeyAt(middle, key);
+
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Decode key at the specified position.
+     *
+     * @param index int
+     *
+     * @return String
+     */
+    public @NotNull String keyAt(final int index) {
+        final int start = keyStart(index);
+        final byte[] bytes = new byte[keyEnd(index) - start];
+
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get value at the specified position.
+     *
+     * @param index int
+     *
+     * @return boolean
+     */
+    public boolean valueAt(final int index) {
+        return buffer.get(valuesPosition + index * valueSize) != 0;
+    }
+
+    /**
+     * Get versions mask of the history value at the specified position.
+     *
+     * @param index int
+     * @param isRemoved boolean false for the versions where key was added
+     *
+     * @return long
+     */
+    public long historyAt(final int index, final boolean isRemoved) {
+        return buffer.getLong(
+                valuesPosition + index * valueSize + (isRemoved ? Long.BYTES : 0)
+        );
+    }
+
+    /**
+     * Compare stored key with the candidate using unsigned UTF-8 byte order.
+     *
+     * @param index int
+     * @param candidate String
+     *
+     * @return int
+     */
+    private int compareKeyAt(final int index, final @NotNull String candidate) {
+        final int start = keyStart(index);
+        final int length = keyEnd(index) - start;
+        final int candidateLength = candidate.length();
+
+        for (int i = 0; i < candidateLength; i++) {
+            if (candidate.charAt(i) >= 0x80) { //NOPMD
+                return compareKeyAt(start, length, candidate.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        final int limit = Math.min(length, candidateLength);
+
+        for (int i = 0; i < limit; i++) {
+            final int stored = buffer.get(start + i) & 0xFF;
+            final int expected = candidate.charAt(i);
+
+            if (stored != expected) {
+                return stored - expected;
+            }
+        }
+
+        return length - candidateLength;
+    }
+
+    /**
+     * Compare stored key bytes with the encoded candidate.
+     *
+     * @param start int
+     * @param length int
+     * @param candidate byte[]
+     *
+     * @return int
+     */
+    private int compareKeyAt(final int start, final int length, final byte[] candidate) {
+        final int limit = Math.min(length, candidate.length);
+
+        for (int i = 0; i < limit; i++) {
+            final int stored = buffer.get(start + i) & 0xFF;
+            final int expected = candidate[i] & 0xFF;
+
+            if (stored != expected) {
+                return stored - expected;
+            }
+        }
+
+        return length - candidate.length;
+    }
+
+    private int keyStart(final int index) {
+        return poolPosition + buffer.getInt(offsetsPosition + index * Integer.BYTES);
+    }
+
+    private int keyEnd(final int index) {
+        return poolPosition + buffer.getInt(offsetsPosition + (index + 1) * Integer.BYTES);
+    }
+}
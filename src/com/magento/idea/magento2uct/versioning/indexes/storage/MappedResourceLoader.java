@@ -0,0 +1,92 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.versioning.indexes.storage;
+
+import com.magento.idea.magento2plugin.magento.packages.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Loads versions history of the bundled UCT indexes built by the MappedIndexConverter.
+ */
+public class MappedResourceLoader {
+
+    private static final String BASE_PATH = File.separator + "uct";
+    private static final Map<String, MappedIndexData> LOADED = new ConcurrentHashMap<>();
+
+    private final String resourcePath;
+
+    /**
+     * Mapped resource loader constructor.
+     *
+     * @param baseDir String
+     */
+    public MappedResourceLoader(final @NotNull String baseDir) {
+        resourcePath = BASE_PATH + File.separator + baseDir + File.separator;
+    }
+
+    /**
+     * Load versions history of the index from the mapped resource.
+     *
+     * @param indexKey String
+     *
+     * @return MappedIndexSection or null if there is no history resource
+     *
+     * @throws IOException if resource couldn't be read or has invalid format
+     */
+    public @Nullable MappedIndexSection loadHistory(final @NotNull String indexKey)
+            throws IOException {
+        final MappedIndexData data = loadData(
+                resourcePath + MappedIndexData.toHistoryName(indexKey)
+        );
+
+        return data == null ? null : data.getSections().get(MappedIndexData.DEFAULT_SECTION);
+    }
+
+    /**
+     * Load mapped data once per resource.
+     *
+     * @param path String
+     *
+     * @return MappedIndexData
+     */
+    private @Nullable MappedIndexData loadData(final @NotNull String path) throws IOException {
+        final MappedIndexData loaded = LOADED.get(path);
+
+        if (loaded != null) {
+            return loaded;
+        }
+        final URL resource = getClass().getResource(path);
+
+        if (resource == null) {
+            return null;
+        }
+        MappedIndexData data;
+
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                data = MappedIndexData.map(Path.of(resource.toURI()));
+            } catch (URISyntaxException exception) {
+                throw new IOException(exception);
+            }
+        } else {
+            // Resources packed into the plugin jar can't be mapped, keep them off-heap instead.
+            try (InputStream inputStream = resource.openStream()) {
+                data = MappedIndexData.read(inputStream);
+            }
+        }
+        final MappedIndexData previous = LOADED.putIfAbsent(path, data);
+
+        return previous == null ? data : previous;
+    }
+}
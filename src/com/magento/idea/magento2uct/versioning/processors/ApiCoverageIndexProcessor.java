@@ -14,19 +14,18 @@ import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.magento.packages.MagentoPhpClass;
 import com.magento.idea.magento2uct.packages.IndexRegistry;
 import com.magento.idea.magento2uct.packages.SupportedVersion;
-import com.magento.idea.magento2uct.versioning.indexes.data.ApiCoverageStateIndex;
 import com.magento.idea.magento2uct.versioning.indexes.data.VersionStateIndex;
 import com.magento.idea.magento2uct.versioning.indexes.storage.FileWriter;
 import com.magento.idea.magento2uct.versioning.processors.util.VersioningDataOperationsUtil;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public final class ApiCoverageIndexProcessor implements IndexProcessor {
 
-    private final Map<String, Boolean> data = new HashMap<>();
+    private final Map<String, Boolean> data = new ConcurrentHashMap<>();
 
     @Override
     public void clearData() {
@@ -74,18 +73,16 @@ public final class ApiCoverageIndexProcessor implements IndexProcessor {
     }
 
     @Override
-    public void save(
-            final @NotNull String basePath,
-            final @NotNull SupportedVersion indexedVersion
-    ) {
+    public void save(final @NotNull IndexBaseline baseline) {
         if (data.isEmpty()) {
             return;
         }
-        commuteSymmetricDifference(indexedVersion, basePath);
+        final SupportedVersion indexedVersion = baseline.getIndexedVersion();
+        commuteSymmetricDifference(baseline.getPreviousData(IndexRegistry.API_COVERAGE));
 
         if (!data.isEmpty()) {
             final FileWriter<String, Map<String, Boolean>> storage = new FileWriter<>(//NOPMD
-                    basePath,
+                    baseline.getBasePath(),
                     IndexRegistry.API_COVERAGE
             );
             final String indexName = VersionStateIndex.SINGLE_FILE_NAME_PATTERN.replace(
@@ -102,20 +99,9 @@ public final class ApiCoverageIndexProcessor implements IndexProcessor {
      * Process new coming data via symmetric difference operation under sets.
      * Removed data must have negative (FALSE) flag for future using.
      *
-     * @param version SupportedVersion
-     * @param basePath String
+     * @param previousData Map[String, Boolean]
      */
-    private void commuteSymmetricDifference(
-            final @NotNull SupportedVersion version,
-            final @NotNull String basePath
-    ) {
-        final List<SupportedVersion> priorVersions = SupportedVersion.getPriorVersions(version);
-
-        final ApiCoverageStateIndex apiStateIndex = new ApiCoverageStateIndex();
-        apiStateIndex.setProjectBasePath(basePath);
-        apiStateIndex.loadFromFile(priorVersions);
-        final Map<String, Boolean> previousData = apiStateIndex.getIndexData();
-
+    private void commuteSymmetricDifference(final @NotNull Map<String, Boolean> previousData) {
         final Map<String, Boolean> diff = VersioningDataOperationsUtil.getDiff(
                 previousData,
                 new HashMap<>(data)
@@ -11,18 +11,15 @@ import com.jetbrains.php.lang.psi.elements.Method;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2uct.packages.IndexRegistry;
 import com.magento.idea.magento2uct.packages.SupportedVersion;
-import com.magento.idea.magento2uct.versioning.indexes.data.DeprecationStateIndex;
 import com.magento.idea.magento2uct.versioning.indexes.data.VersionStateIndex;
 import com.magento.idea.magento2uct.versioning.indexes.storage.FileWriter;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jetbrains.annotations.NotNull;
 
 public final class DeprecationIndexProcessor implements IndexProcessor {
 
-    private final Map<String, Boolean> data = new HashMap<>();
+    private final Map<String, Boolean> data = new ConcurrentHashMap<>();
 
     @Override
     public void clearData() {
@@ -55,18 +52,16 @@ public final class DeprecationIndexProcessor implements IndexProcessor {
     }
 
     @Override
-    public void save(
-            final @NotNull String basePath,
-            final @NotNull SupportedVersion indexedVersion
-    ) {
+    public void save(final @NotNull IndexBaseline baseline) {
         if (data.isEmpty()) {
             return;
         }
-        filter(indexedVersion, basePath);
+        final SupportedVersion indexedVersion = baseline.getIndexedVersion();
+        data.entrySet().removeAll(baseline.getPreviousData(IndexRegistry.DEPRECATION).entrySet());
 
         if (!data.isEmpty()) {
             final FileWriter<String, Boolean> indexStorage = new FileWriter<>(//NOPMD
-                    basePath,
+                    baseline.getBasePath(),
                     IndexRegistry.DEPRECATION
             );
             final String indexName = VersionStateIndex.FILE_NAME_PATTERN
@@ -76,30 +71,4 @@ public final class DeprecationIndexProcessor implements IndexProcessor {
             indexStorage.put(data, indexedVersion.getVersion(), indexName);
         }
     }
-
-    /**
-     * Filter deprecation data to not store duplicates.
-     *
-     * @param indexedVersion SupportedVersion
-     * @param basePath String
-     */
-    private void filter(
-            final @NotNull SupportedVersion indexedVersion,
-            final @NotNull String basePath
-    ) {
-        final List<SupportedVersion> previousVersions = new ArrayList<>();
-
-        for (final SupportedVersion supportedVersion : SupportedVersion.values()) {
-            if (supportedVersion.compareTo(indexedVersion) < 0) {
-                previousVersions.add(supportedVersion);
-            }
-        }
-        final DeprecationStateIndex deprecationIndex = new DeprecationStateIndex();
-
-        deprecationIndex.setProjectBasePath(basePath);
-        deprecationIndex.loadFromFile(previousVersions);
-        final Map<String, Boolean> previousData = deprecationIndex.getIndexData();
-
-        data.entrySet().removeAll(previousData.entrySet());
-    }
 }
@@ -12,19 +12,17 @@ import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.magento.idea.magento2plugin.magento.packages.MagentoPhpClass;
 import com.magento.idea.magento2uct.packages.IndexRegistry;
 import com.magento.idea.magento2uct.packages.SupportedVersion;
-import com.magento.idea.magento2uct.versioning.indexes.data.ExistenceStateIndex;
 import com.magento.idea.magento2uct.versioning.indexes.data.VersionStateIndex;
 import com.magento.idea.magento2uct.versioning.indexes.storage.FileWriter;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 
 public final class ExistenceIndexProcessor implements IndexProcessor {
 
-    private final Map<String, Boolean> data = new HashMap<>();
+    private final Map<String, Boolean> data = new ConcurrentHashMap<>();
 
     @Override
     public void clearData() {
@@ -57,18 +55,16 @@ public final class ExistenceIndexProcessor implements IndexProcessor {
     }
 
     @Override
-    public void save(
-            final @NotNull String basePath,
-            final @NotNull SupportedVersion indexedVersion
-    ) {
+    public void save(final @NotNull IndexBaseline baseline) {
         if (data.isEmpty()) {
             return;
         }
-        filter(indexedVersion, basePath);
+        final SupportedVersion indexedVersion = baseline.getIndexedVersion();
+        filter(baseline.getPreviousData(IndexRegistry.EXISTENCE));
 
         if (!data.isEmpty()) {
             final FileWriter<String, Map<String, Boolean>> storage = new FileWriter<>(//NOPMD
-                    basePath,
+                    baseline.getBasePath(),
                     IndexRegistry.EXISTENCE
             );
             final String indexName = VersionStateIndex.SINGLE_FILE_NAME_PATTERN.replace(
@@ -84,25 +80,9 @@ public final class ExistenceIndexProcessor implements IndexProcessor {
     /**
      * Filter existence data to not store duplicates.
      *
-     * @param indexedVersion SupportedVersion
-     * @param basePath String
+     * @param previousData Map[String, Boolean]
      */
-    private void filter(
-            final @NotNull SupportedVersion indexedVersion,
-            final @NotNull String basePath
-    ) {
-        final List<SupportedVersion> previousVersions = new ArrayList<>();
-
-        for (final SupportedVersion supportedVersion : SupportedVersion.values()) {
-            if (supportedVersion.compareTo(indexedVersion) < 0) {
-                previousVersions.add(supportedVersion);
-            }
-        }
-        final ExistenceStateIndex existenceStateIndex = new ExistenceStateIndex();
-        existenceStateIndex.setProjectBasePath(basePath);
-        existenceStateIndex.loadFromFile(previousVersions);
-        final Map<String, Boolean> previousData = existenceStateIndex.getIndexData();
-
+    private void filter(final @NotNull Map<String, Boolean> previousData) {
         final Map<String, Boolean> added = new HashMap<>(data);
         added.entrySet().removeAll(previousData.entrySet());
 
@@ -0,0 +1,135 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.versioning.processors;
+
+import com.magento.idea.magento2uct.packages.IndexRegistry;
+import com.magento.idea.magento2uct.packages.SupportedVersion;
+import com.magento.idea.magento2uct.versioning.indexes.data.ApiCoverageStateIndex;
+import com.magento.idea.magento2uct.versioning.indexes.data.DeprecationStateIndex;
+import com.magento.idea.magento2uct.versioning.indexes.data.ExistenceStateIndex;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index data of the versions prior to the indexed one, used to store only the difference.
+ *
+ * <p>Data of every index is loaded from the project files only once per reindexing and
+ * is shared by all its consumers. Loading could be started in the background with
+ * the preload method, so it overlaps with the files processing.</p>
+ */
+public final class IndexBaseline {
+
+    private final String basePath;
+    private final SupportedVersion indexedVersion;
+    private final Map<IndexRegistry, CompletableFuture<Map<String, Boolean>>> previousData
+            = new ConcurrentHashMap<>();
+
+    /**
+     * Index baseline constructor.
+     *
+     * @param basePath String
+     * @param indexedVersion SupportedVersion
+     */
+    public IndexBaseline(
+            final @NotNull String basePath,
+            final @NotNull SupportedVersion indexedVersion
+    ) {
+        this.basePath = basePath;
+        this.indexedVersion = indexedVersion;
+    }
+
+    /**
+     * Get project base path where indexes are stored.
+     *
+     * @return String
+     */
+    public String getBasePath() {
+        return basePath;
+    }
+
+    /**
+     * Get version that is indexed.
+     *
+     * @return SupportedVersion
+     */
+    public SupportedVersion getIndexedVersion() {
+        return indexedVersion;
+    }
+
+    /**
+     * Start loading data of the specified indexes in the background.
+     *
+     * @param indexes Collection[IndexRegistry]
+     * @param executor Executor
+     */
+    public void preload(
+            final @NotNull Collection<IndexRegistry> indexes,
+            final @NotNull Executor executor
+    ) {
+        for (final IndexRegistry index : indexes) {
+            previousData.computeIfAbsent(
+                    index,
+                    key -> CompletableFuture.supplyAsync(() -> load(key), executor)
+            );
+        }
+    }
+
+    /**
+     * Get index data of the prior versions.
+     *
+     * @param index IndexRegistry
+     *
+     * @return Map[String, Boolean]
+     */
+    public Map<String, Boolean> getPreviousData(final @NotNull IndexRegistry index) {
+        return Collections.unmodifiableMap(previousData.computeIfAbsent(
+                index,
+                key -> CompletableFuture.completedFuture(load(key))
+        ).join());
+    }
+
+    /**
+     * Load index data of the prior versions from the project files.
+     *
+     * @param index IndexRegistry
+     *
+     * @return Map[String, Boolean]
+     */
+    private Map<String, Boolean> load(final @NotNull IndexRegistry index) {
+        final List<SupportedVersion> priorVersions = SupportedVersion.getPriorVersions(
+                indexedVersion
+        );
+
+        switch (index) {
+            case DEPRECATION:
+                final DeprecationStateIndex deprecationIndex = new DeprecationStateIndex();
+                deprecationIndex.setProjectBasePath(basePath);
+                deprecationIndex.loadFromFile(priorVersions);
+
+                return deprecationIndex.getIndexData();
+            case EXISTENCE:
+                final ExistenceStateIndex existenceIndex = new ExistenceStateIndex();
+                existenceIndex.setProjectBasePath(basePath);
+                existenceIndex.loadFromFile(priorVersions);
+
+                return existenceIndex.getIndexData();
+            case API_COVERAGE:
+                final ApiCoverageStateIndex apiIndex = new ApiCoverageStateIndex();
+                apiIndex.setProjectBasePath(basePath);
+                apiIndex.loadFromFile(priorVersions);
+
+                return apiIndex.getIndexData();
+            default:
+                throw new IllegalArgumentException("Unsupported index " + index.getKey());
+        }
+    }
+}
@@ -6,14 +6,23 @@
 package com.magento.idea.magento2uct.versioning.processors;
 
 import com.intellij.psi.PsiFile;
-import com.magento.idea.magento2uct.packages.SupportedVersion;
 import org.jetbrains.annotations.NotNull;
 
 public interface IndexProcessor {
 
     void clearData();
 
+    /**
+     * Collect index data of the file. Could be called concurrently for different files.
+     *
+     * @param file PsiFile
+     */
     void process(final @NotNull PsiFile file);
 
-    void save(final @NotNull String basePath, final @NotNull SupportedVersion indexedVersion);
+    /**
+     * Store collected data as the difference with the baseline.
+     *
+     * @param baseline IndexBaseline
+     */
+    void save(final @NotNull IndexBaseline baseline);
 }
@@ -0,0 +1,18 @@
+<?php
+
+
+namespace Foo\Bar\Cron;
+
+
+class Cleanup
+{
+    /**
+     * Cronjob Description
+     *
+     * @return void
+     */
+    public function execute(): void
+    {
+        // todo: implement cronjob logic here
+    }
+}
@@ -0,0 +1,22 @@
+<?php
+
+
+namespace Foo\Bar\Observer;
+
+use Magento\Framework\Event\ObserverInterface;
+use Magento\Framework\Event\Observer;
+
+class OrderPlaced implements ObserverInterface
+{
+    /**
+     * Observer for sales_order_place_after
+     *
+     * @param Observer $observer
+     * @return void
+     */
+    public function execute(Observer $observer)
+    {
+        $event = $observer->getEvent();
+        // TODO: Implement observer method.
+    }
+}
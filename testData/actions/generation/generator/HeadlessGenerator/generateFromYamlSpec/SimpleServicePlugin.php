@@ -0,0 +1,20 @@
+<?php
+
+namespace Foo\Bar\Plugin;
+
+use Foo\Bar\Service\SimpleService;
+
+class SimpleServicePlugin
+{
+    /**
+     * @param SimpleService $subject
+     * @param $result
+     * @param int $param1
+     * @param string $param2
+     */
+    public function afterExecute(SimpleService $subject, $result, int $param1, string $param2)
+    {
+        // TODO: Implement plugin method.
+        return $result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.actions.generation.headless;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.magento.idea.magento2plugin.actions.generation.generator.BaseGeneratorTestCase;
+import com.magento.idea.magento2plugin.actions.generation.headless.data.GenerationReportData;
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+public class HeadlessGeneratorTest extends BaseGeneratorTestCase {
+
+    private static final String MODULE_DIRECTORY = "src/app/code/Foo/Spec";
+    private static final String TARGET_MODULE_DIRECTORY = "src/app/code/Foo/Bar";
+
+    /**
+     * Test generation of the module and plugin declared in the YAML spec.
+     */
+    public void testGenerateFromYamlSpec() {
+        final GenerationReportData report = generate("module.magento-spec.yml");
+
+        assertEmpty(report.getErrors());
+        assertEquals(5, report.getGeneratedFilesCount());
+        assertGeneratedFile("composer.json", MODULE_DIRECTORY);
+        assertGeneratedFile("registration.php", MODULE_DIRECTORY);
+        assertGeneratedFile("module.xml", MODULE_DIRECTORY + "/etc");
+        assertGeneratedFile("SimpleServicePlugin.php", TARGET_MODULE_DIRECTORY + "/Plugin");
+        assertGeneratedFile("di.xml", TARGET_MODULE_DIRECTORY + "/etc");
+    }
+
+    /**
+     * Test generation of the observer and cron job declared in the JSON spec.
+     */
+    public void testGenerateFromJsonSpec() {
+        final GenerationReportData report = generate("events.magento-spec.json");
+
+        assertEmpty(report.getErrors());
+        assertEquals(4, report.getGeneratedFilesCount());
+        assertGeneratedFile("OrderPlaced.php", TARGET_MODULE_DIRECTORY + "/Observer");
+        assertGeneratedFile("events.xml", TARGET_MODULE_DIRECTORY + "/etc");
+        assertGeneratedFile("Cleanup.php", TARGET_MODULE_DIRECTORY + "/Cron");
+        assertGeneratedFile("crontab.xml", TARGET_MODULE_DIRECTORY + "/etc");
+    }
+
+    /**
+     * Test that invalid spec entries are reported and skipped.
+     */
+    public void testReportSpecErrors() {
+        final GenerationReportData report = generate("errors.magento-spec.yml");
+        final List<String> expectedErrors = Arrays.asList(
+                "Module name must be in the Vendor_Module format: WrongModuleName",
+                "Plugin target class is not found: Foo\\Bar\\Service\\MissingService",
+                "Unknown plugin type instead for WrongTypePlugin",
+                "Required value \"event\" is missing in the observers entry"
+        );
+
+        assertEquals(expectedErrors, report.getErrors());
+        assertEquals(0, report.getGeneratedFilesCount());
+    }
+
+    /**
+     * Test that spec which couldn't be read is reported.
+     */
+    public void testReportUnreadableSpec() {
+        final List<String> brokenSpecErrors = generate("broken.magento-spec.json").getErrors();
+
+        assertEquals(1, brokenSpecErrors.size());
+        assertTrue(brokenSpecErrors.get(0).startsWith("Generation spec couldn't be parsed: "));
+
+        final List<String> notSpecErrors = generate("cron.json").getErrors();
+
+        assertEquals(1, notSpecErrors.size());
+        assertTrue(notSpecErrors.get(0).startsWith(
+                "Generation spec must be a *.magento-spec.yml or *.magento-spec.json file: "
+        ));
+    }
+
+    /**
+     * Copy spec fixture to the project and generate everything declared in it.
+     *
+     * @param specFileName String
+     *
+     * @return GenerationReportData
+     */
+    private GenerationReportData generate(final @NotNull String specFileName) {
+        final VirtualFile specFile = myFixture.copyFileToProject(
+                this.getFixturePath(specFileName),
+                specFileName
+        );
+
+        return new HeadlessGenerator(myFixture.getProject()).generate(specFile);
+    }
+
+    /**
+     * Compare generated file with the fixture of the same name.
+     *
+     * @param fileName String
+     * @param expectedDirectory String
+     */
+    private void assertGeneratedFile(
+            final @NotNull String fileName,
+            final @NotNull String expectedDirectory
+    ) {
+        final VirtualFile generatedFile = myFixture.findFileInTempDir(
+                expectedDirectory.substring("src/".length()) + "/" + fileName
+        );
+        assertNotNull("File is not generated: " + fileName, generatedFile);
+        final PsiFile resultFile = myFixture.getPsiManager().findFile(generatedFile);
+        final PsiFile expectedFile = myFixture.configureByFile(this.getFixturePath(fileName));
+
+        assertGeneratedFileIsCorrect(expectedFile, expectedDirectory, resultFile);
+    }
+}
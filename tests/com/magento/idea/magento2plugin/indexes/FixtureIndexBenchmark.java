@@ -0,0 +1,116 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.indexes;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.jetbrains.php.lang.psi.PhpFile;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.magento.files.TestFixture;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares data fixtures lookup through the TestFixtureIndex with the lookup of all files
+ * with the same name on the generated integration testsuite with 10k fixtures, where every
+ * fixture name is shared by 500 files.
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public class FixtureIndexBenchmark extends BaseProjectTestCase {
+
+    private static final int MODULES_COUNT = 500;
+    private static final int FIXTURES_PER_MODULE = 20;
+    private static final int LOOKUPS = 200;
+    private static final String FIXTURE_CONTENT = "<?php\n$product = null;\n";
+
+    public void testFixtureLookup() throws Exception {
+        generateTestsuite();
+        final Project project = myFixture.getProject();
+        final FixtureIndex fixtureIndex = new FixtureIndex(project);
+        // Warm up the indexes, PSI and the JIT.
+        assertEquals(1, fixtureIndex.getDataFixtures(fixture(0)).size());
+        assertEquals(1, findByFileName(project, fixture(0)).size());
+
+        long started = System.nanoTime();
+
+        for (int lookup = 0; lookup < LOOKUPS; lookup++) {
+            assertEquals(1, findByFileName(project, fixture(lookup)).size());
+        }
+        final long fileNameTime = System.nanoTime() - started;
+        started = System.nanoTime();
+
+        for (int lookup = 0; lookup < LOOKUPS; lookup++) {
+            assertEquals(1, fixtureIndex.getDataFixtures(fixture(lookup)).size());
+        }
+        final long indexTime = System.nanoTime() - started;
+
+        System.out.printf(
+                "File name lookup: %.3f ms/fixture, TestFixtureIndex: %.3f ms/fixture%n",
+                fileNameTime / 1_000_000.0 / LOOKUPS,
+                indexTime / 1_000_000.0 / LOOKUPS
+        );
+    }
+
+    private void generateTestsuite() throws Exception {
+        final VirtualFile root = myFixture.getTempDirFixture().findOrCreateDir(
+                TestFixture.FIXTURES_LOCATION + "Bench"
+        );
+
+        WriteAction.runAndWait(() -> {
+            for (int module = 0; module < MODULES_COUNT; module++) {
+                final VirtualFile filesDir = VfsUtil.createDirectoryIfMissing(
+                        root,
+                        "Module" + module + "/_files"
+                );
+
+                for (int fixture = 0; fixture < FIXTURES_PER_MODULE; fixture++) {
+                    VfsUtil.saveText(
+                            filesDir.createChildData(this, fixtureName(fixture)),
+                            FIXTURE_CONTENT
+                    );
+                }
+            }
+        });
+    }
+
+    private static String fixtureName(final int number) {
+        return "product" + number + ".php";
+    }
+
+    private static String fixture(final int lookup) {
+        return "Bench/Module" + lookup % MODULES_COUNT + "/_files/"
+                + fixtureName(lookup % FIXTURES_PER_MODULE);
+    }
+
+    /**
+     * Lookup fixture the way it was done before the TestFixtureIndex.
+     */
+    private static List<PhpFile> findByFileName(final Project project, final String fixture) {
+        final List<PhpFile> result = new ArrayList<>();
+        final String fixtureName = fixture.substring(fixture.lastIndexOf('/') + 1);
+        final String exactFilePath = TestFixture.FIXTURES_LOCATION.concat(fixture);
+
+        for (final PsiFile psiFile : FilenameIndex.getFilesByName(
+                project,
+                fixtureName,
+                GlobalSearchScope.allScope(project)
+        )) {
+            final String filePath = psiFile.getVirtualFile().getPath();
+
+            if (!filePath.contains(TestFixture.FIXTURES_EXCLUDE_PATH)
+                    && filePath.contains(exactFilePath)) {
+                result.add((PhpFile) psiFile);
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.indexes;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.xml.XmlFile;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares layout and UI component files lookup by name with the scan of all XML files
+ * on the generated project with 50k XML files.
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public class LayoutIndexBenchmark extends BaseProjectTestCase {
+
+    private static final int MODULES_COUNT = 500;
+    private static final int LAYOUTS_PER_MODULE = 20;
+    private static final int UI_COMPONENTS_PER_MODULE = 10;
+    private static final int OTHER_FILES_PER_MODULE = 70;
+    private static final int LOOKUPS = 200;
+    private static final String LAYOUT_CONTENT = "<page xmlns:xsi=\"http://www.w3.org/2001/"
+            + "XMLSchema-instance\"><body><referenceContainer name=\"content\"/></body></page>";
+    private static final String UI_COMPONENT_CONTENT = "<listing xmlns:xsi=\"http://www.w3.org/"
+            + "2001/XMLSchema-instance\"><columns name=\"columns\"/></listing>";
+    private static final String CONFIG_CONTENT = "<config><default/></config>";
+
+    public void testLookupByName() throws Exception {
+        generateProject();
+        final Project project = myFixture.getProject();
+        // Warm up the indexes, PSI and the JIT.
+        assertFalse(LayoutIndex.getLayoutFiles(project, handle(0)).isEmpty());
+        assertFalse(UIComponentIndex.getUiComponentFiles(project, uiComponent(0)).isEmpty());
+        assertFalse(scanLayoutFiles(project, handle(0)).isEmpty());
+
+        long started = System.nanoTime();
+
+        for (int lookup = 0; lookup < LOOKUPS; lookup++) {
+            assertFalse(scanLayoutFiles(project, handle(lookup)).isEmpty());
+        }
+        final long scanTime = System.nanoTime() - started;
+        started = System.nanoTime();
+
+        for (int lookup = 0; lookup < LOOKUPS; lookup++) {
+            assertFalse(LayoutIndex.getLayoutFiles(project, handle(lookup)).isEmpty());
+        }
+        final long layoutIndexTime = System.nanoTime() - started;
+        started = System.nanoTime();
+
+        for (int lookup = 0; lookup < LOOKUPS; lookup++) {
+            assertFalse(
+                    UIComponentIndex.getUiComponentFiles(project, uiComponent(lookup)).isEmpty()
+            );
+        }
+        final long uiComponentIndexTime = System.nanoTime() - started;
+
+        System.out.printf(
+                "XML files scan: %.3f ms/lookup, layout index: %.3f ms/lookup, "
+                        + "ui component index: %.3f ms/lookup%n",
+                scanTime / 1_000_000.0 / LOOKUPS,
+                layoutIndexTime / 1_000_000.0 / LOOKUPS,
+                uiComponentIndexTime / 1_000_000.0 / LOOKUPS
+        );
+        started = System.nanoTime();
+        final int handlesCount = LayoutIndex.getLayoutHandles(project).size();
+        System.out.printf(
+                "all layout handles (%d): %.3f ms%n",
+                handlesCount,
+                (System.nanoTime() - started) / 1_000_000.0
+        );
+    }
+
+    private void generateProject() throws Exception {
+        final VirtualFile root = myFixture.getTempDirFixture().findOrCreateDir("app/code/Bench");
+
+        WriteAction.runAndWait(() -> {
+            for (int module = 0; module < MODULES_COUNT; module++) {
+                final VirtualFile moduleDir = VfsUtil.createDirectoryIfMissing(
+                        root,
+                        "Module" + module
+                );
+                final VirtualFile layoutDir = VfsUtil.createDirectoryIfMissing(
+                        moduleDir,
+                        "view/frontend/layout"
+                );
+                final VirtualFile uiComponentDir = VfsUtil.createDirectoryIfMissing(
+                        moduleDir,
+                        "view/adminhtml/ui_component"
+                );
+                final VirtualFile etcDir = VfsUtil.createDirectoryIfMissing(moduleDir, "etc");
+
+                for (int file = 0; file < LAYOUTS_PER_MODULE; file++) {
+                    createFile(
+                            layoutDir,
+                            handle(module * LAYOUTS_PER_MODULE + file),
+                            LAYOUT_CONTENT
+                    );
+                }
+
+                for (int file = 0; file < UI_COMPONENTS_PER_MODULE; file++) {
+                    createFile(
+                            uiComponentDir,
+                            uiComponent(module * UI_COMPONENTS_PER_MODULE + file),
+                            UI_COMPONENT_CONTENT
+                    );
+                }
+
+                for (int file = 0; file < OTHER_FILES_PER_MODULE; file++) {
+                    createFile(etcDir, "config" + file, CONFIG_CONTENT);
+                }
+            }
+        });
+    }
+
+    private static void createFile(
+            final VirtualFile directory,
+            final String name,
+            final String content
+    ) throws Exception {
+        VfsUtil.saveText(
+                directory.createChildData(LayoutIndexBenchmark.class, name + ".xml"),
+                content
+        );
+    }
+
+    private static String handle(final int number) {
+        return "bench_handle_" + number;
+    }
+
+    private static String uiComponent(final int number) {
+        return "bench_listing_" + number;
+    }
+
+    /**
+     * Lookup layout files the way it was done before the layout handle index.
+     */
+    private static List<XmlFile> scanLayoutFiles(final Project project, final String fileName) {
+        final List<XmlFile> results = new ArrayList<>();
+        final PsiManager psiManager = PsiManager.getInstance(project);
+
+        for (final VirtualFile xmlFile : FilenameIndex.getAllFilesByExt(project, "xml")) {
+            if (LayoutIndex.isLayoutFile(xmlFile)
+                    && xmlFile.getNameWithoutExtension().equals(fileName)) {
+                final PsiFile file = psiManager.findFile(xmlFile);
+
+                if (file != null) {
+                    results.add((XmlFile) file);
+                }
+            }
+        }
+
+        return results;
+    }
+}
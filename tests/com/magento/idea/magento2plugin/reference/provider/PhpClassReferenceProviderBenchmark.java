@@ -0,0 +1,125 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.reference.provider;
+
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlAttributeValue;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlText;
+import com.intellij.util.ProcessingContext;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures time spent on building PHP class references for the attribute values and texts
+ * of the di.xml files.
+ *
+ * <p>The Magento core corpus is taken from the directory passed with the
+ * -Dmagento.benchmark.root system property (e.g. vendor/magento of the Magento checkout),
+ * otherwise the test Magento project is used.</p>
+ */
+@SuppressWarnings({"PMD.SystemPrintln", "PMD.AvoidInstantiatingObjectsInLoops"})
+public class PhpClassReferenceProviderBenchmark extends BaseProjectTestCase {
+
+    private static final String CORPUS_ROOT_PROPERTY = "magento.benchmark.root";
+    private static final String DI_XML = "di.xml";
+    private static final int REPEATS = 20;
+
+    public void testReferencesBuildingTime() {
+        final List<PsiElement> elements = collectElements(collectDiXmlFiles(getCorpusRoot()));
+        System.out.printf("di.xml values: %d%n", elements.size());
+
+        if (elements.isEmpty()) {
+            return;
+        }
+        final PhpClassReferenceProvider provider = new PhpClassReferenceProvider();
+        // Warm up the indexes and the JIT.
+        runProvider(provider, elements);
+
+        final long started = System.nanoTime();
+        int references = 0;
+
+        for (int repeat = 0; repeat < REPEATS; repeat++) {
+            references = runProvider(provider, elements);
+        }
+        final long time = Math.max(1, (System.nanoTime() - started) / REPEATS);
+
+        System.out.printf(
+                "PhpClassReferenceProvider references: %d, %8.1f ms per run, %8.1f ns per value%n",
+                references,
+                time / 1_000_000.0,
+                (double) time / elements.size()
+        );
+    }
+
+    private VirtualFile getCorpusRoot() {
+        final String corpusRoot = System.getProperty(CORPUS_ROOT_PROPERTY);
+
+        if (corpusRoot == null || corpusRoot.isEmpty()) {
+            return myFixture.getTempDirFixture().getFile("");
+        }
+        final VirtualFile root = LocalFileSystem.getInstance().refreshAndFindFileByNioFile(
+                Path.of(corpusRoot)
+        );
+        assertNotNull("Corpus root is not found: " + corpusRoot, root);
+
+        return root;
+    }
+
+    private static List<VirtualFile> collectDiXmlFiles(final VirtualFile root) {
+        final List<VirtualFile> files = new ArrayList<>();
+        VfsUtilCore.iterateChildrenRecursively(root, null, file -> {
+            if (!file.isDirectory() && DI_XML.equals(file.getName())) {
+                files.add(file);
+            }
+
+            return true;
+        });
+
+        return files;
+    }
+
+    private List<PsiElement> collectElements(final List<VirtualFile> files) {
+        final PsiManager psiManager = PsiManager.getInstance(myFixture.getProject());
+        final List<PsiElement> elements = new ArrayList<>();
+
+        for (final VirtualFile file : files) {
+            final PsiFile psiFile = psiManager.findFile(file);
+
+            if (!(psiFile instanceof XmlFile)) {
+                continue;
+            }
+            elements.addAll(PsiTreeUtil.findChildrenOfType(psiFile, XmlAttributeValue.class));
+            elements.addAll(PsiTreeUtil.findChildrenOfType(psiFile, XmlText.class));
+        }
+
+        return elements;
+    }
+
+    private static int runProvider(
+            final PhpClassReferenceProvider provider,
+            final List<PsiElement> elements
+    ) {
+        int references = 0;
+
+        for (final PsiElement element : elements) {
+            references += provider.getReferencesByElement(
+                    element,
+                    new ProcessingContext()
+            ).length;
+        }
+
+        return references;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.stubs.indexes.data.WebApiRouteData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class WebApiTypeIndexTest extends BaseProjectTestCase {
+
+    private static final String SERVICE_CLASS = "Magento\\Catalog\\Service\\TestService";
+
+    /**
+     * Test that routes of the service are indexed with their method, URL and ACL resources.
+     */
+    public void testServiceRoutesAreIndexed() {
+        final List<WebApiRouteData> routes = new ArrayList<>();
+
+        for (final List<WebApiRouteData> fileRoutes : FileBasedIndex.getInstance().getValues(
+                WebApiTypeIndex.KEY,
+                SERVICE_CLASS,
+                GlobalSearchScope.allScope(myFixture.getProject())
+        )) {
+            routes.addAll(fileRoutes);
+        }
+
+        assertEquals(2, routes.size());
+        final WebApiRouteData route = routes.get(0);
+        assertEquals("create", route.getServiceMethod());
+        assertEquals("/V1/blog/post", route.getUrl());
+        assertEquals("PUT", route.getHttpMethod());
+        assertEquals(Collections.singletonList("Magento_Catalog::test"), route.getResources());
+        assertEquals("  PUT     /V1/blog/post", route.getPresentableName());
+    }
+
+    /**
+     * Test that the stored offset of every route points to its route tag.
+     */
+    public void testRouteOffsetsPointToRouteTags() {
+        final List<String> routeTagNames = new ArrayList<>();
+
+        FileBasedIndex.getInstance().processValues(
+                WebApiTypeIndex.KEY,
+                SERVICE_CLASS,
+                null,
+                (file, fileRoutes) -> {
+                    for (final WebApiRouteData route : fileRoutes) {
+                        final XmlTag routeTag = WebApiTypeIndex.findRouteTag(
+                                myFixture.getProject(),
+                                file,
+                                route
+                        );
+                        assertNotNull(routeTag);
+                        routeTagNames.add(routeTag.getName());
+                    }
+
+                    return true;
+                },
+                GlobalSearchScope.allScope(myFixture.getProject())
+        );
+
+        assertEquals(
+                Arrays.asList("  PUT     /V1/blog/post", "  POST    /V1/blog/update"),
+                routeTagNames
+        );
+    }
+}
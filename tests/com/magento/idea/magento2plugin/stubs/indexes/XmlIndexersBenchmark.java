@@ -0,0 +1,175 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.FileContentImpl;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.stubs.indexes.mftf.ActionGroupIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.mftf.DataIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.mftf.PageIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.mftf.SectionIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.mftf.TestNameIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.AclResourceIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.DeclarativeSchemaElementsIndex;
+import com.magento.idea.magento2plugin.stubs.indexes.xml.MenuIndex;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures throughput of the XML indexers built on the LightXmlParser and compares it with
+ * parsing of the same files into PSI.
+ *
+ * <p>The Magento core XML corpus is taken from the directory passed with the
+ * -Dmagento.benchmark.root system property (e.g. vendor/magento of the Magento checkout),
+ * otherwise the test Magento project is used.</p>
+ */
+@SuppressWarnings({"PMD.SystemPrintln", "PMD.AvoidInstantiatingObjectsInLoops"})
+public class XmlIndexersBenchmark extends BaseProjectTestCase {
+
+    private static final String CORPUS_ROOT_PROPERTY = "magento.benchmark.root";
+    private static final int REPEATS = 20;
+
+    private static final List<FileBasedIndexExtension<?, ?>> INDEXES = Arrays.asList(
+            new PluginIndex(),
+            new PluginTargetIndex(),
+            new VirtualTypeIndex(),
+            new EventObserverIndex(),
+            new EventNameIndex(),
+            new CronGroupIndexer(),
+            new BlockNameIndex(),
+            new ContainerNameIndex(),
+            new DeclarativeSchemaElementsIndex(),
+            new MenuIndex(),
+            new AclResourceIndex(),
+            new ActionGroupIndex(),
+            new DataIndex(),
+            new PageIndex(),
+            new SectionIndex(),
+            new TestNameIndex()
+    );
+
+    public void testIndexersThroughput() throws Exception {
+        final Project project = myFixture.getProject();
+        final List<VirtualFile> corpus = collectXmlFiles(getCorpusRoot());
+        System.out.printf("XML corpus: %d files%n", corpus.size());
+
+        for (final FileBasedIndexExtension<?, ?> index : INDEXES) {
+            final List<FileContent> contents = new ArrayList<>();
+            long bytes = 0;
+
+            for (final VirtualFile file : corpus) {
+                if (index.getInputFilter().acceptInput(file)) {
+                    final FileContent content = FileContentImpl.createByFile(file, project);
+                    contents.add(content);
+                    bytes += content.getContent().length;
+                }
+            }
+
+            if (contents.isEmpty()) {
+                continue;
+            }
+            final DataIndexer<?, ?, FileContent> indexer = index.getIndexer();
+            // Warm up the parser and the JIT.
+            runIndexer(indexer, contents);
+            runPsi(project, contents);
+
+            long started = System.nanoTime();
+
+            for (int repeat = 0; repeat < REPEATS; repeat++) {
+                runIndexer(indexer, contents);
+            }
+            final long indexerTime = Math.max(1, (System.nanoTime() - started) / REPEATS);
+            started = System.nanoTime();
+
+            for (int repeat = 0; repeat < REPEATS; repeat++) {
+                runPsi(project, contents);
+            }
+            final long psiTime = Math.max(1, (System.nanoTime() - started) / REPEATS);
+
+            System.out.printf(
+                    "%-32s files: %5d, indexer: %8.1f files/s %8.1f KB/s, PSI: %8.1f files/s%n",
+                    index.getClass().getSimpleName(),
+                    contents.size(),
+                    contents.size() * 1_000_000_000.0 / indexerTime,
+                    bytes / 1024.0 * 1_000_000_000.0 / indexerTime,
+                    contents.size() * 1_000_000_000.0 / psiTime
+            );
+        }
+    }
+
+    private VirtualFile getCorpusRoot() {
+        final String corpusRoot = System.getProperty(CORPUS_ROOT_PROPERTY);
+
+        if (corpusRoot == null || corpusRoot.isEmpty()) {
+            return myFixture.getTempDirFixture().getFile("");
+        }
+        final VirtualFile root = LocalFileSystem.getInstance().refreshAndFindFileByNioFile(
+                Path.of(corpusRoot)
+        );
+        assertNotNull("Corpus root is not found: " + corpusRoot, root);
+
+        return root;
+    }
+
+    private static List<VirtualFile> collectXmlFiles(final VirtualFile root) {
+        final List<VirtualFile> files = new ArrayList<>();
+        VfsUtilCore.iterateChildrenRecursively(root, null, file -> {
+            if (!file.isDirectory() && file.getFileType() == XmlFileType.INSTANCE) {
+                files.add(file);
+            }
+
+            return true;
+        });
+
+        return files;
+    }
+
+    private static int runIndexer(
+            final DataIndexer<?, ?, FileContent> indexer,
+            final List<FileContent> contents
+    ) {
+        int keys = 0;
+
+        for (final FileContent content : contents) {
+            keys += indexer.map(content).size();
+        }
+
+        return keys;
+    }
+
+    /**
+     * Parse files into PSI and visit all tags the way indexers did it before.
+     */
+    private static int runPsi(final Project project, final List<FileContent> contents) {
+        final PsiFileFactory psiFileFactory = PsiFileFactory.getInstance(project);
+        int tags = 0;
+
+        for (final FileContent content : contents) {
+            final PsiFile psiFile = psiFileFactory.createFileFromText(
+                    content.getFileName(),
+                    XmlFileType.INSTANCE,
+                    content.getContentAsText()
+            );
+            tags += PsiTreeUtil.findChildrenOfType(psiFile, XmlTag.class).size();
+        }
+
+        return tags;
+    }
+}
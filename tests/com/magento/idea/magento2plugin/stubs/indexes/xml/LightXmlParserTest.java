@@ -0,0 +1,152 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes.xml;
+
+import com.intellij.psi.PsiFile;
+import com.intellij.util.indexing.FileContentImpl;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import java.io.IOException;
+import java.util.List;
+
+public class LightXmlParserTest extends BaseProjectTestCase {
+
+    private static final String GROUP_TAG = "group";
+    private static final String ID_ATTRIBUTE = "id";
+
+    /**
+     * Test that nested tags are read with their attributes.
+     */
+    public void testNestedTagsAreParsed() {
+        final LightXmlTag rootTag = LightXmlParser.parse(
+                "<config xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">"
+                        + "<type name=\"Foo\"><plugin name=\"bar\" type=\"Bar\"/></type>"
+                        + "</config>",
+                Integer.MAX_VALUE
+        );
+
+        assertNotNull(rootTag);
+        assertEquals("config", rootTag.getName());
+        final LightXmlTag typeTag = rootTag.findFirstSubTag("type");
+        assertNotNull(typeTag);
+        assertEquals("Foo", typeTag.getAttributeValue("name"));
+        final LightXmlTag pluginTag = typeTag.findFirstSubTag("plugin");
+        assertNotNull(pluginTag);
+        assertEquals("Bar", pluginTag.getAttributeValue("type"));
+        assertTrue(pluginTag.getSubTags().isEmpty());
+    }
+
+    /**
+     * Test that tags deeper than the max depth are skipped and their siblings are still read.
+     */
+    public void testTagsDeeperThanMaxDepthAreSkipped() {
+        final LightXmlTag rootTag = LightXmlParser.parse(
+                "<config><type name=\"Foo\"><arguments><argument name=\"a\"/></arguments>"
+                        + "</type><type name=\"Bar\"/></config>",
+                2
+        );
+
+        assertNotNull(rootTag);
+        final List<LightXmlTag> typeTags = rootTag.findSubTags("type");
+        assertEquals(2, typeTags.size());
+        assertTrue(typeTags.get(0).getSubTags().isEmpty());
+        assertEquals("Bar", typeTags.get(1).getAttributeValue("name"));
+    }
+
+    /**
+     * Test that start offsets of the tags skip comments, CDATA and processing instructions.
+     */
+    public void testTagOffsetsAreRead() {
+        final String text = "<?xml version=\"1.0\"?>\n<!-- <type name=\"Foo\"/> -->\n"
+                + "<config><label><![CDATA[<b>]]></label><?target <x?><type name=\"Bar\"/>"
+                + "</config>";
+        final LightXmlTag rootTag = LightXmlParser.parse(text, Integer.MAX_VALUE);
+
+        assertNotNull(rootTag);
+        assertEquals(text.indexOf("<config>"), rootTag.getOffset());
+        final LightXmlTag labelTag = rootTag.findFirstSubTag("label");
+        assertNotNull(labelTag);
+        assertEquals(text.indexOf("<label>"), labelTag.getOffset());
+        final LightXmlTag typeTag = rootTag.findFirstSubTag("type");
+        assertNotNull(typeTag);
+        assertEquals(text.indexOf("<type name=\"Bar\""), typeTag.getOffset());
+    }
+
+    /**
+     * Test that CDATA sections are joined with the text of the tag.
+     */
+    public void testCdataIsReadAsText() {
+        final LightXmlTag rootTag = LightXmlParser.parse(
+                "<config><label> Foo <![CDATA[<b>Bar</b>]]> &amp; Baz </label></config>",
+                Integer.MAX_VALUE
+        );
+
+        assertNotNull(rootTag);
+        final LightXmlTag labelTag = rootTag.findFirstSubTag("label");
+        assertNotNull(labelTag);
+        assertEquals("Foo <b>Bar</b> & Baz", labelTag.getValue());
+    }
+
+    /**
+     * Test that tags read before the error are returned for the malformed text.
+     */
+    public void testMalformedTextReturnsTagsReadBeforeError() {
+        final LightXmlTag rootTag = LightXmlParser.parse(
+                "<config><group id=\"default\"/><group id=\"index\"</config>",
+                Integer.MAX_VALUE
+        );
+
+        assertNotNull(rootTag);
+        final List<LightXmlTag> groupTags = rootTag.findSubTags(GROUP_TAG);
+        assertEquals(1, groupTags.size());
+        assertEquals("default", groupTags.get(0).getAttributeValue(ID_ATTRIBUTE));
+    }
+
+    /**
+     * Test that the file with an undeclared entity is read entirely through PSI.
+     *
+     * @throws IOException if the file content couldn't be read
+     */
+    public void testUndeclaredEntityFallsBackToPsi() throws IOException {
+        final LightXmlTag rootTag = parseFile(
+                "<config><group id=\"default\">Foo&nbsp;Bar</group>"
+                        + "<group id=\"index\"/></config>",
+                Integer.MAX_VALUE
+        );
+
+        assertNotNull(rootTag);
+        final List<LightXmlTag> groupTags = rootTag.findSubTags(GROUP_TAG);
+        assertEquals(2, groupTags.size());
+        assertEquals("index", groupTags.get(1).getAttributeValue(ID_ATTRIBUTE));
+    }
+
+    /**
+     * Test that the max depth is respected when the malformed file is read through PSI.
+     *
+     * @throws IOException if the file content couldn't be read
+     */
+    public void testMalformedFileFallsBackToPsiWithMaxDepth() throws IOException {
+        final LightXmlTag rootTag = parseFile(
+                "<config><group id=\"default\"><schedule_generate_every>1"
+                        + "</schedule_generate_every></group><group id=\"index\"></config>",
+                2
+        );
+
+        assertNotNull(rootTag);
+        assertEquals("config", rootTag.getName());
+        final List<LightXmlTag> groupTags = rootTag.findSubTags(GROUP_TAG);
+        assertEquals(2, groupTags.size());
+        assertTrue(groupTags.get(0).getSubTags().isEmpty());
+    }
+
+    private LightXmlTag parseFile(final String text, final int maxDepth) throws IOException {
+        final PsiFile file = myFixture.configureByText("cron_groups.xml", text);
+
+        return LightXmlParser.parse(
+                FileContentImpl.createByFile(file.getVirtualFile(), myFixture.getProject()),
+                maxDepth
+        );
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.stubs.indexes.xml;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.xml.XmlAttribute;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.FileContentImpl;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.stubs.indexes.data.PhpClassDeclarationData;
+import com.magento.idea.magento2plugin.util.RegExUtil;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares indexing of the PHP class declarations in XML files before and after the input
+ * filter and the PSI free scanner on the generated project with vendor-like non Magento XML
+ * files.
+ */
+@SuppressWarnings({"PMD.SystemPrintln", "PMD.AvoidInstantiatingObjectsInLoops"})
+public class PhpClassDeclarationIndexBenchmark extends BaseProjectTestCase {
+
+    private static final String CLASS_NAME_PATTERN = RegExUtil.PhpRegex.CLASS_NAME
+            + "(\\\\" + RegExUtil.PhpRegex.CLASS_NAME + ")+";
+    private static final int MODULES_COUNT = 100;
+    private static final int FIXTURE_ROWS = 2_000;
+    private static final int REPEATS = 5;
+
+    public void testIndexingThroughput() throws Exception {
+        final Project project = myFixture.getProject();
+        final List<FileContent> contents = generateProject(project);
+        final List<FileContent> filteredContents = new ArrayList<>();
+
+        for (final FileContent content : contents) {
+            if (PhpClassDeclarationIndex.isIndexedFile(content.getFile())) {
+                filteredContents.add(content);
+            }
+        }
+        final DataIndexer<String, List<PhpClassDeclarationData>, FileContent> indexer
+                = new PhpClassDeclarationIndex().getIndexer();
+        // Warm up the parsers and the JIT.
+        final Set<String> legacyDeclarations = runLegacy(project, contents);
+        final Set<String> declarations = runIndexer(indexer, filteredContents);
+        assertEquals(legacyDeclarations, declarations);
+
+        long started = System.nanoTime();
+
+        for (int repeat = 0; repeat < REPEATS; repeat++) {
+            runLegacy(project, contents);
+        }
+        final long legacyTime = (System.nanoTime() - started) / REPEATS;
+        started = System.nanoTime();
+
+        for (int repeat = 0; repeat < REPEATS; repeat++) {
+            runIndexer(indexer, filteredContents);
+        }
+        final long time = (System.nanoTime() - started) / REPEATS;
+
+        System.out.printf(
+                "before: %d files %.1f ms, after: %d files %.1f ms, %d declarations%n",
+                contents.size(),
+                legacyTime / 1_000_000.0,
+                filteredContents.size(),
+                time / 1_000_000.0,
+                declarations.size()
+        );
+    }
+
+    private List<FileContent> generateProject(final Project project) throws Exception {
+        final VirtualFile root = myFixture.getTempDirFixture().findOrCreateDir("vendor/bench");
+        final StringBuilder fixture = new StringBuilder("<dataset>");
+
+        for (int row = 0; row < FIXTURE_ROWS; row++) {
+            fixture.append("<row id=\"").append(row).append("\" code=\"code_").append(row)
+                    .append("\"><value>Some text ").append(row).append("</value></row>");
+        }
+        fixture.append("</dataset>");
+
+        WriteAction.runAndWait(() -> {
+            for (int module = 0; module < MODULES_COUNT; module++) {
+                final VirtualFile moduleDir = VfsUtil.createDirectoryIfMissing(
+                        root,
+                        "module-" + module
+                );
+                final String type = "Vendor\\Module" + module + "\\Model\\Service";
+                createFile(
+                        VfsUtil.createDirectoryIfMissing(moduleDir, "etc"),
+                        "di.xml",
+                        "<config><type name=\"" + type + "\"><plugin name=\"p\" type=\"\\"
+                                + type + "Plugin\"/></type><preference for=\"" + type
+                                + "Interface\" type=\"" + type + "\"/></config>"
+                );
+                createFile(
+                        VfsUtil.createDirectoryIfMissing(moduleDir, "view/frontend/layout"),
+                        "default.xml",
+                        "<page><body><block class=\"" + type + "Block\" name=\"b"
+                                + module + "\"/></body></page>"
+                );
+                createFile(moduleDir, "phpunit.xml.dist", "<phpunit><testsuites><testsuite "
+                        + "name=\"Unit\"><directory>Test/Unit</directory></testsuite>"
+                        + "</testsuites></phpunit>");
+                createFile(
+                        VfsUtil.createDirectoryIfMissing(moduleDir, "Test/Unit/_files"),
+                        "fixture.xml",
+                        fixture.toString()
+                );
+            }
+        });
+        final List<FileContent> contents = new ArrayList<>();
+        VfsUtilCore.iterateChildrenRecursively(root, null, file -> {
+            if (!file.isDirectory() && file.getFileType() == XmlFileType.INSTANCE) {
+                try {
+                    contents.add(FileContentImpl.createByFile(file, project));
+                } catch (Exception exception) {
+                    throw new IllegalStateException(exception);
+                }
+            }
+
+            return true;
+        });
+
+        return contents;
+    }
+
+    private static void createFile(
+            final VirtualFile directory,
+            final String name,
+            final String content
+    ) throws Exception {
+        VfsUtil.saveText(
+                directory.createChildData(PhpClassDeclarationIndexBenchmark.class, name),
+                content
+        );
+    }
+
+    private static Set<String> runIndexer(
+            final DataIndexer<String, List<PhpClassDeclarationData>, FileContent> indexer,
+            final List<FileContent> contents
+    ) {
+        final Set<String> declarations = new HashSet<>();
+
+        for (final FileContent content : contents) {
+            for (final Map.Entry<String, List<PhpClassDeclarationData>> entry
+                    : indexer.map(content).entrySet()) {
+                for (final PhpClassDeclarationData declaration : entry.getValue()) {
+                    declarations.add(toKey(content, entry.getKey(), declaration.getOffset()));
+                }
+            }
+        }
+
+        return declarations;
+    }
+
+    /**
+     * Index all XML files the way it was done before: PSI and regular expression matching.
+     */
+    private static Set<String> runLegacy(
+            final Project project,
+            final List<FileContent> contents
+    ) {
+        final PsiFileFactory psiFileFactory = PsiFileFactory.getInstance(project);
+        final Set<String> declarations = new HashSet<>();
+
+        for (final FileContent content : contents) {
+            final PsiFile psiFile = psiFileFactory.createFileFromText(
+                    content.getFileName(),
+                    XmlFileType.INSTANCE,
+                    content.getContentAsText()
+            );
+            final XmlTag rootTag = ((XmlFile) psiFile).getRootTag();
+
+            if (rootTag != null) {
+                collectLegacy(content, rootTag, declarations);
+            }
+        }
+
+        return declarations;
+    }
+
+    private static void collectLegacy(
+            final FileContent content,
+            final XmlTag parentTag,
+            final Set<String> declarations
+    ) {
+        for (final XmlTag childTag : parentTag.getSubTags()) {
+            final int offset = childTag.getTextRange().getStartOffset();
+
+            for (final XmlAttribute attribute : childTag.getAttributes()) {
+                addLegacy(content, attribute.getValue(), offset, declarations);
+            }
+            addLegacy(content, childTag.getValue().getTrimmedText(), offset, declarations);
+            collectLegacy(content, childTag, declarations);
+        }
+    }
+
+    private static void addLegacy(
+            final FileContent content,
+            final String value,
+            final int offset,
+            final Set<String> declarations
+    ) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String className = value.startsWith("\\") ? value.substring(1) : value;
+        final int memberSeparatorIndex = className.indexOf("::");
+
+        if (memberSeparatorIndex != -1) {
+            className = className.substring(0, memberSeparatorIndex);
+        }
+
+        if (className.matches(CLASS_NAME_PATTERN)) {
+            declarations.add(toKey(content, className, offset));
+        }
+    }
+
+    private static String toKey(
+            final FileContent content,
+            final String className,
+            final int offset
+    ) {
+        return className + "@" + content.getFile().getPath() + ":" + offset;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.util.magento.di;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.stubs.indexes.VirtualTypeIndex;
+import java.util.List;
+
+/**
+ * Compares the resolved DI type graph with the walk over the VirtualTypeIndex
+ * on the generated project with 5k virtual types chained by 5.
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public class DiTypeGraphServiceBenchmark extends BaseProjectTestCase {
+
+    private static final int DI_FILES_COUNT = 500;
+    private static final int CHAINS_PER_FILE = 2;
+    private static final int CHAIN_LENGTH = 5;
+    private static final int MAX_NESTING_LEVEL = 5;
+    private static final int LOOKUPS = 1_000;
+
+    public void testTopTypeLookup() throws Exception {
+        generateProject();
+        final Project project = myFixture.getProject();
+        final DiTypeGraphService service = DiTypeGraphService.getInstance(project);
+        // Warm up the indexes and the JIT.
+        assertEquals(
+                walkTopType(project, virtualType(0, 0)),
+                service.getTopType(virtualType(0, 0))
+        );
+
+        long started = System.nanoTime();
+
+        for (int lookup = 0; lookup < LOOKUPS; lookup++) {
+            assertEquals(concreteType(lookup), walkTopType(project, virtualType(lookup, 0)));
+        }
+        final long walkTime = System.nanoTime() - started;
+        started = System.nanoTime();
+
+        for (int lookup = 0; lookup < LOOKUPS; lookup++) {
+            assertEquals(concreteType(lookup), service.getTopType(virtualType(lookup, 0)));
+        }
+        final long graphTime = System.nanoTime() - started;
+
+        System.out.printf(
+                "VirtualTypeIndex walk: %.3f ms/lookup, DI type graph: %.3f ms/lookup%n",
+                walkTime / 1_000_000.0 / LOOKUPS,
+                graphTime / 1_000_000.0 / LOOKUPS
+        );
+    }
+
+    private void generateProject() throws Exception {
+        final VirtualFile root = myFixture.getTempDirFixture().findOrCreateDir("app/code/Bench");
+
+        WriteAction.runAndWait(() -> {
+            for (int file = 0; file < DI_FILES_COUNT; file++) {
+                final StringBuilder content = new StringBuilder("<config>");
+
+                for (int chain = 0; chain < CHAINS_PER_FILE; chain++) {
+                    final int number = file * CHAINS_PER_FILE + chain;
+
+                    for (int level = 0; level < CHAIN_LENGTH; level++) {
+                        content.append("<virtualType name=\"")
+                                .append(virtualType(number, level))
+                                .append("\" type=\"")
+                                .append(level == CHAIN_LENGTH - 1
+                                        ? concreteType(number)
+                                        : virtualType(number, level + 1))
+                                .append("\"/>");
+                    }
+                }
+                content.append("</config>");
+                final VirtualFile etcDir = VfsUtil.createDirectoryIfMissing(
+                        root,
+                        "Module" + file + "/etc"
+                );
+                VfsUtil.saveText(
+                        etcDir.createChildData(this, "di.xml"),
+                        content.toString()
+                );
+            }
+        });
+    }
+
+    private static String virtualType(final int number, final int level) {
+        return "BenchVirtualType" + number + "Level" + level;
+    }
+
+    private static String concreteType(final int number) {
+        return "Bench\\Model\\Type" + number;
+    }
+
+    /**
+     * Resolve the concrete type the way it was done before the DI type graph.
+     */
+    private static String walkTopType(final Project project, final String virtualType) {
+        String name = virtualType;
+        List<String> values;
+        int parentNestingLevel = 0;
+
+        do {
+            values = FileBasedIndex.getInstance().getValues(
+                    VirtualTypeIndex.KEY,
+                    name,
+                    GlobalSearchScope.allScope(project)
+            );
+
+            if (!values.isEmpty() && values.get(0) != null) {
+                name = values.get(0);
+            }
+        } while (!values.isEmpty() || MAX_NESTING_LEVEL > parentNestingLevel++);
+
+        return name;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.util.magento.di;
+
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import java.util.Arrays;
+
+public class DiTypeGraphServiceTest extends BaseProjectTestCase {
+
+    private static final String DI_XML = "<config>"
+            + "<virtualType name=\"ChildType\" type=\"ParentType\"/>"
+            + "<virtualType name=\"ParentType\" type=\"Foo\\Bar\\Model\\Concrete\"/>"
+            + "<virtualType name=\"CycleA\" type=\"CycleB\"/>"
+            + "<virtualType name=\"CycleB\" type=\"CycleA\"/>"
+            + "</config>";
+
+    /**
+     * Test that chain of virtual types is resolved to the concrete type.
+     */
+    public void testVirtualTypeChainIsResolved() {
+        myFixture.addFileToProject("app/code/Foo/Graph/etc/di.xml", DI_XML);
+        final DiTypeGraphService service = DiTypeGraphService.getInstance(myFixture.getProject());
+        final VirtualTypeChainData chain = service.getVirtualTypeChain("ChildType");
+
+        assertNotNull(chain);
+        assertFalse(chain.isCyclic());
+        assertEquals(
+                Arrays.asList("ChildType", "ParentType", "Foo\\Bar\\Model\\Concrete"),
+                chain.getChain()
+        );
+        assertEquals("Foo\\Bar\\Model\\Concrete", service.getTopType("ChildType"));
+        assertTrue(service.isVirtualType("ParentType"));
+        assertFalse(service.isVirtualType("Foo\\Bar\\Model\\Concrete"));
+    }
+
+    /**
+     * Test that cyclic chain of virtual types is detected.
+     */
+    public void testCyclicVirtualTypeChainIsDetected() {
+        myFixture.addFileToProject("app/code/Foo/Graph/etc/di.xml", DI_XML);
+        final DiTypeGraphService service = DiTypeGraphService.getInstance(myFixture.getProject());
+        final VirtualTypeChainData chain = service.getVirtualTypeChain("CycleA");
+
+        assertNotNull(chain);
+        assertTrue(chain.isCyclic());
+        assertEquals("CycleA", service.getTopType("CycleA"));
+    }
+
+    /**
+     * Test that the graph is updated when di.xml is changed.
+     */
+    public void testGraphIsUpdatedOnDiXmlChange() {
+        myFixture.addFileToProject("app/code/Foo/Graph/etc/di.xml", DI_XML);
+        final DiTypeGraphService service = DiTypeGraphService.getInstance(myFixture.getProject());
+        assertFalse(service.isVirtualType("AddedType"));
+
+        myFixture.addFileToProject(
+                "app/code/Foo/Graph2/etc/di.xml",
+                "<config><virtualType name=\"AddedType\" type=\"ChildType\"/></config>"
+        );
+
+        assertEquals("Foo\\Bar\\Model\\Concrete", service.getTopType("AddedType"));
+    }
+}
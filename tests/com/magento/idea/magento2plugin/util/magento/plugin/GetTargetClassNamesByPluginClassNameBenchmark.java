@@ -0,0 +1,123 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2plugin.util.magento.plugin;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+import com.magento.idea.magento2plugin.stubs.indexes.PluginIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compares the reverse plugin index lookup with the scan of all PluginIndex keys
+ * on the generated project with 5k plugin declarations.
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public class GetTargetClassNamesByPluginClassNameBenchmark extends BaseProjectTestCase {
+
+    private static final int DI_FILES_COUNT = 500;
+    private static final int PLUGINS_PER_FILE = 10;
+    private static final int PLUGIN_CLASSES_COUNT = 1_000;
+    private static final int LOOKUPS = 500;
+
+    public void testTargetsLookup() throws Exception {
+        generateProject();
+        final Project project = myFixture.getProject();
+        final GetTargetClassNamesByPluginClassName service =
+                GetTargetClassNamesByPluginClassName.getInstance(project);
+        // Warm up the indexes and the JIT.
+        assertEquals(
+                scanTargetClassNames(project, pluginClass(0)).size(),
+                service.execute(pluginClass(0)).size()
+        );
+
+        long started = System.nanoTime();
+
+        for (int lookup = 0; lookup < LOOKUPS; lookup++) {
+            assertFalse(scanTargetClassNames(project, pluginClass(lookup)).isEmpty());
+        }
+        final long scanTime = System.nanoTime() - started;
+        started = System.nanoTime();
+
+        for (int lookup = 0; lookup < LOOKUPS; lookup++) {
+            assertFalse(service.execute(pluginClass(lookup)).isEmpty());
+        }
+        final long indexTime = System.nanoTime() - started;
+
+        System.out.printf(
+                "PluginIndex keys scan: %.3f ms/lookup, reverse index: %.3f ms/lookup%n",
+                scanTime / 1_000_000.0 / LOOKUPS,
+                indexTime / 1_000_000.0 / LOOKUPS
+        );
+    }
+
+    private void generateProject() throws Exception {
+        final VirtualFile root = myFixture.getTempDirFixture().findOrCreateDir("app/code/Bench");
+
+        WriteAction.runAndWait(() -> {
+            for (int file = 0; file < DI_FILES_COUNT; file++) {
+                final StringBuilder content = new StringBuilder("<config>");
+
+                for (int plugin = 0; plugin < PLUGINS_PER_FILE; plugin++) {
+                    final int declaration = file * PLUGINS_PER_FILE + plugin;
+                    content.append("<type name=\"Bench\\Target\\Type")
+                            .append(declaration)
+                            .append("\"><plugin name=\"bench_plugin_")
+                            .append(declaration)
+                            .append("\" type=\"")
+                            .append(pluginClass(declaration % PLUGIN_CLASSES_COUNT))
+                            .append("\" sortOrder=\"10\"/></type>");
+                }
+                content.append("</config>");
+                final VirtualFile etcDir = VfsUtil.createDirectoryIfMissing(
+                        root,
+                        "Module" + file + "/etc"
+                );
+                VfsUtil.saveText(
+                        etcDir.createChildData(this, "di.xml"),
+                        content.toString()
+                );
+            }
+        });
+    }
+
+    private static String pluginClass(final int number) {
+        return "Bench\\Plugin\\Plugin" + number;
+    }
+
+    /**
+     * Lookup targets the way it was done before the reverse plugin index.
+     */
+    private static List<String> scanTargetClassNames(
+            final Project project,
+            final String pluginClassName
+    ) {
+        final List<String> targetClassNames = new ArrayList<>();
+
+        for (final String targetClassName : FileBasedIndex.getInstance()
+                .getAllKeys(PluginIndex.KEY, project)) {
+            final List<Set<String>> pluginsList = FileBasedIndex.getInstance().getValues(
+                    PluginIndex.KEY,
+                    targetClassName,
+                    GlobalSearchScope.allScope(project)
+            );
+
+            for (final Set<String> plugins : pluginsList) {
+                if (plugins.contains(pluginClassName)) {
+                    targetClassNames.add(targetClassName);
+                }
+            }
+        }
+
+        return targetClassNames;
+    }
+}
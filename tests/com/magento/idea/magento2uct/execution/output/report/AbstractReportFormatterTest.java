@@ -0,0 +1,55 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.output.report;
+
+import com.magento.idea.magento2uct.execution.analysis.data.IssueData;
+import com.magento.idea.magento2uct.execution.output.Summary;
+import com.magento.idea.magento2uct.packages.SupportedIssue;
+import com.magento.idea.magento2uct.packages.SupportedVersion;
+import java.io.IOException;
+import java.io.StringWriter;
+
+public abstract class AbstractReportFormatterTest {
+
+    protected static final String FILENAME = "/var/www/app/code/Foo/Bar/Model/\"Baz\" & <Qux>.php";
+    protected static final String MESSAGE
+            = "Class '\\Foo\\Bar' is \"deprecated\"\n<since> 2.4 & removed";
+    protected static final IssueData WARNING_ISSUE = new IssueData(
+            0,
+            MESSAGE,
+            SupportedIssue.EXTENDING_DEPRECATED_CLASS
+    );
+    protected static final IssueData CRITICAL_ISSUE = new IssueData(
+            12,
+            "Imported class isn't found",
+            SupportedIssue.IMPORTED_NON_EXISTENT_CLASS
+    );
+
+    /**
+     * Write the whole report with the specified issues.
+     *
+     * @param formatter ReportFormatter
+     * @param issues IssueData[]
+     *
+     * @return String
+     *
+     * @throws IOException if report couldn't be written
+     */
+    protected String write(
+            final ReportFormatter formatter,
+            final IssueData... issues
+    ) throws IOException {
+        final StringWriter writer = new StringWriter();
+        formatter.writeHeader(writer);
+
+        for (final IssueData issue : issues) {
+            formatter.writeIssue(writer, FILENAME, issue);
+        }
+        formatter.writeFooter(writer, new Summary(SupportedVersion.V240, SupportedVersion.V243));
+
+        return writer.toString();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.output.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+public class JunitReportFormatterTest extends AbstractReportFormatterTest {
+
+    private static final String TEST_CASE = "testcase";
+
+    /**
+     * Test that every issue is written as a failed test case with escaped values.
+     *
+     * @throws Exception if report couldn't be written or parsed
+     */
+    @Test
+    public void testIssuesAreWrittenAsValidJunitXml() throws Exception {
+        final Element suite = parseSuite(write(
+                new JunitReportFormatter(),
+                WARNING_ISSUE,
+                CRITICAL_ISSUE
+        ));
+        final NodeList testCases = suite.getElementsByTagName(TEST_CASE);
+        assertEquals(2, testCases.getLength());
+
+        final Element warning = (Element) testCases.item(0);
+        assertEquals(FILENAME, warning.getAttribute("classname"));
+        assertEquals("line 0: 1131", warning.getAttribute("name"));
+        final Element failure = (Element) warning.getElementsByTagName("failure").item(0);
+        assertEquals("WARNING", failure.getAttribute("type"));
+        assertEquals(MESSAGE, failure.getAttribute("message"));
+        assertEquals(MESSAGE, failure.getTextContent());
+    }
+
+    /**
+     * Test that the report without issues is a valid test suite without test cases.
+     *
+     * @throws Exception if report couldn't be written or parsed
+     */
+    @Test
+    public void testEmptyRunIsValidJunitXml() throws Exception {
+        final Element suite = parseSuite(write(new JunitReportFormatter()));
+
+        assertEquals(0, suite.getElementsByTagName(TEST_CASE).getLength());
+        assertTrue(suite.getElementsByTagName("system-out").item(0).getTextContent()
+                .contains("Installed version: 2.4.0; Target version: 2.4.3"));
+    }
+
+    private Element parseSuite(final String report) throws Exception {
+        final Document document = DocumentBuilderFactory.newInstance()
+                .newDocumentBuilder()
+                .parse(new ByteArrayInputStream(report.getBytes(StandardCharsets.UTF_8)));
+        final Element root = document.getDocumentElement();
+        assertEquals("testsuites", root.getTagName());
+        final NodeList suites = root.getElementsByTagName("testsuite");
+        assertEquals(1, suites.getLength());
+
+        return (Element) suites.item(0);
+    }
+}
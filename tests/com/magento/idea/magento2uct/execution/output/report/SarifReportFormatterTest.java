@@ -0,0 +1,78 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.execution.output.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Paths;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.Test;
+
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+public class SarifReportFormatterTest extends AbstractReportFormatterTest {
+
+    private static final String RESULTS = "results";
+
+    /**
+     * Test that issues are written as SARIF 2.1.0 results with escaped values.
+     *
+     * @throws Exception if report couldn't be written or parsed
+     */
+    @Test
+    public void testIssuesAreWrittenAsValidSarif() throws Exception {
+        final JSONObject run = parseRun(write(
+                new SarifReportFormatter(),
+                WARNING_ISSUE,
+                CRITICAL_ISSUE
+        ));
+        final JSONObject driver = (JSONObject) ((JSONObject) run.get("tool")).get("driver");
+        assertEquals("Upgrade Compatibility Tool", driver.get("name"));
+        final JSONArray results = (JSONArray) run.get(RESULTS);
+        assertEquals(2, results.size());
+
+        final JSONObject warning = (JSONObject) results.get(0);
+        assertEquals("1131", warning.get("ruleId"));
+        assertEquals("warning", warning.get("level"));
+        assertEquals(MESSAGE, ((JSONObject) warning.get("message")).get("text"));
+        final JSONObject location = (JSONObject) ((JSONObject) ((JSONArray) warning
+                .get("locations")).get(0)).get("physicalLocation");
+        assertEquals(
+                Paths.get(FILENAME).toUri().toString(),
+                ((JSONObject) location.get("artifactLocation")).get("uri")
+        );
+        assertEquals(1L, ((JSONObject) location.get("region")).get("startLine"));
+
+        final JSONObject critical = (JSONObject) results.get(1);
+        assertEquals("error", critical.get("level"));
+    }
+
+    /**
+     * Test that the report without issues is valid SARIF with the empty results.
+     *
+     * @throws Exception if report couldn't be written or parsed
+     */
+    @Test
+    public void testEmptyRunIsValidSarif() throws Exception {
+        final JSONObject run = parseRun(write(new SarifReportFormatter()));
+
+        assertTrue(((JSONArray) run.get(RESULTS)).isEmpty());
+        final JSONObject properties = (JSONObject) run.get("properties");
+        assertEquals("2.4.0", properties.get("installedVersion"));
+        assertEquals(0L, properties.get("checkedModules"));
+    }
+
+    private JSONObject parseRun(final String report) throws Exception {
+        final JSONObject sarif = (JSONObject) new JSONParser().parse(report);
+        assertEquals("2.1.0", sarif.get("version"));
+        final JSONArray runs = (JSONArray) sarif.get("runs");
+        assertEquals(1, runs.size());
+
+        return (JSONObject) runs.get(0);
+    }
+}
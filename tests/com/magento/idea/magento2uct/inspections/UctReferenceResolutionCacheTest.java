@@ -0,0 +1,58 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.inspections;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.jetbrains.php.lang.psi.elements.ClassReference;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.magento.idea.magento2plugin.BaseProjectTestCase;
+
+public class UctReferenceResolutionCacheTest extends BaseProjectTestCase {
+
+    /**
+     * Test that the reference is resolved once and then served from the cache.
+     */
+    public void testReferenceIsResolvedOnce() {
+        final ClassReference reference = findClassReference(
+                "<?php\nnew \\Foo\\Bar\\Service\\SimpleService();\n"
+        );
+        final UctReferenceResolutionCache cache = new UctReferenceResolutionCache();
+
+        final PsiElement target = cache.resolve(reference);
+        assertTrue(target instanceof PhpClass);
+        assertSame(target, cache.resolve(reference));
+        assertSame(target, cache.resolveType(reference));
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+    }
+
+    /**
+     * Test that the Factory type is resolved once to the escaped type.
+     */
+    public void testFactoryTypeIsResolvedOnce() {
+        final ClassReference reference = findClassReference(
+                "<?php\nnew \\Foo\\Bar\\Service\\SimpleServiceFactory();\n"
+        );
+        final UctReferenceResolutionCache cache = new UctReferenceResolutionCache();
+
+        final PsiElement type = cache.resolveType(reference);
+        assertTrue(type instanceof PhpClass);
+        assertEquals("\\Foo\\Bar\\Service\\SimpleService", ((PhpClass) type).getFQN());
+        assertSame(type, cache.resolveType(reference));
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    private ClassReference findClassReference(final String text) {
+        final PsiFile file = myFixture.configureByText("test.php", text);
+        final ClassReference reference = PsiTreeUtil.findChildOfType(file, ClassReference.class);
+        assertNotNull(reference);
+
+        return reference;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.versioning;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.magento.idea.magento2uct.packages.SupportedVersion;
+import com.magento.idea.magento2uct.settings.UctSettingsService;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Measures VersionStateManager lookups throughput for the growing number of threads.
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public class VersionStateManagerBenchmark extends BasePlatformTestCase {
+
+    private static final String DEPRECATION_INDEX
+            = "/uct/deprecation/indexes.v2.3.0.DEPRECATION.idc";
+    private static final int LOOKUPS_PER_THREAD = 2_000_000;
+
+    @SuppressWarnings("unchecked")
+    public void testLookupsScaling() throws Exception {
+        final Project project = myFixture.getProject();
+        final UctSettingsService settings = UctSettingsService.getInstance(project);
+        settings.setCurrentVersion(SupportedVersion.V230);
+        settings.setTargetVersion(SupportedVersion.V243);
+        settings.setIgnoreCurrentVersion(false);
+
+        final List<String> keys = new ArrayList<>();
+
+        try (
+                InputStream inputStream = getClass().getResourceAsStream(DEPRECATION_INDEX);
+                ObjectInputStream objectInputStream = new ObjectInputStream(inputStream)
+        ) {
+            keys.addAll(((Map<String, Boolean>) objectInputStream.readObject()).keySet());
+        }
+        keys.add("\\Not\\Indexed\\Type");
+        // Warm up the snapshot and the JIT.
+        runLookups(project, keys, 1);
+
+        final int processors = Runtime.getRuntime().availableProcessors();
+        long singleThreadTime = 0;
+
+        for (int threads = 1; threads <= processors; threads *= 2) {
+            final long time = runLookups(project, keys, threads);
+
+            if (threads == 1) {
+                singleThreadTime = time;
+            }
+            final double throughput = (double) LOOKUPS_PER_THREAD * threads / time * 1_000;
+            System.out.printf(
+                    "threads: %2d, %8.1f lookups/ms, scaling %.2fx%n",
+                    threads,
+                    throughput,
+                    (double) singleThreadTime * threads / time
+            );
+        }
+    }
+
+    private long runLookups(
+            final Project project,
+            final List<String> keys,
+            final int threads
+    ) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Callable<Integer>> tasks = new ArrayList<>();
+
+        for (int thread = 0; thread < threads; thread++) {
+            final int offset = thread * 7919;
+            tasks.add(() -> {
+                int found = 0;
+
+                for (int lookup = 0; lookup < LOOKUPS_PER_THREAD; lookup++) {
+                    final String fqn = keys.get((offset + lookup) % keys.size());
+
+                    if (VersionStateManager.getInstance(project).isDeprecated(fqn)) {
+                        found++;
+                    }
+                }
+
+                return found;
+            });
+        }
+
+        try {
+            final long started = System.nanoTime();
+
+            for (final Future<Integer> result : executor.invokeAll(tasks)) {
+                assertTrue(result.get() > 0);
+            }
+
+            return Math.max(1, (System.nanoTime() - started) / 1_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
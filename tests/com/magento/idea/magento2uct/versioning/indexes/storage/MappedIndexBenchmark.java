@@ -0,0 +1,143 @@
+/*
+ * Copyright © Magento, Inc. All rights reserved.
+ * See COPYING.txt for license details.
+ */
+
+package com.magento.idea.magento2uct.versioning.indexes.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+/**
+ * Compares load time, retained heap and lookup time of the serialized and mapped UCT indexes.
+ */
+@SuppressWarnings({
+        "PMD.DoNotCallGarbageCollectionExplicitly",
+        "PMD.SystemPrintln",
+        "PMD.JUnitTestContainsTooManyAsserts"
+})
+public class MappedIndexBenchmark {
+
+    private static final String API_INDEX = "/uct/api/indexes.API_COVERAGE.idc";
+    private static final String DEPRECATION_INDEX
+            = "/uct/deprecation/indexes.v2.3.0.DEPRECATION.idc";
+    private static final int LOOKUP_ROUNDS = 10;
+
+    @Test
+    public void testApiCoverageIndex() throws Exception {
+        compare(API_INDEX);
+    }
+
+    @Test
+    public void testDeprecationIndex() throws Exception {
+        compare(DEPRECATION_INDEX);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void compare(final String resource) throws Exception {
+        final Path serializedFile = Files.createTempFile("uct-index", ".idc");
+        final Path mappedFile = Files.createTempFile("uct-index", ".idx");
+
+        try (InputStream inputStream = getClass().getResourceAsStream(resource)) {
+            assertNotNull("Missing index resource " + resource, inputStream);
+            Files.copy(inputStream, serializedFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        MappedIndexConverter.convert(serializedFile, mappedFile);
+
+        long heapBefore = usedHeap();
+        long started = System.nanoTime();
+        final Map<?, ?> serialized = readSerialized(serializedFile);
+        final long serializedLoadTime = System.nanoTime() - started;
+        final long serializedHeap = usedHeap() - heapBefore;
+
+        heapBefore = usedHeap();
+        started = System.nanoTime();
+        final MappedIndexData mapped = MappedIndexData.map(mappedFile);
+        final long mappedLoadTime = System.nanoTime() - started;
+        final long mappedHeap = usedHeap() - heapBefore;
+
+        final Map<String, Map<String, Boolean>> expected = new HashMap<>();
+
+        if (mapped.isSingleSection()) {
+            expected.put(MappedIndexData.DEFAULT_SECTION, (Map<String, Boolean>) serialized);
+        } else {
+            expected.putAll((Map<String, Map<String, Boolean>>) serialized);
+        }
+        assertEquals(expected.keySet(), mapped.getSections().keySet());
+
+        long serializedLookupTime = 0;
+        long mappedLookupTime = 0;
+
+        for (final Map.Entry<String, Map<String, Boolean>> section : expected.entrySet()) {
+            final Map<String, Boolean> serializedSection = section.getValue();
+            final MappedIndexSection mappedSection = mapped.getSections().get(section.getKey());
+            assertEquals(serializedSection.size(), mappedSection.size());
+
+            for (final Map.Entry<String, Boolean> entry : serializedSection.entrySet()) {
+                assertEquals(entry.getValue(), mappedSection.get(entry.getKey()));
+            }
+            started = System.nanoTime();
+
+            for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+                for (final String key : serializedSection.keySet()) {
+                    serializedSection.containsKey(key);
+                }
+            }
+            serializedLookupTime += System.nanoTime() - started;
+            started = System.nanoTime();
+
+            for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+                for (final String key : serializedSection.keySet()) {
+                    mappedSection.containsKey(key);
+                }
+            }
+            mappedLookupTime += System.nanoTime() - started;
+        }
+
+        System.out.printf(
+                "%s%n  serialized: %d bytes, load %d ms, retained heap %d KB, lookups %d ms%n"
+                        + "  mapped:     %d bytes, load %d ms, retained heap %d KB, lookups %d ms%n",
+                resource,
+                Files.size(serializedFile),
+                serializedLoadTime / 1_000_000,
+                serializedHeap / 1024,
+                serializedLookupTime / 1_000_000,
+                Files.size(mappedFile),
+                mappedLoadTime / 1_000_000,
+                mappedHeap / 1024,
+                mappedLookupTime / 1_000_000
+        );
+        Files.deleteIfExists(serializedFile);
+        Files.deleteIfExists(mappedFile);
+    }
+
+    private Map<?, ?> readSerialized(final Path file) throws IOException, ClassNotFoundException {
+        try (
+                InputStream inputStream = Files.newInputStream(file);
+                ObjectInputStream objectInputStream = new ObjectInputStream(inputStream)
+        ) {
+            return (Map<?, ?>) objectInputStream.readObject();
+        }
+    }
+
+    private long usedHeap() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}